@@ -0,0 +1,58 @@
+package com.percent99.OutSpecs.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 주기적으로 실행되는 백그라운드 작업(@Scheduled) 설정
+ * <p>
+ *     WebSocket 브로커의 스케줄러(messageBrokerTaskScheduler)와 섞이지 않도록
+ *     백그라운드 작업 전용 스케줄러를 사용한다.
+ *     자주 실행되는 알림 저장은 회원 삭제, 보존 기간 정리처럼 오래 걸리는 작업에 밀리지 않도록 별도 스케줄러에서 실행한다.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${scheduling.pool-size:2}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(backgroundTaskScheduler());
+    }
+
+    /**
+     * 백그라운드 작업 전용 스케줄러
+     * <p>
+     *     bean 으로 등록하여 컨테이너가 초기화와 종료(shutdown)를 관리한다.
+     * </p>
+     */
+    @Bean
+    public ThreadPoolTaskScheduler backgroundTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("background-");
+        return scheduler;
+    }
+
+    /**
+     * 알림 저장(NotificationBatchWriter.flush) 전용 스케줄러
+     * <p>
+     *     background 스케줄러의 스레드가 모두 오래 걸리는 작업에 잡혀 있어도 알림 저장 주기가 지켜진다.
+     * </p>
+     */
+    @Bean
+    public ThreadPoolTaskScheduler notificationFlushScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("notification-flush-");
+        return scheduler;
+    }
+}
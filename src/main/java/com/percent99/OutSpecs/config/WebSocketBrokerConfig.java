@@ -0,0 +1,57 @@
+package com.percent99.OutSpecs.config;
+
+import com.percent99.OutSpecs.handler.SlowConsumerSubProtocolWebSocketHandler;
+import com.percent99.OutSpecs.handler.WebSocketSessionMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+/**
+ * STOMP 메시지 브로커 기반 설정
+ * <p>
+ *     {@code @EnableWebSocketMessageBroker} 대신 설정 클래스를 직접 확장하여
+ *     세션 데코레이터에 느린 클라이언트 처리 정책(websocket.slow-consumer-policy)을 적용한다.
+ *     엔드포인트, 채널, 브로커 설정은 {@link WebSocketConfig}에서 담당한다.
+ * </p>
+ */
+@Configuration
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+  @Autowired
+  private WebSocketSessionMetrics webSocketSessionMetrics;
+
+  @Value("${websocket.slow-consumer-policy:DISCONNECT}")
+  private String slowConsumerPolicy;
+
+  @Bean
+  @Override
+  public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                     AbstractSubscribableChannel clientOutboundChannel) {
+    SlowConsumerSubProtocolWebSocketHandler handler = new SlowConsumerSubProtocolWebSocketHandler(
+        clientInboundChannel, clientOutboundChannel, resolveOverflowStrategy(), webSocketSessionMetrics);
+    // 기본 구현과 같이 브로커 설정의 lifecycle phase 를 따른다
+    handler.setPhase(getPhase());
+    return handler;
+  }
+
+  /**
+   * 설정값을 버퍼 초과 정책으로 변환한다.
+   * <ul>
+   *     <li>DROP_OLDEST : 가장 오래된 메시지부터 버리고 세션은 유지</li>
+   *     <li>DISCONNECT : 세션 종료</li>
+   * </ul>
+   * @return 버퍼 초과 정책
+   */
+  private OverflowStrategy resolveOverflowStrategy() {
+    return switch (slowConsumerPolicy.trim().toUpperCase()) {
+      case "DROP_OLDEST" -> OverflowStrategy.DROP;
+      case "DISCONNECT" -> OverflowStrategy.TERMINATE;
+      default -> throw new IllegalStateException("지원하지 않는 websocket.slow-consumer-policy 입니다: " + slowConsumerPolicy);
+    };
+  }
+}
@@ -1,34 +1,127 @@
 package com.percent99.OutSpecs.config;
 
 import com.percent99.OutSpecs.interceptor.ChatInterceptor;
+import com.percent99.OutSpecs.interceptor.ChatPayloadCodecInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   private final ChatInterceptor chatInterceptor;
+  private final ChatPayloadCodecInterceptor chatPayloadCodecInterceptor;
+
+  @Value("${websocket.outbound.core-pool-size:4}")
+  private int outboundCorePoolSize;
+
+  @Value("${websocket.outbound.max-pool-size:16}")
+  private int outboundMaxPoolSize;
+
+  @Value("${websocket.outbound.queue-capacity:1000}")
+  private int outboundQueueCapacity;
+
+  @Value("${websocket.send-time-limit-ms:10000}")
+  private int sendTimeLimit;
 
+  @Value("${websocket.send-buffer-size-limit:524288}")
+  private int sendBufferSizeLimit;
+
+  @Value("${websocket.heartbeat-ms:10000}")
+  private long heartbeatInterval;
+
+  @Value("${websocket.time-to-first-message-ms:30000}")
+  private int timeToFirstMessage;
+
+  /**
+   * 브로커 설정
+   * <p>
+   *     서버/클라이언트 heartbeat를 활성화하여,
+   *     heartbeat가 끊긴 세션은 브로커가 정리(idle session reaping)하도록 한다.
+   * </p>
+   */
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
-    registry.enableSimpleBroker("/queue");
+    registry.enableSimpleBroker("/queue")
+        .setHeartbeatValue(new long[]{heartbeatInterval, heartbeatInterval})
+        .setTaskScheduler(webSocketHeartbeatScheduler());
     registry.setApplicationDestinationPrefixes("/app");
   }
 
+  /**
+   * 브로커 heartbeat 전용 스케줄러
+   * <p>
+   *     bean 으로 등록하여 컨테이너가 초기화와 종료(shutdown)를 관리한다.
+   * </p>
+   */
+  @Bean
+  public ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("ws-heartbeat-");
+    return scheduler;
+  }
+
+  /**
+   * STOMP 엔드포인트 등록
+   * <p>
+   *     CBOR(바이너리 프레임)는 순수 WebSocket 엔드포인트에서만 협상한다. SockJS 는 텍스트 프레임만 전달한다.
+   * </p>
+   */
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/ws").withSockJS();
-    registry.addEndpoint("/ws");
+    registry.addEndpoint("/ws")
+        .addInterceptors(ChatPayloadCodecInterceptor.binaryFramesHandshakeInterceptor());
   }
 
   @Override
   public void configureClientInboundChannel(ChannelRegistration registration) {
-    registration.interceptors(chatInterceptor);
+    registration.interceptors(chatInterceptor, chatPayloadCodecInterceptor);
+  }
+
+  /**
+   * 클라이언트로 나가는 메시지를 처리하는 스레드 풀 설정
+   */
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor()
+        .corePoolSize(outboundCorePoolSize)
+        .maxPoolSize(outboundMaxPoolSize)
+        .queueCapacity(outboundQueueCapacity);
+    registration.interceptors(chatPayloadCodecInterceptor);
+  }
+
+  /**
+   * CBOR 페이로드용 컨버터를 추가한다. 기본 컨버터(JSON 등)는 그대로 유지된다.
+   */
+  @Override
+  public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+    messageConverters.add(ChatPayloadCodecInterceptor.createCborMessageConverter());
+    return true;
+  }
+
+  /**
+   * 세션별 송신 버퍼/시간 제한 설정
+   * <p>
+   *     제한을 넘긴 느린 세션은 websocket.slow-consumer-policy 에 따라
+   *     오래된 메시지를 버리거나 종료된다. ({@link WebSocketBrokerConfig} 참고)
+   * </p>
+   */
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendTimeLimit(sendTimeLimit)
+        .setSendBufferSizeLimit(sendBufferSizeLimit)
+        .setTimeToFirstMessage(timeToFirstMessage);
   }
 }
@@ -1,9 +1,14 @@
 package com.percent99.OutSpecs.controller;
 
+import com.percent99.OutSpecs.dto.AdminUserPageDTO;
 import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
+import com.percent99.OutSpecs.handler.WebSocketSessionMetrics;
 import com.percent99.OutSpecs.security.CustomUserPrincipal;
 import com.percent99.OutSpecs.service.AdminService;
 import com.percent99.OutSpecs.service.PostService;
+import com.percent99.OutSpecs.service.ProfileSummaryCache;
+import com.percent99.OutSpecs.service.UserDeletionService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,16 +22,38 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/admin")
 public class AdminController {
 
+    static final int REPORT_PAGE_SIZE = 20;
+    static final int USER_PAGE_SIZE = 50;
+
     private final AdminService adminService;
     private final PostService postService;
+    private final ProfileSummaryCache profileSummaryCache;
+    private final UserDeletionService userDeletionService;
+    private final WebSocketSessionMetrics webSocketSessionMetrics;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
     public String showAdmin(@AuthenticationPrincipal CustomUserPrincipal principal,
+                            @RequestParam(name = "reportPage", defaultValue = "0") int reportPage,
+                            @RequestParam(name = "cursor", required = false) Long cursor,
+                            @RequestParam(name = "role", required = false) UserRoleType role,
+                            @RequestParam(name = "status", required = false) UserStatus status,
+                            @RequestParam(name = "q", required = false) String q,
                             Model model){
-        model.addAttribute("users",adminService.findAllUsers());
-        model.addAttribute("posts",adminService.findReportedPosts());
+        AdminUserPageDTO userPage = adminService.findUsers(cursor, role, status, q, USER_PAGE_SIZE);
+        model.addAttribute("users",userPage.getUsers());
+        model.addAttribute("nextCursor",userPage.getNextCursor());
+        model.addAttribute("userStats",adminService.getUserStats());
+        model.addAttribute("roleFilter",role);
+        model.addAttribute("statusFilter",status);
+        model.addAttribute("q",q);
+        model.addAttribute("roles",UserRoleType.values());
+        model.addAttribute("statuses",UserStatus.values());
+        model.addAttribute("posts",adminService.findReportedPosts(reportPage, REPORT_PAGE_SIZE));
         model.addAttribute("user",principal.getUser());
+        model.addAttribute("profileCache", profileSummaryCache.getStats());
+        model.addAttribute("userDeletion", userDeletionService.getStats());
+        model.addAttribute("webSocket", webSocketSessionMetrics.getStats());
         return "admin/admin";
     }
 
@@ -56,6 +83,17 @@ public class AdminController {
         return "redirect:/admin";
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/posts/{postId}/restore")
+    public String restorePost(@PathVariable Long postId){
+        try{
+            adminService.restoreReportedPost(postId);
+        } catch (EntityNotFoundException e){
+            return "redirect:/admin?error=" + e.getMessage();
+        }
+        return "redirect:/admin";
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/users/{userId}/ban")
     public String banUserByAdmin(@PathVariable Long userId){
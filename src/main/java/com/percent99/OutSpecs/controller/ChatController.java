@@ -3,12 +3,11 @@ package com.percent99.OutSpecs.controller;
 import com.percent99.OutSpecs.dto.ChatMessageDTO;
 import com.percent99.OutSpecs.dto.ChatRoomResponseDTO;
 import com.percent99.OutSpecs.entity.User;
-import com.percent99.OutSpecs.repository.ProfileRepository;
+import com.percent99.OutSpecs.security.CurrentUserContext;
 import com.percent99.OutSpecs.security.CustomUserPrincipal;
 import com.percent99.OutSpecs.service.AlanService;
 import com.percent99.OutSpecs.service.ChatMessageService;
 import com.percent99.OutSpecs.service.ChatRoomService;
-import com.percent99.OutSpecs.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,23 +30,24 @@ import java.util.Map;
 @Controller
 @RequestMapping("/chats")
 public class ChatController {
+  private static final int CHAT_ROOM_PAGE_SIZE = 20;
+
   private final ChatRoomService chatRoomService;
   private final ChatMessageService chatMessageService;
   private final AlanService alanService;
-  private final UserService userService;
-  private final ProfileRepository profileRepository;
+  private final CurrentUserContext currentUserContext;
 
   @Value("${websocket.SERVER_URL}")
   private String webSocketServerUrl;
 
   @GetMapping
-  public String chatRoomList(@AuthenticationPrincipal CustomUserPrincipal customUserPrincipal, Model model){
-    Long userId = customUserPrincipal.getUser().getId();
-    User user = userService.getUserById(userId);
+  public String chatRoomList(Model model){
+    User user = currentUserContext.requireUser();
+    Long userId = user.getId();
 
-    if (!profileRepository.existsByUserId(userId)) return "redirect:/users/profiles/new";
+    if (user.getProfile() == null) return "redirect:/users/profiles/new";
 
-    List<ChatRoomResponseDTO> chatRoomResponseDTOList = chatRoomService.getChatRoomResponseDTOListByUserId(userId);
+    List<ChatRoomResponseDTO> chatRoomResponseDTOList = chatRoomService.getChatRoomResponseDTOPageByUserId(userId, null, null, CHAT_ROOM_PAGE_SIZE);
     chatRoomResponseDTOList = chatMessageService.loadChatMessagesIntoChatRoomResponseDTOList(chatRoomResponseDTOList, userId);
 
     model.addAttribute("chatrooms", chatRoomResponseDTOList);
@@ -58,6 +58,24 @@ public class ChatController {
     return "chat/chatrooms";
   }
 
+  /**
+   * 채팅방 목록 무한 스크롤을 위한 다음 페이지 조회
+   * @param cursorAt 이전 페이지 마지막 채팅방의 마지막 활동 시각
+   * @param cursorId 이전 페이지 마지막 채팅방의 id 값
+   * @return 마지막 활동 시각 최신순 채팅방 목록 (최근 메시지 포함)
+   */
+  @GetMapping("/rooms")
+  @ResponseBody
+  public List<ChatRoomResponseDTO> getChatRooms(@AuthenticationPrincipal CustomUserPrincipal customUserPrincipal,
+                                                @RequestParam(name = "cursorAt", required = false) LocalDateTime cursorAt,
+                                                @RequestParam(name = "cursorId", required = false) Long cursorId){
+    Long userId = customUserPrincipal.getUser().getId();
+
+    List<ChatRoomResponseDTO> chatRoomResponseDTOList = chatRoomService.getChatRoomResponseDTOPageByUserId(userId, cursorAt, cursorId, CHAT_ROOM_PAGE_SIZE);
+
+    return chatMessageService.loadChatMessagesIntoChatRoomResponseDTOList(chatRoomResponseDTOList, userId);
+  }
+
   @PostMapping
   public String createChatRoom(@AuthenticationPrincipal CustomUserPrincipal customUserPrincipal, @RequestParam("targetId") Long targetId){
     Long userId = customUserPrincipal.getUser().getId();
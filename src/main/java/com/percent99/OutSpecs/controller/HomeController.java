@@ -2,14 +2,10 @@ package com.percent99.OutSpecs.controller;
 
 import com.percent99.OutSpecs.dto.PostListViewDTO;
 import com.percent99.OutSpecs.entity.PostType;
-import com.percent99.OutSpecs.entity.Profile;
 import com.percent99.OutSpecs.entity.User;
-import com.percent99.OutSpecs.security.CustomUserPrincipal;
+import com.percent99.OutSpecs.security.CurrentUserContext;
 import com.percent99.OutSpecs.service.PostQueryService;
-import com.percent99.OutSpecs.service.ProfileService;
-import com.percent99.OutSpecs.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,38 +22,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HomeController {
 
-    private final UserService userService;
-    private final ProfileService profileService;
+    private final CurrentUserContext currentUserContext;
     private final PostQueryService postQueryService;
 
     @GetMapping
-    public String showHome(@AuthenticationPrincipal CustomUserPrincipal principal,
-                           Model model){
+    public String showHome(Model model){
 
         List<PostListViewDTO> likePopularFree = postQueryService.toViews(
-                postQueryService.getLikePosts(PostType.FREE, 5), true, false
+                postQueryService.getTrendingPosts(PostType.FREE, 5), true, false
         );
 
         List<PostListViewDTO> likePopularTeam = postQueryService.toViews(
-                postQueryService.getLikePosts(PostType.TEAM, 5), true, false
+                postQueryService.getTrendingPosts(PostType.TEAM, 5), true, false
         );
 
         List<PostListViewDTO> likePopularQNA = postQueryService.toViews(
-                postQueryService.getLikePosts(PostType.QNA, 5), true, false
+                postQueryService.getTrendingPosts(PostType.QNA, 5), true, false
         );
 
         List<PostListViewDTO> likePopularPlay = postQueryService.toViews(
-                postQueryService.getLikePosts(PostType.PLAY, 5), true, false
+                postQueryService.getTrendingPosts(PostType.PLAY, 5), true, false
         );
 
-        if(principal != null){
-             userService.findByUsername(principal.getUsername())
-                     .ifPresent(user -> model.addAttribute("user",user));
-
-             Profile profile = profileService.getProfileByUserId(principal.getUser().getId())
-                     .orElse(null);
-
-            model.addAttribute("profile",profile);
+        User user = currentUserContext.getUser();
+        if(user != null){
+            model.addAttribute("user",user);
+            model.addAttribute("profile",user.getProfile());
         }
         model.addAttribute("free",likePopularFree);
         model.addAttribute("team",likePopularTeam);
@@ -92,12 +82,11 @@ public class HomeController {
     }
 
     @GetMapping("/search")
-    public String search(@AuthenticationPrincipal CustomUserPrincipal principal,
-                         @RequestParam(required = false) PostType type,
+    public String search(@RequestParam(required = false) PostType type,
                          @RequestParam String q,
                          Model model) {
 
-        User user = userService.getUserById(principal.getUser().getId());
+        User user = currentUserContext.requireUser();
         if(user.getProfile() == null) {
             return "redirect:/users/profiles/new";
         }
@@ -0,0 +1,72 @@
+package com.percent99.OutSpecs.controller;
+
+import com.percent99.OutSpecs.dto.NotificationDTO;
+import com.percent99.OutSpecs.security.CustomUserPrincipal;
+import com.percent99.OutSpecs.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림함 조회 및 읽음 처리 API
+ */
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/notifications")
+public class NotificationController {
+
+    public static final int NOTIFICATION_PAGE_SIZE = 20;
+
+    private final NotificationService notificationService;
+
+    /**
+     * 알림 목록 다음 페이지 조회
+     * @param cursorAt 이전 페이지 마지막 알림의 생성 시각
+     * @param cursorId 이전 페이지 마지막 알림의 id
+     * @param unreadOnly 읽지 않은 알림만 조회할지 여부
+     * @return 최신순 알림 목록
+     */
+    @GetMapping
+    @ResponseBody
+    public List<NotificationDTO> getNotifications(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                                  @RequestParam(name = "cursorAt", required = false) LocalDateTime cursorAt,
+                                                  @RequestParam(name = "cursorId", required = false) Long cursorId,
+                                                  @RequestParam(name = "unreadOnly", defaultValue = "false") boolean unreadOnly) {
+        Long userId = principal.getUser().getId();
+        return notificationService.getNotificationPage(userId, cursorAt, cursorId, unreadOnly, NOTIFICATION_PAGE_SIZE);
+    }
+
+    @GetMapping("/unread-count")
+    @ResponseBody
+    public Map<String, Long> getUnreadCount(@AuthenticationPrincipal CustomUserPrincipal principal) {
+        return Map.of("unreadCount", notificationService.getUnreadCount(principal.getUser().getId()));
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     */
+    @PostMapping("/read-all")
+    @ResponseBody
+    public Map<String, Long> readAll(@AuthenticationPrincipal CustomUserPrincipal principal) {
+        Long userId = principal.getUser().getId();
+        notificationService.markAllAsRead(userId);
+        return Map.of("unreadCount", 0L);
+    }
+
+    /**
+     * until 시각까지의 알림 읽음 처리 (ex. 화면에 보이는 마지막 알림의 생성 시각)
+     */
+    @PostMapping("/read")
+    @ResponseBody
+    public Map<String, Long> readUntil(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                       @RequestParam("until") LocalDateTime until) {
+        Long userId = principal.getUser().getId();
+        int updated = notificationService.markReadUntil(userId, until);
+        return Map.of("updated", (long) updated, "unreadCount", notificationService.getUnreadCount(userId));
+    }
+}
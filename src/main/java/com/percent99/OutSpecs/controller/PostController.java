@@ -1,14 +1,18 @@
 package com.percent99.OutSpecs.controller;
 
+import com.percent99.OutSpecs.dto.ApplicantDTO;
 import com.percent99.OutSpecs.dto.CommentDTO;
 import com.percent99.OutSpecs.dto.ParticipationDTO;
 import com.percent99.OutSpecs.dto.PostDTO;
 import com.percent99.OutSpecs.dto.PostResponseDTO;
+import com.percent99.OutSpecs.dto.ReactionToggleResult;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.security.CurrentUserContext;
 import com.percent99.OutSpecs.security.CustomUserPrincipal;
 import com.percent99.OutSpecs.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -26,13 +30,14 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class PostController {
+    private static final int APPLICANT_PAGE_SIZE = 20;
 
     private final PostService postService;
     private final PostQueryService postQueryService;
     private final CommentService commentService;
     private final ReactionService reactionService;
     private final ParticipationService participationService;
-    private final ProfileService profileService;
+    private final CurrentUserContext currentUserContext;
     private final UserService userService;
 
     @GetMapping("/write")
@@ -43,10 +48,7 @@ public class PostController {
         if(principal == null){
             return "redirect:/users/login";
         }
-        User user = profileService.getUserById(principal.getUser().getId());
-        if(user == null) {
-            throw new IllegalStateException("사용자 정보를 찾을 수 없습니다.");
-        }
+        User user = currentUserContext.requireUser();
         if(user.getProfile() == null) {
             return "redirect:/users/profiles/new";
         }
@@ -93,16 +95,14 @@ public class PostController {
                              @ModelAttribute("errorMessage") String errorMessage) {
         User user = null;
         if (principal != null) {
-            user = profileService.getUserById(principal.getUser().getId());
+            user = currentUserContext.requireUser();
         }
-        Post post = postQueryService.getPostAndIncreaseViewCount(postId);
+        Post post = postQueryService.getPostAndIncreaseViewCount(postId, user);
         List<Comment> comments = commentService.getCommentsByPostId(postId);
-        List<Participation> participations = participationService.getParticipationByPostId(postId);
         PostResponseDTO reactions = postQueryService.getPostReactionDetail(postId, user);
 
         model.addAttribute("post", post);
         model.addAttribute("comments", comments);
-        model.addAttribute("participations", participations);
         model.addAttribute("reactions", reactions);
         model.addAttribute("commentDTO", new CommentDTO());
         model.addAttribute("errorMessage", errorMessage);
@@ -113,7 +113,7 @@ public class PostController {
     @GetMapping("/{postId}/edit")
     public String editPostForm(@AuthenticationPrincipal CustomUserPrincipal principal,
                                    @PathVariable Long postId, Model model) {
-        User user = profileService.getUserById(principal.getUser().getId());
+        User user = currentUserContext.requireUser();
         PostDTO postDTO = postQueryService.getPostDTOById(postId);
         if (postDTO == null) {
             return "redirect:/post/" + postId;
@@ -180,10 +180,7 @@ public class PostController {
         if(principal == null){
             return "redirect:/users/login";
         }
-        User user = profileService.getUserById(principal.getUser().getId());
-        if(user == null) {
-            throw new IllegalStateException("사용자 정보를 찾을 수 없습니다.");
-        }
+        User user = currentUserContext.requireUser();
         if(user.getProfile() == null) {
             return "redirect:/users/profiles/new";
         }
@@ -199,10 +196,7 @@ public class PostController {
         if(principal == null){
             return "redirect:/users/login";
         }
-        User user = profileService.getUserById(principal.getUser().getId());
-        if(user == null) {
-            throw new IllegalStateException("사용자 정보를 찾을 수 없습니다.");
-        }
+        User user = currentUserContext.requireUser();
         if(user.getProfile() == null) {
             return "redirect:/users/profiles/new";
         }
@@ -219,10 +213,7 @@ public class PostController {
         if(principal == null){
             return "redirect:/users/login";
         }
-        User user = profileService.getUserById(principal.getUser().getId());
-        if(user == null) {
-            throw new IllegalStateException("사용자 정보를 찾을 수 없습니다.");
-        }
+        User user = currentUserContext.requireUser();
         if(user.getProfile() == null) {
             return "redirect:/users/profiles/new";
         }
@@ -231,28 +222,37 @@ public class PostController {
         return "redirect:/post/" + postId;
     }
 
+    /**
+     * 게시글 좋아요를 토글하고, 버튼을 다시 그릴 수 있도록 토글 후 좋아요 여부와 좋아요 수를 반환합니다.
+     */
     @PostMapping("/{postId}/like")
-    public String addLikePost(@AuthenticationPrincipal CustomUserPrincipal principal,
-                              @PathVariable Long postId) {
+    @ResponseBody
+    public ReactionToggleResult addLikePost(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                            @PathVariable Long postId) {
         User user = principal.getUser();
-        reactionService.addReaction(user, TargetType.POST, postId, ReactionType.LIKE);
-        return "redirect:/post/" + postId;
+        return reactionService.addReaction(user, TargetType.POST, postId, ReactionType.LIKE);
     }
 
+    /**
+     * 게시글 북마크를 토글하고, 버튼을 다시 그릴 수 있도록 토글 후 북마크 여부와 북마크 수를 반환합니다.
+     */
     @PostMapping("/{postId}/bookmark")
-    public String addBookMarkPost(@AuthenticationPrincipal CustomUserPrincipal principal,
-                                  @PathVariable Long postId) {
+    @ResponseBody
+    public ReactionToggleResult addBookMarkPost(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                                @PathVariable Long postId) {
         User user = principal.getUser();
-        reactionService.addReaction(user, TargetType.POST, postId, ReactionType.BOOKMARK);
-        return "redirect:/post/" + postId;
+        return reactionService.addReaction(user, TargetType.POST, postId, ReactionType.BOOKMARK);
     }
 
+    /**
+     * 게시글 신고를 토글하고, 버튼을 다시 그릴 수 있도록 토글 후 신고 여부와 신고 수를 반환합니다.
+     */
     @PostMapping("/{postId}/report")
-    public String addReportPost(@AuthenticationPrincipal CustomUserPrincipal principal,
-                                @PathVariable Long postId) {
+    @ResponseBody
+    public ReactionToggleResult addReportPost(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                              @PathVariable Long postId) {
         User user = principal.getUser();
-        reactionService.addReaction(user, TargetType.POST, postId, ReactionType.REPORT);
-        return "redirect:/post/" + postId;
+        return reactionService.addReaction(user, TargetType.POST, postId, ReactionType.REPORT);
     }
 
     @PostMapping("/{postId}/team")
@@ -262,4 +262,45 @@ public class PostController {
             participationService.createParticipation(dto);
         return "redirect:/post/" + postId;
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{postId}/applicants")
+    public String applicants(@AuthenticationPrincipal CustomUserPrincipal principal,
+                             @PathVariable Long postId,
+                             @RequestParam(required = false) ParticipationStatus status,
+                             @RequestParam(defaultValue = "0") int page,
+                             Model model) {
+        User user = currentUserContext.requireUser();
+        Page<ApplicantDTO> applicants = participationService.getApplicants(user.getId(), postId, status, page, APPLICANT_PAGE_SIZE);
+        Post post = postQueryService.getPostById(postId);
+
+        model.addAttribute("user", user);
+        model.addAttribute("post", post);
+        model.addAttribute("applicants", applicants);
+        model.addAttribute("status", status);
+        model.addAttribute("acceptedCount", participationService.countAcceptedParticipation(postId));
+        return "post/applicants";
+    }
+
+    @PostMapping("/{postId}/applicants/accept")
+    public String acceptApplicants(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                   @PathVariable Long postId,
+                                   @RequestParam(required = false) List<Long> participationIds,
+                                   RedirectAttributes ra) {
+        int accepted = participationService.acceptApplicants(principal.getUser().getId(), postId, participationIds);
+        int requested = participationIds == null ? 0 : participationIds.size();
+        ra.addFlashAttribute("message", accepted < requested
+                ? accepted + "명을 수락했습니다. (모집인원이 찼거나 이미 처리된 신청은 제외)"
+                : accepted + "명을 수락했습니다.");
+        return "redirect:/post/" + postId + "/applicants?status=PENDING";
+    }
+
+    @PostMapping("/{postId}/applicants/reject")
+    public String rejectApplicants(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                   @PathVariable Long postId,
+                                   @RequestParam(required = false) List<Long> participationIds,
+                                   RedirectAttributes ra) {
+        int rejected = participationService.rejectApplicants(principal.getUser().getId(), postId, participationIds);
+        ra.addFlashAttribute("message", rejected + "명을 거절했습니다.");
+        return "redirect:/post/" + postId + "/applicants?status=PENDING";
+    }
+}
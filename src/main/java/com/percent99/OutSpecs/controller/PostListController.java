@@ -2,12 +2,10 @@ package com.percent99.OutSpecs.controller;
 
 import com.percent99.OutSpecs.dto.PostListViewDTO;
 import com.percent99.OutSpecs.entity.*;
-import com.percent99.OutSpecs.security.CustomUserPrincipal;
+import com.percent99.OutSpecs.security.CurrentUserContext;
 import com.percent99.OutSpecs.service.PostQueryService;
-import com.percent99.OutSpecs.service.ProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Slice;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -20,29 +18,40 @@ import java.util.List;
 public class PostListController {
 
     private final PostQueryService postQueryService;
-    private final ProfileService profileService;
+    private final CurrentUserContext currentUserContext;
 
     @GetMapping("/{type}")
     public String postList(@PathVariable String type,
-                           @AuthenticationPrincipal CustomUserPrincipal principal,
                            @RequestParam(defaultValue = "0") int page,
                            @RequestParam(defaultValue = "5") int size,
+                           @RequestParam(required = false) PostStatus status,
                            @RequestParam(defaultValue = "false") boolean fragment,
                            Model model) {
 
         PostType postType = parsePostType(type);
-        User user = getCurrentUser(principal);
-      
+        User user = currentUserContext.getUser();
+
         List<PostListViewDTO> popular = postQueryService.toViews(
-                postQueryService.getLikePosts(postType, 10), true, false);
-        Slice<Post> recentSlice = postQueryService.getRecentPosts(user, postType, page, size);
-        List<PostListViewDTO> recent = postQueryService.toViews(recentSlice.getContent(), true, false);
+                postQueryService.getTrendingPosts(postType, 10), true, false);
+        // 팀모집 게시판은 모집 현황과 함께 한 쿼리로 읽고, 모집상태(모집중/모집완료)로 거를 수 있다
+        List<PostListViewDTO> recent;
+        boolean hasNext;
+        if (postType == PostType.TEAM) {
+            Slice<PostListViewDTO> teamSlice = postQueryService.getTeamPosts(status, page, size);
+            recent = teamSlice.getContent();
+            hasNext = teamSlice.hasNext();
+        } else {
+            Slice<Post> recentSlice = postQueryService.getRecentPosts(user, postType, page, size);
+            recent = postQueryService.toViews(recentSlice.getContent(), true, false);
+            hasNext = recentSlice.hasNext();
+        }
 
         model.addAttribute("user", user);
         model.addAttribute("popularPosts", popular);
         model.addAttribute("recentPosts", recent);
-        model.addAttribute("hasNext", recentSlice.hasNext());
+        model.addAttribute("hasNext", hasNext);
         model.addAttribute("postType", postType);
+        model.addAttribute("teamStatus", status);
 
         if(fragment) {
             return type.equals("team") ? "post/team-list :: postListFragment" : "post/list :: postListFragment";
@@ -58,17 +67,16 @@ public class PostListController {
                              @RequestParam(defaultValue = "0") int page,
                              @RequestParam(defaultValue = "5") int size,
                              @RequestParam(defaultValue = "false") boolean fragment,
-                             @AuthenticationPrincipal CustomUserPrincipal principal,
                              Model model) {
 
         PostType postType = parsePostType(type);
         if (tags == null) {
             return "redirect:/list/" + type;
         }
-        User user = getCurrentUser(principal);
+        User user = currentUserContext.getUser();
 
         List<PostListViewDTO> popular = postQueryService.toViews(
-                postQueryService.getLikePosts(postType, 10), true, false);
+                postQueryService.getTrendingPosts(postType, 10), true, false);
         Slice<Post> recentSlice = postQueryService.getFilteredPosts(postType, tags, page, size);
         List<PostListViewDTO> recent = postQueryService.toViews(recentSlice.getContent(), true, false);
 
@@ -92,12 +100,4 @@ public class PostListController {
         throw new IllegalArgumentException("Invalid post type path: " + pathPrefix);
     }
 
-    private User getCurrentUser(CustomUserPrincipal principal) {
-        if (principal == null) {
-            return null;
-        }
-        Long userId = principal.getUser().getId();
-        return profileService.getUserById(userId);
-    }
-
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.percent99.OutSpecs.controller;
 
+import com.percent99.OutSpecs.dto.FollowSuggestionDTO;
+import com.percent99.OutSpecs.dto.NotificationDTO;
 import com.percent99.OutSpecs.dto.ParticipationDTO;
 import com.percent99.OutSpecs.dto.ProfileDTO;
+import com.percent99.OutSpecs.dto.ReactedPostDTO;
+import com.percent99.OutSpecs.dto.ReactionToggleResult;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.security.CurrentUserContext;
 import com.percent99.OutSpecs.security.CustomUserPrincipal;
+import com.percent99.OutSpecs.service.FollowGraphService;
+import com.percent99.OutSpecs.service.FollowSuggestionService;
 import com.percent99.OutSpecs.service.NotificationService;
 import com.percent99.OutSpecs.service.ParticipationService;
 import com.percent99.OutSpecs.service.ProfileService;
@@ -16,9 +23,9 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -31,27 +38,30 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProfileController {
 
+    static final int FOLLOW_PAGE_SIZE = 20;
+    static final int REACTED_POST_PAGE_SIZE = 20;
+
     private final ProfileService profileService;
     private final ReactionService reactionService;
     private final NotificationService notificationService;
     private final ParticipationService participationService;
+    private final FollowGraphService followGraphService;
+    private final FollowSuggestionService followSuggestionService;
+    private final CurrentUserContext currentUserContext;
 
     /**
      * 프로필 생성 폼을 보여줍니다.<br>
      * 이미 프로필이 존재하면 해당 프로필 상세 화면으로 리다이렉트합니다.
      *
-     * @param principal 인증된 사용자 정보가 담긴 CustomUserPrincipal 객체
      * @param model     뷰에 전달할 속성을 저장할 Model 객체
      * @return "profile/profile_form" 뷰 이름 또는 리다이렉트 경로
      */
     @GetMapping("/new")
-    public String createForm(@AuthenticationPrincipal CustomUserPrincipal principal,
-                             Model model){
-        Long userId = principal.getUser().getId();
-        User user = profileService.getUserById(userId);
+    public String createForm(Model model){
+        User user = currentUserContext.requireUser();
 
-        if(profileService.getProfileByUserId(userId).isPresent()){
-            return "redirect:/users/profiles/" + userId;
+        if(user.getProfile() != null){
+            return "redirect:/users/profiles/" + user.getId();
         }
         model.addAttribute("user", user);
         model.addAttribute("profileDTO", new ProfileDTO());
@@ -122,10 +132,18 @@ public class ProfileController {
 
         User user = profileService.getUserById(userId);
 
-        List<ProfileDTO> followProfiles = profileService.getFollowedUserProfiles(user);
-        List<Post> likedPosts = reactionService.getLikedPosts(user);
-        List<Post> bookmarkedPosts = reactionService.getBookmarkedPosts(user);
-        List<Notification> notifications = notificationService.getAllNotification(user);
+        // 팔로우 목록은 첫 페이지만 그리고, 나머지는 /{userId}/following 으로 이어서 읽는다
+        List<ProfileDTO> followProfiles = profileService.getFollowingProfiles(userId, 0, FOLLOW_PAGE_SIZE);
+        List<ReactedPostDTO> likedPosts = List.of();
+        List<ReactedPostDTO> bookmarkedPosts = List.of();
+        List<NotificationDTO> notifications = List.of();
+        List<FollowSuggestionDTO> suggestions = List.of();
+        if(isMine){
+            likedPosts = reactionService.getLikedPostPage(meId, null, null, REACTED_POST_PAGE_SIZE);
+            bookmarkedPosts = reactionService.getBookmarkedPostPage(meId, null, null, REACTED_POST_PAGE_SIZE);
+            notifications = notificationService.getNotificationPage(meId, null, null, false, NotificationController.NOTIFICATION_PAGE_SIZE);
+            suggestions = followSuggestionService.getSuggestions(meId);
+        }
 
         if(profile.isEmpty()){
             return "redirect:/users/profiles/new";
@@ -134,9 +152,12 @@ public class ProfileController {
         model.addAttribute("profile",p);
         model.addAttribute("user", user);
         model.addAttribute("followProfiles", followProfiles);
+        model.addAttribute("followerCount", followGraphService.getFollowerCount(userId));
+        model.addAttribute("followingCount", followGraphService.getFollowingCount(userId));
         model.addAttribute("likedPosts", likedPosts);
         model.addAttribute("bookmarkedPosts", bookmarkedPosts);
         model.addAttribute("notifications", notifications);
+        model.addAttribute("suggestions", suggestions);
 
         List<String> stacks = Optional.ofNullable(p.getStacks())
                         .map(s -> Arrays.stream(s.split(","))
@@ -234,28 +255,91 @@ public class ProfileController {
     }
 
     /**
-     * 오픈프로필 팔로우를 합니다.
+     * 오픈프로필 팔로우를 토글합니다.<br>
+     * 버튼과 팔로워 수를 다시 그릴 수 있도록 토글 후 팔로우 여부와 상대의 팔로워 수를 반환합니다.
      * @param userId 팔로우 할 상대 id
      * @param principal 로그인한 id
-     * @return 팔로우 이후 해당 프로필 redirect
+     * @return 팔로우 토글 결과
      */
     @PostMapping("/{userId}/follow")
-    public String toggleFollow(@PathVariable Long userId,
-                               @AuthenticationPrincipal CustomUserPrincipal principal,
-                               RedirectAttributes redirectAttributes){
-        boolean profile = profileService.getProfileByUserId(principal.getUser().getId())
-                        .isPresent();
-        if(!profile){
-            redirectAttributes.addFlashAttribute("error", "먼저 오픈프로필을 제작해주세요");
-            return "redirect:/users/profiles/" + userId;
+    @ResponseBody
+    public ReactionToggleResult toggleFollow(@PathVariable Long userId,
+                                             @AuthenticationPrincipal CustomUserPrincipal principal){
+        if(!currentUserContext.hasProfile()){
+            throw new IllegalStateException("먼저 오픈프로필을 제작해주세요");
         }
-        reactionService.addReaction(
+        return reactionService.addReaction(
                 principal.getUser(),
                 TargetType.USER,
                 userId,
                 ReactionType.FOLLOW
         );
-        return "redirect:/users/profiles/"+userId;
+    }
+
+    /**
+     * userId 가 팔로우한 사용자들의 프로필을 페이지 단위로 반환합니다.
+     * @param userId 조회할 사용자 id
+     * @param page 0부터 시작하는 페이지 번호
+     * @return 팔로잉 프로필 목록
+     */
+    @GetMapping("/{userId}/following")
+    @ResponseBody
+    public List<ProfileDTO> following(@PathVariable Long userId,
+                                      @RequestParam(name = "page", defaultValue = "0") int page){
+        return profileService.getFollowingProfiles(userId, Math.max(page, 0), FOLLOW_PAGE_SIZE);
+    }
+
+    /**
+     * userId 를 팔로우한 사용자들의 프로필을 페이지 단위로 반환합니다.
+     * @param userId 조회할 사용자 id
+     * @param page 0부터 시작하는 페이지 번호
+     * @return 팔로워 프로필 목록
+     */
+    @GetMapping("/{userId}/followers")
+    @ResponseBody
+    public List<ProfileDTO> followers(@PathVariable Long userId,
+                                      @RequestParam(name = "page", defaultValue = "0") int page){
+        return profileService.getFollowerProfiles(userId, Math.max(page, 0), FOLLOW_PAGE_SIZE);
+    }
+
+    /**
+     * 본인이 좋아요한 게시글 다음 페이지를 좋아요한 시각 최신순으로 반환합니다.<br>
+     * 본인이 아니면 빈 목록을 반환합니다.
+     * @param userId 조회할 사용자 id
+     * @param cursorAt 이전 페이지 마지막 항목의 reactedAt
+     * @param cursorId 이전 페이지 마지막 항목의 reactionId
+     * @return 좋아요한 게시글 목록
+     */
+    @GetMapping("/{userId}/likes")
+    @ResponseBody
+    public List<ReactedPostDTO> likedPosts(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                           @PathVariable Long userId,
+                                           @RequestParam(name = "cursorAt", required = false) LocalDateTime cursorAt,
+                                           @RequestParam(name = "cursorId", required = false) Long cursorId){
+        if(principal == null || !principal.getUser().getId().equals(userId)){
+            return List.of();
+        }
+        return reactionService.getLikedPostPage(userId, cursorAt, cursorId, REACTED_POST_PAGE_SIZE);
+    }
+
+    /**
+     * 본인이 북마크한 게시글 다음 페이지를 북마크한 시각 최신순으로 반환합니다.<br>
+     * 본인이 아니면 빈 목록을 반환합니다.
+     * @param userId 조회할 사용자 id
+     * @param cursorAt 이전 페이지 마지막 항목의 reactedAt
+     * @param cursorId 이전 페이지 마지막 항목의 reactionId
+     * @return 북마크한 게시글 목록
+     */
+    @GetMapping("/{userId}/bookmarks")
+    @ResponseBody
+    public List<ReactedPostDTO> bookmarkedPosts(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                                @PathVariable Long userId,
+                                                @RequestParam(name = "cursorAt", required = false) LocalDateTime cursorAt,
+                                                @RequestParam(name = "cursorId", required = false) Long cursorId){
+        if(principal == null || !principal.getUser().getId().equals(userId)){
+            return List.of();
+        }
+        return reactionService.getBookmarkedPostPage(userId, cursorAt, cursorId, REACTED_POST_PAGE_SIZE);
     }
 
     /**
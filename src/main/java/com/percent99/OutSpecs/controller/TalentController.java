@@ -0,0 +1,56 @@
+package com.percent99.OutSpecs.controller;
+
+import com.percent99.OutSpecs.dto.TalentPageDTO;
+import com.percent99.OutSpecs.security.CurrentUserContext;
+import com.percent99.OutSpecs.service.TalentSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * 기업 회원이 기술 스택 / 경력으로 인재를 찾는 검색 컨트롤러
+ */
+@Controller
+@RequestMapping("/talents")
+@RequiredArgsConstructor
+public class TalentController {
+
+    static final int TALENT_PAGE_SIZE = 20;
+
+    private final TalentSearchService talentSearchService;
+    private final CurrentUserContext currentUserContext;
+
+    /**
+     * 인재를 검색합니다.
+     *
+     * @param stacks 찾을 기술 스택 (여러 개 가능)
+     * @param matchAll true 면 모든 스택을 가진 인재, false 면 하나라도 가진 인재
+     * @param experience 경력에 포함되어야 하는 키워드
+     * @param cursor 이전 페이지의 마지막 유저 id (첫 페이지는 생략)
+     */
+    @PreAuthorize("hasAnyRole('ENTUSER','ADMIN')")
+    @GetMapping
+    public String search(@RequestParam(name = "stacks", required = false) List<String> stacks,
+                         @RequestParam(name = "matchAll", defaultValue = "true") boolean matchAll,
+                         @RequestParam(name = "experience", required = false) String experience,
+                         @RequestParam(name = "cursor", required = false) Long cursor,
+                         Model model) {
+        TalentPageDTO page = talentSearchService.search(stacks, matchAll, experience, cursor, TALENT_PAGE_SIZE);
+
+        model.addAttribute("user", currentUserContext.getUser());
+        model.addAttribute("talents", page.getTalents());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("stacks", stacks == null ? List.of() : stacks);
+        model.addAttribute("matchAll", matchAll);
+        model.addAttribute("experience", experience);
+        model.addAttribute("stackOptions", talentSearchService.getStackNames());
+        model.addAttribute("indexedCount", talentSearchService.getIndexedCount());
+        return "talent/search";
+    }
+}
@@ -0,0 +1,46 @@
+package com.percent99.OutSpecs.controller;
+
+import com.percent99.OutSpecs.dto.TimelinePageDTO;
+import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.security.CurrentUserContext;
+import com.percent99.OutSpecs.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * 팔로우한 사용자들의 게시글을 모아 보여주는 타임라인 컨트롤러
+ */
+@Controller
+@RequestMapping("/timeline")
+@RequiredArgsConstructor
+public class TimelineController {
+
+    static final int TIMELINE_PAGE_SIZE = 10;
+
+    private final TimelineService timelineService;
+    private final CurrentUserContext currentUserContext;
+
+    /**
+     * 타임라인을 조회합니다.<br>
+     * fragment=true 이면 게시글 목록 조각만 반환합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 게시글 id (첫 페이지는 생략)
+     */
+    @GetMapping
+    public String timeline(@RequestParam(name = "cursor", required = false) Long cursor,
+                           @RequestParam(defaultValue = "false") boolean fragment,
+                           Model model) {
+        User user = currentUserContext.requireUser();
+        TimelinePageDTO page = timelineService.getTimeline(user.getId(), cursor, TIMELINE_PAGE_SIZE);
+
+        model.addAttribute("user", user);
+        model.addAttribute("recentPosts", page.getPosts());
+        model.addAttribute("nextCursor", page.getNextCursor());
+
+        return fragment ? "post/list :: postListFragment" : "post/timeline";
+    }
+}
@@ -0,0 +1,27 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 회원 목록 조회용 DTO<br>
+ * 회원과 프로필 닉네임을 JPQL 생성자 표현식으로 바로 조회한다. (프로필이 없으면 nickname 은 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminUserDTO {
+    private Long id;
+    private String username;
+    private String nickname;
+    private UserRoleType role;
+    private UserStatus status;
+    private String providerId;
+    private Integer aiRateLimit;
+    private LocalDateTime createdAt;
+}
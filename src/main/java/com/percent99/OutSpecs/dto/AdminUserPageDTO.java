@@ -0,0 +1,17 @@
+package com.percent99.OutSpecs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 관리자 회원 목록 한 페이지<br>
+ * nextCursor : 다음 페이지 요청 시 넘길 회원 id (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class AdminUserPageDTO {
+    private List<AdminUserDTO> users;
+    private Long nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.ParticipationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀모집 신청자 관리 목록 조회용 DTO<br>
+ * 신청 / 유저 / 프로필을 JPQL 생성자 표현식으로 한 번에 조회한다. 프로필이 없는 유저는 nickname 등이 null 이다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantDTO {
+    private Long participationId;
+    private Long userId;
+    private String nickname;
+    private String imageUrl;
+    private String stacks;
+    private ParticipationStatus status;
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,17 @@
+package com.percent99.OutSpecs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 대시보드 캐시 통계<br>
+ * hitRate : 적중률 (0 ~ 1, 조회가 없었으면 0)
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatsDTO {
+    private int size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+}
@@ -13,6 +13,7 @@ public class ChatRoomResponseDTO {
   private boolean chatRoomIsChatBot;
   private String chatRoomLastMessage;
   private LocalDateTime chatRoomLastMessageCreatedAt;
+  private LocalDateTime lastActivityAt;
 
   private List<ChatMessageDTO> chatMessageDTOList;
 
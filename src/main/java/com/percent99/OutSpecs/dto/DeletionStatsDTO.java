@@ -0,0 +1,18 @@
+package com.percent99.OutSpecs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 대시보드 회원 삭제 작업 통계<br>
+ * pendingJobCount 는 DB 에서 읽고, 나머지는 애플리케이션이 시작된 뒤 누적한 값이다.
+ */
+@Getter
+@AllArgsConstructor
+public class DeletionStatsDTO {
+    private long pendingJobCount;
+    private long completedJobCount;
+    private long failedRunCount;
+    private long deletedRowCount;
+    private long deletedObjectCount;
+}
@@ -0,0 +1,15 @@
+package com.percent99.OutSpecs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 추천 항목<br>
+ * mutualCount : 내가 팔로우한 사람 중 이 사용자를 팔로우한 사람 수
+ */
+@Getter
+@AllArgsConstructor
+public class FollowSuggestionDTO {
+    private ProfileDTO profile;
+    private int mutualCount;
+}
@@ -0,0 +1,26 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림함 목록 조회용 DTO<br>
+ * 엔티티를 읽지 않고 JPQL 생성자 표현식으로 바로 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDTO {
+    private Long id;
+    private NotificationType targetType;
+    private String message;
+    private Long targetId;
+    private Long senderId;
+    private Integer aggregateCount;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+}
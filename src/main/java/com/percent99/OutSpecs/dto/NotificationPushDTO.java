@@ -0,0 +1,21 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * /queue/users/{userId}/notifications 로 전송되는 실시간 알림<br>
+ * 읽음 처리로 개수만 바뀐 경우 type, message 등은 null 이고 unreadCount 만 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationPushDTO {
+    private NotificationType type;
+    private String message;
+    private Long targetId;
+    private LocalDateTime createdAt;
+    private long unreadCount;
+}
@@ -24,4 +24,5 @@ public class PostListViewDTO {
     private long commentCount;
     private long bookmarkCount;
     private List<Image> images;
+    private ProfileSummary author; // 작성자 닉네임 / 프로필 이미지 (프로필이 없으면 null)
 }
\ No newline at end of file
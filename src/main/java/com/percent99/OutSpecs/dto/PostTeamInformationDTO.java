@@ -7,6 +7,7 @@ import lombok.Setter;
 /**
  * post_team_information 테이블 매핑용 DTO.
  * <p>팀 모집 게시판에서 사용되는 모집 상태와 최대 인원을 캡슐화</p>
+ * <p>acceptedCount / appliedCount 는 목록 조회 시에만 채워지며, 글 작성·수정 폼에서는 사용하지 않는다.</p>
  */
 @Getter
 @Setter
@@ -14,4 +15,6 @@ public class PostTeamInformationDTO {
 
     private PostStatus status = PostStatus.OPEN;
     private Integer capacity;
+    private int acceptedCount;
+    private int appliedCount;
 }
\ No newline at end of file
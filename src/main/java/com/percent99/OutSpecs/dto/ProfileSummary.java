@@ -0,0 +1,20 @@
+package com.percent99.OutSpecs.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 닉네임 / 프로필 이미지만 담는 불변 프로필 요약<br>
+ * ProfileSummaryCache 에 보관되어 여러 service 와 템플릿에서 공유되므로 값을 바꿀 수 없게 둔다.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class ProfileSummary {
+    private final Long userId;
+    private final String nickname;
+    private final String imageUrl;
+}
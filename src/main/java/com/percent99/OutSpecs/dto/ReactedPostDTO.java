@@ -0,0 +1,26 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 / 북마크한 게시글 목록 조회용 DTO<br>
+ * 게시글 엔티티를 읽지 않고 JPQL 생성자 표현식으로 필요한 컬럼만 조회한다.
+ * reactionId, reactedAt 은 다음 페이지 cursor 로 사용한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactedPostDTO {
+    private Long reactionId;
+    private LocalDateTime reactedAt;
+    private Long postId;
+    private PostType type;
+    private String title;
+    private LocalDateTime postCreatedAt;
+    private String thumbnailUrl;
+}
@@ -0,0 +1,22 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.ReactionType;
+import com.percent99.OutSpecs.entity.TargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 반응 토글 결과<br>
+ * active : 토글 후 반응이 남아 있는지 여부, count : 토글 후 대상의 해당 반응 수<br>
+ * added : 이번 토글로 반응이 실제로 추가되었는지 여부 (동시 요청이 먼저 추가해 uk_user_target_reaction 에 막힌 경우 false)
+ */
+@Getter
+@AllArgsConstructor
+public class ReactionToggleResult {
+    private TargetType targetType;
+    private Long targetId;
+    private ReactionType reactionType;
+    private boolean active;
+    private long count;
+    private boolean added;
+}
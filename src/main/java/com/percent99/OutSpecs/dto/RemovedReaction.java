@@ -0,0 +1,20 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.ReactionType;
+import com.percent99.OutSpecs.entity.TargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 삭제된 반응 한 건<br>
+ * 반응을 지우는 모든 경로(반응 취소, 회원 삭제, 고아 반응 정리)가 ReactionService.applyRemoved 에 넘겨
+ * 팔로우 그래프, 신고 수, 인기 점수를 같은 방식으로 되돌린다.
+ */
+@Getter
+@AllArgsConstructor
+public class RemovedReaction {
+    private Long userId;
+    private TargetType targetType;
+    private Long targetId;
+    private ReactionType reactionType;
+}
@@ -0,0 +1,25 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 신고 검토 목록 조회용 DTO<br>
+ * report_counters 와 게시글을 join 해 JPQL 생성자 표현식으로 바로 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportedPostDTO {
+    private Long postId;
+    private PostType type;
+    private String title;
+    private String username;
+    private int reportCount;
+    private LocalDateTime lastReportedAt;
+    private boolean hidden;
+}
@@ -0,0 +1,20 @@
+package com.percent99.OutSpecs.dto;
+
+import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 회원 통계<br>
+ * user_counters 의 (role, status) 별 회원 수를 합산한 값이다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserStatsDTO {
+    private long total;
+    private Map<UserRoleType, Long> byRole;
+    private Map<UserStatus, Long> byStatus;
+}
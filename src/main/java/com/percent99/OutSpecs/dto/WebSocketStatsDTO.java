@@ -0,0 +1,15 @@
+package com.percent99.OutSpecs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 대시보드 WebSocket 느린 세션 통계<br>
+ * bufferOverflows : 송신 버퍼가 넘친 횟수 (버려진 메시지 수가 아니라 추정치), closedSlowSessions : 강제 종료된 세션 수
+ */
+@Getter
+@AllArgsConstructor
+public class WebSocketStatsDTO {
+    private long bufferOverflows;
+    private long closedSlowSessions;
+}
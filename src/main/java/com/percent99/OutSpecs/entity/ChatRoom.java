@@ -5,15 +5,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 /**
  * 채팅방 정보를 담는 엔티티 <br>
+ * 참여자 쌍은 (min_user_id, max_user_id)로 정규화되어 저장되며, 같은 두 사용자의 채팅방은 하나만 존재할 수 있다.
  */
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_participant_pair", columnNames = {"min_user_id", "max_user_id"}),
+        indexes = {
+                @Index(name = "idx_chat_room_user1_activity", columnList = "user1_id, last_activity_at DESC, id DESC"),
+                @Index(name = "idx_chat_room_user2_activity", columnList = "user2_id, last_activity_at DESC, id DESC")
+        })
 public class ChatRoom {
 
     @Id
@@ -34,4 +43,28 @@ public class ChatRoom {
     @Column(name = "last_message_id")
     private Long lastMessageId;
 
+    @Column(name = "min_user_id")
+    private Long minUserId;
+
+    @Column(name = "max_user_id")
+    private Long maxUserId;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    /**
+     * user1, user2 순서와 관계없이 같은 값을 갖도록 참여자 쌍을 정규화한다.
+     * 마지막 활동 시각이 없으면 현재 시각으로 설정한다.
+     */
+    @PrePersist
+    @PreUpdate
+    void assignParticipantPair() {
+        if (lastActivityAt == null) this.lastActivityAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        if (user1 == null || user2 == null) return;
+
+        this.minUserId = Math.min(user1.getId(), user2.getId());
+        this.maxUserId = Math.max(user1.getId(), user2.getId());
+    }
+
 }
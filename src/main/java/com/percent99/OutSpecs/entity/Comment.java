@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(name = "comments",
+    indexes = {
+        @Index(name = "idx_comments_type_parent", columnList = "type, parent_id"),
+        @Index(name = "idx_comments_user_id", columnList = "user_id, id")
+    })
 public class Comment {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
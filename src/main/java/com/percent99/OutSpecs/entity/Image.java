@@ -13,7 +13,8 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "images")
+@Table(name = "images",
+        indexes = @Index(name = "idx_images_post_id", columnList = "post_id"))
 public class Image {
 
     @Id
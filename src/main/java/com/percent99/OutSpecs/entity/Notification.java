@@ -11,7 +11,14 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "notification")
+@Table(name = "notification",
+        indexes = {
+                @Index(name = "idx_notification_coalesce", columnList = "receiver_id, target_type, target_id, created_at DESC"),
+                @Index(name = "idx_notification_receiver_unread", columnList = "receiver_id, is_read, created_at DESC"),
+                @Index(name = "idx_notification_receiver_created", columnList = "receiver_id, created_at DESC, id DESC"),
+                @Index(name = "idx_notification_read_at", columnList = "is_read, read_at"),
+                @Index(name = "idx_notification_sender", columnList = "sender_id")
+        })
 public class Notification {
 
     @Id
@@ -39,6 +46,19 @@ public class Notification {
     @Column(name = "is_read", nullable = false)
     private Boolean isRead;
 
+    /** 읽음 처리된 시각 (읽지 않았으면 null). 보존 기간은 이 시각부터 센다 */
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    /** 마지막 알림 발생 시각 (묶음 알림은 새 알림이 합쳐질 때마다 갱신) */
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
+
+    /** 묶음 알림에 포함된 인원 수 (묶이지 않은 알림은 1) */
+    @Column(name = "aggregate_count")
+    private Integer aggregateCount;
+
+    /** 묶음 알림의 최근 보낸 사람 id 목록 (최신순, 쉼표 구분) */
+    @Column(name = "recent_sender_ids", length = 100)
+    private String recentSenderIds;
 }
@@ -10,6 +10,7 @@ package com.percent99.OutSpecs.entity;
  *     <li>LIKE_POST : 게시글 좋아요</li>
  *     <li>LIKE_COMMENT : 댓글 좋아요</li>
  * </ul>
+ * 팔로우/좋아요 알림은 같은 대상끼리 하나의 묶음 알림으로 합쳐질 수 있다.
  */
 public enum NotificationType {
     APPLY,
@@ -17,5 +18,13 @@ public enum NotificationType {
     REJECTED,
     FOLLOW,
     LIKE_POST,
-    LIKE_COMMENT
+    LIKE_COMMENT;
+
+    /**
+     * 같은 대상의 알림을 하나로 묶을 수 있는 타입인지 여부<br>
+     * 팀 모집 신청/수락/거절은 건별로 처리해야 하므로 묶지 않는다.
+     */
+    public boolean isCoalescible() {
+        return this == FOLLOW || this == LIKE_POST || this == LIKE_COMMENT;
+    }
 }
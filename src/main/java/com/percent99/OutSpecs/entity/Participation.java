@@ -9,13 +9,16 @@ import java.time.LocalDateTime;
 
 /**
  * 팀 모집 신청 상태 정보를 담기 위한 엔티티 <br>
+ * 한 유저는 한 게시글에 한 번만 신청할 수 있다 (uk_participation_user_post).
  */
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "participations")
+@Table(name = "participations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_user_post", columnNames = {"user_id", "post_id"}),
+        indexes = @Index(name = "idx_participation_post_id", columnList = "post_id"))
 public class Participation {
 
     @Id
@@ -25,7 +25,10 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "posts")
+@Table(name = "posts",
+        indexes = {
+                @Index(name = "idx_posts_user_id", columnList = "user_id, id DESC")
+        })
 public class Post {
 
     @Id
@@ -16,7 +16,8 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "posts_tags")
+@Table(name = "posts_tags",
+        indexes = @Index(name = "idx_posts_tags_post_id", columnList = "post_id"))
 public class PostTags {
 
     @Id
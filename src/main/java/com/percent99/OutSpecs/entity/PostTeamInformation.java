@@ -10,7 +10,11 @@ import lombok.Setter;
  * <ul> 팀 모집 게시판
  *      <li>status : 모집공고 상태</li>
  *      <li>capacity : 모집 인원 수</li>
+ *      <li>acceptedCount : 수락된 인원 수</li>
+ *      <li>appliedCount : 상태와 상관없이 신청한 인원 수</li>
  * </ul>
+ * 두 인원 수는 {@link com.percent99.OutSpecs.repository.PostTeamInformationRepository} 의 조건부 UPDATE 로만 바뀐다.
+ * 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 updatable = false 로 둔다.
  */
 
 @Entity
@@ -35,4 +39,10 @@ public class PostTeamInformation {
 
     @Column(nullable = false)
     private Integer capacity;
+
+    @Column(name = "accepted_count", updatable = false)
+    private Integer acceptedCount = 0;
+
+    @Column(name = "applied_count", updatable = false)
+    private Integer appliedCount = 0;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.percent99.OutSpecs.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 프로필별 기술 스택(tech_stacks) 연결 entity <br>
+ * profiles.stacks 문자열을 정규화해 담으며, 프로필을 등록 / 수정할 때 같은 트랜잭션에서 다시 쓴다.
+ *
+ * userId : 프로필 소유자 id <br>
+ * stackId : tech_stacks id
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "profile_stacks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_profile_stack_user_stack", columnNames = {"user_id", "stack_id"}),
+        indexes = @Index(name = "idx_profile_stack_stack", columnList = "stack_id")
+)
+public class ProfileStack {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stack_id", nullable = false)
+    private Long stackId;
+}
@@ -29,10 +29,10 @@ import java.time.LocalDateTime;
                 name = "uk_user_target_reaction",
                 columnNames = {"user_id", "target_type", "target_id", "reaction_type"}
         ),
-        indexes = @Index(
-                name = "idx_target",
-                columnList = "target_type,target_id,reaction_type"
-        )
+        indexes = {
+                @Index(name = "idx_target", columnList = "target_type,target_id,reaction_type"),
+                @Index(name = "idx_reaction_user_type_created", columnList = "user_id, reaction_type, target_type, created_at DESC")
+        }
 )
 public class Reaction {
 
@@ -0,0 +1,51 @@
+package com.percent99.OutSpecs.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 대상별 신고 수를 담는 entity <br>
+ * reactions 의 REPORT 반응이 추가/취소될 때마다 같은 트랜잭션에서 증감된다.
+ *
+ * reportCount : 현재 신고 수 <br>
+ * lastReportedAt : 마지막으로 신고된 시각 <br>
+ * hidden : 신고 수가 기준(report.auto-hide-threshold) 이상이 되어 목록에서 숨겨졌는지 여부 <br>
+ * reviewedAt : 관리자가 검토(복구)한 시각. 이후 들어온 신고만 다시 검토 대상이 된다
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "report_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_counter_target", columnNames = {"target_type", "target_id"}),
+        indexes = @Index(name = "idx_report_counter_queue", columnList = "target_type, report_count DESC, last_reported_at DESC")
+)
+public class ReportCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "report_count", nullable = false)
+    private int reportCount;
+
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+
+    @Column(nullable = false)
+    private boolean hidden;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+}
@@ -0,0 +1,34 @@
+package com.percent99.OutSpecs.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 정책별로 마지막으로 확인한 위치를 담는 entity <br>
+ * 재시작해도 처음부터 다시 훑지 않도록 RetentionService 가 실행마다 저장한다.
+ *
+ * name : 정책 이름 (예: reactions) <br>
+ * lastId : 마지막으로 확인한 id <br>
+ * updatedAt : 마지막으로 저장한 시각
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "retention_cursors")
+public class RetentionCursor {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.percent99.OutSpecs.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 프로필 기술 스택 사전 entity <br>
+ * 같은 스택을 다르게 적어도(대소문자, 공백) 하나의 행으로 모이도록 정규화한 이름으로 구분한다.
+ *
+ * name : 처음 등록된 표시용 이름 <br>
+ * normalizedName : 공백을 없애고 소문자로 바꾼 이름 (TechStackService.normalize)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "tech_stacks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tech_stack_normalized", columnNames = "normalized_name")
+)
+public class TechStack {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+}
@@ -9,7 +9,8 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "techniques")
+@Table(name = "techniques",
+        indexes = @Index(name = "idx_techniques_post_id", columnList = "post_id"))
 public class Techniques {
 
     @Id
@@ -20,7 +20,9 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_role_status_id", columnList = "role, status, id")
+)
 public class User {
 
     @Id
@@ -0,0 +1,39 @@
+package com.percent99.OutSpecs.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 권한(role) / 상태(status) 조합별 회원 수를 담는 entity <br>
+ * 회원 가입, 권한 변경, 정지/해제/탈퇴, 삭제 시 같은 트랜잭션에서 증감되어 관리자 통계를 users 스캔 없이 읽는다.
+ *
+ * role : 회원 권한 <br>
+ * status : 회원 상태 <br>
+ * userCount : 해당 조합의 회원 수
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "user_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_counter_role_status", columnNames = {"role", "status"})
+)
+public class UserCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserRoleType role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserStatus status;
+
+    @Column(name = "user_count", nullable = false)
+    private long userCount;
+}
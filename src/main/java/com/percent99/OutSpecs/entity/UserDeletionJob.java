@@ -0,0 +1,79 @@
+package com.percent99.OutSpecs.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드에서 단계별로 진행되는 회원 삭제 작업을 담는 entity <br>
+ * 회원 행이 지워진 뒤에도 결과를 남기기 위해 users 를 외래키로 참조하지 않는다.
+ *
+ * userId : 삭제할 회원 id <br>
+ * status : 작업 상태 <br>
+ * step : 진행 중인 단계 (완료된 단계는 다시 실행하지 않는다) <br>
+ * deletedRows / deletedObjects : 지금까지 삭제한 행 수 / S3 객체 수 <br>
+ * attempts / lastError : 실패 횟수 / 마지막 실패 사유
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "user_deletion_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_deletion_job_user", columnNames = "user_id"),
+        indexes = @Index(name = "idx_user_deletion_job_status", columnList = "status, id")
+)
+public class UserDeletionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserDeletionStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserDeletionStep step;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "deleted_objects", nullable = false)
+    private long deletedObjects;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 첫 단계부터 시작하는 대기 상태로 되돌린다.
+     */
+    public void restart() {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = UserDeletionStatus.PENDING;
+        this.step = UserDeletionStep.REACTIONS;
+        this.attempts = 0;
+        this.lastError = null;
+        this.requestedAt = now;
+        this.updatedAt = now;
+        this.finishedAt = null;
+    }
+}
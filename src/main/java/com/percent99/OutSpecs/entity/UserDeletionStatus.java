@@ -0,0 +1,17 @@
+package com.percent99.OutSpecs.entity;
+
+/**
+ * 회원 삭제 작업 상태
+ * <ul>
+ *     <li>PENDING : 대기</li>
+ *     <li>RUNNING : 진행 중 (중단되면 다음 실행에서 현재 단계부터 이어서 진행)</li>
+ *     <li>DONE : 완료</li>
+ *     <li>FAILED : 실패 (user-deletion.max-attempts 번까지 다시 시도)</li>
+ * </ul>
+ */
+public enum UserDeletionStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
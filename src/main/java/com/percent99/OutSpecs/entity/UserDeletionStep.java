@@ -0,0 +1,33 @@
+package com.percent99.OutSpecs.entity;
+
+/**
+ * 회원 삭제 작업의 단계. 선언 순서대로 진행한다.
+ * <ul>
+ *     <li>REACTIONS : 회원이 남긴 반응 (팔로우 포함)</li>
+ *     <li>FOLLOWERS : 회원을 대상으로 한 반응 (팔로워 포함)</li>
+ *     <li>NOTIFICATIONS : 회원이 받거나 보낸 알림</li>
+ *     <li>PARTICIPATIONS : 회원의 팀모집 신청 (신청 / 수락 인원 차감)</li>
+ *     <li>COMMENTS : 회원이 쓴 댓글과 그 하위 댓글</li>
+ *     <li>CHAT_ROOMS : 회원이 참여한 채팅방과 메시지</li>
+ *     <li>POSTS : 회원이 쓴 게시글과 딸린 이미지 / 태그 / 댓글 / 신청 등</li>
+ *     <li>ACCOUNT : 프로필(이미지 포함)과 회원</li>
+ * </ul>
+ */
+public enum UserDeletionStep {
+    REACTIONS,
+    FOLLOWERS,
+    NOTIFICATIONS,
+    PARTICIPATIONS,
+    COMMENTS,
+    CHAT_ROOMS,
+    POSTS,
+    ACCOUNT;
+
+    /**
+     * 다음 단계 (마지막 단계면 null)
+     */
+    public UserDeletionStep next() {
+        UserDeletionStep[] steps = values();
+        return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+    }
+}
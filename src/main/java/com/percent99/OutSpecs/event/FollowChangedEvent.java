@@ -0,0 +1,17 @@
+package com.percent99.OutSpecs.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팔로우 관계가 바뀌었을 때 발생하는 도메인 이벤트<br>
+ * 커밋된 뒤 FollowGraphService 가 받아 메모리의 팔로우 그래프에 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FollowChangedEvent {
+
+    private final Long followerId;
+    private final Long followeeId;
+    private final boolean following;
+}
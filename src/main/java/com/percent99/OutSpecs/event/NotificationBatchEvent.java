@@ -0,0 +1,18 @@
+package com.percent99.OutSpecs.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 건의 알림을 한 번에 발생시키는 도메인 이벤트<br>
+ * 팀 모집 신청 일괄 수락/거절처럼 한 요청에서 많은 알림이 생길 때, 건마다 이벤트를 발행하지 않고 묶어서 넘긴다.
+ * NotificationBatchWriter 가 커밋 후 받아 대기열에 한꺼번에 넣는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationBatchEvent {
+
+    private final List<NotificationEvent> events;
+}
@@ -0,0 +1,26 @@
+package com.percent99.OutSpecs.event;
+
+import com.percent99.OutSpecs.entity.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림을 발생시키는 도메인 이벤트<br>
+ * 좋아요, 팔로우, 팀 모집 신청/수락/거절이 커밋된 뒤 NotificationBatchWriter 가 받아 알림으로 저장한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationEvent {
+
+    private final Long senderId;
+    private final Long receiverId;
+    private final NotificationType type;
+    private final Long targetId;
+    private final LocalDateTime occurredAt;
+
+    public NotificationEvent(Long senderId, Long receiverId, NotificationType type, Long targetId) {
+        this(senderId, receiverId, type, targetId, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,16 @@
+package com.percent99.OutSpecs.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 작성되었을 때 발생하는 도메인 이벤트<br>
+ * 커밋된 뒤 TimelineService 가 받아 작성자의 팔로워 타임라인에 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCreatedEvent {
+
+    private final Long postId;
+    private final Long authorId;
+}
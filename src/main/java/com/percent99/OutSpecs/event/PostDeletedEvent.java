@@ -0,0 +1,16 @@
+package com.percent99.OutSpecs.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 삭제되었을 때 발생하는 도메인 이벤트<br>
+ * 커밋된 뒤 TimelineService 가 받아 팔로워 타임라인에서 제거한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostDeletedEvent {
+
+    private final Long postId;
+    private final Long authorId;
+}
@@ -0,0 +1,34 @@
+package com.percent99.OutSpecs.event;
+
+import com.percent99.OutSpecs.entity.PostType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글에 조회 / 좋아요 / 댓글 / 북마크가 생기거나 취소되었을 때 발생하는 도메인 이벤트<br>
+ * 커밋된 뒤 TrendingService 가 받아 게시글의 인기 점수에 반영한다.
+ * type 을 모르면 null 로 보내며, 받는 쪽에서 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostEngagementEvent {
+
+    private final Long postId;
+    private final PostType type;
+    private final Kind kind;
+    private final int delta;
+
+    /**
+     * 반응 종류별 인기 점수 가중치
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Kind {
+        VIEW(1.0),
+        LIKE(3.0),
+        COMMENT(4.0),
+        BOOKMARK(5.0);
+
+        private final double weight;
+    }
+}
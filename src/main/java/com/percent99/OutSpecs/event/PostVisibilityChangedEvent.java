@@ -0,0 +1,16 @@
+package com.percent99.OutSpecs.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 신고 누적으로 게시글이 숨겨지거나 관리자가 복구했을 때 발생하는 도메인 이벤트<br>
+ * 커밋된 뒤 ReportQueueService 가 받아 메모리의 숨김 목록에 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostVisibilityChangedEvent {
+
+    private final Long postId;
+    private final boolean hidden;
+}
@@ -0,0 +1,15 @@
+package com.percent99.OutSpecs.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필이 생성 / 수정 / 삭제되었거나, 회원 상태가 바뀌어 프로필 노출 여부가 달라졌을 때 발행되는 도메인 이벤트<br>
+ * 커밋된 뒤 ProfileSummaryCache 가 받아 해당 유저의 요약을 버리고, TalentSearchService 가 해당 유저의 색인을 다시 읽는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileChangedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,32 @@
+package com.percent99.OutSpecs.handler;
+
+import com.percent99.OutSpecs.security.CustomUserPrincipal;
+import com.percent99.OutSpecs.service.NotificationPushService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+/**
+ * 헤더의 알림 배지를 그리기 위해 모든 화면에 읽지 않은 알림 수와 WebSocket 주소를 넣어주는 advice
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class NotificationModelAdvice {
+
+    private final NotificationPushService notificationPushService;
+
+    @Value("${websocket.SERVER_URL}")
+    private String webSocketServerUrl;
+
+    @ModelAttribute
+    public void addNotificationAttributes(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                          Model model) {
+        if (principal == null || principal.getUser() == null) return;
+
+        model.addAttribute("unreadNotificationCount", notificationPushService.getUnreadCount(principal.getUser().getId()));
+        model.addAttribute("notificationSocketUrl", webSocketServerUrl);
+    }
+}
@@ -0,0 +1,76 @@
+package com.percent99.OutSpecs.handler;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.io.IOException;
+
+/**
+ * 세션별 송신 버퍼 초과 정책을 설정할 수 있는 SubProtocolWebSocketHandler
+ * <p>
+ *     기본 구현은 버퍼가 넘치면 항상 세션을 종료(TERMINATE)하지만,
+ *     여기서는 설정에 따라 가장 오래된 메시지부터 버리는(DROP) 정책도 사용할 수 있다.
+ *     송신 시간 제한(send time limit)을 넘긴 세션은 정책과 무관하게 종료된다.
+ * </p>
+ */
+public class SlowConsumerSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+  private final OverflowStrategy overflowStrategy;
+  private final WebSocketSessionMetrics metrics;
+
+  public SlowConsumerSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                                 SubscribableChannel clientOutboundChannel,
+                                                 OverflowStrategy overflowStrategy,
+                                                 WebSocketSessionMetrics metrics) {
+    super(clientInboundChannel, clientOutboundChannel);
+    this.overflowStrategy = overflowStrategy;
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected WebSocketSession decorateSession(WebSocketSession session) {
+    return new MeteredSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(), overflowStrategy, metrics);
+  }
+
+  /**
+   * 버퍼 초과로 메시지가 버려질 수 있거나 세션을 종료할 때 지표를 남기는 세션 데코레이터
+   * <p>
+   *     상위 클래스는 DROP 정책으로 버린 메시지를 알려주지 않으므로, 보내기 전에 버퍼가 한도를 넘는지로 추정한다.
+   *     ({@link WebSocketSessionMetrics#getBufferOverflows()} 참고)
+   * </p>
+   */
+  static class MeteredSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+    private final OverflowStrategy overflowStrategy;
+    private final WebSocketSessionMetrics metrics;
+
+    MeteredSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                            OverflowStrategy overflowStrategy, WebSocketSessionMetrics metrics) {
+      super(delegate, sendTimeLimit, bufferSizeLimit, overflowStrategy);
+      this.overflowStrategy = overflowStrategy;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+      // 다른 스레드가 전송 중인 상태에서 버퍼가 한도를 넘으면 DROP 정책은 가장 오래된 메시지부터 버린다.
+      // 이 스레드가 직접 버퍼를 비우게 되면 버려지지 않으므로 버려진 수가 아니라 넘친 횟수로 센다.
+      boolean overflowing = getBufferSize() + message.getPayloadLength() > getBufferSizeLimit();
+      try {
+        super.sendMessage(message);
+      } catch (SessionLimitExceededException ex) {
+        metrics.recordClosed(getId(), ex.getMessage());
+        throw ex;
+      }
+      if (overflowing && overflowStrategy == OverflowStrategy.DROP) {
+        metrics.recordOverflow(getId());
+      }
+    }
+  }
+}
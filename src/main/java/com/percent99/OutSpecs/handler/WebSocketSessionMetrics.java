@@ -0,0 +1,64 @@
+package com.percent99.OutSpecs.handler;
+
+import com.percent99.OutSpecs.dto.WebSocketStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 WebSocket 세션(slow consumer)에 대한 처리 결과를 집계하는 컴포넌트
+ * <ul>
+ *     <li>DROP 정책에서 송신 버퍼가 한도를 넘은 상태로 메시지를 넣은 횟수 (bufferOverflows)</li>
+ *     <li>버퍼/송신 시간 제한 초과로 강제 종료된 세션 수</li>
+ * </ul>
+ * bufferOverflows 는 실제로 버려진 메시지 수가 아니다. ConcurrentWebSocketSessionDecorator 는 버린 메시지를 알려주지 않으므로
+ * 보내기 전에 버퍼가 넘칠지를 보고 센다. 넘친 송신 한 번에 오래된 메시지가 여러 개 버려질 수도 있고,
+ * 그 사이 다른 스레드가 버퍼를 비웠다면 하나도 버려지지 않을 수도 있다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMetrics {
+
+  private final LongAdder bufferOverflows = new LongAdder();
+  private final LongAdder closedSlowSessions = new LongAdder();
+
+  /**
+   * 송신 버퍼가 한도를 넘은 상태로 메시지를 넣었음(오래된 메시지가 버려질 수 있음)을 기록한다.
+   * @param sessionId 세션 ID
+   */
+  public void recordOverflow(String sessionId) {
+    bufferOverflows.increment();
+    log.debug("WebSocket 세션 {} 송신 버퍼가 한도를 넘어 오래된 메시지가 버려질 수 있습니다.", sessionId);
+  }
+
+  /**
+   * 느린 세션을 강제 종료했음을 기록한다.
+   * @param sessionId 세션 ID
+   * @param reason 종료 사유
+   */
+  public void recordClosed(String sessionId, String reason) {
+    closedSlowSessions.increment();
+    log.warn("느린 WebSocket 세션 {} 을 종료합니다. 사유: {}", sessionId, reason);
+  }
+
+  public long getBufferOverflows() {
+    return bufferOverflows.sum();
+  }
+
+  public long getClosedSlowSessions() {
+    return closedSlowSessions.sum();
+  }
+
+  /**
+   * 관리자 대시보드에 보여줄 통계
+   */
+  public WebSocketStatsDTO getStats() {
+    return new WebSocketStatsDTO(getBufferOverflows(), getClosedSlowSessions());
+  }
+
+  @Override
+  public String toString() {
+    return "bufferOverflows=" + getBufferOverflows() + ", closedSlowSessions=" + getClosedSlowSessions();
+  }
+}
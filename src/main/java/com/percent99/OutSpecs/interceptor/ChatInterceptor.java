@@ -2,6 +2,7 @@ package com.percent99.OutSpecs.interceptor;
 
 import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.repository.UserRepository;
+import com.percent99.OutSpecs.service.NotificationPushService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -15,10 +16,13 @@ import java.security.Principal;
 @RequiredArgsConstructor
 @Component
 public class ChatInterceptor implements ChannelInterceptor {
+  private static final String USER_DESTINATION_PREFIX = "/queue/users/";
+
   private final UserRepository userRepository;
 
   /**
-   * 사용자가 채팅 채널을 subscribe할 때, 해당 사용자가 맞는지 검증하는 메소드
+   * 사용자가 채팅 채널(/queue/users/{id}) 또는 알림 채널(/queue/users/{id}/notifications)을
+   * subscribe할 때, 해당 사용자가 맞는지 검증하는 메소드
    * @param message
    * @param channel
    * @return
@@ -37,9 +41,21 @@ public class ChatInterceptor implements ChannelInterceptor {
     if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())){
       String dest = accessor.getDestination();
 
-      if (dest==null || !dest.startsWith("/queue/users/")) return null;
+      if (dest==null || !dest.startsWith(USER_DESTINATION_PREFIX)) return null;
+
+      String userChannel = dest.substring(USER_DESTINATION_PREFIX.length());
+      int slash = userChannel.indexOf('/');
+      if (slash >= 0) {
+        if (!userChannel.substring(slash).equals(NotificationPushService.DESTINATION_SUFFIX)) return null;
+        userChannel = userChannel.substring(0, slash);
+      }
 
-      Long targetChannelId = Long.parseLong(dest.substring(13));
+      Long targetChannelId;
+      try {
+        targetChannelId = Long.parseLong(userChannel);
+      } catch (NumberFormatException e) {
+        return null;
+      }
 
       if (!targetChannelId.equals(user.getId())) return null;
     }
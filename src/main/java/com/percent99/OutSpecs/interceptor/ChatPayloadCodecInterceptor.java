@@ -0,0 +1,180 @@
+package com.percent99.OutSpecs.interceptor;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 채팅 메시지의 페이로드 인코딩(JSON / CBOR)을 세션별로 협상하는 인터셉터
+ * <p>
+ *     클라이언트가 CONNECT 프레임에 {@code payload-codec: cbor} 헤더를 보내면
+ *     해당 세션으로 나가는 채팅 메시지를 CBOR 바이너리 프레임으로 보낸다.
+ *     헤더가 없는 기존 클라이언트는 지금처럼 JSON을 받는다.
+ * </p>
+ * <ul>
+ *     <li>handshake : 바이너리 프레임을 쓸 수 있는 순수 WebSocket 엔드포인트(/ws)만 표시한다.
+ *     SockJS 는 텍스트 프레임만 전달하므로 CBOR 를 요청해도 JSON 을 유지한다.</li>
+ *     <li>inbound 채널 : CONNECT 시 세션 인코딩 등록</li>
+ *     <li>outbound 채널 : CBOR 세션이면 {@link #SOURCE_PAYLOAD_HEADER} 로 함께 온 원본 DTO 를
+ *     CBOR 컨버터로 직접 직렬화한다. JSON 을 다시 파싱하지 않는다.</li>
+ * </ul>
+ * STOMP는 content-type이 application/octet-stream 호환일 때만 바이너리 프레임을 쓰므로
+ * CBOR 페이로드는 {@code application/octet-stream;codec=cbor} 로 표시한다.
+ */
+@Slf4j
+@Component
+public class ChatPayloadCodecInterceptor implements ChannelInterceptor {
+
+  public static final String CODEC_HEADER = "payload-codec";
+  public static final String CBOR_CODEC = "cbor";
+  public static final MimeType CBOR_CONTENT_TYPE =
+      new MimeType("application", "octet-stream", Map.of("codec", CBOR_CODEC));
+
+  /** 브로커를 거쳐 세션별 메시지까지 전달되는 원본 페이로드 헤더 (STOMP 프레임 헤더로는 나가지 않는다) */
+  public static final String SOURCE_PAYLOAD_HEADER = "chatSourcePayload";
+
+  /** 순수 WebSocket 으로 연결된 세션임을 표시하는 세션 속성 */
+  public static final String BINARY_FRAMES_ATTRIBUTE = "payloadCodec.binaryFrames";
+
+  private static final MessageHeaders CBOR_HEADERS =
+      new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, CBOR_CONTENT_TYPE));
+
+  private final MessageConverter cborConverter = createCborMessageConverter();
+  private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+
+  /**
+   * CBOR 페이로드를 DTO로 읽고 쓰기 위한 메시지 컨버터를 생성한다.
+   * <p>
+   *     content-type 이 명시된 경우에만 동작하도록 하여, 헤더가 없는 메시지는 기존 JSON 컨버터가 처리한다.
+   *     날짜는 JSON 과 같은 ISO 문자열로 쓴다.
+   * </p>
+   * @return CBOR 메시지 컨버터
+   */
+  public static MessageConverter createCborMessageConverter() {
+    MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(CBOR_CONTENT_TYPE);
+    CBORMapper cborMapper = CBORMapper.builder()
+        .findAndAddModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    converter.setObjectMapper(cborMapper);
+    converter.setStrictContentTypeMatch(true);
+    return converter;
+  }
+
+  /**
+   * 채팅 메시지를 보낼 때 쓰는 헤더. 원본 DTO 를 담아 CBOR 세션에서 바로 직렬화할 수 있게 한다.
+   * <p>
+   *     SimpMessagingTemplate 이 그대로 쓰도록 변경 가능한 accessor 로 만든다. 전송마다 새로 만들어야 한다.
+   * </p>
+   * @param payload 전송할 DTO
+   * @return 전송 헤더
+   */
+  public static MessageHeaders sourcePayloadHeaders(Object payload) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setHeader(SOURCE_PAYLOAD_HEADER, payload);
+    accessor.setLeaveMutable(true);
+    return accessor.getMessageHeaders();
+  }
+
+  /**
+   * 순수 WebSocket 엔드포인트에 붙이는 handshake 인터셉터. 세션에 바이너리 프레임 사용 가능 표시를 남긴다.
+   * @return handshake 인터셉터
+   */
+  public static HandshakeInterceptor binaryFramesHandshakeInterceptor() {
+    return new HandshakeInterceptor() {
+      @Override
+      public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                     WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(BINARY_FRAMES_ATTRIBUTE, Boolean.TRUE);
+        return true;
+      }
+
+      @Override
+      public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                 WebSocketHandler wsHandler, Exception exception) {
+      }
+    };
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+    String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+
+    if (sessionId == null) return message;
+
+    if (SimpMessageType.CONNECT.equals(messageType)) {
+      registerCodec(sessionId, StompHeaderAccessor.wrap(message));
+      return message;
+    }
+
+    if (SimpMessageType.MESSAGE.equals(messageType) && cborSessions.contains(sessionId)) {
+      return toCborMessage(message);
+    }
+
+    return message;
+  }
+
+  /**
+   * 세션 종료 시 인코딩 정보를 정리한다.
+   * @param event 세션 종료 이벤트
+   */
+  @EventListener
+  public void onSessionDisconnect(SessionDisconnectEvent event) {
+    cborSessions.remove(event.getSessionId());
+  }
+
+  private void registerCodec(String sessionId, StompHeaderAccessor accessor) {
+    if (!StompCommand.CONNECT.equals(accessor.getCommand()) && !StompCommand.STOMP.equals(accessor.getCommand())) return;
+    if (!CBOR_CODEC.equalsIgnoreCase(accessor.getFirstNativeHeader(CODEC_HEADER))) return;
+
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    if (attributes != null && Boolean.TRUE.equals(attributes.get(BINARY_FRAMES_ATTRIBUTE))) {
+      cborSessions.add(sessionId);
+    } else {
+      log.debug("텍스트 프레임만 쓰는 연결이므로 CBOR 대신 JSON 을 사용합니다. session={}", sessionId);
+    }
+  }
+
+  private Message<?> toCborMessage(Message<?> message) {
+    Object source = message.getHeaders().get(SOURCE_PAYLOAD_HEADER);
+    if (source == null) return message;
+
+    try {
+      Message<?> encoded = cborConverter.toMessage(source, CBOR_HEADERS);
+      if (encoded == null) return message;
+
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+      accessor.setContentType(CBOR_CONTENT_TYPE);
+      accessor.removeHeader(SOURCE_PAYLOAD_HEADER);
+      return MessageBuilder.createMessage(encoded.getPayload(), accessor.getMessageHeaders());
+    } catch (MessageConversionException e) {
+      log.warn("CBOR 직렬화 실패로 JSON 그대로 전송합니다. session={}", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()), e);
+      return message;
+    }
+  }
+}
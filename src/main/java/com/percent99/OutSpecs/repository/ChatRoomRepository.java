@@ -3,16 +3,18 @@ package com.percent99.OutSpecs.repository;
 import com.percent99.OutSpecs.entity.ChatRoom;
 import com.percent99.OutSpecs.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
-  @Query(value = "SELECT EXISTS (SELECT 1 FROM chat_rooms WHERE (user1_id = :user1Id AND user2_id = :user2Id) OR (user1_id = :user2Id AND user2_id = :user1Id))", nativeQuery = true)
+  @Query(value = "SELECT EXISTS (SELECT 1 FROM chat_rooms WHERE min_user_id = LEAST(:user1Id, :user2Id) AND max_user_id = GREATEST(:user1Id, :user2Id))", nativeQuery = true)
   boolean existsByUser1IdAndUser2Id(@Param("user1Id") Long user1Id, @Param("user2Id") Long user2Id);
 
   @Query(value = "SELECT EXISTS (SELECT 1 FROM chat_rooms WHERE id = :chatRoomId AND (user1_id = :userId OR user2_id = :userId))", nativeQuery = true)
@@ -21,9 +23,56 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
   @Query("SELECT cr FROM ChatRoom cr WHERE cr.user1.id = :userId OR cr.user2.id = :userId")
   List<ChatRoom> findAllByUserId(@Param("userId") Long userId);
 
-  @Query("SELECT cr FROM ChatRoom cr " +
-          "WHERE (cr.user1.id = :userId AND cr.user2.id = :targetId) OR (cr.user1.id = :targetId AND cr.user2.id = :userId)")
-  Optional<ChatRoom> findByUser1IdAndUser2Id(@Param("userId") Long userId, @Param("targetId") Long targetId);
+  /**
+   * 사용자의 채팅방을 마지막 활동 시각 최신순으로 커서 기반 조회한다.<br>
+   * user1/user2 각각의 (participant, last_activity_at desc) 인덱스를 따로 읽어 합친다.
+   * @param userId 사용자 id
+   * @param cursorAt 이전 페이지 마지막 채팅방의 last_activity_at
+   * @param cursorId 이전 페이지 마지막 채팅방의 id
+   * @param size 가져올 개수
+   * @return 마지막 활동 시각 최신순 채팅방 목록
+   */
+  @Query(value = """
+          SELECT cr.* FROM (
+            (SELECT * FROM chat_rooms
+             WHERE user1_id = :userId
+               AND (last_activity_at < :cursorAt OR (last_activity_at = :cursorAt AND id < :cursorId))
+             ORDER BY last_activity_at DESC, id DESC LIMIT :size)
+            UNION
+            (SELECT * FROM chat_rooms
+             WHERE user2_id = :userId
+               AND (last_activity_at < :cursorAt OR (last_activity_at = :cursorAt AND id < :cursorId))
+             ORDER BY last_activity_at DESC, id DESC LIMIT :size)
+          ) cr
+          ORDER BY cr.last_activity_at DESC, cr.id DESC
+          LIMIT :size
+          """, nativeQuery = true)
+  List<ChatRoom> findInboxPage(@Param("userId") Long userId,
+                               @Param("cursorAt") LocalDateTime cursorAt,
+                               @Param("cursorId") Long cursorId,
+                               @Param("size") int size);
+
+  Optional<ChatRoom> findByMinUserIdAndMaxUserId(Long minUserId, Long maxUserId);
+
+  /**
+   * 두 사용자의 채팅방을 (min_user_id, max_user_id) 유니크 인덱스로 조회한다.
+   */
+  default Optional<ChatRoom> findByUser1IdAndUser2Id(Long userId, Long targetId){
+    return findByMinUserIdAndMaxUserId(Math.min(userId, targetId), Math.max(userId, targetId));
+  }
+
+  /**
+   * 두 사용자의 채팅방이 없을 때만 생성한다. 동시에 호출되어도 채팅방은 하나만 만들어진다.
+   * @return 생성된 행 수 (이미 있으면 0)
+   */
+  @Modifying
+  @Query(value = """
+          INSERT INTO chat_rooms (user1_id, user2_id, min_user_id, max_user_id, is_chatbot, last_activity_at)
+          VALUES (:userId, :targetId, LEAST(:userId, :targetId), GREATEST(:userId, :targetId), :isChatbot, :now)
+          ON CONFLICT (min_user_id, max_user_id) DO NOTHING
+          """, nativeQuery = true)
+  int insertIfAbsent(@Param("userId") Long userId, @Param("targetId") Long targetId,
+                     @Param("isChatbot") boolean isChatbot, @Param("now") LocalDateTime now);
 
   @Query("DELETE FROM ChatRoom cr WHERE cr.user1.id = :userId OR cr.user2.id = :userId")
   void deleteAllByUserId(@Param("userId") Long userId);
@@ -1,18 +1,88 @@
 package com.percent99.OutSpecs.repository;
 
+import com.percent99.OutSpecs.dto.NotificationDTO;
 import com.percent99.OutSpecs.entity.Notification;
-import com.percent99.OutSpecs.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * 받는 사람 기준으로 알림 찾기
-     * @param receiver 받는 사람
-     * @return 알림값
+     * 받는 사람의 읽지 않은 알림 수
+     * @param receiverId 받는 사람 id
+     * @return 읽지 않은 알림 수
      */
-    List<Notification> findByReceiverId(User receiver);
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.receiverId.id = :receiverId AND n.isRead = false")
+    long countUnreadByReceiverId(@Param("receiverId") Long receiverId);
+
+    /**
+     * 받는 사람의 모든 알림을 읽음 처리
+     * @param receiverId 받는 사람 id
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n SET n.isRead = true, n.readAt = LOCAL DATETIME
+            WHERE n.receiverId.id = :receiverId AND n.isRead = false
+            """)
+    int markAllAsRead(@Param("receiverId") Long receiverId);
+
+    /**
+     * 받는 사람의 알림을 (created_at, id) 커서 이후부터 최신순으로 조회 (idx_notification_receiver_created 사용)<br>
+     * 묶음 알림은 합쳐질 때 created_at 이 바뀌므로 커서는 마지막 활동 순서를 따른다. (NotificationService.getNotificationPage 참고)
+     * @param receiverId 받는 사람 id
+     * @param cursorAt 이전 페이지 마지막 알림의 생성 시각
+     * @param cursorId 이전 페이지 마지막 알림의 id
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return 알림 목록
+     */
+    @Query("""
+            SELECT new com.percent99.OutSpecs.dto.NotificationDTO(
+                n.id, n.targetType, n.message, n.targetId, n.senderId.id, n.aggregateCount, n.isRead, n.createdAt)
+            FROM Notification n
+            WHERE n.receiverId.id = :receiverId
+              AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.id < :cursorId))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<NotificationDTO> findPage(@Param("receiverId") Long receiverId,
+                                   @Param("cursorAt") LocalDateTime cursorAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * 받는 사람의 읽지 않은 알림을 커서 이후부터 최신순으로 조회 (idx_notification_receiver_unread 사용)
+     */
+    @Query("""
+            SELECT new com.percent99.OutSpecs.dto.NotificationDTO(
+                n.id, n.targetType, n.message, n.targetId, n.senderId.id, n.aggregateCount, n.isRead, n.createdAt)
+            FROM Notification n
+            WHERE n.receiverId.id = :receiverId
+              AND n.isRead = false
+              AND (n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.id < :cursorId))
+            ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<NotificationDTO> findUnreadPage(@Param("receiverId") Long receiverId,
+                                         @Param("cursorAt") LocalDateTime cursorAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    /**
+     * 받는 사람의 until 시각까지의 읽지 않은 알림을 한 번에 읽음 처리
+     * @param receiverId 받는 사람 id
+     * @param until 이 시각 이전(포함)에 생성된 알림까지 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n SET n.isRead = true, n.readAt = LOCAL DATETIME
+            WHERE n.receiverId.id = :receiverId AND n.isRead = false AND n.createdAt <= :until
+            """)
+    int markReadUntil(@Param("receiverId") Long receiverId, @Param("until") LocalDateTime until);
 }
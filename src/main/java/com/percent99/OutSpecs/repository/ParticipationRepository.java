@@ -1,9 +1,17 @@
 package com.percent99.OutSpecs.repository;
 
+import com.percent99.OutSpecs.dto.ApplicantDTO;
 import com.percent99.OutSpecs.entity.Participation;
+import com.percent99.OutSpecs.entity.ParticipationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +53,105 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
      */
     Optional<Participation> findByUserIdAndPostId(Long userId, Long postId);
     boolean existsByUserIdAndPostId(Long userId, Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 신청 상태가 expected 일 때만 status 로 바꾼다.
+     * @param id 신청 id
+     * @param expected 읽어 둔 현재 상태
+     * @param status 바꿀 상태
+     * @return 갱신된 행 수 (그 사이 다른 요청이 상태를 바꿨다면 0)
+     */
+    @Modifying
+    @Query("UPDATE Participation p SET p.status = :status WHERE p.id = :id AND p.status = :expected")
+    int updateStatus(@Param("id") Long id,
+                     @Param("expected") ParticipationStatus expected,
+                     @Param("status") ParticipationStatus status);
+
+    /**
+     * 신청 정보를 삭제한다.
+     * @param id 신청 id
+     * @return 삭제된 행 수 (이미 삭제되었다면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM Participation p WHERE p.id = :id")
+    int deleteByIdReturningCount(@Param("id") Long id);
+
+    /**
+     * 게시글 작성자용 신청자 목록을 신청 순으로 페이지 조회한다. 유저와 프로필을 한 번에 읽는다.
+     * @param postId 팀모집 게시글 id
+     * @param statuses 조회할 신청 상태 목록
+     * @param pageable 페이지 정보
+     * @return 신청자 페이지
+     */
+    @Query(value = """
+            SELECT new com.percent99.OutSpecs.dto.ApplicantDTO(
+                pa.id, u.id, pr.nickname, pr.imageUrl, pr.stacks, pa.status, pa.appliedAt)
+            FROM Participation pa
+            JOIN pa.user u
+            LEFT JOIN u.profile pr
+            WHERE pa.post.id = :postId AND pa.status IN :statuses
+            ORDER BY pa.appliedAt ASC, pa.id ASC
+            """,
+            countQuery = """
+            SELECT COUNT(pa) FROM Participation pa
+            WHERE pa.post.id = :postId AND pa.status IN :statuses
+            """)
+    Page<ApplicantDTO> findApplicants(@Param("postId") Long postId,
+                                      @Param("statuses") Collection<ParticipationStatus> statuses,
+                                      Pageable pageable);
+
+    interface ChangedApplicant {
+        Long getId();
+        Long getUserId();
+    }
+
+    /**
+     * 대기 중인 신청을 남은 모집 인원만큼 신청 순으로 한 번에 수락한다.<br>
+     * 팀모집 정보 행을 잠근 뒤 같은 문장에서 신청 상태와 수락 인원을 함께 바꾸고, 모집 인원에 도달하면 모집완료로 바꾼다.
+     * 모집 중이 아니면 아무것도 수락하지 않는다.
+     * @param postId 팀모집 게시글 id
+     * @param ids 수락할 신청 id 목록 (비어있으면 안 됨)
+     * @return 실제로 수락된 신청의 id / 신청자 id
+     */
+    @Query(value = """
+            WITH team AS (
+                SELECT GREATEST(capacity - COALESCE(accepted_count, 0), 0) AS remaining
+                FROM posts_team_information
+                WHERE post_id = :postId AND status = 'OPEN'
+                FOR UPDATE
+            ), picked AS (
+                SELECT p.id
+                FROM participations p
+                WHERE p.post_id = :postId AND p.id IN (:ids) AND p.status = 'PENDING'
+                  AND EXISTS (SELECT 1 FROM team)
+                ORDER BY p.applied_at, p.id
+                LIMIT (SELECT remaining FROM team)
+                FOR UPDATE OF p
+            ), accepted AS (
+                UPDATE participations SET status = 'ACCEPTED'
+                WHERE id IN (SELECT id FROM picked)
+                RETURNING id, user_id
+            ), counted AS (
+                UPDATE posts_team_information
+                SET accepted_count = COALESCE(accepted_count, 0) + (SELECT COUNT(*) FROM accepted),
+                    status = CASE WHEN COALESCE(accepted_count, 0) + (SELECT COUNT(*) FROM accepted) >= capacity
+                                  THEN 'CLOSED' ELSE status END
+                WHERE post_id = :postId AND EXISTS (SELECT 1 FROM accepted)
+            )
+            SELECT id AS "id", user_id AS "userId" FROM accepted
+            """, nativeQuery = true)
+    List<ChangedApplicant> acceptPending(@Param("postId") Long postId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 대기 중인 신청을 한 번에 거절한다.
+     * @param postId 팀모집 게시글 id
+     * @param ids 거절할 신청 id 목록 (비어있으면 안 됨)
+     * @return 실제로 거절된 신청의 id / 신청자 id
+     */
+    @Query(value = """
+            UPDATE participations SET status = 'REJECTED'
+            WHERE post_id = :postId AND id IN (:ids) AND status = 'PENDING'
+            RETURNING id AS "id", user_id AS "userId"
+            """, nativeQuery = true)
+    List<ChangedApplicant> rejectPending(@Param("postId") Long postId, @Param("ids") Collection<Long> ids);
+}
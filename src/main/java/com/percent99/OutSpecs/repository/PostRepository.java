@@ -12,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,37 +42,55 @@ public interface PostRepository extends JpaRepository<Post,Long> {
     List<Post> findByType(PostType type);
 
     /**
-     * 특정 유저가 작성한 AIPLAY 게시글을 조회한다.
+     * 특정 유저가 작성한 AIPLAY 게시글을 조회한다. 신고로 숨겨진 글은 제외한다.
      * @param userId 조회할 유저 ID
      * @param pageable 페이징 정보
      * @return 해당 유저의 AIPLAY 게시글 Slice
      */
-    Slice<Post> findByUserIdAndType(Long userId, PostType type, Pageable pageable);
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.user.id = :userId AND p.type = :type
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            """)
+    Slice<Post> findByUserIdAndType(@Param("userId") Long userId, @Param("type") PostType type, Pageable pageable);
 
     /**
-     * 게시판 타입에 따라 최신글을 조회한다.
+     * 게시판 타입에 따라 최신글을 조회한다. 신고로 숨겨진 글은 제외한다.
      * @param type 조회할 게시글의 타입
      * @param pageable 조회할 게시글 개수
      * @return 해당 유형의 게시글 리스트
      */
-    Slice<Post> findByTypeOrderByCreatedAtDesc(PostType type, Pageable pageable);
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.type = :type
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            ORDER BY p.createdAt DESC
+            """)
+    Slice<Post> findByTypeOrderByCreatedAtDesc(@Param("type") PostType type, Pageable pageable);
 
     /**
-     * 게시판 타입에 따라 조회수 높은 순 조회한다.
+     * 게시판 타입에 따라 조회수 높은 순 조회한다. 신고로 숨겨진 글은 제외한다.
      * @param type 조회할 게시글의 타입
      * @param pageable 조회할 게시글 개수
      * @return 해당 유형의 게시글 리스트
      */
-    List<Post> findByTypeOrderByViewCountDesc(PostType type, Pageable pageable);
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.type = :type
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            ORDER BY p.viewCount DESC
+            """)
+    List<Post> findByTypeOrderByViewCountDesc(@Param("type") PostType type, Pageable pageable);
 
     /**
-     * 게시판 타입에 따라 좋아요 수 높은 순으로 조회한다.
+     * 게시판 타입에 따라 좋아요 수 높은 순으로 조회한다. 신고로 숨겨진 글은 제외한다.
      * @param type 조회할 게시글의 타입
      * @param pageable 조회할 게시글 개수
      * @return 해당 유형의 좋아요 높은 게시글 id 리스트
      */
     @Query("SELECT p FROM Post p, Reaction r "
             + "WHERE r.targetType = 'POST' AND r.reactionType = 'LIKE' AND r.targetId = p.id AND p.type = :type "
+            + "AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true) "
             + "GROUP BY p.id ORDER BY COUNT(r.id) DESC")
     List<Post> findByTypeOrderByLike(@Param("type") PostType type, Pageable pageable);
 
@@ -105,21 +125,51 @@ public interface PostRepository extends JpaRepository<Post,Long> {
     List<Long> findHangoutPostsByPlace(@Param("place") String place);
 
     /**
-     * ID 리스트로 Pageable 적용
+     * ID 리스트로 Pageable 적용. 신고로 숨겨진 글은 제외한다.
      * @param ids postId
      * @param pageable
      * @return slice post 값
      */
-    Slice<Post> findByIdIn(List<Long> ids, Pageable pageable);
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.id IN :ids
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            """)
+    Slice<Post> findByIdIn(@Param("ids") List<Long> ids, Pageable pageable);
+
 
+    interface TeamPostRow {
+        Long getId();
+        String getTitle();
+        Long getUserId();
+        LocalDateTime getCreatedAt();
+        Integer getViewCount();
+        PostStatus getStatus();
+        Integer getCapacity();
+        int getAcceptedCount();
+        int getAppliedCount();
+    }
 
     /**
-     * 팀모집 상태에 따른 게시글 조회
-     * @param status 팀모집 상태
-     * @return 팀모집 상태별 게시글
+     * 팀모집 게시판 목록을 모집 현황(상태, 인원, 수락/신청 수)과 함께 최신순으로 페이지 조회한다. 신고로 숨겨진 글은 제외한다.<br>
+     * Post 엔티티를 읽지 않으므로 teamInfo / postJob / postHangout / postQnA 의 지연 로딩이 일어나지 않는다.
+     * @param statuses 조회할 모집 상태 (전체는 PostStatus 전부)
+     * @param pageable 페이지 정보
+     * @return 팀모집 게시글 행 slice
      */
-    @Query("SELECT p FROM Post p JOIN p.teamInfo pt WHERE p.type = 'TEAM' AND pt.status = :status")
-    List<Post> findTeamPostsByStatus(@Param("status") PostStatus status);
+    @Query("""
+            SELECT p.id AS id, p.title AS title, p.user.id AS userId,
+                   p.createdAt AS createdAt, p.viewCount AS viewCount,
+                   t.status AS status, t.capacity AS capacity,
+                   COALESCE(t.acceptedCount, 0) AS acceptedCount,
+                   COALESCE(t.appliedCount, 0) AS appliedCount
+            FROM PostTeamInformation t
+            JOIN t.post p
+            WHERE p.type = 'TEAM' AND t.status IN :statuses
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    Slice<TeamPostRow> findTeamPostRows(@Param("statuses") Collection<PostStatus> statuses, Pageable pageable);
 
     /**
      * 게시물과 연관된 정보를 모두 조회합니다.
@@ -136,6 +186,55 @@ public interface PostRepository extends JpaRepository<Post,Long> {
             "WHERE p.id = :postId")
     Optional<Post> findWithDetailsById(@Param("postId") Long postId);
 
+    /**
+     * 타임라인용: 작성자 목록의 게시글 id 를 cursorId 보다 작은 것부터 최신순으로 조회한다.
+     * @param userIds 작성자 id 목록 (비어있으면 안 됨)
+     * @param cursorId 이 id 보다 작은 게시글만 조회
+     * @param pageable 조회할 개수
+     * @return 게시글 id 목록 (id 내림차순)
+     */
+    @Query("""
+            SELECT p.id FROM Post p
+            WHERE p.user.id IN :userIds AND p.id < :cursorId
+            ORDER BY p.id DESC
+            """)
+    List<Long> findTimelinePostIds(@Param("userIds") Collection<Long> userIds,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    /**
+     * 타임라인 페이지용: findTimelinePostIds 와 같지만 신고로 숨겨진 글은 제외한다.<br>
+     * inbox 는 숨김이 풀릴 수 있으므로 findTimelinePostIds 로 만들고, DB 에서 이어 읽는 페이지는 이 쿼리로 채운다.
+     */
+    @Query("""
+            SELECT p.id FROM Post p
+            WHERE p.user.id IN :userIds AND p.id < :cursorId
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            ORDER BY p.id DESC
+            """)
+    List<Long> findVisibleTimelinePostIds(@Param("userIds") Collection<Long> userIds,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    /**
+     * id 목록의 게시글을 작성자, 작성자 프로필과 함께 조회한다.
+     * @param ids 게시글 id 목록
+     * @return 게시글 목록 (순서 보장 안 됨)
+     */
+    @Query("""
+            SELECT p FROM Post p
+            JOIN FETCH p.user u
+            LEFT JOIN FETCH u.profile
+            WHERE p.id IN :ids
+            """)
+    List<Post> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글의 게시판 타입만 조회한다.
+     */
+    @Query("SELECT p.type FROM Post p WHERE p.id = :id")
+    Optional<PostType> findTypeById(@Param("id") Long id);
+
     @Modifying
     @Query("UPDATE Post p set p.viewCount = p.viewCount + 1 where p.id = :postId")
     int increaseViewCount(@Param("postId") Long postId);
@@ -155,6 +254,8 @@ public interface PostRepository extends JpaRepository<Post,Long> {
       from Post p
       where (:type is null or p.type = :type)
         and lower(p.title) like lower(concat('%', :title, '%'))
+        and not exists (select 1 from ReportCounter rc
+                        where rc.targetType = 'POST' and rc.targetId = p.id and rc.hidden = true)
       order by p.id desc
     """)
     List<Post> searchByOptionalTypeAndTitle(@Param("type") PostType type,
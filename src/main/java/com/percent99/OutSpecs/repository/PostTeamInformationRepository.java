@@ -0,0 +1,112 @@
+package com.percent99.OutSpecs.repository;
+
+import com.percent99.OutSpecs.entity.PostStatus;
+import com.percent99.OutSpecs.entity.PostTeamInformation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 팀모집 정보의 신청 / 수락 인원 수를 다루는 Repository 인터페이스
+ * <p>
+ *  인원 수는 조건부 UPDATE 한 문장으로만 증감하므로 동시에 신청·수락이 들어와도 모집 인원을 넘지 않는다.
+ *  조건을 만족하지 못하면 갱신되는 행이 없다.
+ * </p>
+ */
+@Repository
+public interface PostTeamInformationRepository extends JpaRepository<PostTeamInformation, Long> {
+
+    /**
+     * 모집 중이고 신청 인원이 capacity + extra 미만일 때만 신청 인원을 1 늘린다.
+     * @param postId 팀모집 게시글 id
+     * @param extra 모집 인원 외에 더 받을 수 있는 신청 수
+     * @return 늘어난 뒤의 신청 인원 (조건을 만족하지 못하면 empty)
+     */
+    @Query(value = """
+            UPDATE posts_team_information
+            SET applied_count = COALESCE(applied_count, 0) + 1
+            WHERE post_id = :postId
+              AND status = 'OPEN'
+              AND COALESCE(applied_count, 0) < capacity + :extra
+            RETURNING applied_count
+            """, nativeQuery = true)
+    Optional<Integer> reserveApplication(@Param("postId") Long postId, @Param("extra") int extra);
+
+    /**
+     * 신청 취소 / 삭제 시 신청 인원을 1 줄인다. 0 아래로는 내려가지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE posts_team_information
+            SET applied_count = GREATEST(COALESCE(applied_count, 0) - 1, 0)
+            WHERE post_id = :postId
+            """, nativeQuery = true)
+    int releaseApplication(@Param("postId") Long postId);
+
+    /**
+     * 모집 중(OPEN)이고 수락 인원이 모집 인원 미만일 때만 수락 인원을 1 늘리고, 모집 인원에 도달하면 같은 문장에서 모집완료로 바꾼다.<br>
+     * 일괄 수락(ParticipationRepository.acceptPending)과 같은 조건이다.
+     * @param postId 팀모집 게시글 id
+     * @return 갱신 후 모집 상태 이름 (모집이 마감되었거나 이미 가득 찼으면 empty)
+     */
+    @Query(value = """
+            UPDATE posts_team_information
+            SET accepted_count = COALESCE(accepted_count, 0) + 1,
+                status = CASE WHEN COALESCE(accepted_count, 0) + 1 >= capacity THEN 'CLOSED' ELSE status END
+            WHERE post_id = :postId
+              AND status = 'OPEN'
+              AND COALESCE(accepted_count, 0) < capacity
+            RETURNING status
+            """, nativeQuery = true)
+    Optional<String> acceptOne(@Param("postId") Long postId);
+
+    /**
+     * 수락이 취소될 때 수락 인원을 1 줄인다. 모집 상태는 게시글 작성자가 직접 바꾼다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE posts_team_information
+            SET accepted_count = GREATEST(COALESCE(accepted_count, 0) - 1, 0)
+            WHERE post_id = :postId
+            """, nativeQuery = true)
+    int releaseAccepted(@Param("postId") Long postId);
+
+    /**
+     * 수락 인원 수 (팀모집 정보가 없으면 empty)
+     */
+    @Query("SELECT COALESCE(t.acceptedCount, 0) FROM PostTeamInformation t WHERE t.postId = :postId")
+    Optional<Integer> findAcceptedCount(@Param("postId") Long postId);
+
+    /**
+     * 상태와 상관없는 신청 인원 수 (팀모집 정보가 없으면 empty)
+     */
+    @Query("SELECT COALESCE(t.appliedCount, 0) FROM PostTeamInformation t WHERE t.postId = :postId")
+    Optional<Integer> findAppliedCount(@Param("postId") Long postId);
+
+    interface TeamSummary {
+        Long getPostId();
+        PostStatus getStatus();
+        Integer getCapacity();
+        int getAcceptedCount();
+        int getAppliedCount();
+    }
+
+    /**
+     * 게시판 목록 한 페이지 분량의 모집 상태 / 모집 인원 / 수락 인원 / 신청 인원을 한 번에 조회한다.
+     * @param postIds 팀모집 게시글 id 목록 (비어있으면 안 됨)
+     * @return 게시글별 모집 현황 (팀모집 정보가 없는 게시글은 빠진다)
+     */
+    @Query("""
+            SELECT t.postId AS postId, t.status AS status, t.capacity AS capacity,
+                   COALESCE(t.acceptedCount, 0) AS acceptedCount,
+                   COALESCE(t.appliedCount, 0) AS appliedCount
+            FROM PostTeamInformation t
+            WHERE t.postId IN :postIds
+            """)
+    List<TeamSummary> findSummariesByPostIdIn(@Param("postIds") List<Long> postIds);
+}
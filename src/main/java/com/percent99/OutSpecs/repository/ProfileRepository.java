@@ -1,9 +1,13 @@
 package com.percent99.OutSpecs.repository;
 
+import com.percent99.OutSpecs.dto.ProfileSummary;
 import com.percent99.OutSpecs.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -37,4 +41,12 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     boolean existsByNicknameAndUserIdNot(String nickname, Long userId);
 
     List<Profile> findByUserIdIn(Set<Long> userIds);
+
+    /**
+     * 닉네임 / 프로필 이미지만 한 번의 IN 조회로 읽는다. (ProfileSummaryCache 전용)
+     * @param userIds 사용자 ID 목록 (비어있으면 안 됨)
+     * @return 프로필 요약 목록 (프로필이 없는 사용자는 빠진다)
+     */
+    @Query("SELECT new com.percent99.OutSpecs.dto.ProfileSummary(p.userId, p.nickname, p.imageUrl) FROM Profile p WHERE p.userId IN :userIds")
+    List<ProfileSummary> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,24 @@
+package com.percent99.OutSpecs.repository;
+
+import com.percent99.OutSpecs.entity.ProfileStack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProfileStackRepository extends JpaRepository<ProfileStack, Long> {
+
+    @Modifying
+    @Query(value = "DELETE FROM profile_stacks WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO profile_stacks (user_id, stack_id)
+            VALUES (:userId, :stackId)
+            ON CONFLICT ON CONSTRAINT uk_profile_stack_user_stack DO NOTHING
+            """, nativeQuery = true)
+    int insert(@Param("userId") Long userId, @Param("stackId") Long stackId);
+}
@@ -1,11 +1,15 @@
 package com.percent99.OutSpecs.repository;
 
+import com.percent99.OutSpecs.dto.ReactedPostDTO;
 import com.percent99.OutSpecs.entity.*;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -18,59 +22,122 @@ public interface ReactionRepository extends JpaRepository<Reaction, Long> {
     boolean existsByUserAndTargetTypeAndTargetIdAndReactionType(User user, TargetType targetType, Long targetId, ReactionType reactionType);
 
     /**
-     * 해당 target에 해당 user가 한 어떠한 반응에 대한 삭제
+     * user의 반응을 한 문장으로 삭제
+     * @return 삭제된 행 수 (없으면 0)
      */
-    void deleteByUserAndTargetTypeAndTargetIdAndReactionType(User user, TargetType targetType, Long targetId, ReactionType reactionType);
+    @Modifying
+    @Query("""
+            DELETE FROM Reaction r
+            WHERE r.user.id = :userId AND r.targetType = :targetType
+              AND r.targetId = :targetId AND r.reactionType = :reactionType
+            """)
+    int deleteByUserIdAndTarget(@Param("userId") Long userId,
+                                @Param("targetType") TargetType targetType,
+                                @Param("targetId") Long targetId,
+                                @Param("reactionType") ReactionType reactionType);
+
+    interface ToggleTarget {
+        Boolean getUserExists();
+        Long getOwnerId();
+    }
 
     /**
-     * 해당 target에 대한 어떠한 반응의 수
+     * 반응하는 유저의 존재 여부와 대상(게시글/댓글/유저)의 작성자 id를 한 번에 조회
+     * @param userId 반응하는 유저 id
+     * @param targetType TargetType 이름
+     * @param targetId 대상 id
+     * @return ownerId 가 null 이면 대상이 존재하지 않음
      */
-    long countByTargetTypeAndTargetIdAndReactionType(TargetType targetType, Long targetId, ReactionType reactionType);
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM users WHERE id = :userId) AS "userExists",
+                   CASE :targetType
+                       WHEN 'POST' THEN (SELECT p.user_id FROM posts p WHERE p.id = :targetId)
+                       WHEN 'COMMENT' THEN (SELECT c.user_id FROM comments c WHERE c.id = :targetId)
+                       WHEN 'USER' THEN (SELECT u.id FROM users u WHERE u.id = :targetId)
+                   END AS "ownerId"
+            """, nativeQuery = true)
+    ToggleTarget findToggleTarget(@Param("userId") Long userId,
+                                  @Param("targetType") String targetType,
+                                  @Param("targetId") Long targetId);
+
+    interface ToggleOutcome {
+        Long getInserted();
+        Long getDeleted();
+        Long getBeforeCount();
+    }
 
     /**
-     * User가 follow한 targetId 목록 찾기
-     * @param user
-     * @return User가 follow한 targetId 목록
+     * 반응을 한 문장으로 토글한다. 이미 있으면 삭제하고, 없으면 추가한다.<br>
+     * 동시에 같은 반응을 추가하면 uk_user_target_reaction 충돌을 무시하므로 inserted, deleted 가 모두 0 이 될 수 있다(이미 반응한 상태).<br>
+     * beforeCount 는 문장 실행 전 시점의 반응 수이다.
      */
-    @Query("SELECT r.targetId FROM Reaction r WHERE r.user = :user AND r.reactionType = 'FOLLOW' AND r.targetType = 'USER'")
-    List<Long> findFollowedUserIds(@Param("user") User user);
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM reactions
+                WHERE user_id = :userId AND target_type = :targetType
+                  AND target_id = :targetId AND reaction_type = :reactionType
+                RETURNING id
+            ), inserted AS (
+                INSERT INTO reactions (user_id, target_type, target_id, reaction_type, created_at)
+                SELECT :userId, :targetType, :targetId, :reactionType, :now
+                WHERE NOT EXISTS (SELECT 1 FROM deleted)
+                ON CONFLICT ON CONSTRAINT uk_user_target_reaction DO NOTHING
+                RETURNING id
+            )
+            SELECT (SELECT COUNT(*) FROM inserted) AS "inserted",
+                   (SELECT COUNT(*) FROM deleted) AS "deleted",
+                   (SELECT COUNT(*) FROM reactions
+                    WHERE target_type = :targetType AND target_id = :targetId
+                      AND reaction_type = :reactionType) AS "beforeCount"
+            """, nativeQuery = true)
+    ToggleOutcome toggle(@Param("userId") Long userId,
+                         @Param("targetType") String targetType,
+                         @Param("targetId") Long targetId,
+                         @Param("reactionType") String reactionType,
+                         @Param("now") LocalDateTime now);
 
     /**
-     * User가 북마크한 Post targetId 목록 찾기
-     * @param user
-     * @return User가 북마크한 Post targetId 목록
+     * 해당 target에 대한 어떠한 반응의 수
      */
-    @Query("SELECT r.targetId FROM Reaction r WHERE r.user = :user AND r.reactionType = 'BOOKMARK' AND r.targetType = 'POST'")
-    List<Long> findBookmarkedPostIdsByUser(@Param("user") User user);
+    long countByTargetTypeAndTargetIdAndReactionType(TargetType targetType, Long targetId, ReactionType reactionType);
 
     /**
-     * User가 좋아요한 Post 목록 찾기
+     * User가 follow한 targetId 목록 찾기
      * @param user
-     * @return User가 좋아요한 Post targetId 목록
+     * @return User가 follow한 targetId 목록
      */
-    @Query("SELECT r.targetId FROM Reaction r WHERE r.user = :user AND r.reactionType = 'LIKE' AND r.targetType = 'POST'")
-    List<Long> findLikedPostIdsByUser(@Param("user") User user);
+    @Query("SELECT r.targetId FROM Reaction r WHERE r.user = :user AND r.reactionType = 'FOLLOW' AND r.targetType = 'USER'")
+    List<Long> findFollowedUserIds(@Param("user") User user);
 
     /**
-     * 신고당한 Post targetId 목록 찾기
-     * @return 신고당한 게시글 id 목록
+     * User가 반응(좋아요/북마크)한 게시글을 반응 시각 최신순으로 cursor 페이지 조회<br>
+     * (createdAt, id) 가 cursor 보다 작은 반응만 읽으며, 삭제되었거나 신고로 숨겨진 게시글의 반응은 제외된다.
+     * 대표 이미지는 게시글의 첫 번째 이미지이다.
+     * @param userId 반응한 유저 id
+     * @param reactionType LIKE / BOOKMARK
+     * @param cursorAt 이전 페이지 마지막 반응 시각
+     * @param cursorId 이전 페이지 마지막 반응 id
+     * @param pageable 페이지 크기
      */
-
     @Query("""
-      select p from Post p
-      join fetch p.user u
-      where exists (
-        select 1 from Reaction r
-        where r.targetType = :tt
-          and r.reactionType = :rt
-          and r.targetId = p.id
-      )
-      order by p.id desc
-    """)
-    List<Post> findReportedPostsWithUser(
-            @Param("tt") TargetType targetType,      // TargetType.POST
-            @Param("rt") ReactionType reactionType   // ReactionType.REPORT
-    );
+            SELECT new com.percent99.OutSpecs.dto.ReactedPostDTO(
+                r.id, r.createdAt, p.id, p.type, p.title, p.createdAt,
+                (SELECT i.imageUrl FROM Image i
+                 WHERE i.id = (SELECT MIN(i2.id) FROM Image i2 WHERE i2.post.id = p.id)))
+            FROM Reaction r
+            JOIN Post p ON p.id = r.targetId
+            WHERE r.user.id = :userId
+              AND r.reactionType = :reactionType
+              AND r.targetType = 'POST'
+              AND (r.createdAt < :cursorAt OR (r.createdAt = :cursorAt AND r.id < :cursorId))
+              AND NOT EXISTS (SELECT 1 FROM ReportCounter rc WHERE rc.targetType = 'POST' AND rc.targetId = p.id AND rc.hidden = true)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReactedPostDTO> findReactedPostPage(@Param("userId") Long userId,
+                                             @Param("reactionType") ReactionType reactionType,
+                                             @Param("cursorAt") LocalDateTime cursorAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
 
     interface CountByPostId {
         Long getPostId();
@@ -0,0 +1,109 @@
+package com.percent99.OutSpecs.repository;
+
+import com.percent99.OutSpecs.dto.ReportedPostDTO;
+import com.percent99.OutSpecs.entity.ReportCounter;
+import com.percent99.OutSpecs.entity.TargetType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportCounterRepository extends JpaRepository<ReportCounter, Long> {
+
+    /**
+     * 대상의 신고 수를 delta 만큼 증감하고 증감 후 신고 수를 반환한다. 행이 없으면 만든다.<br>
+     * 신고 수는 0 아래로 내려가지 않으며, 신고가 추가된 경우에만 lastReportedAt 을 갱신한다.
+     * @param targetType TargetType 이름
+     * @param targetId 대상 id
+     * @param delta +1 (신고) / -1 (신고 취소)
+     * @param now 현재 시각
+     * @return 증감 후 신고 수
+     */
+    @Query(value = """
+            INSERT INTO report_counters (target_type, target_id, report_count, last_reported_at, hidden)
+            VALUES (:targetType, :targetId, GREATEST(:delta, 0), CASE WHEN :delta > 0 THEN :now END, false)
+            ON CONFLICT ON CONSTRAINT uk_report_counter_target DO UPDATE
+            SET report_count = GREATEST(report_counters.report_count + :delta, 0),
+                last_reported_at = CASE WHEN :delta > 0 THEN :now ELSE report_counters.last_reported_at END
+            RETURNING report_count
+            """, nativeQuery = true)
+    int increment(@Param("targetType") String targetType,
+                  @Param("targetId") Long targetId,
+                  @Param("delta") int delta,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 숨겨지지 않았고 관리자가 검토하지 않은 대상을 숨김 처리
+     * @return 숨김 처리된 행 수 (이미 숨겨졌거나 검토된 경우 0)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ReportCounter c SET c.hidden = true
+            WHERE c.targetType = :targetType AND c.targetId = :targetId
+              AND c.hidden = false AND c.reviewedAt IS NULL
+            """)
+    int hide(@Param("targetType") TargetType targetType, @Param("targetId") Long targetId);
+
+    /**
+     * 신고 수로 자동 숨김된(관리자가 검토하지 않은) 대상의 숨김을 해제
+     * @return 숨김 해제된 행 수 (숨겨지지 않았거나 검토된 경우 0)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ReportCounter c SET c.hidden = false
+            WHERE c.targetType = :targetType AND c.targetId = :targetId
+              AND c.hidden = true AND c.reviewedAt IS NULL
+            """)
+    int unhide(@Param("targetType") TargetType targetType, @Param("targetId") Long targetId);
+
+    /**
+     * 관리자 검토 처리. 숨김을 해제하고 검토 시각을 기록한다.
+     * @return 갱신된 행 수 (신고 기록이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ReportCounter c SET c.hidden = false, c.reviewedAt = :now
+            WHERE c.targetType = :targetType AND c.targetId = :targetId
+            """)
+    int markReviewed(@Param("targetType") TargetType targetType,
+                     @Param("targetId") Long targetId,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 숨김 처리된 대상 id 목록
+     */
+    @Query("SELECT c.targetId FROM ReportCounter c WHERE c.targetType = :targetType AND c.hidden = true")
+    List<Long> findHiddenTargetIds(@Param("targetType") TargetType targetType);
+
+    /**
+     * 검토할 신고 게시글을 신고 수 많은 순, 최근 신고 순으로 페이지 조회<br>
+     * 관리자가 검토한 뒤 새 신고가 없는 게시글과 삭제된 게시글은 제외된다.
+     */
+    @Query(value = """
+            SELECT new com.percent99.OutSpecs.dto.ReportedPostDTO(
+                p.id, p.type, p.title, u.username, c.reportCount, c.lastReportedAt, c.hidden)
+            FROM ReportCounter c
+            JOIN Post p ON p.id = c.targetId
+            JOIN p.user u
+            WHERE c.targetType = 'POST'
+              AND c.reportCount > 0
+              AND (c.reviewedAt IS NULL OR c.lastReportedAt > c.reviewedAt)
+            ORDER BY c.reportCount DESC, c.lastReportedAt DESC, c.id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(c)
+            FROM ReportCounter c
+            JOIN Post p ON p.id = c.targetId
+            WHERE c.targetType = 'POST'
+              AND c.reportCount > 0
+              AND (c.reviewedAt IS NULL OR c.lastReportedAt > c.reviewedAt)
+            """)
+    Page<ReportedPostDTO> findPostQueue(Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package com.percent99.OutSpecs.repository;
+
+import com.percent99.OutSpecs.entity.TechStack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TechStackRepository extends JpaRepository<TechStack, Long> {
+
+    List<TechStack> findByNormalizedNameIn(Collection<String> normalizedNames);
+
+    /**
+     * 사전에 없는 스택이면 등록한다. 이미 있으면 아무것도 하지 않는다.
+     * @param name 표시용 이름
+     * @param normalizedName 정규화한 이름
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO tech_stacks (name, normalized_name)
+            VALUES (:name, :normalizedName)
+            ON CONFLICT ON CONSTRAINT uk_tech_stack_normalized DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
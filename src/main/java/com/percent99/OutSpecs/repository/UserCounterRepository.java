@@ -0,0 +1,29 @@
+package com.percent99.OutSpecs.repository;
+
+import com.percent99.OutSpecs.entity.UserCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserCounterRepository extends JpaRepository<UserCounter, Long> {
+
+    /**
+     * (role, status) 조합의 회원 수를 delta 만큼 증감한다. 행이 없으면 만들며, 0 아래로는 내려가지 않는다.
+     * @param role UserRoleType 이름
+     * @param status UserStatus 이름
+     * @param delta +1 / -1
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_counters (role, status, user_count)
+            VALUES (:role, :status, GREATEST(:delta, 0))
+            ON CONFLICT ON CONSTRAINT uk_user_counter_role_status DO UPDATE
+            SET user_count = GREATEST(user_counters.user_count + :delta, 0)
+            """, nativeQuery = true)
+    int increment(@Param("role") String role,
+                  @Param("status") String status,
+                  @Param("delta") int delta);
+}
@@ -0,0 +1,39 @@
+package com.percent99.OutSpecs.repository;
+
+import com.percent99.OutSpecs.entity.UserDeletionJob;
+import com.percent99.OutSpecs.entity.UserDeletionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+
+    Optional<UserDeletionJob> findByUserId(Long userId);
+
+    long countByStatusIn(Collection<UserDeletionStatus> statuses);
+
+    /**
+     * 이어서 진행할 작업을 요청 순으로 조회한다.<br>
+     * 대기 / 진행 중인 작업과, 실패했지만 아직 재시도 횟수가 남은 작업이 대상이다.
+     * @param active 대기 / 진행 중 상태
+     * @param failed 실패 상태
+     * @param maxAttempts 최대 실패 횟수
+     */
+    @Query("""
+            SELECT j FROM UserDeletionJob j
+            WHERE j.status IN :active
+               OR (j.status = :failed AND j.attempts < :maxAttempts)
+            ORDER BY j.id
+            """)
+    List<UserDeletionJob> findRunnable(@Param("active") Collection<UserDeletionStatus> active,
+                                       @Param("failed") UserDeletionStatus failed,
+                                       @Param("maxAttempts") int maxAttempts,
+                                       Pageable pageable);
+}
@@ -1,8 +1,14 @@
 package com.percent99.OutSpecs.repository;
 
+import com.percent99.OutSpecs.dto.AdminUserDTO;
 import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +19,12 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     Optional<User> findByUsername(String username);
 
+    /**
+     * 유저와 프로필을 한 번에 조회 (요청마다 로그인 유저를 읽는 CurrentUserContext 용)
+     */
+    @EntityGraph(attributePaths = "profile")
+    Optional<User> findWithProfileById(Long id);
+
     /**
      *  회원가입 중복체크
      */
@@ -23,7 +35,74 @@ public interface UserRepository extends JpaRepository<User,Long> {
      */
     Optional<User> findByProviderId(String providerId);
 
-    List<User> findAllByOrderByIdDesc();
+    /**
+     * 관리자 회원 목록을 id 커서 이후부터 최신 가입순으로 조회 (검색어가 없을 때)<br>
+     * 권한 / 상태가 null 이면 거르지 않는다. (idx_users_role_status_id 사용)
+     * @param cursorId 이전 페이지 마지막 회원 id
+     * @param role 권한 필터
+     * @param status 상태 필터
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return 회원 목록
+     */
+    @Query("""
+            SELECT new com.percent99.OutSpecs.dto.AdminUserDTO(
+                u.id, u.username, p.nickname, u.role, u.status, u.providerId, u.aiRateLimit, u.createdAt)
+            FROM User u
+            LEFT JOIN u.profile p
+            WHERE u.id < :cursorId
+              AND (:role IS NULL OR u.role = :role)
+              AND (:status IS NULL OR u.status = :status)
+            ORDER BY u.id DESC
+            """)
+    List<AdminUserDTO> findAdminPage(@Param("cursorId") Long cursorId,
+                                     @Param("role") UserRoleType role,
+                                     @Param("status") UserStatus status,
+                                     Pageable pageable);
+
+    /**
+     * 아이디 또는 닉네임이 prefix 로 시작하는 회원 id 를 id 커서 이후부터 최신 가입순으로 조회<br>
+     * 아이디 / 닉네임 검색을 각각 prefix 인덱스(db/users_admin_console.sql)로 읽어 UNION 한 뒤 정렬하고 자른다.
+     * OR 조건 하나로 묶으면 두 인덱스를 쓰지 못하고 users 를 id 순으로 훑게 된다.
+     * @param cursorId 이전 페이지 마지막 회원 id
+     * @param role 권한 필터 (UserRoleType 이름, null 이면 전체)
+     * @param status 상태 필터 (UserStatus 이름, null 이면 전체)
+     * @param prefix LIKE 패턴 ('!' 로 이스케이프된 검색어 + '%')
+     * @param limit 조회 개수
+     * @return 최신 가입순 회원 id
+     */
+    @Query(value = """
+            SELECT u.id
+            FROM (
+                SELECT id FROM users
+                WHERE username LIKE :prefix ESCAPE '!' AND id < :cursorId
+                UNION
+                SELECT user_id FROM profiles
+                WHERE nickname LIKE :prefix ESCAPE '!' AND user_id < :cursorId
+            ) matched
+            JOIN users u ON u.id = matched.id
+            WHERE (CAST(:role AS text) IS NULL OR u.role = :role)
+              AND (CAST(:status AS text) IS NULL OR u.status = :status)
+            ORDER BY u.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findAdminSearchIds(@Param("cursorId") Long cursorId,
+                                  @Param("role") String role,
+                                  @Param("status") String status,
+                                  @Param("prefix") String prefix,
+                                  @Param("limit") int limit);
+
+    /**
+     * 회원 id 목록으로 관리자 회원 목록을 최신 가입순으로 조회
+     */
+    @Query("""
+            SELECT new com.percent99.OutSpecs.dto.AdminUserDTO(
+                u.id, u.username, p.nickname, u.role, u.status, u.providerId, u.aiRateLimit, u.createdAt)
+            FROM User u
+            LEFT JOIN u.profile p
+            WHERE u.id IN :ids
+            ORDER BY u.id DESC
+            """)
+    List<AdminUserDTO> findAdminUsersByIdIn(@Param("ids") List<Long> ids);
 
     Optional<User> findByRole(UserRoleType userRoleType);
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.percent99.OutSpecs.security;
+
+import com.percent99.OutSpecs.entity.Profile;
+import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청 하나 동안 로그인한 유저(와 프로필)를 한 번만 읽어 공유하는 request scope 객체.<br>
+ * <ul>
+ *     <li>처음 {@link #getUser()} 를 호출할 때 유저와 프로필을 한 번의 조회로 읽고, 같은 요청에서는 다시 읽지 않는다</li>
+ *     <li>로그인하지 않은 요청이거나 탈퇴 등으로 유저가 없으면 null 을 반환한다</li>
+ *     <li>컨트롤러 / 서비스에서는 주입받아 쓰고, 템플릿에서는 {@code ${@currentUserContext.user}} 로 읽는다</li>
+ * </ul>
+ */
+@Component
+@RequestScope
+public class CurrentUserContext {
+
+    private final UserRepository userRepository;
+
+    private boolean loaded;
+    private User user;
+
+    public CurrentUserContext(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 로그인한 유저 id (세션의 principal 값이므로 조회하지 않는다)
+     * @return 유저 id (로그인하지 않았으면 null)
+     */
+    public Long getUserId() {
+        CustomUserPrincipal principal = currentPrincipal();
+        return principal == null || principal.getUser() == null ? null : principal.getUser().getId();
+    }
+
+    public boolean isAuthenticated() {
+        return getUserId() != null;
+    }
+
+    /**
+     * 로그인한 유저 (프로필 포함)
+     * @return 유저 (로그인하지 않았거나 유저가 없으면 null)
+     */
+    public User getUser() {
+        if (!loaded) {
+            Long userId = getUserId();
+            user = userId == null ? null : userRepository.findWithProfileById(userId).orElse(null);
+            loaded = true;
+        }
+        return user;
+    }
+
+    /**
+     * 로그인한 유저. 없으면 예외를 던진다.
+     * @return 유저 (프로필 포함)
+     */
+    public User requireUser() {
+        User current = getUser();
+        if (current == null) throw new EntityNotFoundException("해당 유저는 존재하지 않습니다.");
+        return current;
+    }
+
+    /**
+     * 로그인한 유저의 프로필
+     * @return 프로필 (로그인하지 않았거나 프로필이 없으면 null)
+     */
+    public Profile getProfile() {
+        User current = getUser();
+        return current == null ? null : current.getProfile();
+    }
+
+    public boolean hasProfile() {
+        return getProfile() != null;
+    }
+
+    private CustomUserPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) return null;
+        return authentication.getPrincipal() instanceof CustomUserPrincipal principal ? principal : null;
+    }
+}
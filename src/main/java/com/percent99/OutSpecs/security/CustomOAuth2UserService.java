@@ -4,6 +4,7 @@ import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.entity.UserRoleType;
 import com.percent99.OutSpecs.entity.UserStatus;
 import com.percent99.OutSpecs.repository.UserRepository;
+import com.percent99.OutSpecs.service.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -28,6 +29,7 @@ import java.util.UUID;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
 
     /**
      * OAuth2 인증 요청을 처리하고 사용자 정보를 로드한뒤 process 를 통해 CustomUserPrincipal로 반환한다.
@@ -102,6 +104,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         try{
             userRepository.save(user);
+            userStatsService.recordCreated(user);
         }catch (DataIntegrityViolationException e) {
             // 동시성 위반으로 재조회후 로그인 처리
             user = userRepository.findByProviderId(socialId).orElseThrow(() -> e);
@@ -1,13 +1,20 @@
 package com.percent99.OutSpecs.service;
 
-import com.percent99.OutSpecs.entity.Post;
+import com.percent99.OutSpecs.dto.AdminUserDTO;
+import com.percent99.OutSpecs.dto.AdminUserPageDTO;
+import com.percent99.OutSpecs.dto.ReportedPostDTO;
+import com.percent99.OutSpecs.dto.UserStatsDTO;
 import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.entity.UserRoleType;
 import com.percent99.OutSpecs.entity.UserStatus;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +28,9 @@ import java.util.List;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final ReactionService reactionService;
+    private final ReportQueueService reportQueueService;
+    private final UserStatsService userStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 사용자 역할을 변경합니다.
@@ -37,25 +46,68 @@ public class AdminService {
         if (newRole == UserRoleType.ADMIN) {
             throw new IllegalStateException("관리자 계정으로 변경할 수 없습니다.");
         }
+        UserRoleType oldRole = user.getRole();
         user.setRole(newRole);
+        userStatsService.recordChanged(oldRole, user.getStatus(), user);
     }
 
     /**
-     * 신고당한 게시물을 조회합니다.
-     * @return 신고 게시물 리스트
+     * 검토할 신고 게시물을 신고 수 많은 순, 최근 신고 순으로 조회합니다.
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     * @return 신고 게시물 페이지
      */
     @Transactional(readOnly = true)
-    public List<Post> findReportedPosts(){
-        return reactionService.getReportPosts();
+    public Page<ReportedPostDTO> findReportedPosts(int page, int size){
+        return reportQueueService.getPostQueue(page, size);
     }
 
     /**
-     * 회원가입한 전체 유저 조회합니다.
-     * @return 전체 User
+     * 신고 게시물을 검토 처리합니다. 숨겨진 게시물이면 다시 보이게 됩니다.
+     * @param postId 검토한 게시물 ID
+     */
+    @Transactional
+    public void restoreReportedPost(Long postId){
+        reportQueueService.markReviewed(postId);
+    }
+
+    /**
+     * 회원 목록을 최신 가입순으로 한 페이지 조회합니다.
+     * @param cursorId 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param role 권한 필터 (null 이면 전체)
+     * @param status 상태 필터 (null 이면 전체)
+     * @param query 아이디 / 닉네임 앞부분 검색어 (비어있으면 전체)
+     * @param size 페이지 크기
+     * @return 회원 목록과 다음 cursor
      */
     @Transactional(readOnly = true)
-    public List<User>findAllUsers(){
-        return userRepository.findAllByOrderByIdDesc();
+    public AdminUserPageDTO findUsers(Long cursorId, UserRoleType role, UserStatus status, String query, int size){
+        if(size <= 0) return new AdminUserPageDTO(List.of(), null);
+
+        long cursor = cursorId == null ? Long.MAX_VALUE : cursorId;
+        String prefix = (query == null || query.isBlank()) ? null : escapeLike(query.trim()) + "%";
+
+        List<AdminUserDTO> users;
+        if(prefix == null){
+            users = userRepository.findAdminPage(cursor, role, status, PageRequest.of(0, size + 1));
+        } else {
+            // 아이디 / 닉네임 인덱스로 id 만 먼저 찾고, 찾은 회원만 읽는다
+            List<Long> ids = userRepository.findAdminSearchIds(cursor,
+                    role == null ? null : role.name(), status == null ? null : status.name(), prefix, size + 1);
+            users = ids.isEmpty() ? List.of() : userRepository.findAdminUsersByIdIn(ids);
+        }
+        boolean hasNext = users.size() > size;
+        if(hasNext) users = users.subList(0, size);
+
+        Long nextCursor = hasNext ? users.get(users.size() - 1).getId() : null;
+        return new AdminUserPageDTO(users, nextCursor);
+    }
+
+    /**
+     * 권한 / 상태별 회원 수 (user_counters 에서 읽음)
+     */
+    public UserStatsDTO getUserStats(){
+        return userStatsService.getStats();
     }
 
     @Transactional
@@ -65,7 +117,7 @@ public class AdminService {
         if(user.getStatus() == UserStatus.DELETED){
             throw new IllegalStateException("이미 탈퇴한 유저입니다.");
         }
-        user.setStatus(UserStatus.SUSPENDED);
+        changeStatus(user, UserStatus.SUSPENDED);
     }
 
     @Transactional
@@ -75,13 +127,24 @@ public class AdminService {
         if(user.getStatus() == UserStatus.DELETED){
             throw new IllegalStateException("이미 탈퇴한 유저입니다.");
         }
-        user.setStatus(UserStatus.ACTIVE);
+        changeStatus(user, UserStatus.ACTIVE);
     }
 
     @Transactional
     public void deleteUser(Long userId){
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 유저를 찾을 수 없습니다."));
-        user.setStatus(UserStatus.DELETED);
+        changeStatus(user, UserStatus.DELETED);
+    }
+
+    private String escapeLike(String value){
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private void changeStatus(User user, UserStatus status){
+        UserStatus oldStatus = user.getStatus();
+        user.setStatus(status);
+        userStatsService.recordChanged(user.getRole(), oldStatus, user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(user.getId()));
     }
 }
\ No newline at end of file
@@ -104,7 +104,7 @@ public class AlanService {
 
     if (CHATBOT_USER_ID == null) throw new IllegalStateException("챗봇 사용자를 읽던 중 오류가 발생했습니다.");
 
-    ChatRoom chatRoom = chatRoomService.getOrCreateChatRoom(userId, CHATBOT_USER_ID);
+    ChatRoom chatRoom = chatRoomService.getOrCreateChatRoom(userId, CHATBOT_USER_ID, true);
 
     if (chatRoom == null) throw new IllegalStateException("챗봇 채팅방을 읽던 중 오류가 발생했습니다.");
 
@@ -0,0 +1,291 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.ChatMessageDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 채팅 메시지를 로컬 디스크의 압축 세그먼트 파일로 보관하고 읽어오는 service 객체.<br>
+ * <p>
+ *     세그먼트는 월 단위 디렉토리 아래 채팅방별 파일({@code {dir}/yyyy-MM/room-{chatRoomId}.seg.gz})로 저장되며,
+ *     파일 안의 메시지는 생성 시각 오름차순으로 순차 기록된다.
+ * </p>
+ * <ul>
+ *     <li>채팅방별로 세그먼트가 있는 월 목록을 메모리에 두어, 조회 시 파일이 없는 월은 디스크를 보지 않는다</li>
+ *     <li>세그먼트는 앞에서부터 읽으며 기준 시각 이전의 최근 메시지만 남기고, 기준 시각을 지나면 읽기를 멈춘다</li>
+ *     <li>채팅방이 삭제되면 {@link #purgeRoom(Long)} 으로 그 채팅방의 세그먼트를 모든 월에서 지운다</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ChatMessageArchiveService {
+  private static final int SEGMENT_MAGIC = 0x4F53434D; // "OSCM"
+  private static final int SEGMENT_VERSION = 1;
+  private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+  private static final String SEGMENT_PREFIX = "room-";
+  private static final String SEGMENT_SUFFIX = ".seg.gz";
+
+  private final Path archiveDir;
+
+  private final NavigableSet<YearMonth> archivedMonths = new ConcurrentSkipListSet<>();
+  private final Map<Long, NavigableSet<YearMonth>> roomMonths = new ConcurrentHashMap<>();
+
+  public ChatMessageArchiveService(@Value("${chat.archive.dir:./data/chat-archive}") String archiveDir) {
+    this.archiveDir = Paths.get(archiveDir);
+  }
+
+  /**
+   * 기동 시 이미 보관된 월 목록과 월별로 세그먼트가 있는 채팅방을 읽어둔다.
+   */
+  @PostConstruct
+  public void loadArchivedMonths() {
+    if (!Files.isDirectory(archiveDir)) return;
+
+    try (Stream<Path> dirs = Files.list(archiveDir)) {
+      for (Path dir : dirs.filter(Files::isDirectory).toList()) {
+        String name = dir.getFileName().toString();
+        if (!name.matches("\\d{4}-\\d{2}")) continue;
+
+        YearMonth month = YearMonth.parse(name, MONTH_FORMAT);
+        indexRooms(month, dir);
+        archivedMonths.add(month);
+      }
+    } catch (IOException e) {
+      log.warn("채팅 아카이브 디렉토리를 읽지 못했습니다. dir={}", archiveDir, e);
+    }
+  }
+
+  /**
+   * 보관된 채팅 메시지가 하나라도 있는지 여부
+   * @return 보관된 월이 있으면 true
+   */
+  public boolean hasArchive() {
+    return !archivedMonths.isEmpty();
+  }
+
+  /**
+   * 해당 월이 이미 보관되었는지 여부
+   * @param month 확인할 월
+   * @return 보관되었으면 true
+   */
+  public boolean isArchived(YearMonth month) {
+    return archivedMonths.contains(month);
+  }
+
+  /**
+   * 한 달치 메시지를 기록할 writer를 연다.
+   * 메시지는 채팅방 id, 생성 시각 순으로 정렬되어 전달되어야 한다.
+   * @param month 보관할 월
+   * @return 세그먼트 writer
+   * @throws IOException 임시 디렉토리 생성 실패 시
+   */
+  public SegmentWriter openMonth(YearMonth month) throws IOException {
+    Path tempDir = archiveDir.resolve("." + MONTH_FORMAT.format(month) + ".tmp");
+    deleteRecursively(tempDir);
+    Files.createDirectories(tempDir);
+    return new SegmentWriter(month, tempDir);
+  }
+
+  /**
+   * 채팅방의 보관된 메시지 중 before 이전에 생성된 메시지를 최신순으로 최대 limit개 반환하는 메소드
+   * @param chatRoomId 채팅방 id 값
+   * @param before 기준 시각 (이 시각보다 먼저 생성된 메시지만 반환)
+   * @param limit 최대 개수
+   * @return 최신순으로 정렬된 메시지 리스트
+   */
+  public List<ChatMessageDTO> findBefore(Long chatRoomId, LocalDateTime before, int limit) {
+    List<ChatMessageDTO> result = new ArrayList<>();
+    if (chatRoomId == null || before == null || limit <= 0) return result;
+
+    NavigableSet<YearMonth> months = roomMonths.get(chatRoomId);
+    if (months == null) return result;
+
+    for (YearMonth month : months.headSet(YearMonth.from(before), true).descendingSet()) {
+      Path segment = segmentPath(archiveDir.resolve(MONTH_FORMAT.format(month)), chatRoomId);
+      result.addAll(readSegment(segment, chatRoomId, before, limit - result.size()));
+      if (result.size() >= limit) break;
+    }
+
+    return result;
+  }
+
+  /**
+   * 채팅방의 보관된 메시지를 모두 지우는 메소드.<br>
+   * 세그먼트는 채팅방별 파일이므로 이 채팅방의 세그먼트 파일만 지우고 월별 색인에서 채팅방을 뺀다.
+   * 다른 채팅방의 세그먼트는 다시 쓰지 않으며, 다시 호출해도 결과는 같다.
+   * @param chatRoomId 채팅방 id 값
+   * @return 지운 세그먼트 파일 수
+   * @throws IOException 세그먼트 삭제 실패 시 (지우지 못한 월은 색인에 남는다)
+   */
+  public int purgeRoom(Long chatRoomId) throws IOException {
+    if (chatRoomId == null) return 0;
+
+    NavigableSet<YearMonth> months = roomMonths.get(chatRoomId);
+    if (months == null) return 0;
+
+    int purged = 0;
+    for (YearMonth month : months) {
+      if (Files.deleteIfExists(segmentPath(archiveDir.resolve(MONTH_FORMAT.format(month)), chatRoomId))) purged++;
+      months.remove(month);
+    }
+    roomMonths.remove(chatRoomId, months);
+    return purged;
+  }
+
+  /**
+   * 세그먼트에서 before 이전에 생성된 메시지 중 가장 최근 limit 개를 최신순으로 읽는다.<br>
+   * 세그먼트는 생성 시각 오름차순이므로 before 를 지나면 나머지는 읽지 않는다.
+   */
+  private List<ChatMessageDTO> readSegment(Path segment, Long chatRoomId, LocalDateTime before, int limit) {
+    ArrayDeque<ChatMessageDTO> latest = new ArrayDeque<>(limit);
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(segment))))) {
+      if (in.readInt() != SEGMENT_MAGIC || in.readInt() != SEGMENT_VERSION) {
+        log.warn("알 수 없는 채팅 세그먼트 형식입니다. file={}", segment);
+        return List.of();
+      }
+
+      while (true) {
+        try {
+          in.readLong(); // message id
+          long senderId = in.readLong();
+          LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+          String content = in.readUTF();
+          if (!createdAt.isBefore(before)) break;
+
+          if (latest.size() == limit) latest.pollFirst();
+          latest.addLast(new ChatMessageDTO(senderId, content, createdAt, chatRoomId));
+        } catch (EOFException eof) {
+          break;
+        }
+      }
+    } catch (NoSuchFileException e) {
+      log.warn("색인에 있는 채팅 세그먼트가 없습니다. file={}", segment);
+    } catch (IOException e) {
+      log.warn("채팅 세그먼트를 읽지 못했습니다. file={}", segment, e);
+    }
+
+    List<ChatMessageDTO> messages = new ArrayList<>(latest);
+    Collections.reverse(messages);
+    return messages;
+  }
+
+  /**
+   * 월 디렉토리의 세그먼트 파일 이름으로 채팅방별 월 목록을 채운다.
+   */
+  private void indexRooms(YearMonth month, Path monthDir) throws IOException {
+    try (Stream<Path> files = Files.list(monthDir)) {
+      files.map(path -> path.getFileName().toString())
+          .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+          .map(name -> name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+          .filter(id -> id.matches("\\d+"))
+          .forEach(id -> addRoomMonth(Long.valueOf(id), month));
+    }
+  }
+
+  private void addRoomMonth(Long chatRoomId, YearMonth month) {
+    roomMonths.computeIfAbsent(chatRoomId, id -> new ConcurrentSkipListSet<>()).add(month);
+  }
+
+  private static Path segmentPath(Path monthDir, Long chatRoomId) {
+    return monthDir.resolve(SEGMENT_PREFIX + chatRoomId + SEGMENT_SUFFIX);
+  }
+
+  private static void deleteRecursively(Path path) throws IOException {
+    if (!Files.exists(path)) return;
+
+    try (Stream<Path> walk = Files.walk(path)) {
+      for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(p);
+      }
+    }
+  }
+
+  /**
+   * 한 달치 메시지를 채팅방별 세그먼트 파일로 순차 기록하는 writer.<br>
+   * {@link #commit()} 전까지는 임시 디렉토리에 기록되며, commit 시 원자적으로 공개된다.
+   */
+  public class SegmentWriter implements Closeable {
+    private final YearMonth month;
+    private final Path tempDir;
+    private final Set<Long> chatRoomIds = new HashSet<>();
+    private Long currentChatRoomId;
+    private DataOutputStream out;
+    private long written;
+    private boolean committed;
+
+    private SegmentWriter(YearMonth month, Path tempDir) {
+      this.month = month;
+      this.tempDir = tempDir;
+    }
+
+    /**
+     * 메시지 한 건을 기록한다.
+     */
+    public void append(Long chatRoomId, Long messageId, Long senderId, LocalDateTime createdAt, String content) throws IOException {
+      if (!chatRoomId.equals(currentChatRoomId)) {
+        closeCurrent();
+        out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(segmentPath(tempDir, chatRoomId)))));
+        out.writeInt(SEGMENT_MAGIC);
+        out.writeInt(SEGMENT_VERSION);
+        currentChatRoomId = chatRoomId;
+        chatRoomIds.add(chatRoomId);
+      }
+
+      out.writeLong(messageId);
+      out.writeLong(senderId);
+      out.writeLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+      out.writeInt(createdAt.getNano());
+      out.writeUTF(content);
+      written++;
+    }
+
+    public long getWritten() {
+      return written;
+    }
+
+    /**
+     * 기록을 마치고 월 디렉토리로 공개한다.
+     * @throws IOException 이동 실패 시
+     */
+    public void commit() throws IOException {
+      closeCurrent();
+      Path monthDir = archiveDir.resolve(MONTH_FORMAT.format(month));
+      deleteRecursively(monthDir);
+      Files.move(tempDir, monthDir, StandardCopyOption.ATOMIC_MOVE);
+      // 같은 월을 다시 보관했다면 이전 세그먼트 기준의 색인을 버리고 새로 채운다
+      roomMonths.values().forEach(months -> months.remove(month));
+      chatRoomIds.forEach(chatRoomId -> addRoomMonth(chatRoomId, month));
+      archivedMonths.add(month);
+      committed = true;
+    }
+
+    private void closeCurrent() throws IOException {
+      if (out != null) {
+        out.close();
+        out = null;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      closeCurrent();
+      if (!committed) deleteRecursively(tempDir);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.percent99.OutSpecs.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * chat_messages 테이블의 월 단위 파티션을 관리하는 service 객체.<br>
+ * <ul>
+ *     <li>현재 월부터 chat.partition.months-ahead 개월 뒤까지의 파티션을 미리 생성</li>
+ *     <li>기본(DEFAULT) 파티션에 해당 월의 메시지가 이미 들어와 있다면 새 파티션으로 옮긴 뒤 연결(ATTACH)</li>
+ *     <li>chat.archive.after-months 개월보다 오래된 파티션을 세그먼트 파일로 보관한 뒤 분리(DETACH) 및 삭제</li>
+ * </ul>
+ * chat_messages 가 파티션 테이블로 전환되지 않은 경우(src/main/resources/db/chat_messages_partitioning.sql 미적용)
+ * 아무 작업도 하지 않는다.
+ */
+@Slf4j
+@Service
+public class ChatMessagePartitionService {
+  private static final String PARENT_TABLE = "chat_messages";
+  private static final String DEFAULT_PARTITION = "chat_messages_default";
+  private static final String PARTITION_PREFIX = "chat_messages_p";
+  private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ChatMessageArchiveService chatMessageArchiveService;
+  private final int monthsAhead;
+  private final int archiveAfterMonths;
+
+  public ChatMessagePartitionService(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     ChatMessageArchiveService chatMessageArchiveService,
+                                     @Value("${chat.partition.months-ahead:2}") int monthsAhead,
+                                     @Value("${chat.archive.after-months:6}") int archiveAfterMonths) {
+    this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    this.jdbcTemplate.setFetchSize(1000);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chatMessageArchiveService = chatMessageArchiveService;
+    this.monthsAhead = monthsAhead;
+    this.archiveAfterMonths = archiveAfterMonths;
+  }
+
+  /**
+   * 파티션 생성 및 오래된 파티션 보관 작업을 수행하는 메소드.<br>
+   * 여러 번 실행되어도 결과가 같도록(idempotent) 작성되어 있다.
+   */
+  @Scheduled(cron = "${chat.partition.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+  public void maintainPartitions() {
+    if (!isPartitioned()) {
+      log.debug("{} 테이블이 파티션 테이블이 아니므로 파티션 관리를 건너뜁니다.", PARENT_TABLE);
+      return;
+    }
+
+    YearMonth current = YearMonth.now(ZoneId.of("Asia/Seoul"));
+
+    for (int i = 0; i <= monthsAhead; i++) {
+      createPartition(current.plusMonths(i));
+    }
+
+    YearMonth archiveBefore = current.minusMonths(archiveAfterMonths);
+    for (String partition : findPartitions()) {
+      YearMonth month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+      if (month.isBefore(archiveBefore)) {
+        archivePartition(partition, month);
+      }
+    }
+  }
+
+  private boolean isPartitioned() {
+    try {
+      Boolean partitioned = jdbcTemplate.queryForObject("""
+          SELECT EXISTS (
+            SELECT 1 FROM pg_partitioned_table pt
+            JOIN pg_class c ON c.oid = pt.partrelid
+            WHERE c.relname = ?
+          )
+          """, Boolean.class, PARENT_TABLE);
+      return Boolean.TRUE.equals(partitioned);
+    } catch (DataAccessException e) {
+      return false;
+    }
+  }
+
+  private List<String> findPartitions() {
+    return jdbcTemplate.queryForList("""
+        SELECT c.relname FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname = ? AND c.relname ~ '^chat_messages_p[0-9]{6}$'
+        ORDER BY c.relname
+        """, String.class, PARENT_TABLE);
+  }
+
+  /**
+   * 월 파티션을 생성한다.<br>
+   * 기본 파티션에 그 월의 메시지가 있으면 {@code CREATE TABLE ... PARTITION OF} 가 실패하므로,
+   * 한 트랜잭션 안에서 빈 테이블을 만들어 메시지를 옮기고 파티션으로 연결한다.
+   */
+  private void createPartition(YearMonth month) {
+    String partition = PARTITION_PREFIX + PARTITION_SUFFIX.format(month);
+    String from = month.atDay(1).toString();
+    String to = month.plusMonths(1).atDay(1).toString();
+
+    if (!exists(partition) && hasDefaultRows(from, to)) {
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + PARENT_TABLE
+            + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+            + " WHERE created_at >= ?::timestamp AND created_at < ?::timestamp RETURNING *)"
+            + " INSERT INTO " + partition + " SELECT * FROM moved", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition
+            + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        log.info("기본 파티션의 메시지 {}건을 채팅 파티션 {} 로 옮겼습니다.", moved, partition);
+      });
+      return;
+    }
+
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + PARENT_TABLE
+        + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+  }
+
+  private boolean exists(String table) {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+  }
+
+  private boolean hasDefaultRows(String from, String to) {
+    if (!exists(DEFAULT_PARTITION)) return false;
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION
+        + " WHERE created_at >= ?::timestamp AND created_at < ?::timestamp)", Boolean.class, from, to));
+  }
+
+  /**
+   * 파티션의 메시지를 세그먼트 파일로 기록한 뒤 파티션을 분리하고 삭제한다.<br>
+   * 세그먼트 기록이 끝나기 전에는 파티션을 건드리지 않는다.
+   */
+  private void archivePartition(String partition, YearMonth month) {
+    if (!chatMessageArchiveService.isArchived(month)) {
+      try (ChatMessageArchiveService.SegmentWriter writer = chatMessageArchiveService.openMonth(month)) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+            "SELECT id, chat_room_id, sender_id, content, created_at FROM " + partition
+                + " ORDER BY chat_room_id, created_at, id",
+            rs -> {
+              try {
+                writer.append(rs.getLong("chat_room_id"), rs.getLong("id"), rs.getLong("sender_id"),
+                    rs.getObject("created_at", LocalDateTime.class), rs.getString("content"));
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            }));
+        writer.commit();
+        log.info("채팅 파티션 {} 의 메시지 {}건을 보관했습니다.", partition, writer.getWritten());
+      } catch (IOException | UncheckedIOException e) {
+        log.error("채팅 파티션 {} 보관에 실패했습니다. 다음 실행에서 다시 시도합니다.", partition, e);
+        return;
+      }
+    }
+
+    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+    jdbcTemplate.execute("DROP TABLE " + partition);
+  }
+}
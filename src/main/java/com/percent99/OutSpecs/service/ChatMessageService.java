@@ -5,6 +5,7 @@ import com.percent99.OutSpecs.dto.ChatRoomResponseDTO;
 import com.percent99.OutSpecs.entity.ChatMessage;
 import com.percent99.OutSpecs.entity.ChatRoom;
 import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.interceptor.ChatPayloadCodecInterceptor;
 import com.percent99.OutSpecs.repository.ChatMessageRepository;
 import com.percent99.OutSpecs.repository.ChatRoomRepository;
 import com.percent99.OutSpecs.repository.ProfileRepository;
@@ -35,6 +36,7 @@ public class ChatMessageService {
   private final UserRepository userRepository;
   private final ProfileRepository profileRepository;
   private final SimpMessageSendingOperations messagingTemplate;
+  private final ChatMessageArchiveService chatMessageArchiveService;
 
   /**
    * 채팅 메시지를 생성하는 메소드
@@ -65,6 +67,7 @@ public class ChatMessageService {
     Long lastMessageId = chatMessage.getId();
 
     chatRoom.setLastMessageId(lastMessageId);
+    chatRoom.setLastActivityAt(chatMessage.getCreatedAt());
 
     chatRoomService.updateChatRoomById(chatRoom, userId);
   }
@@ -132,9 +135,11 @@ public class ChatMessageService {
 
     Page<ChatMessage> chatMessagePage = this.findByChatRoomId(chatRoomId, pageable);
 
-    if (!chatMessagePage.hasContent()) return List.of();
+    List<ChatMessageDTO> result = this.convertChatMessageListToDTOList(chatMessagePage.getContent());
 
-    return this.convertChatMessageListToDTOList(chatMessagePage.getContent());
+    if (pageable.getPageNumber() != 0) return result;
+
+    return this.appendArchivedHistory(chatRoomId, result, LocalDateTime.now(ZoneId.of("Asia/Seoul")), pageable.getPageSize());
   }
 
   /**
@@ -150,9 +155,29 @@ public class ChatMessageService {
 
     Page<ChatMessage> chatMessagePage = this.findByChatRoomIdAndCreatedAtBefore(chatRoomId, firstCreatedAt, pageable);
 
-    if (!chatMessagePage.hasContent()) return List.of();
+    List<ChatMessageDTO> result = this.convertChatMessageListToDTOList(chatMessagePage.getContent());
+
+    return this.appendArchivedHistory(chatRoomId, result, firstCreatedAt, pageable.getPageSize());
+  }
 
-    return this.convertChatMessageListToDTOList(chatMessagePage.getContent());
+  /**
+   * DB에서 가져온 메시지가 한 페이지를 채우지 못한 경우, 부족한 만큼 보관(archive)된 메시지로 채우는 메소드.<br>
+   * 사용자가 보관 시점 이전까지 스크롤한 경우에만 디스크를 읽는다.
+   * @param chatRoomId 채팅방의 id 값
+   * @param result 최신순으로 정렬된 DB 조회 결과
+   * @param before DB 조회에 사용한 기준 시각
+   * @param pageSize 한 페이지의 크기
+   * @return 보관된 메시지까지 이어 붙인 결과
+   */
+  private List<ChatMessageDTO> appendArchivedHistory(Long chatRoomId, List<ChatMessageDTO> result, LocalDateTime before, int pageSize){
+    int remaining = pageSize - result.size();
+
+    if (remaining <= 0 || !chatMessageArchiveService.hasArchive()) return result;
+
+    LocalDateTime cursor = result.isEmpty() ? before : result.get(result.size() - 1).getCreatedAt();
+    result.addAll(chatMessageArchiveService.findBefore(chatRoomId, cursor, remaining));
+
+    return result;
   }
 
   /**
@@ -272,8 +297,11 @@ public class ChatMessageService {
 
     chatMessageDTO.setChatRoomId(chatRoomId);
 
-    messagingTemplate.convertAndSend("/queue/users/"+targetId, chatMessageDTO);
-    messagingTemplate.convertAndSend("/queue/users/"+userId, chatMessageDTO);
+    // CBOR 를 협상한 세션은 JSON 을 거치지 않고 원본 DTO 를 CBOR 로 받는다 (ChatPayloadCodecInterceptor)
+    messagingTemplate.convertAndSend("/queue/users/"+targetId, chatMessageDTO,
+        ChatPayloadCodecInterceptor.sourcePayloadHeaders(chatMessageDTO));
+    messagingTemplate.convertAndSend("/queue/users/"+userId, chatMessageDTO,
+        ChatPayloadCodecInterceptor.sourcePayloadHeaders(chatMessageDTO));
   }
 
   public List<ChatRoomResponseDTO> loadChatMessagesIntoChatRoomResponseDTOList(List<ChatRoomResponseDTO> chatRoomResponseDTOList, Long userId){
@@ -1,10 +1,9 @@
 package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.ChatRoomResponseDTO;
+import com.percent99.OutSpecs.dto.ProfileSummary;
 import com.percent99.OutSpecs.entity.ChatMessage;
 import com.percent99.OutSpecs.entity.ChatRoom;
-import com.percent99.OutSpecs.entity.Profile;
-import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.repository.ChatMessageRepository;
 import com.percent99.OutSpecs.repository.ChatRoomRepository;
 import com.percent99.OutSpecs.repository.ProfileRepository;
@@ -13,7 +12,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 사용자들이 채팅을 주고받는 채팅방을 관리하는 service 객체.<br>
@@ -25,29 +28,23 @@ public class ChatRoomService {
   private final UserRepository userRepository;
   private final ProfileRepository profileRepository;
   private final ChatMessageRepository chatMessageRepository;
+  private final ProfileSummaryCache profileSummaryCache;
 
+  /**
+   * 두 사용자의 채팅방을 생성하는 메소드.<br>
+   * 이미 채팅방이 있으면 기존 채팅방을 반환한다. 생성은 {@link #getOrCreateChatRoom(Long, Long)} 과 같이
+   * INSERT ... ON CONFLICT DO NOTHING 으로 처리되어, 동시에 호출되어도 유니크 키 위반 없이 하나만 만들어진다.
+   * @param userId 로그인한 사용자의 id 값
+   * @param targetId 상대 사용자의 id 값
+   * @return 두 사용자의 채팅방. 사용자 또는 프로필이 없으면 null
+   */
   @Transactional
   public ChatRoom createChatRoom(Long userId, Long targetId){
-    User user1 = userRepository.findById(userId).orElse(null);
-    User user2 = userRepository.findById(targetId).orElse(null);
-
-    if (user1==null || user2==null) return null;
+    if (userId == null || targetId == null) return null;
 
-    if (!profileRepository.existsByUserId(userId)) return null;
-    if (!profileRepository.existsByUserId(targetId)) return null;
+    if (!userRepository.existsById(userId) || !userRepository.existsById(targetId)) return null;
 
-    if (chatRoomRepository.existsByUser1IdAndUser2Id(userId, targetId)) return null;
-
-    ChatRoom chatRoom = new ChatRoom();
-
-//    if (targetId.equals(CHATBOT_USER_ID)) chatRoom.setIsChatbot(true);
-//    else chatRoom.setIsChatbot(false);
-    chatRoom.setUser1(user1);
-    chatRoom.setUser2(user2);
-    chatRoom.setChatbot(false);
-    chatRoom.setLastMessageId(null);
-
-    return chatRoomRepository.save(chatRoom);
+    return getOrCreateChatRoom(userId, targetId);
   }
 
   /**
@@ -75,6 +72,30 @@ public class ChatRoomService {
     return convertChatRoomListToDTOList(chatRooms);
   }
 
+  /**
+   * 사용자가 참여중인 채팅방을 마지막 활동 시각 최신순으로 size개씩 반환하는 메소드.<br>
+   * 첫 페이지는 cursorAt, cursorId 없이 호출하고, 다음 페이지는 이전 페이지 마지막 채팅방의
+   * lastActivityAt, chatRoomId 값을 커서로 전달한다.
+   * @param userId 참여중인 채팅방을 검색할 사용자의 id 값
+   * @param cursorAt 이전 페이지 마지막 채팅방의 마지막 활동 시각
+   * @param cursorId 이전 페이지 마지막 채팅방의 id 값
+   * @param size 한 번에 가져올 채팅방 수
+   * @return 마지막 활동 시각 최신순으로 정렬된 ChatRoomResponseDTO 리스트
+   */
+  @Transactional(readOnly = true)
+  public List<ChatRoomResponseDTO> getChatRoomResponseDTOPageByUserId(Long userId, LocalDateTime cursorAt, Long cursorId, int size){
+    if (userId == null || size <= 0) return List.of();
+
+    if (cursorAt == null || cursorId == null) {
+      cursorAt = LocalDateTime.of(9999, 12, 31, 0, 0);
+      cursorId = Long.MAX_VALUE;
+    }
+
+    List<ChatRoom> chatRooms = chatRoomRepository.findInboxPage(userId, cursorAt, cursorId, size);
+
+    return convertChatRoomListToDTOList(chatRooms);
+  }
+
   /**
    * 입력받은 chatRoomId 값과 같은 id 값을 가진 채팅방을 반한
    * @param chatRoomId 검색하고자 하는 채팅방 id 값
@@ -144,7 +165,6 @@ public class ChatRoomService {
   @Transactional(readOnly = true)
   private List<ChatRoomResponseDTO> convertChatRoomListToDTOList(List<ChatRoom> chatRooms){
     List<ChatRoomResponseDTO> result = new ArrayList<>();
-    Map<Long, Profile> userProfiles = new HashMap<>();
     Set<Long> userIdSet = new HashSet<>();
 
     for (ChatRoom chatRoom: chatRooms){
@@ -152,15 +172,22 @@ public class ChatRoomService {
       userIdSet.add(chatRoom.getUser2().getId());
     }
 
-    List<Profile> profiles = profileRepository.findByUserIdIn(userIdSet);
+    Map<Long, ProfileSummary> userProfiles = profileSummaryCache.getAll(userIdSet);
 
-    for (Profile profile: profiles) userProfiles.put(profile.getUserId(), profile);
+    Set<Long> lastMessageIds = chatRooms.stream()
+        .map(ChatRoom::getLastMessageId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<Long, ChatMessage> lastMessages = lastMessageIds.isEmpty() ? Map.of()
+        : chatMessageRepository.findAllById(lastMessageIds).stream()
+            .collect(Collectors.toMap(ChatMessage::getId, Function.identity()));
 
     for (ChatRoom chatRoom: chatRooms){
       Long user1Id = chatRoom.getUser1().getId();
       Long user2Id = chatRoom.getUser2().getId();
+      ChatMessage lastMessage = chatRoom.getLastMessageId() == null ? null : lastMessages.get(chatRoom.getLastMessageId());
 
-      result.add(convertChatRoomToDTO(chatRoom, userProfiles.get(user1Id), userProfiles.get(user2Id)));
+      result.add(convertChatRoomToDTO(chatRoom, userProfiles.get(user1Id), userProfiles.get(user2Id), lastMessage));
     }
 
     return result;
@@ -169,24 +196,22 @@ public class ChatRoomService {
   /**
    * ChatRoom을 ChatRoomResponseDTO로 변환하는 메소드
    * @param chatRoom 변환할 ChatRoom
-   * @param user1Profile user1의 profile
-   * @param user2Profile user2의 profile
+   * @param user1Profile user1의 프로필 요약
+   * @param user2Profile user2의 프로필 요약
+   * @param lastMessage 채팅방의 마지막 메시지 (보관되었거나 없으면 null)
    * @return ChatRoom을 ChatRoomResponseDTO로 변환
    */
-  private ChatRoomResponseDTO convertChatRoomToDTO(ChatRoom chatRoom, Profile user1Profile, Profile user2Profile){
+  private ChatRoomResponseDTO convertChatRoomToDTO(ChatRoom chatRoom, ProfileSummary user1Profile, ProfileSummary user2Profile, ChatMessage lastMessage){
     if (chatRoom == null) return null;
 
     ChatRoomResponseDTO result = new ChatRoomResponseDTO();
 
     result.setChatRoomId(chatRoom.getId());
     result.setChatRoomIsChatBot(chatRoom.isChatbot());
+    result.setLastActivityAt(chatRoom.getLastActivityAt());
 
-    Long lastMessageId = chatRoom.getLastMessageId();
-    if (lastMessageId != null){
-      ChatMessage lastMessage = chatMessageRepository.findById(lastMessageId).orElse(null);
-
-      if (lastMessage == null) return null;
-
+    // 마지막 메시지가 보관(archive)되어 DB에 없으면 미리보기 없이 채팅방만 표시
+    if (lastMessage != null) {
       result.setChatRoomLastMessage(lastMessage.getContent());
       result.setChatRoomLastMessageCreatedAt(lastMessage.getCreatedAt());
     }
@@ -214,12 +239,17 @@ public class ChatRoomService {
   private ChatRoomResponseDTO convertChatRoomToDTO(ChatRoom chatRoom){
     if (chatRoom == null) return null;
 
-    Profile user1Profile = profileRepository.findByUserId(chatRoom.getUser1().getId()).orElse(null);
-    Profile user2Profile = profileRepository.findByUserId(chatRoom.getUser2().getId()).orElse(null);
+    Map<Long, ProfileSummary> profiles = profileSummaryCache.getAll(
+        List.of(chatRoom.getUser1().getId(), chatRoom.getUser2().getId()));
+    ProfileSummary user1Profile = profiles.get(chatRoom.getUser1().getId());
+    ProfileSummary user2Profile = profiles.get(chatRoom.getUser2().getId());
 
     if (user1Profile==null || user2Profile==null) return null;
 
-    return this.convertChatRoomToDTO(chatRoom, user1Profile, user2Profile);
+    ChatMessage lastMessage = chatRoom.getLastMessageId() == null ? null
+        : chatMessageRepository.findById(chatRoom.getLastMessageId()).orElse(null);
+
+    return this.convertChatRoomToDTO(chatRoom, user1Profile, user2Profile, lastMessage);
   }
 
   /**
@@ -232,11 +262,40 @@ public class ChatRoomService {
     return chatRoomRepository.existsByIdAndUserId(chatRoomId, userId);
   }
 
+  /**
+   * 두 사용자의 채팅방을 반환하고, 없으면 생성하는 메소드.<br>
+   * 생성은 (min_user_id, max_user_id) 유니크 키에 대한 INSERT ... ON CONFLICT DO NOTHING 으로 처리되어
+   * 동시에 호출되어도 채팅방이 중복 생성되지 않는다.
+   * @param userId 로그인한 사용자의 id 값
+   * @param targetId 상대 사용자의 id 값
+   * @return 두 사용자의 채팅방. 사용자 또는 프로필이 없으면 null
+   */
+  @Transactional
   public ChatRoom getOrCreateChatRoom(Long userId, Long targetId){
+    return getOrCreateChatRoom(userId, targetId, false);
+  }
+
+  /**
+   * 두 사용자의 채팅방을 반환하고, 없으면 생성하는 메소드.<br>
+   * 챗봇 채팅방은 isChatbot 을 true 로 넘겨 새로 만들 때 챗봇 채팅방으로 표시한다.
+   * @param userId 로그인한 사용자의 id 값
+   * @param targetId 상대 사용자의 id 값
+   * @param isChatbot 챗봇 채팅방 여부
+   * @return 두 사용자의 채팅방. 사용자 또는 프로필이 없으면 null
+   */
+  @Transactional
+  public ChatRoom getOrCreateChatRoom(Long userId, Long targetId, boolean isChatbot){
+    if (userId == null || targetId == null) return null;
+
     ChatRoom chatRoom = chatRoomRepository.findByUser1IdAndUser2Id(userId, targetId).orElse(null);
 
     if (chatRoom != null) return chatRoom;
 
-    return this.createChatRoom(userId, targetId);
+    if (!profileRepository.existsByUserId(userId)) return null;
+    if (!profileRepository.existsByUserId(targetId)) return null;
+
+    chatRoomRepository.insertIfAbsent(userId, targetId, isChatbot, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+
+    return chatRoomRepository.findByUser1IdAndUser2Id(userId, targetId).orElse(null);
   }
 }
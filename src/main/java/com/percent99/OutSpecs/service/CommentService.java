@@ -2,11 +2,13 @@ package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.CommentDTO;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
 import com.percent99.OutSpecs.repository.CommentRepository;
 import com.percent99.OutSpecs.repository.PostRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 댓글 생성합니다.<br>
@@ -45,8 +48,9 @@ public class CommentService {
         User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 유저 정보가 발견되지않았습니다."));
 
+        Post post = null;
         if(dto.getType() == CommentType.COMMENT || dto.getType() == CommentType.ANSWER){
-            postRepository.findById(dto.getParentId())
+            post = postRepository.findById(dto.getParentId())
                     .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
         } else if(dto.getType() == CommentType.REPLY){
             Comment parent = commentRepository.findById(dto.getParentId())
@@ -66,7 +70,11 @@ public class CommentService {
         comment.setContent(dto.getContent());
         comment.setCreatedAt(LocalDateTime.now());
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        if(post != null) {
+            eventPublisher.publishEvent(new PostEngagementEvent(post.getId(), post.getType(), PostEngagementEvent.Kind.COMMENT, 1));
+        }
+        return saved;
     }
 
     /**
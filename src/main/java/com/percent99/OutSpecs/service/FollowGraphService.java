@@ -0,0 +1,186 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.util.SortedLongSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로우 관계(reactions 의 USER / FOLLOW)를 메모리에 보관하는 service 객체.<br>
+ * <ul>
+ *     <li>유저별 팔로잉 / 팔로워 id 를 {@link SortedLongSet} 으로 보관 (id 오름차순)</li>
+ *     <li>기동 후 한 번 전체를 읽고, 이후에는 {@link FollowChangedEvent} 로 커밋된 변경만 반영</li>
+ *     <li>팔로우 여부, 팔로잉/팔로워 수, 페이지 단위 id 목록을 DB 조회 없이 제공</li>
+ * </ul>
+ * 처음 조회되거나 변경이 들어올 때 아직 읽지 않았다면 그 자리에서 읽는다.
+ */
+@Slf4j
+@Service
+public class FollowGraphService {
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, SortedLongSet> following = new ConcurrentHashMap<>();
+    private final Map<Long, SortedLongSet> followers = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public FollowGraphService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * 커밋된 팔로우/언팔로우를 그래프에 반영한다. 같은 변경이 여러 번 와도 결과는 같다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        ensureLoaded();
+        long followerId = event.getFollowerId();
+        long followeeId = event.getFolloweeId();
+
+        if (event.isFollowing()) {
+            following.compute(followerId, (id, set) -> (set == null ? SortedLongSet.EMPTY : set).with(followeeId));
+            followers.compute(followeeId, (id, set) -> (set == null ? SortedLongSet.EMPTY : set).with(followerId));
+        } else {
+            following.computeIfPresent(followerId, (id, set) -> emptyToNull(set.without(followeeId)));
+            followers.computeIfPresent(followeeId, (id, set) -> emptyToNull(set.without(followerId)));
+        }
+    }
+
+    /**
+     * followerId 가 followeeId 를 팔로우 중인지 여부
+     */
+    public boolean isFollowing(Long followerId, Long followeeId) {
+        if (followerId == null || followeeId == null) return false;
+        return followingOf(followerId).contains(followeeId);
+    }
+
+    public int getFollowingCount(Long userId) {
+        return followingOf(userId).size();
+    }
+
+    public int getFollowerCount(Long userId) {
+        return followersOf(userId).size();
+    }
+
+    /**
+     * 유저가 팔로우한 id 목록 (id 오름차순)
+     * @param userId 유저 id
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     */
+    public long[] getFollowingIds(Long userId, int page, int size) {
+        return followingOf(userId).slice(page * size, size);
+    }
+
+    /**
+     * 유저를 팔로우한 id 목록 (id 오름차순)
+     * @param userId 유저 id
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     */
+    public long[] getFollowerIds(Long userId, int page, int size) {
+        return followersOf(userId).slice(page * size, size);
+    }
+
+    /**
+     * 유저가 팔로우한 전체 id 집합 (불변)
+     */
+    public SortedLongSet followingOf(Long userId) {
+        ensureLoaded();
+        return following.getOrDefault(userId, SortedLongSet.EMPTY);
+    }
+
+    /**
+     * 유저를 팔로우한 전체 id 집합 (불변)
+     */
+    public SortedLongSet followersOf(Long userId) {
+        ensureLoaded();
+        return followers.getOrDefault(userId, SortedLongSet.EMPTY);
+    }
+
+    /**
+     * 한 명 이상 팔로우 중인 유저 id 목록 (호출 시점 스냅샷, 정렬 안 됨)
+     */
+    public long[] usersWithFollowing() {
+        ensureLoaded();
+        return following.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        synchronized (this) {
+            if (loaded) return;
+            long start = System.currentTimeMillis();
+            transactionTemplate.executeWithoutResult(status -> {
+                loadAdjacency("""
+                        SELECT user_id, target_id FROM reactions
+                        WHERE target_type = 'USER' AND reaction_type = 'FOLLOW'
+                        ORDER BY user_id, target_id
+                        """, following);
+                loadAdjacency("""
+                        SELECT target_id, user_id FROM reactions
+                        WHERE target_type = 'USER' AND reaction_type = 'FOLLOW'
+                        ORDER BY target_id, user_id
+                        """, followers);
+            });
+            loaded = true;
+            log.info("팔로우 그래프를 읽었습니다. users={} ({}ms)", following.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * (key, value) 순으로 정렬된 결과를 읽어 key 별 집합으로 만든다.
+     * 정렬되어 있으므로 key 가 바뀔 때마다 모은 배열을 그대로 집합으로 쓴다.
+     */
+    private void loadAdjacency(String sql, Map<Long, SortedLongSet> target) {
+        target.clear();
+        long[][] buffer = {new long[16]};
+        int[] length = {0};
+        long[] currentKey = {Long.MIN_VALUE};
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long key = rs.getLong(1);
+            long value = rs.getLong(2);
+            if (key != currentKey[0]) {
+                if (length[0] > 0) target.put(currentKey[0], SortedLongSet.ofSorted(buffer[0], length[0]));
+                buffer[0] = new long[16];
+                length[0] = 0;
+                currentKey[0] = key;
+            }
+            if (length[0] > 0 && buffer[0][length[0] - 1] == value) return;
+            if (length[0] == buffer[0].length) buffer[0] = Arrays.copyOf(buffer[0], length[0] * 2);
+            buffer[0][length[0]++] = value;
+        });
+        if (length[0] > 0) target.put(currentKey[0], SortedLongSet.ofSorted(buffer[0], length[0]));
+    }
+
+    private static SortedLongSet emptyToNull(SortedLongSet set) {
+        return set.isEmpty() ? null : set;
+    }
+}
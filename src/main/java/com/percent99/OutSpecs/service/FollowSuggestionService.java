@@ -0,0 +1,189 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.FollowSuggestionDTO;
+import com.percent99.OutSpecs.dto.ProfileDTO;
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.util.SortedLongSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "알 수도 있는 사람" 팔로우 추천 service 객체.<br>
+ * 내가 팔로우한 사람들이 팔로우한 사람(2단계) 중, 나를 기준으로 겹치는 팔로우 수(mutualCount)가 많은 순으로 추천한다.
+ * <ul>
+ *     <li>메모리의 팔로우 그래프({@link FollowGraphService})만 사용하고 DB 는 조회하지 않는다</li>
+ *     <li>유저당 상위 suggestion.size 명만 보관하며, 1단계 / 2단계 탐색 수를 제한해 계산량을 묶는다</li>
+ *     <li>주기적으로 전체를 다시 계산하고, 팔로우가 바뀐 유저는 그 사이에 따로 다시 계산한다</li>
+ * </ul>
+ * 조회 시에는 계산된 결과만 읽으며, 아직 계산되지 않은 유저는 다음 갱신 대상에 넣고 빈 목록을 반환한다.
+ */
+@Slf4j
+@Service
+public class FollowSuggestionService {
+
+    private final FollowGraphService followGraphService;
+    private final ProfileService profileService;
+    private final int suggestionSize;
+    private final int maxFolloweesScanned;
+    private final int maxSecondHopScanned;
+    private final int maxRefreshPerRun;
+
+    private final Map<Long, Suggestions> cache = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public FollowSuggestionService(FollowGraphService followGraphService,
+                                   ProfileService profileService,
+                                   @Value("${suggestion.size:10}") int suggestionSize,
+                                   @Value("${suggestion.max-followees-scanned:200}") int maxFolloweesScanned,
+                                   @Value("${suggestion.max-second-hop-scanned:500}") int maxSecondHopScanned,
+                                   @Value("${suggestion.max-refresh-per-run:1000}") int maxRefreshPerRun) {
+        this.followGraphService = followGraphService;
+        this.profileService = profileService;
+        this.suggestionSize = suggestionSize;
+        this.maxFolloweesScanned = maxFolloweesScanned;
+        this.maxSecondHopScanned = maxSecondHopScanned;
+        this.maxRefreshPerRun = maxRefreshPerRun;
+    }
+
+    /**
+     * 유저의 팔로우 추천 목록을 반환한다. 이미 팔로우한 사람과 프로필이 없는 사람은 제외된다.
+     * @param userId 유저 id
+     * @return mutualCount 내림차순 추천 목록
+     */
+    public List<FollowSuggestionDTO> getSuggestions(Long userId) {
+        Suggestions suggestions = cache.get(userId);
+        if (suggestions == null) {
+            dirty.add(userId);
+            return List.of();
+        }
+
+        SortedLongSet following = followGraphService.followingOf(userId);
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < suggestions.ids.length; i++) {
+            if (!following.contains(suggestions.ids[i])) counts.put(suggestions.ids[i], suggestions.counts[i]);
+        }
+        if (counts.isEmpty()) return List.of();
+
+        long[] ids = counts.keySet().stream().mapToLong(Long::longValue).toArray();
+        List<FollowSuggestionDTO> result = new ArrayList<>();
+        for (ProfileDTO profile : profileService.getProfiles(ids)) {
+            result.add(new FollowSuggestionDTO(profile, counts.get(profile.getUserId())));
+        }
+        return result;
+    }
+
+    /**
+     * 팔로우가 바뀐 유저와 그 유저의 팔로워(2단계가 바뀜)를 다시 계산할 대상에 넣는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        dirty.add(event.getFollowerId());
+        SortedLongSet followers = followGraphService.followersOf(event.getFollowerId());
+        int limit = Math.min(followers.size(), maxFolloweesScanned);
+        for (int i = 0; i < limit; i++) {
+            dirty.add(followers.get(i));
+        }
+    }
+
+    /**
+     * 다시 계산할 대상으로 표시된 유저를 최대 suggestion.max-refresh-per-run 명까지 계산한다.
+     */
+    @Scheduled(initialDelayString = "${suggestion.refresh-interval-ms:60000}",
+            fixedDelayString = "${suggestion.refresh-interval-ms:60000}")
+    public void refreshDirty() {
+        int refreshed = 0;
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && refreshed < maxRefreshPerRun) {
+            Long userId = iterator.next();
+            iterator.remove();
+            refresh(userId);
+            refreshed++;
+        }
+        if (refreshed > 0) log.debug("팔로우 추천 {}명을 다시 계산했습니다.", refreshed);
+    }
+
+    /**
+     * 팔로우 중인 모든 유저의 추천을 다시 계산한다.
+     */
+    @Scheduled(initialDelayString = "${suggestion.initial-delay-ms:30000}",
+            fixedDelayString = "${suggestion.rebuild-interval-ms:21600000}")
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        long[] userIds = followGraphService.usersWithFollowing();
+        Set<Long> active = new HashSet<>(userIds.length * 2);
+        for (long userId : userIds) {
+            refresh(userId);
+            active.add(userId);
+        }
+        // 더 이상 아무도 팔로우하지 않는 유저의 결과는 버린다
+        cache.keySet().retainAll(active);
+        log.info("팔로우 추천을 다시 계산했습니다. users={} ({}ms)", userIds.length, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 한 유저의 추천을 계산해 보관한다.
+     */
+    void refresh(Long userId) {
+        SortedLongSet following = followGraphService.followingOf(userId);
+        if (following.isEmpty()) {
+            cache.remove(userId);
+            return;
+        }
+
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+        int followeeLimit = Math.min(following.size(), maxFolloweesScanned);
+        for (int i = 0; i < followeeLimit; i++) {
+            SortedLongSet secondHop = followGraphService.followingOf(following.get(i));
+            int secondHopLimit = Math.min(secondHop.size(), maxSecondHopScanned);
+            for (int j = 0; j < secondHopLimit; j++) {
+                long candidate = secondHop.get(j);
+                if (candidate == userId || following.contains(candidate)) continue;
+                mutualCounts.merge(candidate, 1, Integer::sum);
+            }
+        }
+
+        cache.put(userId, topK(mutualCounts));
+    }
+
+    /**
+     * mutualCount 상위 suggestionSize 개를 고른다. 같으면 id 가 작은 쪽이 앞선다.
+     */
+    private Suggestions topK(Map<Long, Integer> mutualCounts) {
+        Comparator<Map.Entry<Long, Integer>> rank = Map.Entry.<Long, Integer>comparingByValue()
+                .reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        // 순위가 가장 낮은 항목이 head 에 오도록 한다
+        PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(suggestionSize + 1, rank.reversed());
+        for (Map.Entry<Long, Integer> entry : mutualCounts.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > suggestionSize) heap.poll();
+        }
+
+        List<Map.Entry<Long, Integer>> top = new ArrayList<>(heap);
+        top.sort(rank);
+        long[] ids = new long[top.size()];
+        int[] counts = new int[top.size()];
+        for (int i = 0; i < top.size(); i++) {
+            ids[i] = top.get(i).getKey();
+            counts[i] = top.get(i).getValue();
+        }
+        return new Suggestions(ids, counts);
+    }
+
+    private static final class Suggestions {
+        private final long[] ids;
+        private final int[] counts;
+
+        private Suggestions(long[] ids, int[] counts) {
+            this.ids = ids;
+            this.counts = counts;
+        }
+    }
+}
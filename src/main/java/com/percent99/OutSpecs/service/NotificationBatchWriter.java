@@ -0,0 +1,316 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.NotificationType;
+import com.percent99.OutSpecs.event.NotificationBatchEvent;
+import com.percent99.OutSpecs.event.NotificationEvent;
+import com.percent99.OutSpecs.service.NotificationCoalescer.CoalescedNotification;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋된 {@link NotificationEvent}를 모아 알림 테이블에 일괄 저장하는 service 객체.<br>
+ * <ul>
+ *     <li>이벤트는 요청 트랜잭션이 커밋된 뒤 제한된 크기의 큐에 넣기만 하며, 큐가 가득 차면 버린다(요청을 막지 않음)</li>
+ *     <li>notification.writer.flush-interval-ms 마다 큐를 비우며 보낸 사람 닉네임을 한 번에 조회하고 batch insert 한다</li>
+ *     <li>좋아요/팔로우 알림은 {@link NotificationCoalescer}로 묶어, 읽지 않은 기존 묶음 알림이 있으면 새로 넣지 않고 갱신한다</li>
+ *     <li>저장이 커밋된 알림은 NotificationPushService 로 받는 사람에게 실시간 전송한다</li>
+ *     <li>묶음 저장에 실패하면 한 건씩 다시 저장해, 문제 있는 알림 하나 때문에 나머지가 함께 실패하지 않게 한다</li>
+ *     <li>제약 조건 위반처럼 다시 시도해도 실패할 알림은 로그를 남기고 버리며,
+ *         그 밖의 실패는 지수 백오프로 다시 시도하고 max-attempts 를 넘기면 버린다</li>
+ *     <li>재시도 대기열은 메모리에만 있으므로 재기동 시 재시도 중인 알림은 사라진다</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class NotificationBatchWriter {
+
+    private static final long MAX_BACKOFF_MS = 60_000L;
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (receiver_id, sender_id, target_type, target_id, message, is_read, created_at,
+                                      aggregate_count, recent_sender_ids)
+            VALUES (?, ?, ?, ?, ?, false, ?, ?, ?)
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE notification
+            SET sender_id = ?, message = ?, aggregate_count = ?, recent_sender_ids = ?, created_at = ?, is_read = false
+            WHERE id = ?
+            """;
+    private static final String FIND_COALESCE_TARGETS_SQL = """
+            SELECT DISTINCT ON (receiver_id, target_type, target_id)
+                   id, receiver_id, target_type, target_id, sender_id, aggregate_count, recent_sender_ids
+            FROM notification
+            WHERE receiver_id IN (%s)
+              AND target_type IN ('FOLLOW', 'LIKE_POST', 'LIKE_COMMENT')
+              AND is_read = false
+              AND created_at >= ?
+            ORDER BY receiver_id, target_type, target_id, created_at DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileSummaryCache profileSummaryCache;
+    private final NotificationPushService notificationPushService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final BlockingQueue<PendingNotification> queue;
+    private final DelayQueue<PendingNotification> retryQueue = new DelayQueue<>();
+    private final LongAdder droppedCount = new LongAdder();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    public NotificationBatchWriter(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ProfileSummaryCache profileSummaryCache,
+                                   NotificationPushService notificationPushService,
+                                   NotificationCoalescer notificationCoalescer,
+                                   @Value("${notification.writer.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${notification.writer.batch-size:100}") int batchSize,
+                                   @Value("${notification.writer.max-attempts:5}") int maxAttempts,
+                                   @Value("${notification.writer.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.profileSummaryCache = profileSummaryCache;
+        this.notificationPushService = notificationPushService;
+        this.notificationCoalescer = notificationCoalescer;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    /**
+     * 알림 이벤트를 저장 대기열에 넣는다.<br>
+     * 발행한 트랜잭션이 롤백되면 호출되지 않으며, 트랜잭션 밖에서 발행된 경우 바로 호출된다.
+     * @param event 알림 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        if (!queue.offer(new PendingNotification(event))) {
+            droppedCount.increment();
+            log.warn("알림 대기열이 가득 차 알림을 버립니다. receiverId={}, type={}", event.getReceiverId(), event.getType());
+        }
+    }
+
+    /**
+     * 묶어서 발행된 알림 이벤트를 저장 대기열에 한꺼번에 넣는다. 대기열이 가득 차면 남은 알림은 버린다.
+     * @param event 알림 이벤트 묶음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationBatchEvent(NotificationBatchEvent event) {
+        List<NotificationEvent> events = event.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            if (!queue.offer(new PendingNotification(events.get(i)))) {
+                int dropped = events.size() - i;
+                droppedCount.add(dropped);
+                log.warn("알림 대기열이 가득 차 알림 {}건을 버립니다.", dropped);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 알림과 대기열의 알림을 저장한다.<br>
+     * 다른 백그라운드 작업에 밀리지 않도록 전용 스케줄러(notificationFlushScheduler)에서 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.writer.flush-interval-ms:500}", scheduler = "notificationFlushScheduler")
+    public void flush() {
+        PendingNotification retry;
+        while ((retry = retryQueue.poll()) != null) {
+            write(List.of(retry));
+        }
+
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        int remaining = queue.size() + retryQueue.size();
+        if (remaining > 0) {
+            log.warn("종료 시점에 저장하지 못한 알림 {}건을 버립니다.", remaining);
+        }
+    }
+
+    /**
+     * 대기 중인 알림 수 (재시도 대기 포함)
+     */
+    public int getPendingCount() {
+        return queue.size() + retryQueue.size();
+    }
+
+    /**
+     * 대기열 초과 또는 재시도 횟수 초과로 버려진 알림 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private void write(List<PendingNotification> batch) {
+        try {
+            insert(batch);
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                handleFailure(batch.get(0), e);
+                return;
+            }
+
+            log.warn("알림 {}건 묶음 저장에 실패했습니다. 한 건씩 다시 저장합니다.", batch.size(), e);
+            for (PendingNotification pending : batch) {
+                try {
+                    insert(List.of(pending));
+                } catch (DataAccessException rowFailure) {
+                    handleFailure(pending, rowFailure);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 건 저장에 실패한 알림을 처리한다. 제약 조건 위반은 다시 시도해도 실패하므로 바로 버린다.
+     */
+    private void handleFailure(PendingNotification pending, DataAccessException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            droppedCount.increment();
+            log.error("저장할 수 없는 알림을 버립니다. receiverId={}, senderId={}, type={}, targetId={}",
+                    pending.event.getReceiverId(), pending.event.getSenderId(), pending.event.getType(),
+                    pending.event.getTargetId(), e);
+            return;
+        }
+
+        log.warn("알림 저장에 실패했습니다. 재시도 대기열에 넣습니다. receiverId={}, type={}",
+                pending.event.getReceiverId(), pending.event.getType(), e);
+        scheduleRetry(pending);
+    }
+
+    private void insert(List<PendingNotification> batch) {
+        List<CoalescedNotification> rows = notificationCoalescer.coalesce(
+                batch.stream().map(pending -> pending.event).toList());
+
+        Set<Long> senderIds = rows.stream()
+                .map(CoalescedNotification::getSenderId)
+                .collect(Collectors.toSet());
+        Map<Long, String> nicknames = new HashMap<>();
+        profileSummaryCache.getAll(senderIds).forEach((id, profile) -> nicknames.put(id, profile.getNickname()));
+
+        List<String> messages = transactionTemplate.execute(status -> {
+            mergeExisting(rows);
+
+            List<String> result = new ArrayList<>(rows.size());
+            List<Object[]> inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            for (CoalescedNotification row : rows) {
+                String message = NotificationService.buildMessage(row.getType(), nicknames.get(row.getSenderId()), row.getCount());
+                String recentSenderIds = NotificationCoalescer.formatSenderIds(row.getRecentSenderIds());
+                Timestamp occurredAt = Timestamp.valueOf(row.getOccurredAt());
+                result.add(message);
+
+                if (row.isMerged()) {
+                    updates.add(new Object[]{
+                            row.getSenderId(), message, row.getCount(), recentSenderIds, occurredAt, row.getExistingId()
+                    });
+                } else {
+                    inserts.add(new Object[]{
+                            row.getReceiverId(), row.getSenderId(), row.getType().name(), row.getTargetId(),
+                            message, occurredAt, row.getCount(), recentSenderIds
+                    });
+                }
+            }
+
+            if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            return result;
+        });
+
+        for (int i = 0; i < rows.size(); i++) {
+            CoalescedNotification row = rows.get(i);
+            notificationPushService.pushCreated(row.getReceiverId(), row.getType(), messages.get(i),
+                    row.getTargetId(), row.getOccurredAt(), !row.isMerged());
+        }
+    }
+
+    /**
+     * 묶을 수 있는 알림마다 coalesce window 안의 읽지 않은 기존 묶음 알림을 찾아 합친다.<br>
+     * 받는 사람 목록으로 한 번에 조회하며, 기존 알림은 (받는 사람, 타입, 대상)별 가장 최근 것 하나만 사용한다.
+     */
+    private void mergeExisting(List<CoalescedNotification> rows) {
+        Map<List<Object>, CoalescedNotification> coalescible = rows.stream()
+                .filter(row -> row.getType().isCoalescible())
+                .collect(Collectors.toMap(row -> List.<Object>of(row.getReceiverId(), row.getType(), row.getTargetId()), row -> row));
+        if (coalescible.isEmpty()) return;
+
+        Set<Long> receiverIds = coalescible.values().stream()
+                .map(CoalescedNotification::getReceiverId)
+                .collect(Collectors.toSet());
+        List<Object> params = new ArrayList<>(receiverIds);
+        params.add(Timestamp.valueOf(LocalDateTime.now().minus(notificationCoalescer.getWindow())));
+
+        jdbcTemplate.query(FIND_COALESCE_TARGETS_SQL.formatted(String.join(", ", Collections.nCopies(receiverIds.size(), "?"))),
+                rs -> {
+                    CoalescedNotification row = coalescible.get(List.of(
+                            rs.getLong("receiver_id"), NotificationType.valueOf(rs.getString("target_type")), rs.getLong("target_id")));
+                    if (row == null) return;
+
+                    row.mergeInto(rs.getLong("id"), rs.getObject("aggregate_count", Integer.class),
+                            NotificationCoalescer.parseSenderIds(rs.getString("recent_sender_ids"), rs.getLong("sender_id")));
+                },
+                params.toArray());
+    }
+
+    private void scheduleRetry(PendingNotification pending) {
+        pending.attempts++;
+        if (pending.attempts >= maxAttempts) {
+            droppedCount.increment();
+            log.error("알림 저장을 {}회 실패하여 버립니다. receiverId={}, type={}, targetId={}",
+                    pending.attempts, pending.event.getReceiverId(), pending.event.getType(), pending.event.getTargetId());
+            return;
+        }
+
+        long backoff = Math.min(MAX_BACKOFF_MS, retryBackoffMs << (pending.attempts - 1));
+        pending.retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff);
+        retryQueue.offer(pending);
+    }
+
+    /**
+     * 저장 대기 중인 알림과 시도 횟수
+     */
+    private static final class PendingNotification implements Delayed {
+        private final NotificationEvent event;
+        private int attempts;
+        private long retryAt;
+
+        private PendingNotification(NotificationEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(retryAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(retryAt, ((PendingNotification) other).retryAt);
+        }
+    }
+}
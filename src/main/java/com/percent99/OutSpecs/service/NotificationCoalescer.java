@@ -0,0 +1,160 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.NotificationType;
+import com.percent99.OutSpecs.event.NotificationEvent;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 받는 사람에게 같은 대상으로 발생한 좋아요/팔로우 알림을 하나의 묶음 알림으로 합치는 객체.<br>
+ * <ul>
+ *     <li>묶는 기준은 (받는 사람, 알림 타입, 대상 id) 이며 {@link NotificationType#isCoalescible()} 인 타입만 묶는다</li>
+ *     <li>묶음 알림은 인원 수(aggregate_count)와 최근 보낸 사람 id 최대 notification.coalesce.recent-senders 명을 가진다</li>
+ *     <li>이미 반응한 유저의 중복 좋아요/팔로우는 uk_user_target_reaction 에 막혀 추가되지 않으므로
+ *         ({@link com.percent99.OutSpecs.dto.ReactionToggleResult#isAdded()} 가 false) 알림 이벤트 자체가 발생하지 않는다</li>
+ *     <li>최근 보낸 사람 목록은 표시용으로 몇 명만 유지하며, 그 안의 유저가 다시 보낸 경우(좋아요 취소 후 재등록 등) 인원 수를 늘리지 않는다</li>
+ * </ul>
+ */
+@Component
+public class NotificationCoalescer {
+
+    private final Duration window;
+    private final int recentSenderLimit;
+
+    public NotificationCoalescer(@Value("${notification.coalesce.window-minutes:1440}") long windowMinutes,
+                                 @Value("${notification.coalesce.recent-senders:3}") int recentSenderLimit) {
+        this.window = Duration.ofMinutes(windowMinutes);
+        this.recentSenderLimit = recentSenderLimit;
+    }
+
+    /**
+     * 마지막 알림 이후 이 시간 안에 발생한 알림만 기존 묶음에 합친다.
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * 이벤트 목록을 묶음 단위로 합친다. 결과 순서는 각 묶음의 첫 이벤트 순서를 따른다.
+     * @param events 알림 이벤트 목록
+     * @return 저장할 알림 목록
+     */
+    public List<CoalescedNotification> coalesce(List<NotificationEvent> events) {
+        List<CoalescedNotification> result = new ArrayList<>();
+        Map<List<Object>, CoalescedNotification> groups = new HashMap<>();
+
+        for (NotificationEvent event : events) {
+            if (!event.getType().isCoalescible()) {
+                result.add(new CoalescedNotification(event, recentSenderLimit));
+                continue;
+            }
+
+            List<Object> key = List.of(event.getReceiverId(), event.getType(), event.getTargetId());
+            CoalescedNotification group = groups.get(key);
+            if (group == null) {
+                group = new CoalescedNotification(event, recentSenderLimit);
+                groups.put(key, group);
+                result.add(group);
+            } else {
+                group.add(event.getSenderId(), event.getOccurredAt());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 보낸 사람 id 목록을 저장 형식("3,2,1", 최신순)으로 변환
+     */
+    public static String formatSenderIds(Collection<Long> senderIds) {
+        return senderIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 저장 형식의 최근 보낸 사람 id 목록을 읽는다.
+     * @param senderIds 저장된 값 (nullable)
+     * @param fallbackSenderId 값이 없을 때(묶음 도입 전 알림) 사용할 보낸 사람 id
+     */
+    public static List<Long> parseSenderIds(String senderIds, Long fallbackSenderId) {
+        if (senderIds == null || senderIds.isBlank()) {
+            return fallbackSenderId == null ? new ArrayList<>() : new ArrayList<>(List.of(fallbackSenderId));
+        }
+        return Arrays.stream(senderIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * 한 건으로 저장될 알림 (묶음 알림 포함)
+     */
+    @Getter
+    public static final class CoalescedNotification {
+        private final Long receiverId;
+        private final NotificationType type;
+        private final Long targetId;
+        private final int recentSenderLimit;
+        private final LinkedList<Long> recentSenderIds = new LinkedList<>();
+        private Long senderId;
+        private LocalDateTime occurredAt;
+        private int count;
+        private Long existingId;
+
+        private CoalescedNotification(NotificationEvent event, int recentSenderLimit) {
+            this.receiverId = event.getReceiverId();
+            this.type = event.getType();
+            this.targetId = event.getTargetId();
+            this.recentSenderLimit = recentSenderLimit;
+            add(event.getSenderId(), event.getOccurredAt());
+        }
+
+        private void add(Long sender, LocalDateTime at) {
+            if (!recentSenderIds.remove(sender)) {
+                count++;
+            }
+            recentSenderIds.addFirst(sender);
+            trim(recentSenderIds);
+
+            if (occurredAt == null || !at.isBefore(occurredAt)) {
+                occurredAt = at;
+                senderId = sender;
+            }
+        }
+
+        /**
+         * 이미 저장되어 있는 묶음 알림에 이번 알림들을 합친다.
+         * @param id 기존 알림 id
+         * @param existingCount 기존 인원 수 (nullable, 묶음 도입 전 알림은 1)
+         * @param existingSenderIds 기존 최근 보낸 사람 id 목록 (최신순)
+         */
+        public void mergeInto(Long id, Integer existingCount, List<Long> existingSenderIds) {
+            LinkedList<Long> merged = new LinkedList<>(existingSenderIds);
+            int overlap = 0;
+            for (Iterator<Long> it = recentSenderIds.descendingIterator(); it.hasNext(); ) {
+                Long sender = it.next();
+                if (merged.remove(sender)) overlap++;
+                merged.addFirst(sender);
+            }
+            trim(merged);
+
+            this.existingId = id;
+            this.count = (existingCount == null ? 1 : existingCount) + count - overlap;
+            this.recentSenderIds.clear();
+            this.recentSenderIds.addAll(merged);
+        }
+
+        public boolean isMerged() {
+            return existingId != null;
+        }
+
+        private void trim(LinkedList<Long> senders) {
+            while (senders.size() > recentSenderLimit) senders.removeLast();
+        }
+    }
+}
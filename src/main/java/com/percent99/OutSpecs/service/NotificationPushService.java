@@ -0,0 +1,131 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.NotificationPushDTO;
+import com.percent99.OutSpecs.entity.NotificationType;
+import com.percent99.OutSpecs.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 새 알림을 STOMP 로 실시간 전송하고, 유저별 읽지 않은 알림 수를 메모리에 유지하는 service 객체.<br>
+ * <ul>
+ *     <li>알림은 /queue/users/{userId}/notifications 로 전송된다</li>
+ *     <li>읽지 않은 알림 수는 처음 조회할 때 DB에서 한 번 읽고, 이후에는 알림 저장/읽음/삭제 시 메모리에서 갱신한다</li>
+ *     <li>최대 notification.unread-cache.max-size 명까지 보관하고, 넘치면 가장 오래 읽지 않은 유저부터 버린다 (LRU)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    public static final String DESTINATION_SUFFIX = "/notifications";
+
+    private final NotificationRepository notificationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<Long, AtomicLong> unreadCounts;
+
+    public NotificationPushService(NotificationRepository notificationRepository,
+                                   SimpMessagingTemplate messagingTemplate,
+                                   @Value("${notification.unread-cache.max-size:10000}") int maxSize) {
+        this.notificationRepository = notificationRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.unreadCounts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AtomicLong> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 유저의 읽지 않은 알림 수
+     * @param userId 유저 id
+     * @return 읽지 않은 알림 수
+     */
+    public long getUnreadCount(Long userId) {
+        AtomicLong counter = unreadCounts.get(userId);
+        if (counter != null) return counter.get();
+
+        // DB 조회 동안 맵을 잠그지 않도록 밖에서 읽고, 그 사이 다른 요청이 넣었다면 그쪽을 사용
+        AtomicLong loaded = new AtomicLong(notificationRepository.countUnreadByReceiverId(userId));
+        AtomicLong existing = unreadCounts.putIfAbsent(userId, loaded);
+        return (existing != null ? existing : loaded).get();
+    }
+
+    /**
+     * 메모리에 보관 중인 유저 수
+     */
+    public int getCachedUserCount() {
+        return unreadCounts.size();
+    }
+
+    /**
+     * 저장이 커밋된 새 알림을 받는 사람에게 전송한다.
+     * @param receiverId 받는 사람 id
+     * @param type 알림 타입
+     * @param message 알림 메세지
+     * @param targetId 알림 대상 id
+     * @param createdAt 알림 생성 시각
+     * @param newUnread 읽지 않은 알림이 새로 생겼는지 여부 (기존 묶음 알림에 합쳐진 경우 false)
+     */
+    public void pushCreated(Long receiverId, NotificationType type, String message, Long targetId,
+                            LocalDateTime createdAt, boolean newUnread) {
+        AtomicLong counter = unreadCounts.get(receiverId);
+        // 아직 캐시되지 않았다면 커밋된 알림까지 포함해 DB에서 읽어온다
+        long unreadCount = (counter == null) ? getUnreadCount(receiverId)
+                : (newUnread ? counter.incrementAndGet() : counter.get());
+        send(receiverId, new NotificationPushDTO(type, message, targetId, createdAt, unreadCount));
+    }
+
+    /**
+     * 모든 알림을 읽음 처리했을 때 개수를 0으로 맞추고 열려 있는 다른 화면에도 알린다.
+     * @param receiverId 받는 사람 id
+     */
+    public void markAllRead(Long receiverId) {
+        unreadCounts.put(receiverId, new AtomicLong());
+        send(receiverId, new NotificationPushDTO(null, null, null, null, 0));
+    }
+
+    /**
+     * 읽지 않은 알림이 삭제되었을 때 개수를 줄인다.
+     * @param receiverId 받는 사람 id
+     */
+    public void unreadRemoved(Long receiverId) {
+        unreadRemoved(receiverId, 1);
+    }
+
+    /**
+     * 읽지 않은 알림 여러 건이 읽음 처리되거나 삭제되었을 때 개수를 줄이고 전송한다.
+     * @param receiverId 받는 사람 id
+     * @param removed 줄어든 개수
+     */
+    public void unreadRemoved(Long receiverId, int removed) {
+        if (removed <= 0) return;
+
+        AtomicLong counter = unreadCounts.computeIfPresent(receiverId, (id, current) -> {
+            current.updateAndGet(count -> Math.max(0, count - removed));
+            return current;
+        });
+        if (counter != null) {
+            send(receiverId, new NotificationPushDTO(null, null, null, null, counter.get()));
+        }
+    }
+
+    private void send(Long receiverId, NotificationPushDTO dto) {
+        try {
+            messagingTemplate.convertAndSend("/queue/users/" + receiverId + DESTINATION_SUFFIX, dto);
+        } catch (MessagingException e) {
+            log.warn("실시간 알림 전송에 실패했습니다. receiverId={}", receiverId, e);
+        }
+    }
+}
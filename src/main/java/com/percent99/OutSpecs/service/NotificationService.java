@@ -1,15 +1,18 @@
 package com.percent99.OutSpecs.service;
 
+import com.percent99.OutSpecs.dto.NotificationDTO;
+import com.percent99.OutSpecs.dto.ProfileSummary;
 import com.percent99.OutSpecs.entity.Notification;
 import com.percent99.OutSpecs.entity.NotificationType;
-import com.percent99.OutSpecs.entity.Profile;
 import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.repository.NotificationRepository;
-import com.percent99.OutSpecs.repository.ProfileRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,9 +24,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final String DEFAULT_MESSAGE = "새로운 알림이 도착했습니다.";
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final ProfileRepository profileRepository;
+    private final ProfileSummaryCache profileSummaryCache;
+    private final NotificationPushService notificationPushService;
 
     /**
      * 알림 보내기
@@ -49,6 +55,8 @@ public class NotificationService {
         notification.setMessage(message);
         notification.setIsRead(false);
         notification.setCreatedAt(LocalDateTime.now());
+        notification.setAggregateCount(1);
+        notification.setRecentSenderIds(String.valueOf(sender.getId()));
 
         notificationRepository.save(notification);
     }
@@ -60,17 +68,42 @@ public class NotificationService {
      * @return 타입별 메세지
      */
     private String getMessage(NotificationType type, User sender) {
-        Profile profile = profileRepository.findById(sender.getId())
-                .orElseThrow(()-> new EntityNotFoundException("해당 유저의 프로필이 존재하지 않습니다."));
+        ProfileSummary profile = profileSummaryCache.get(sender.getId());
+        if (profile == null) throw new EntityNotFoundException("해당 유저의 프로필이 존재하지 않습니다.");
+
+        return buildMessage(type, profile.getNickname());
+    }
+
+    /**
+     * 알림 타입과 보낸 사람 닉네임으로 메세지를 만든다.<br>
+     * 닉네임이 없으면(프로필 미작성, 탈퇴 등) 닉네임이 들어가는 알림은 기본 메세지로 대체한다.
+     * @param type 알림 타입
+     * @param nickname 보내는 사람 닉네임 (nullable)
+     * @return 타입별 메세지
+     */
+    static String buildMessage(NotificationType type, String nickname) {
+        return buildMessage(type, nickname, 1);
+    }
+
+    /**
+     * 묶음 알림 메세지를 만든다. ex) "홍길동님 외 3명이 게시글을 좋아했습니다."
+     * @param type 알림 타입
+     * @param nickname 가장 최근에 보낸 사람 닉네임 (nullable)
+     * @param count 묶음 알림에 포함된 인원 수
+     * @return 타입별 메세지
+     */
+    static String buildMessage(NotificationType type, String nickname, int count) {
+        String who = (nickname == null) ? null
+                : (count > 1 ? nickname + "님 외 " + (count - 1) + "명이" : nickname + "님이");
 
         return switch (type) {
-            case APPLY -> profile.getNickname() + "님이 팀 모집에 신청했습니다.";
             case ACCEPTED -> "팀 모집 신청이 수락되었습니다.";
             case REJECTED -> "팀 모집 신청이 거절되었습니다.";
-            case FOLLOW -> profile.getNickname() + "님이 당신을 팔로우했습니다.";
-            case LIKE_POST -> profile.getNickname() + "님이 게시글을 좋아했습니다.";
-            case LIKE_COMMENT -> profile.getNickname() + "님이 댓글을 좋아했습니다.";
-            default -> "새로운 알림이 도착했습니다.";
+            case APPLY -> who == null ? DEFAULT_MESSAGE : who + " 팀 모집에 신청했습니다.";
+            case FOLLOW -> who == null ? DEFAULT_MESSAGE : who + " 당신을 팔로우했습니다.";
+            case LIKE_POST -> who == null ? DEFAULT_MESSAGE : who + " 게시글을 좋아했습니다.";
+            case LIKE_COMMENT -> who == null ? DEFAULT_MESSAGE : who + " 댓글을 좋아했습니다.";
+            default -> DEFAULT_MESSAGE;
         };
     }
 
@@ -79,10 +112,41 @@ public class NotificationService {
                 .orElseThrow(()-> new EntityNotFoundException("해당 알림이 없습니다."));
     }
 
-    public List<Notification> getAllNotification(User receiver) {
-        profileRepository.findById(receiver.getId())
-                .orElseThrow(()-> new EntityNotFoundException("해당 유저의 프로필이 존재하지 않습니다."));
-        return notificationRepository.findByReceiverId(receiver);
+    /**
+     * 받는 사람의 알림을 커서 기반으로 한 페이지 조회한다.<br>
+     * 커서가 없으면 가장 최근 알림부터 조회한다.<br>
+     * 묶음 알림은 새 알림이 합쳐질 때마다 created_at 이 앞당겨지므로, 다음 페이지를 읽는 사이 합쳐진 알림은 커서 위로 올라가
+     * 이어지는 페이지에는 나오지 않는다. 합쳐진 알림은 실시간 전송(읽지 않은 수)으로 알리고 첫 페이지를 다시 읽으면 맨 위에 보인다.
+     * 이미 받은 알림이 다시 내려올 수 있으므로 화면에서는 id 로 중복을 거른다.
+     * @param receiverId 받는 사람 id
+     * @param cursorAt 이전 페이지 마지막 알림의 생성 시각 (nullable)
+     * @param cursorId 이전 페이지 마지막 알림의 id (nullable)
+     * @param unreadOnly 읽지 않은 알림만 조회할지 여부
+     * @param size 조회 개수
+     * @return 최신순 알림 목록
+     */
+    public List<NotificationDTO> getNotificationPage(Long receiverId, LocalDateTime cursorAt, Long cursorId,
+                                                     boolean unreadOnly, int size) {
+        if (receiverId == null || size <= 0) return List.of();
+
+        if (cursorAt == null || cursorId == null) {
+            cursorAt = LocalDateTime.of(9999, 12, 31, 0, 0);
+            cursorId = Long.MAX_VALUE;
+        }
+
+        Pageable pageable = PageRequest.of(0, size);
+        return unreadOnly
+                ? notificationRepository.findUnreadPage(receiverId, cursorAt, cursorId, pageable)
+                : notificationRepository.findPage(receiverId, cursorAt, cursorId, pageable);
+    }
+
+    /**
+     * 받는 사람의 읽지 않은 알림 수 (메모리에 유지되는 값)
+     * @param receiverId 받는 사람 id
+     * @return 읽지 않은 알림 수
+     */
+    public long getUnreadCount(Long receiverId) {
+        return notificationPushService.getUnreadCount(receiverId);
     }
 
     public void deleteNotification(Long receiverId, Long id) {
@@ -92,5 +156,34 @@ public class NotificationService {
             throw new IllegalArgumentException("알림을 받는 유저가 아닙니다.");
         }
         notificationRepository.deleteById(id);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notificationPushService.unreadRemoved(receiverId);
+        }
+    }
+
+    /**
+     * 받는 사람의 모든 알림을 읽음 처리하고 읽지 않은 알림 수를 0으로 맞춘다.
+     * @param receiverId 받는 사람 id
+     */
+    @Transactional
+    public void markAllAsRead(Long receiverId) {
+        notificationRepository.markAllAsRead(receiverId);
+        notificationPushService.markAllRead(receiverId);
+    }
+
+    /**
+     * 받는 사람의 until 시각까지의 알림을 한 번에 읽음 처리한다.
+     * @param receiverId 받는 사람 id
+     * @param until 이 시각 이전(포함)에 생성된 알림까지 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markReadUntil(Long receiverId, LocalDateTime until) {
+        if (until == null) {
+            throw new IllegalArgumentException("읽음 처리할 기준 시각이 없습니다.");
+        }
+        int updated = notificationRepository.markReadUntil(receiverId, until);
+        notificationPushService.unreadRemoved(receiverId, updated);
+        return updated;
     }
 }
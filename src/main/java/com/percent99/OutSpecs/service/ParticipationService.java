@@ -1,18 +1,28 @@
 package com.percent99.OutSpecs.service;
 
+import com.percent99.OutSpecs.dto.ApplicantDTO;
 import com.percent99.OutSpecs.dto.ParticipationDTO;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.NotificationBatchEvent;
+import com.percent99.OutSpecs.event.NotificationEvent;
 import com.percent99.OutSpecs.repository.ParticipationRepository;
 import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.repository.PostTeamInformationRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -22,16 +32,20 @@ import java.util.List;
  *     <li>모든 쓰기 메세드에 @Transactional 적용하고, 읽기 메서드에 @Transactional를 사용하지않는다.</li>
  *     <li>외부 API를 사용할경우 외부 API 부분을 제외한 부분에서 @Transactional를 사용한다.</li>
  *     <li>존재하지 않는 댓글 조회시 EntityNotFoundException를 던진다.</li>
+ *     <li>신청 / 수락 인원은 PostTeamInformation 의 인원 수를 조건부 UPDATE 로 증감해 동시 요청에도 모집 인원을 넘지 않는다.</li>
  * </ul>
  */
 @Service
 @RequiredArgsConstructor
 public class ParticipationService {
+    /** 모집 인원 외에 더 받을 수 있는 신청 수 */
+    private static final int EXTRA_APPLICATIONS = 5;
 
     private final ParticipationRepository participationRepository;
+    private final PostTeamInformationRepository postTeamInformationRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 팀 모집 신청을 생성한다.
@@ -52,12 +66,13 @@ public class ParticipationService {
         if(post.getTeamInfo().getStatus().equals(PostStatus.CLOSED)) {
             throw new IllegalStateException("모집이 완료되었습니다.");
         }
-        if(countParticipation(post.getId()) >= post.getTeamInfo().getCapacity() + 5) {
-            throw new IllegalStateException("모집신청인원이 많아 신청이 불가합니다.");
-        }
         if (getParticipationByUserId(user.getId(), post.getId()) != null) {
             throw new EntityExistsException("해당 게시글에 해당 유저가 이미 신청한 정보가 있습니다.");
         }
+        // 모집 중이고 신청 인원이 남아 있을 때만 한 자리를 차지한다
+        if(postTeamInformationRepository.reserveApplication(post.getId(), EXTRA_APPLICATIONS).isEmpty()) {
+            throw new IllegalStateException("모집이 마감되었거나 모집신청인원이 많아 신청이 불가합니다.");
+        }
 
         Participation participation = new Participation();
         participation.setUser(user);
@@ -66,8 +81,8 @@ public class ParticipationService {
         participation.setAppliedAt(LocalDateTime.now());
         Participation saved = participationRepository.save(participation);
 
-        //알림 발송
-        notificationService.sendNotification(user, post.getUser(), NotificationType.APPLY, post.getId());
+        //알림 발송 (커밋 후 NotificationBatchWriter 가 저장)
+        eventPublisher.publishEvent(new NotificationEvent(user.getId(), post.getUser().getId(), NotificationType.APPLY, post.getId()));
 
         return saved;
     }
@@ -85,32 +100,99 @@ public class ParticipationService {
 
     /**
      * ID로 Participation 정보를 수정한다. <br>
-     * 팀 신청 수락 시, 모집인원 다 차면 모집완료로 상태 변경한다. <br>
+     * 수락 시 수락 인원을 늘리며, 모집인원이 다 차면 같은 UPDATE 에서 모집완료로 상태 변경한다. <br>
+     * 수락된 신청을 다른 상태로 바꾸면 수락 인원을 줄인다.
      * @param id 수정할 Participation의 ID
      * @param dto 수정할 내용이 담긴 DTO
      * @return 수정된 Participation 엔티티
+     * @throws IllegalStateException 모집이 마감되었거나 모집인원이 이미 다 찼거나, 다른 요청이 먼저 상태를 바꾼 경우
      */
     @Transactional
     public Participation updateParticipation(Long id, ParticipationDTO dto) {
         Participation participation = getParticipationById(id);
         Post post = postRepository.findById(participation.getPost().getId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 게시글 정보가 발견되지않았습니다."));
-        participation.setStatus(dto.getStatus());
-        Participation saved = participationRepository.save(participation);
 
-        if(saved.getStatus().equals(ParticipationStatus.ACCEPTED)
-                && (countAcceptedParticipation(post.getId()) == post.getTeamInfo().getCapacity())) {
-            post.getTeamInfo().setStatus(PostStatus.CLOSED);
+        ParticipationStatus previous = participation.getStatus();
+        ParticipationStatus next = dto.getStatus();
+        if(previous != next) {
+            if(participationRepository.updateStatus(id, previous, next) == 0) {
+                throw new IllegalStateException("신청 상태가 이미 변경되었습니다.");
+            }
+            if(next == ParticipationStatus.ACCEPTED) {
+                String teamStatus = postTeamInformationRepository.acceptOne(post.getId())
+                        .orElseThrow(() -> new IllegalStateException("모집이 마감되었거나 모집인원이 모두 찼습니다."));
+                post.getTeamInfo().setStatus(PostStatus.valueOf(teamStatus));
+            } else if(previous == ParticipationStatus.ACCEPTED) {
+                postTeamInformationRepository.releaseAccepted(post.getId());
+            }
+            participation.setStatus(next);
         }
 
         // 알림 발송
-        if(saved.getStatus().equals(ParticipationStatus.REJECTED)) {
-            notificationService.sendNotification(post.getUser(), participation.getUser(), NotificationType.REJECTED, participation.getId());
-        } else if(saved.getStatus().equals(ParticipationStatus.ACCEPTED)) {
-            notificationService.sendNotification(post.getUser(), participation.getUser(), NotificationType.ACCEPTED, participation.getId());
+        if(next == ParticipationStatus.REJECTED) {
+            eventPublisher.publishEvent(new NotificationEvent(post.getUser().getId(), participation.getUser().getId(), NotificationType.REJECTED, participation.getId()));
+        } else if(next == ParticipationStatus.ACCEPTED) {
+            eventPublisher.publishEvent(new NotificationEvent(post.getUser().getId(), participation.getUser().getId(), NotificationType.ACCEPTED, participation.getId()));
         }
 
-        return saved;
+        return participation;
+    }
+
+    /**
+     * 게시글 작성자가 신청자 목록을 신청 순으로 페이지 조회한다. 신청자의 유저 / 프로필 정보를 한 번에 읽는다.
+     * @param ownerId 요청한 유저 ID (게시글 작성자여야 한다)
+     * @param postId 팀모집 게시글 ID
+     * @param status 조회할 신청 상태 (null 이면 전체)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 신청자 페이지
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicantDTO> getApplicants(Long ownerId, Long postId, ParticipationStatus status, int page, int size) {
+        getOwnedTeamPost(ownerId, postId);
+        Collection<ParticipationStatus> statuses = status == null
+                ? EnumSet.allOf(ParticipationStatus.class)
+                : EnumSet.of(status);
+        return participationRepository.findApplicants(postId, statuses, PageRequest.of(page, size));
+    }
+
+    /**
+     * 대기 중인 신청을 한 번에 수락한다. <br>
+     * 남은 모집인원보다 많이 선택하면 먼저 신청한 순으로 남은 인원만큼만 수락하고, 모집인원이 다 차면 모집완료로 바꾼다. <br>
+     * 수락 알림은 한 번에 묶어서 발행한다.
+     * @param ownerId 요청한 유저 ID (게시글 작성자여야 한다)
+     * @param postId 팀모집 게시글 ID
+     * @param participationIds 수락할 신청 ID 목록
+     * @return 실제로 수락된 신청 수
+     */
+    @Transactional
+    public int acceptApplicants(Long ownerId, Long postId, List<Long> participationIds) {
+        Post post = getOwnedTeamPost(ownerId, postId);
+        if(participationIds == null || participationIds.isEmpty()) return 0;
+
+        List<ParticipationRepository.ChangedApplicant> accepted =
+                participationRepository.acceptPending(postId, new LinkedHashSet<>(participationIds));
+        publishStatusNotifications(post, accepted, NotificationType.ACCEPTED);
+        return accepted.size();
+    }
+
+    /**
+     * 대기 중인 신청을 한 번에 거절한다. 거절 알림은 한 번에 묶어서 발행한다.
+     * @param ownerId 요청한 유저 ID (게시글 작성자여야 한다)
+     * @param postId 팀모집 게시글 ID
+     * @param participationIds 거절할 신청 ID 목록
+     * @return 실제로 거절된 신청 수
+     */
+    @Transactional
+    public int rejectApplicants(Long ownerId, Long postId, List<Long> participationIds) {
+        Post post = getOwnedTeamPost(ownerId, postId);
+        if(participationIds == null || participationIds.isEmpty()) return 0;
+
+        List<ParticipationRepository.ChangedApplicant> rejected =
+                participationRepository.rejectPending(postId, new LinkedHashSet<>(participationIds));
+        publishStatusNotifications(post, rejected, NotificationType.REJECTED);
+        return rejected.size();
     }
 
     /**
@@ -128,14 +210,9 @@ public class ParticipationService {
      * @param postId 해당 팀 공고
      * @return 현재 모집된 인원 수
      */
+    @Transactional(readOnly = true)
     public int countAcceptedParticipation(Long postId) {
-        List<Participation> participations = getParticipationByPostId(postId);
-        int count = 0;
-
-        for(Participation partic : participations) {
-            if(partic.getStatus().equals(ParticipationStatus.ACCEPTED)) count++;
-        }
-        return count;
+        return postTeamInformationRepository.findAcceptedCount(postId).orElse(0);
     }
 
     /**
@@ -143,8 +220,9 @@ public class ParticipationService {
      * @param postId 해당 팀 공고
      * @return 모집신청 현황
      */
+    @Transactional(readOnly = true)
     public int countParticipation(Long postId) {
-        return (int)participationRepository.countByPostId(postId);
+        return postTeamInformationRepository.findAppliedCount(postId).orElse(0);
     }
 
 
@@ -186,9 +264,36 @@ public class ParticipationService {
      */
     @Transactional
     public void deleteParticipation(Long id) {
-        if(!participationRepository.existsById(id)){
-            throw new EntityNotFoundException("해당 신청 정보가없습니다.");
+        Participation participation = participationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("해당 신청 정보가없습니다."));
+        Long postId = participation.getPost().getId();
+
+        // 동시에 삭제된 경우 한 번만 인원 수를 줄인다
+        if(participationRepository.deleteByIdReturningCount(id) == 0) return;
+        postTeamInformationRepository.releaseApplication(postId);
+        if(participation.getStatus() == ParticipationStatus.ACCEPTED) {
+            postTeamInformationRepository.releaseAccepted(postId);
+        }
+    }
+
+    private Post getOwnedTeamPost(Long ownerId, Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 게시글 정보가 발견되지않았습니다."));
+        if(post.getType() != PostType.TEAM) {
+            throw new IllegalArgumentException("팀모집 게시글이 아닙니다.");
+        }
+        if(!post.getUser().getId().equals(ownerId)) {
+            throw new IllegalArgumentException("신청자 관리는 게시글 작성자만 할 수 있습니다.");
         }
-        participationRepository.deleteById(id);
+        return post;
+    }
+
+    private void publishStatusNotifications(Post post, List<ParticipationRepository.ChangedApplicant> changed,
+                                            NotificationType type) {
+        if(changed.isEmpty()) return;
+        List<NotificationEvent> events = changed.stream()
+                .map(c -> new NotificationEvent(post.getUser().getId(), c.getUserId(), type, c.getId()))
+                .toList();
+        eventPublisher.publishEvent(new NotificationBatchEvent(events));
     }
 }
\ No newline at end of file
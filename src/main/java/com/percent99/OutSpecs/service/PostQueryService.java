@@ -2,19 +2,25 @@ package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.*;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
 import com.percent99.OutSpecs.repository.CommentRepository;
 import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.repository.PostTeamInformationRepository;
 import com.percent99.OutSpecs.repository.ReactionRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -29,7 +35,12 @@ public class PostQueryService {
     private final PostRepository postRepository;
     private final ReactionRepository reactionRepository;
     private final CommentRepository commentRepository;
+    private final PostTeamInformationRepository postTeamInformationRepository;
     private final ParticipationService participationService;
+    private final ReportQueueService reportQueueService;
+    private final TrendingService trendingService;
+    private final ProfileSummaryCache profileSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ID로 게시글을 조회한다.
@@ -50,14 +61,26 @@ public class PostQueryService {
     }
 
     /**
-     * 조회수 1 증가 후 게시글 조회
+     * 조회수 1 증가 후 게시글 조회<br>
+     * 신고로 숨겨진 글은 작성자와 관리자만 볼 수 있고, 그 외에는 없는 글로 처리한다 (조회수도 롤백된다).
      * @param postId 조회할 게시글 ID
+     * @param viewer 조회하는 유저 (비로그인이면 null)
      * @return 조회된 post 엔티티
      */
     @Transactional
-    public Post getPostAndIncreaseViewCount(Long postId) {
+    public Post getPostAndIncreaseViewCount(Long postId, User viewer) {
         postRepository.increaseViewCount(postId);
-        return getPostById(postId);
+        Post post = getPostById(postId);
+        if (reportQueueService.isHidden(postId) && !canViewHidden(post, viewer)) {
+            throw new EntityNotFoundException("해당 게시물은 존재하지않습니다.");
+        }
+        eventPublisher.publishEvent(new PostEngagementEvent(post.getId(), post.getType(), PostEngagementEvent.Kind.VIEW, 1));
+        return post;
+    }
+
+    private boolean canViewHidden(Post post, User viewer) {
+        if (viewer == null) return false;
+        return viewer.getRole() == UserRoleType.ADMIN || post.getUser().getId().equals(viewer.getId());
     }
 
 
@@ -128,6 +151,43 @@ public class PostQueryService {
         return postRepository.findByTypeOrderByLike(type, pageable);
     }
 
+    /**
+     * 게시판 타입에 따라 최근 인기 점수(시간에 따라 감쇠) 높은 순 게시글 limit개를 조회한다.<br>
+     * 아직 점수가 쌓인 게시글이 없으면 좋아요 순으로 대신 조회한다.<br>
+     * 신고로 숨겨진 글은 건너뛰고, 건너뛴 만큼 순위를 더 읽어 limit 개를 채운다.
+     * @param type 게시판 타입
+     * @param limit 가져올 개수
+     * @return 인기 순 게시글 목록
+     */
+    public List<Post> getTrendingPosts(PostType type, int limit) {
+        int fetch = limit;
+        long[] ids = trendingService.getTrendingIds(type, fetch);
+        if (ids.length == 0) return getLikePosts(type, limit);
+
+        List<Long> postIds = visibleIds(ids, limit);
+        while (postIds.size() < limit && ids.length >= fetch) {
+            fetch += limit - postIds.size();
+            ids = trendingService.getTrendingIds(type, fetch);
+            postIds = visibleIds(ids, limit);
+        }
+        if (postIds.isEmpty()) return List.of();
+
+        Map<Long, Post> posts = postRepository.findWithUserByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<Long> visibleIds(long[] ids, int limit) {
+        return Arrays.stream(ids)
+                .filter(id -> !reportQueueService.isHidden(id))
+                .limit(limit)
+                .boxed()
+                .toList();
+    }
+
     /**
      * 특정 게시판 타입에서 선택한 태그가 들어있는 게시글을 조회한다.
      * @param postType 게시글 타입
@@ -173,12 +233,47 @@ public class PostQueryService {
     }
 
     /**
-     * 팀모집 게시판의 모집상태별 게시글을 조회한다.
-     * @param postStatus 팀모집 상태(open, closed)
-     * @return 해당 장소의 게시글 리스트
+     * 팀모집 게시판 목록을 모집상태별로 최신순 조회한다.<br>
+     * 게시글과 모집 현황을 한 쿼리로 읽고, 반응 / 댓글 수는 toViews 와 같이 페이지 단위로 모은다.
+     * @param postStatus 팀모집 상태(open, closed). null 이면 전체
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 해당 모집상태의 게시글 뷰 slice (user, content, images 는 채우지 않음)
      */
-    public List<Post> getTeamPosts(PostStatus postStatus) {
-        return postRepository.findTeamPostsByStatus(postStatus);
+    public Slice<PostListViewDTO> getTeamPosts(PostStatus postStatus, int page, int size) {
+        List<PostStatus> statuses = postStatus == null ? List.of(PostStatus.values()) : List.of(postStatus);
+        Slice<PostRepository.TeamPostRow> rows = postRepository.findTeamPostRows(statuses, PageRequest.of(page, size));
+        if (!rows.hasContent()) return new SliceImpl<>(List.of(), rows.getPageable(), rows.hasNext());
+
+        List<Long> ids = rows.getContent().stream().map(PostRepository.TeamPostRow::getId).toList();
+        Map<Long, Long> likeMap = reactionCounts(ids, ReactionType.LIKE);
+        Map<Long, Long> bookmarkMap = reactionCounts(ids, ReactionType.BOOKMARK);
+        Map<Long, Long> commentMap = commentCounts(ids);
+        Map<Long, ProfileSummary> authorMap = profileSummaryCache.getAll(
+                rows.getContent().stream().map(PostRepository.TeamPostRow::getUserId).collect(Collectors.toSet()));
+
+        List<PostListViewDTO> views = rows.getContent().stream().map(row -> {
+            PostTeamInformationDTO teamInfo = new PostTeamInformationDTO();
+            teamInfo.setStatus(row.getStatus());
+            teamInfo.setCapacity(row.getCapacity());
+            teamInfo.setAcceptedCount(row.getAcceptedCount());
+            teamInfo.setAppliedCount(row.getAppliedCount());
+            return new PostListViewDTO(
+                    row.getId(),
+                    row.getTitle(),
+                    null,
+                    null,
+                    PostType.TEAM,
+                    row.getCreatedAt(),
+                    teamInfo,
+                    row.getViewCount() == null ? 0L : row.getViewCount(),
+                    likeMap.getOrDefault(row.getId(), 0L),
+                    commentMap.getOrDefault(row.getId(), 0L),
+                    bookmarkMap.getOrDefault(row.getId(), 0L),
+                    null,
+                    authorMap.get(row.getUserId()));
+        }).toList();
+        return new SliceImpl<>(views, rows.getPageable(), rows.hasNext());
     }
 
     public PostResponseDTO getPostReactionDetail(Long postId, User user) {
@@ -295,40 +390,35 @@ public class PostQueryService {
         return toViews(posts,  true, false);
     }
 
-    /** 공통 변환: 배치 집계로 카운트 모으고 뷰 DTO 채움 */
+    /**
+     * 공통 변환: 배치 집계로 카운트 모으고 뷰 DTO 채움<br>
+     * 숨김 제외는 페이지 쿼리에서 하며, 여기서는 조회와 숨김 처리 사이에 끼어든 글만 한 번 더 거른다.
+     */
     public List<PostListViewDTO> toViews(List<Post> posts, boolean withCounts, boolean withImages) {
+        posts = reportQueueService.filterVisible(posts);
         if (posts.isEmpty()) return List.of();
 
         List<Long> ids = posts.stream().map(Post::getId).toList();
 
-        final Map<Long, Long> likeMap = withCounts
-                ? reactionRepository.countByPostIdsAndType(ids, TargetType.POST, ReactionType.LIKE)
+        final Map<Long, Long> likeMap = withCounts ? reactionCounts(ids, ReactionType.LIKE) : Collections.emptyMap();
+        final Map<Long, Long> bookmarkMap = withCounts ? reactionCounts(ids, ReactionType.BOOKMARK) : Collections.emptyMap();
+        final Map<Long, Long> commentMap = withCounts ? commentCounts(ids) : Collections.emptyMap();
+
+        // 팀모집 글은 모집 현황(상태, 인원, 수락/신청 수)을 페이지 단위로 한 번에 조회
+        final List<Long> teamIds = posts.stream()
+                .filter(p -> p.getType() == PostType.TEAM)
+                .map(Post::getId)
+                .toList();
+        final Map<Long, PostTeamInformationDTO> teamInfoMap = teamIds.isEmpty()
+                ? Collections.emptyMap()
+                : postTeamInformationRepository.findSummariesByPostIdIn(teamIds)
                 .stream()
-                .collect(Collectors.toMap(ReactionRepository.CountByPostId::getPostId,
-                        ReactionRepository.CountByPostId::getCnt))
-                : Collections.emptyMap();
-
-        final Map<Long, Long> bookmarkMap = withCounts
-                ? reactionRepository.countByPostIdsAndType(ids, TargetType.POST, ReactionType.BOOKMARK)
-                .stream()
-                .collect(Collectors.toMap(ReactionRepository.CountByPostId::getPostId,
-                        ReactionRepository.CountByPostId::getCnt))
-                : Collections.emptyMap();
-
-        final Map<Long, Long> commentMap = withCounts
-                ? commentRepository.countCommentsInBatch(ids, CommentType.COMMENT)
-                .stream()
-                .collect(Collectors.toMap(CommentRepository.CountByPostId::getPostId,
-                        CommentRepository.CountByPostId::getCnt))
-                : Collections.emptyMap();
+                .collect(Collectors.toMap(PostTeamInformationRepository.TeamSummary::getPostId,
+                        this::toTeamInfoDto));
 
-        final Map<Long, PostTeamInformationDTO> teamInfoMap =
-                posts.stream()
-                        .filter(p -> p.getType() == PostType.TEAM && p.getTeamInfo() != null)
-                        .collect(Collectors.toMap(
-                                Post::getId,
-                                p -> toTeamInfoDto(p)
-                        ));
+        // 작성자 닉네임 / 프로필 이미지는 near-cache 에서 읽어 User → Profile 지연 로딩을 피한다
+        final Map<Long, ProfileSummary> authorMap = profileSummaryCache.getAll(
+                posts.stream().map(p -> p.getUser().getId()).collect(Collectors.toSet()));
 
         return posts.stream().map(p -> new PostListViewDTO(
                 p.getId(),
@@ -342,13 +432,28 @@ public class PostQueryService {
                 likeMap.getOrDefault(p.getId(), 0L),
                 commentMap.getOrDefault(p.getId(), 0L),
                 bookmarkMap.getOrDefault(p.getId(), 0L),
-                withImages ? safeImages(p) : null
+                withImages ? safeImages(p) : null,
+                authorMap.get(p.getUser().getId())
         )).toList();
     }
-    private PostTeamInformationDTO toTeamInfoDto(Post p) {
+    private Map<Long, Long> reactionCounts(List<Long> ids, ReactionType reactionType) {
+        return reactionRepository.countByPostIdsAndType(ids, TargetType.POST, reactionType)
+                .stream()
+                .collect(Collectors.toMap(ReactionRepository.CountByPostId::getPostId,
+                        ReactionRepository.CountByPostId::getCnt));
+    }
+    private Map<Long, Long> commentCounts(List<Long> ids) {
+        return commentRepository.countCommentsInBatch(ids, CommentType.COMMENT)
+                .stream()
+                .collect(Collectors.toMap(CommentRepository.CountByPostId::getPostId,
+                        CommentRepository.CountByPostId::getCnt));
+    }
+    private PostTeamInformationDTO toTeamInfoDto(PostTeamInformationRepository.TeamSummary summary) {
         PostTeamInformationDTO dto = new PostTeamInformationDTO();
-        dto.setCapacity(p.getTeamInfo().getCapacity());
-        dto.setStatus(p.getTeamInfo().getStatus());
+        dto.setCapacity(summary.getCapacity());
+        dto.setStatus(summary.getStatus());
+        dto.setAcceptedCount(summary.getAcceptedCount());
+        dto.setAppliedCount(summary.getAppliedCount());
         return dto;
     }
     private String summarize(String s) {
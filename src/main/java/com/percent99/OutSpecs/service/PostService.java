@@ -2,12 +2,15 @@ package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.*;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostCreatedEvent;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
 import com.percent99.OutSpecs.handler.PostDetailHandler;
 import com.percent99.OutSpecs.repository.PostRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,6 +41,7 @@ public class PostService {
     private final List<PostDetailHandler> detailHandlers;
     private final CommentService commentService;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 게시글을 생성한다.
@@ -122,7 +126,9 @@ public class PostService {
 //        if(post.getType().equals(PostType.AIPLAY)) {
 //            userService.decrementAiRateLimit(user.getId());
 //        }
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostCreatedEvent(saved.getId(), user.getId()));
+        return saved;
     }
 
     /**
@@ -321,6 +327,7 @@ public class PostService {
             }
         }
         postRepository.deleteById(postId);
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, post.getUser().getId()));
     }
 
     /**
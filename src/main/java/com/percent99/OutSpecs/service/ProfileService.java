@@ -3,24 +3,28 @@ package com.percent99.OutSpecs.service;
 import com.percent99.OutSpecs.entity.Profile;
 import com.percent99.OutSpecs.dto.ProfileDTO;
 import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
 import com.percent99.OutSpecs.repository.ProfileRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * 사용자 오픈(profile) 관련 비지니스 로직을 처리하는 서비스 클래스
+ * 사용자 오픈(profile) 관련 비지니스 로직을 처리하는 서비스 클래스<br>
+ * 프로필을 생성 / 수정 / 삭제하면 {@link ProfileChangedEvent} 를 발행해 {@link ProfileSummaryCache} 를 무효화하고 인재 검색 색인을 갱신한다.<br>
+ * 기술 스택은 같은 트랜잭션에서 {@link TechStackService} 로 정규화해 profile_stacks 에 다시 쓴다.
  */
 @Slf4j
 @Service
@@ -29,8 +33,10 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
-    private final ReactionService reactionService;
+    private final FollowGraphService followGraphService;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TechStackService techStackService;
 
     /**
      * 사용자 ID로 엔티티를 조회
@@ -68,19 +74,48 @@ public class ProfileService {
     }
 
     /**
-     * 사용자가 팔로우한 사용자들의 프로필 목록 조회
+     * 사용자가 팔로우한 사용자들의 프로필을 페이지 단위로 조회
      *
-     * @param user 조회할 사용자
-     * @return 팔로우한 사용자들의 프로필 목록
+     * @param userId 조회할 사용자 ID
+     * @param page   0부터 시작하는 페이지 번호
+     * @param size   페이지 크기
+     * @return 팔로우한 사용자들의 프로필 목록 (프로필이 없는 사용자는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<ProfileDTO> getFollowingProfiles(Long userId, int page, int size){
+        return getProfiles(followGraphService.getFollowingIds(userId, page, size));
+    }
+
+    /**
+     * 사용자를 팔로우한 사용자들의 프로필을 페이지 단위로 조회
+     *
+     * @param userId 조회할 사용자 ID
+     * @param page   0부터 시작하는 페이지 번호
+     * @param size   페이지 크기
+     * @return 팔로워들의 프로필 목록 (프로필이 없는 사용자는 제외)
      */
     @Transactional(readOnly = true)
-    public List<ProfileDTO> getFollowedUserProfiles(User user){
-        List<User> followedUsers = reactionService.getFollowedUsers(user);
+    public List<ProfileDTO> getFollowerProfiles(Long userId, int page, int size){
+        return getProfiles(followGraphService.getFollowerIds(userId, page, size));
+    }
+
+    /**
+     * id 목록의 프로필을 한 번의 IN 조회로 읽고, 전달된 id 순서대로 DTO 로 변환
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 프로필 DTO 목록 (프로필이 없는 사용자는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<ProfileDTO> getProfiles(long[] userIds){
+        if(userIds.length == 0){ return List.of(); }
+
+        Set<Long> ids = Arrays.stream(userIds).boxed().collect(Collectors.toSet());
+        Map<Long, Profile> profiles = profileRepository.findByUserIdIn(ids).stream()
+                .collect(Collectors.toMap(Profile::getUserId, Function.identity()));
 
-        return followedUsers.stream()
-                .map(followedUser -> getProfileByUserId(followedUser.getId()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        return Arrays.stream(userIds)
+                .mapToObj(profiles::get)
+                .filter(Objects::nonNull)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -156,7 +191,10 @@ public class ProfileService {
         profile.setImageUrl(imageUrl);
         profile.setS3Key(s3Key);
 
-        return profileRepository.save(profile);
+        Profile saved = profileRepository.save(profile);
+        techStackService.replaceProfileStacks(user.getId(), dto.getStacks());
+        eventPublisher.publishEvent(new ProfileChangedEvent(user.getId()));
+        return saved;
     }
 
     /**
@@ -223,6 +261,7 @@ public class ProfileService {
         profile.setImageUrl(imageUrl);
         profile.setS3Key(s3Key);
         profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileChangedEvent(profile.getUserId()));
     }
 
     /**
@@ -246,7 +285,10 @@ public class ProfileService {
         profile.setExperience(dto.getExperience());
         profile.setSelfInfo(dto.getSelfInfo());
         profile.setAllowCompanyAccess(dto.getAllowCompanyAccess());
-        return profileRepository.save(profile);
+        Profile saved = profileRepository.save(profile);
+        techStackService.replaceProfileStacks(userId, dto.getStacks());
+        eventPublisher.publishEvent(new ProfileChangedEvent(userId));
+        return saved;
     }
 
     /**
@@ -285,6 +327,9 @@ public class ProfileService {
     @Transactional
     public void deleteProfileDB(Long profileId){
         profileRepository.deleteById(profileId);
+        techStackService.deleteProfileStacks(profileId);
+        // 프로필 id 는 user_id 와 같다 (@MapsId)
+        eventPublisher.publishEvent(new ProfileChangedEvent(profileId));
     }
 
     /**
@@ -0,0 +1,138 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.CacheStatsDTO;
+import com.percent99.OutSpecs.dto.ProfileSummary;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
+import com.percent99.OutSpecs.repository.ProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유저 id 별 닉네임 / 프로필 이미지({@link ProfileSummary})를 메모리에 보관하는 service 객체.<br>
+ * <ul>
+ *     <li>최대 profile.cache.max-size 개까지 보관하고, 넘치면 가장 오래 읽지 않은 것부터 버린다 (LRU)</li>
+ *     <li>없는 id 만 모아 한 번의 IN 조회로 읽으며, 프로필이 없는 유저도 "없음"으로 보관한다</li>
+ *     <li>프로필이 바뀌면 {@link ProfileChangedEvent} 를 받아 커밋 후 해당 유저를 버린다</li>
+ *     <li>읽는 도중 무효화가 일어났다면 읽은 값을 보관하지 않는다 (오래된 값이 다시 들어가지 않도록)</li>
+ * </ul>
+ * 조회 수 대비 적중률은 getHitCount / getMissCount 로 확인한다.
+ */
+@Service
+public class ProfileSummaryCache {
+    /** 프로필이 없는 유저를 표시하는 값 */
+    private static final ProfileSummary MISSING = new ProfileSummary(null, null, null);
+
+    private final ProfileRepository profileRepository;
+    private final Map<Long, ProfileSummary> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ProfileSummaryCache(ProfileRepository profileRepository,
+                               @Value("${profile.cache.max-size:10000}") int maxSize) {
+        this.profileRepository = profileRepository;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProfileSummary> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 유저 한 명의 프로필 요약
+     * @param userId 유저 id
+     * @return 프로필 요약 (프로필이 없으면 null)
+     */
+    public ProfileSummary get(Long userId) {
+        if (userId == null) return null;
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 유저의 프로필 요약을 한 번에 조회한다. 보관하지 않은 id 만 DB 에서 읽는다.
+     * @param userIds 유저 id 목록
+     * @return 유저 id → 프로필 요약 (프로필이 없는 유저는 빠진다)
+     */
+    public Map<Long, ProfileSummary> getAll(Collection<Long> userIds) {
+        Map<Long, ProfileSummary> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long userId : userIds) {
+            if (userId == null) continue;
+            ProfileSummary cached = entries.get(userId);
+            if (cached == null) {
+                missing.add(userId);
+                continue;
+            }
+            hits.increment();
+            if (cached != MISSING) result.put(userId, cached);
+        }
+        if (missing.isEmpty()) return result;
+
+        misses.add(missing.size());
+        long stamp = generation.get();
+        Map<Long, ProfileSummary> loaded = new HashMap<>();
+        for (ProfileSummary summary : profileRepository.findSummariesByUserIdIn(missing)) {
+            loaded.put(summary.getUserId(), summary);
+        }
+        result.putAll(loaded);
+
+        synchronized (entries) {
+            if (generation.get() != stamp) return result;
+            for (Long userId : missing) {
+                entries.put(userId, loaded.getOrDefault(userId, MISSING));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 유저의 프로필 요약을 버린다. 다음 조회 때 다시 읽는다.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 적중률 (0 ~ 1, 조회가 없었으면 0)
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 관리자 대시보드에 보여줄 캐시 통계
+     */
+    public CacheStatsDTO getStats() {
+        return new CacheStatsDTO(size(), getHitCount(), getMissCount(), getHitRate());
+    }
+}
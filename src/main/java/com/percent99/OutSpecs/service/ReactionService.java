@@ -1,101 +1,101 @@
 package com.percent99.OutSpecs.service;
 
+import com.percent99.OutSpecs.dto.ReactedPostDTO;
+import com.percent99.OutSpecs.dto.ReactionToggleResult;
+import com.percent99.OutSpecs.dto.RemovedReaction;
 import com.percent99.OutSpecs.entity.*;
-import com.percent99.OutSpecs.repository.CommentRepository;
-import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.event.NotificationEvent;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
 import com.percent99.OutSpecs.repository.ReactionRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class ReactionService {
 
     private final ReactionRepository reactionRepository;
-    private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FollowGraphService followGraphService;
+    private final ReportQueueService reportQueueService;
 
     /**
-     * 반응 추가 (좋아요, 북마크, 팔로우, 신고)
-     * @param user
-     * @param targetType
-     * @param targetId
-     * @param reactionType
+     * 반응 토글 (좋아요, 북마크, 팔로우, 신고)<br>
+     * 이미 반응했으면 삭제하고, 아니면 추가한다.
+     * <ul>
+     *     <li>유저 존재 여부와 대상 작성자를 한 번의 조회로 확인</li>
+     *     <li>삭제/추가를 한 문장(ReactionRepository.toggle)으로 수행하므로 동시 요청에도 unique 제약 예외가 나지 않는다</li>
+     * </ul>
+     * @param user 반응하는 유저
+     * @param targetType 대상 타입
+     * @param targetId 대상 id
+     * @param reactionType 반응 타입
+     * @return 토글 후 반응 여부와 반응 수
      */
     @Transactional
-    public void addReaction(User user, TargetType targetType, Long targetId, ReactionType reactionType) {
-        if(!userRepository.existsById(user.getId())) {
+    public ReactionToggleResult addReaction(User user, TargetType targetType, Long targetId, ReactionType reactionType) {
+        ReactionRepository.ToggleTarget target = reactionRepository.findToggleTarget(user.getId(), targetType.name(), targetId);
+        if(target == null || !Boolean.TRUE.equals(target.getUserExists())) {
             throw new EntityNotFoundException("해당 유저는 존재하지 않습니다.");
         }
-        if(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(user, targetType, targetId, reactionType)) {
-            deleteReaction(user, targetType, targetId, reactionType);
-            return;
+        Long ownerId = target.getOwnerId();
+        if(ownerId == null) {
+            throw new EntityNotFoundException(switch (targetType) {
+                case POST -> "해당 게시물은 존재하지 않습니다.";
+                case COMMENT -> "해당 댓글은 존재하지 않습니다.";
+                case USER -> "해당 유저는 존재하지 않습니다.";
+            });
         }
-        if(targetType.equals(TargetType.POST) && !postRepository.existsById(targetId)) {
-            throw new EntityNotFoundException("해당 게시물은 존재하지 않습니다.");
-        } else if (targetType.equals(TargetType.COMMENT) && !commentRepository.existsById(targetId)) {
-            throw new EntityNotFoundException("해당 댓글은 존재하지 않습니다.");
-        } else if(targetType.equals(TargetType.USER) && !userRepository.existsById(targetId)) {
-            throw new EntityNotFoundException("해당 유저는 존재하지 않습니다.");
-        }
-        User receiver = findTargetUser(targetType, targetId);
-        if(Objects.equals(receiver.getId(), user.getId())) {
+        if(Objects.equals(ownerId, user.getId())) {
             throw new IllegalArgumentException("자신이나 자신의 글에 반응할 수 없습니다.");
         }
 
-        Reaction reaction = new Reaction();
-        reaction.setUser(user);
-        reaction.setTargetType(targetType);
-        reaction.setTargetId(targetId);
-        reaction.setReactionType(reactionType);
-        reaction.setCreatedAt(LocalDateTime.now());
-
-        reactionRepository.save(reaction);
-
-        // 알림 발송
-        if(reaction.getReactionType().equals(ReactionType.FOLLOW)) {
-            notificationService.sendNotification(user, receiver, NotificationType.FOLLOW, targetId);
-        } else if(reaction.getReactionType().equals(ReactionType.LIKE) && reaction.getTargetType().equals(TargetType.POST)) {
-            notificationService.sendNotification(user, receiver, NotificationType.LIKE_POST, targetId);
-        } else if(reaction.getReactionType().equals(ReactionType.LIKE) && reaction.getTargetType().equals(TargetType.COMMENT)) {
-            notificationService.sendNotification(user, receiver, NotificationType.LIKE_COMMENT, targetId);
+        ReactionRepository.ToggleOutcome outcome = reactionRepository.toggle(
+                user.getId(), targetType.name(), targetId, reactionType.name(), LocalDateTime.now());
+        long inserted = outcome.getInserted();
+        long deleted = outcome.getDeleted();
+
+        // inserted, deleted 가 모두 0 이면 동시에 들어온 다른 요청이 먼저 추가한 경우이므로 반응한 상태로 본다.
+        boolean active = deleted == 0;
+        long count = outcome.getBeforeCount() - deleted + inserted;
+
+        if(reactionType.equals(ReactionType.FOLLOW) && targetType.equals(TargetType.USER) && (inserted > 0 || deleted > 0)) {
+            eventPublisher.publishEvent(new FollowChangedEvent(user.getId(), targetId, active));
         }
-    }
 
-    /**
-     * target의 user를 찾는 메서드
-     * @param type target type(post, user, comment)
-     * @param targetId taregt id
-     * @return target user
-     */
-    public User findTargetUser(TargetType type, Long targetId) {
-        User user;
-
-        if (type.equals(TargetType.USER)) {
-            user = userRepository.findById(targetId)
-                    .orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
-        } else if (type.equals(TargetType.POST)) {
-            Post post = postRepository.findById(targetId)
-                    .orElseThrow(() -> new EntityNotFoundException("해당 게시글이 존재하지 않습니다."));
-            user = Optional.ofNullable(post.getUser())
-                    .orElseThrow(() -> new IllegalStateException("해당 게시글에 작성자가 없습니다."));
-        } else {
-            Comment comment = commentRepository.findById(targetId)
-                    .orElseThrow(() -> new EntityNotFoundException("해당 댓글이 존재하지 않습니다."));
-            user = Optional.ofNullable(comment.getUser())
-                    .orElseThrow(() -> new IllegalStateException("해당 댓글의 작성자가 없습니다."));
+        if(reactionType.equals(ReactionType.REPORT) && (inserted > 0 || deleted > 0)) {
+            reportQueueService.recordReport(targetType, targetId, inserted > 0 ? 1 : -1);
+        }
+
+        PostEngagementEvent.Kind engagement = engagementOf(targetType, reactionType);
+        if(engagement != null && (inserted > 0 || deleted > 0)) {
+            eventPublisher.publishEvent(new PostEngagementEvent(targetId, null, engagement, inserted > 0 ? 1 : -1));
+        }
+
+        ReactionToggleResult result = new ReactionToggleResult(targetType, targetId, reactionType, active, count, inserted > 0);
+
+        // 실제로 추가된 경우에만 알림 발송 (커밋 후 NotificationBatchWriter 가 저장)
+        if(result.isAdded()) {
+            if(reactionType.equals(ReactionType.FOLLOW)) {
+                eventPublisher.publishEvent(new NotificationEvent(user.getId(), ownerId, NotificationType.FOLLOW, targetId));
+            } else if(reactionType.equals(ReactionType.LIKE) && targetType.equals(TargetType.POST)) {
+                eventPublisher.publishEvent(new NotificationEvent(user.getId(), ownerId, NotificationType.LIKE_POST, targetId));
+            } else if(reactionType.equals(ReactionType.LIKE) && targetType.equals(TargetType.COMMENT)) {
+                eventPublisher.publishEvent(new NotificationEvent(user.getId(), ownerId, NotificationType.LIKE_COMMENT, targetId));
+            }
         }
-        return user;
+
+        return result;
     }
 
     /**
@@ -107,13 +107,51 @@ public class ReactionService {
      */
     @Transactional
     public void deleteReaction(User user, TargetType targetType, Long targetId, ReactionType reactionType) {
+        int deleted = reactionRepository.deleteByUserIdAndTarget(user.getId(), targetType, targetId, reactionType);
+        if(deleted > 0) {
+            applyRemoved(List.of(new RemovedReaction(user.getId(), targetType, targetId, reactionType)));
+            return;
+        }
+
         if(!userRepository.existsById(user.getId())) {
             throw new EntityNotFoundException("해당 유저는 존재하지 않습니다.");
         }
-        if(!reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(user, targetType, targetId, reactionType)) {
-            throw new EntityNotFoundException("삭제할 리액션이 존재하지 않습니다.");
+        throw new EntityNotFoundException("삭제할 리액션이 존재하지 않습니다.");
+    }
+
+    /**
+     * 삭제된 반응을 팔로우 그래프, 신고 수, 인기 점수에서 되돌린다.<br>
+     * 반응을 지우는 모든 경로(반응 취소, 회원 삭제, 고아 반응 정리)가 삭제한 행을 이 메서드로 넘긴다.
+     * <ul>
+     *     <li>팔로우 : 팔로우 해제 이벤트 발행</li>
+     *     <li>신고 : 대상별로 모아 신고 수를 한 번에 차감 (기준 아래로 내려가면 자동 숨김 해제)</li>
+     *     <li>게시글 좋아요/북마크 : 게시글, 종류별로 모아 인기 점수 차감 이벤트 발행</li>
+     * </ul>
+     * 호출한 쪽의 트랜잭션에서 실행되며, 이벤트는 커밋 후 반영된다.
+     * @param removed 삭제된 반응
+     */
+    @Transactional
+    public void applyRemoved(List<RemovedReaction> removed) {
+        Map<TargetType, Map<Long, Integer>> reports = new EnumMap<>(TargetType.class);
+        Map<PostEngagementEvent.Kind, Map<Long, Integer>> engagements = new EnumMap<>(PostEngagementEvent.Kind.class);
+
+        for(RemovedReaction reaction : removed) {
+            TargetType targetType = reaction.getTargetType();
+            ReactionType reactionType = reaction.getReactionType();
+            if(reactionType.equals(ReactionType.FOLLOW) && targetType.equals(TargetType.USER)) {
+                eventPublisher.publishEvent(new FollowChangedEvent(reaction.getUserId(), reaction.getTargetId(), false));
+            } else if(reactionType.equals(ReactionType.REPORT)) {
+                reports.computeIfAbsent(targetType, t -> new LinkedHashMap<>()).merge(reaction.getTargetId(), 1, Integer::sum);
+            } else if(engagementOf(targetType, reactionType) != null) {
+                engagements.computeIfAbsent(engagementOf(targetType, reactionType), k -> new LinkedHashMap<>())
+                        .merge(reaction.getTargetId(), 1, Integer::sum);
+            }
         }
-        reactionRepository.deleteByUserAndTargetTypeAndTargetIdAndReactionType(user, targetType, targetId, reactionType);
+
+        reports.forEach((targetType, counts) -> counts.forEach((targetId, count) ->
+                reportQueueService.recordReport(targetType, targetId, -count)));
+        engagements.forEach((kind, counts) -> counts.forEach((postId, count) ->
+                eventPublisher.publishEvent(new PostEngagementEvent(postId, null, kind, -count))));
     }
 
     /**
@@ -143,16 +181,16 @@ public class ReactionService {
     }
 
     /**
-     * User가 좋아요한 Post 목록 찾기
-     * @param user 
-     * @return user가 좋아요한 Post 목록
+     * User가 좋아요한 게시글을 좋아요한 시각 최신순으로 한 페이지 조회<br>
+     * 커서가 없으면 가장 최근 좋아요부터 조회한다.
+     * @param userId 유저 id
+     * @param cursorAt 이전 페이지 마지막 항목의 reactedAt (nullable)
+     * @param cursorId 이전 페이지 마지막 항목의 reactionId (nullable)
+     * @param size 조회 개수
+     * @return 좋아요한 게시글 목록
      */
-    public List<Post> getLikedPosts(User user) {
-        if(!userRepository.existsById(user.getId())){
-            throw new EntityNotFoundException("해당 유저는 존재하지않습니다.");
-        }
-        List<Long> postIds = reactionRepository.findLikedPostIdsByUser(user);
-        return postRepository.findAllById(postIds);
+    public List<ReactedPostDTO> getLikedPostPage(Long userId, LocalDateTime cursorAt, Long cursorId, int size) {
+        return getReactedPostPage(userId, ReactionType.LIKE, cursorAt, cursorId, size);
     }
 
     /**
@@ -169,37 +207,47 @@ public class ReactionService {
     }
 
     /**
-     * User가 북마크한 Post 목록 찾기
-     * @param user
-     * @return User가 북마크한 Post 목록
-     */
-    public List<Post> getBookmarkedPosts(User user) {
-        if(!userRepository.existsById(user.getId())) {
-            throw new EntityNotFoundException("해당 유저는 존재하지 않습니다.");
-        }
-        List<Long> postIds = reactionRepository.findBookmarkedPostIdsByUser(user);
-        return postRepository.findAllById(postIds);
-    }
-
-    /**
-     * 신고 당한 모든 게시글 찾기
-     * @return 신고당한 모든 게시글 + user정보
+     * User가 북마크한 게시글을 북마크한 시각 최신순으로 한 페이지 조회<br>
+     * 커서가 없으면 가장 최근 북마크부터 조회한다.
+     * @param userId 유저 id
+     * @param cursorAt 이전 페이지 마지막 항목의 reactedAt (nullable)
+     * @param cursorId 이전 페이지 마지막 항목의 reactionId (nullable)
+     * @param size 조회 개수
+     * @return 북마크한 게시글 목록
      */
-    public List<Post> getReportPosts() {
-        return reactionRepository.findReportedPostsWithUser(TargetType.POST, ReactionType.REPORT);
+    public List<ReactedPostDTO> getBookmarkedPostPage(Long userId, LocalDateTime cursorAt, Long cursorId, int size) {
+        return getReactedPostPage(userId, ReactionType.BOOKMARK, cursorAt, cursorId, size);
     }
 
     /**
-     * 내가 targetUserId를 팔로우 중인지
+     * 내가 targetUserId를 팔로우 중인지 (메모리의 팔로우 그래프에서 확인)
      * @param me 자신
      * @param targetId 상대방
      * @return true or false
      */
-    @Transactional(readOnly = true)
     public boolean isFollowing(User me, Long targetId){
         if(me == null || me.getId().equals(targetId)) return false;
-        return reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                me, TargetType.USER, targetId, ReactionType.FOLLOW
-        );
+        return followGraphService.isFollowing(me.getId(), targetId);
+    }
+
+    /**
+     * 인기 점수에 반영되는 게시글 반응(좋아요, 북마크)이면 그 종류를, 아니면 null
+     */
+    private PostEngagementEvent.Kind engagementOf(TargetType targetType, ReactionType reactionType) {
+        if(!targetType.equals(TargetType.POST)) return null;
+        if(reactionType.equals(ReactionType.LIKE)) return PostEngagementEvent.Kind.LIKE;
+        if(reactionType.equals(ReactionType.BOOKMARK)) return PostEngagementEvent.Kind.BOOKMARK;
+        return null;
+    }
+
+    private List<ReactedPostDTO> getReactedPostPage(Long userId, ReactionType reactionType,
+                                                    LocalDateTime cursorAt, Long cursorId, int size) {
+        if(userId == null || size <= 0) return List.of();
+
+        if(cursorAt == null || cursorId == null) {
+            cursorAt = LocalDateTime.of(9999, 12, 31, 0, 0);
+            cursorId = Long.MAX_VALUE;
+        }
+        return reactionRepository.findReactedPostPage(userId, reactionType, cursorAt, cursorId, PageRequest.of(0, size));
     }
-}
\ No newline at end of file
+}
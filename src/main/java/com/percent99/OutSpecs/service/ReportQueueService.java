@@ -0,0 +1,127 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.ReportedPostDTO;
+import com.percent99.OutSpecs.entity.Post;
+import com.percent99.OutSpecs.entity.TargetType;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.event.PostVisibilityChangedEvent;
+import com.percent99.OutSpecs.repository.ReportCounterRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신고 검토 목록과 신고 누적 게시글 숨김을 담당하는 service 객체.<br>
+ * <ul>
+ *     <li>REPORT 반응이 추가/취소될 때 대상별 신고 수(report_counters)를 같은 트랜잭션에서 증감</li>
+ *     <li>게시글의 신고 수가 report.auto-hide-threshold 이상이 되면 숨김 처리하고, 숨긴 게시글 id 를 메모리에 보관</li>
+ *     <li>신고가 취소/삭제되어 기준 아래로 내려가면 자동 숨김을 해제</li>
+ *     <li>게시글 목록은 메모리의 숨김 목록으로 걸러내므로 목록마다 다시 조회하지 않는다</li>
+ *     <li>관리자에게 신고 수 많은 순, 최근 신고 순의 검토 목록을 페이지 단위로 제공</li>
+ * </ul>
+ * 관리자가 검토(복구)한 게시글은 이후 신고가 쌓여도 자동으로 숨기지 않고 검토 목록에만 다시 올린다.
+ */
+@Slf4j
+@Service
+public class ReportQueueService {
+
+    private final ReportCounterRepository reportCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int autoHideThreshold;
+
+    private final Set<Long> hiddenPostIds = ConcurrentHashMap.newKeySet();
+
+    public ReportQueueService(ReportCounterRepository reportCounterRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${report.auto-hide-threshold:5}") int autoHideThreshold) {
+        this.reportCounterRepository = reportCounterRepository;
+        this.eventPublisher = eventPublisher;
+        this.autoHideThreshold = autoHideThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadHiddenPosts() {
+        List<Long> hidden = reportCounterRepository.findHiddenTargetIds(TargetType.POST);
+        hiddenPostIds.addAll(hidden);
+        log.info("신고로 숨겨진 게시글 {}건을 읽었습니다.", hidden.size());
+    }
+
+    /**
+     * 신고 수를 증감한다. 호출한 쪽의 트랜잭션에서 실행된다.
+     * @param targetType 신고 대상 타입
+     * @param targetId 신고 대상 id
+     * @param delta 늘어난 신고 수 (신고) / 줄어든 신고 수의 음수 (신고 취소, 반응 삭제)
+     */
+    @Transactional
+    public void recordReport(TargetType targetType, Long targetId, int delta) {
+        if (delta == 0) return;
+        int count = reportCounterRepository.increment(targetType.name(), targetId, delta, LocalDateTime.now());
+        if (targetType != TargetType.POST) return;
+
+        if (delta > 0 && count >= autoHideThreshold && reportCounterRepository.hide(targetType, targetId) > 0) {
+            eventPublisher.publishEvent(new PostVisibilityChangedEvent(targetId, true));
+        } else if (delta < 0 && count < autoHideThreshold && reportCounterRepository.unhide(targetType, targetId) > 0) {
+            eventPublisher.publishEvent(new PostVisibilityChangedEvent(targetId, false));
+        }
+    }
+
+    /**
+     * 관리자 검토 처리. 숨김을 해제하고 검토 목록에서 내린다.
+     * @param postId 게시글 id
+     */
+    @Transactional
+    public void markReviewed(Long postId) {
+        if (reportCounterRepository.markReviewed(TargetType.POST, postId, LocalDateTime.now()) == 0) {
+            throw new EntityNotFoundException("신고 기록이 없는 게시글입니다.");
+        }
+        eventPublisher.publishEvent(new PostVisibilityChangedEvent(postId, false));
+    }
+
+    /**
+     * 검토할 신고 게시글을 신고 수 많은 순, 최근 신고 순으로 조회한다.
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public Page<ReportedPostDTO> getPostQueue(int page, int size) {
+        return reportCounterRepository.findPostQueue(PageRequest.of(Math.max(page, 0), size));
+    }
+
+    public boolean isHidden(Long postId) {
+        return postId != null && hiddenPostIds.contains(postId);
+    }
+
+    /**
+     * 숨겨진 게시글을 뺀 목록을 반환한다. 순서는 유지된다.
+     */
+    public List<Post> filterVisible(List<Post> posts) {
+        if (hiddenPostIds.isEmpty()) return posts;
+        return posts.stream().filter(p -> !isHidden(p.getId())).toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVisibilityChanged(PostVisibilityChangedEvent event) {
+        if (event.isHidden()) hiddenPostIds.add(event.getPostId());
+        else hiddenPostIds.remove(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (event.getPostId() != null) hiddenPostIds.remove(event.getPostId());
+    }
+}
@@ -0,0 +1,180 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.RemovedReaction;
+import com.percent99.OutSpecs.entity.ReactionType;
+import com.percent99.OutSpecs.entity.TargetType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * notification, reactions 테이블의 오래되거나 불필요한 행을 주기적으로 정리하는 service 객체.<br>
+ * <ul>
+ *     <li>알림 : 읽음 처리된 지(read_at) retention.notification.read-ttl-days 일이 지난 알림 삭제 (idx_notification_read_at 사용)</li>
+ *     <li>반응 : 삭제된 게시글/댓글/유저를 가리키는 반응 삭제. id 구간(retention.reaction.scan-window) 단위로 훑으며,
+ *         한 번에 끝나지 않으면 retention_cursors 에 저장한 위치부터 다음 실행(재시작 후 포함)에서 이어서 진행한다</li>
+ *     <li>삭제한 반응은 ReactionService.applyRemoved 로 팔로우 그래프, 신고 수, 인기 점수에서도 되돌린다</li>
+ * </ul>
+ * 모든 삭제는 retention.chunk-size 이하의 짧은 단일 문장 트랜잭션으로 나누어 실행하고,
+ * 각 chunk 사이에 retention.throttle-ms 만큼 쉬며, 한 번의 실행에서 정책별로 최대 retention.max-chunks-per-run 번까지만 실행한다.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private static final String DELETE_READ_NOTIFICATIONS_SQL = """
+            DELETE FROM notification
+            WHERE id IN (
+                SELECT id FROM notification
+                WHERE is_read = true AND read_at < ?
+                ORDER BY read_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+    private static final String DELETE_ORPHAN_REACTIONS_SQL = """
+            DELETE FROM reactions r
+            WHERE r.id > ? AND r.id <= ?
+              AND ((r.target_type = 'POST' AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.id = r.target_id))
+                OR (r.target_type = 'COMMENT' AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.id = r.target_id))
+                OR (r.target_type = 'USER' AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = r.target_id)))
+            RETURNING r.user_id, r.target_type, r.target_id, r.reaction_type
+            """;
+    private static final String REACTION_CURSOR = "reactions";
+    private static final String SAVE_CURSOR_SQL = """
+            INSERT INTO retention_cursors (name, last_id, updated_at) VALUES (?, ?, ?)
+            ON CONFLICT (name) DO UPDATE SET last_id = EXCLUDED.last_id, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReactionService reactionService;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long throttleMs;
+    private final int maxChunksPerRun;
+    private final int notificationReadTtlDays;
+    private final long reactionScanWindow;
+
+    private final LongAdder purgedNotifications = new LongAdder();
+    private final LongAdder purgedReactions = new LongAdder();
+
+    public RetentionService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ReactionService reactionService,
+                            @Value("${retention.enabled:true}") boolean enabled,
+                            @Value("${retention.chunk-size:500}") int chunkSize,
+                            @Value("${retention.throttle-ms:100}") long throttleMs,
+                            @Value("${retention.max-chunks-per-run:200}") int maxChunksPerRun,
+                            @Value("${retention.notification.read-ttl-days:30}") int notificationReadTtlDays,
+                            @Value("${retention.reaction.scan-window:5000}") long reactionScanWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reactionService = reactionService;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.notificationReadTtlDays = notificationReadTtlDays;
+        this.reactionScanWindow = reactionScanWindow;
+    }
+
+    /**
+     * 모든 보존 정책을 실행한다.
+     */
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        if (!enabled) return;
+
+        long notifications = purgeReadNotifications();
+        long reactions = purgeOrphanReactions();
+        log.info("보존 정책 실행 완료. 삭제된 알림 {}건, 삭제된 반응 {}건", notifications, reactions);
+    }
+
+    /**
+     * 읽은 지 오래된 알림을 chunk 단위로 삭제한다.
+     * @return 삭제된 알림 수
+     */
+    public long purgeReadNotifications() {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(notificationReadTtlDays));
+        long total = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int deleted = jdbcTemplate.update(DELETE_READ_NOTIFICATIONS_SQL, threshold, chunkSize);
+            total += deleted;
+            if (deleted < chunkSize || !throttle()) break;
+        }
+
+        purgedNotifications.add(total);
+        return total;
+    }
+
+    /**
+     * 삭제된 대상을 가리키는 반응을 id 구간 단위로 삭제한다.<br>
+     * 구간마다 삭제와 되돌리기(ReactionService.applyRemoved)를 한 트랜잭션에서 실행하고,
+     * 마지막으로 확인한 id 를 retention_cursors 에 저장해 다음 실행에서 이어서 진행한다. 끝까지 훑으면 처음부터 다시 시작한다.
+     * @return 삭제된 반응 수
+     */
+    public long purgeOrphanReactions() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM reactions", Long.class);
+        if (maxId == null) return 0;
+
+        long saved = loadCursor();
+        long cursor = saved >= maxId ? 0 : saved;
+        long total = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun && cursor < maxId; chunk++) {
+            long lower = cursor;
+            long upper = Math.min(cursor + reactionScanWindow, maxId);
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<RemovedReaction> removed = jdbcTemplate.query(DELETE_ORPHAN_REACTIONS_SQL,
+                        (rs, rowNum) -> new RemovedReaction(rs.getLong(1), TargetType.valueOf(rs.getString(2)),
+                                rs.getLong(3), ReactionType.valueOf(rs.getString(4))),
+                        lower, upper);
+                reactionService.applyRemoved(removed);
+                jdbcTemplate.update(SAVE_CURSOR_SQL, REACTION_CURSOR, upper, Timestamp.valueOf(LocalDateTime.now()));
+                return removed.size();
+            });
+            total += deleted == null ? 0 : deleted;
+            cursor = upper;
+            if (!throttle()) break;
+        }
+
+        purgedReactions.add(total);
+        return total;
+    }
+
+    public long getPurgedNotificationCount() {
+        return purgedNotifications.sum();
+    }
+
+    public long getPurgedReactionCount() {
+        return purgedReactions.sum();
+    }
+
+    private long loadCursor() {
+        List<Long> lastIds = jdbcTemplate.queryForList(
+                "SELECT last_id FROM retention_cursors WHERE name = ?", Long.class, REACTION_CURSOR);
+        return lastIds.isEmpty() ? 0 : lastIds.get(0);
+    }
+
+    private boolean throttle() {
+        if (throttleMs <= 0) return true;
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
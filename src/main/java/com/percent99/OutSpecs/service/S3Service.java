@@ -20,6 +20,8 @@ import java.util.UUID;
  */
 @Service
 public class S3Service {
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private final S3Client s3Client;
     private final String bucketName;
     private final String region;
@@ -88,6 +90,32 @@ public class S3Service {
         s3Client.deleteObject(request);
     }
 
+    /**
+     * 여러 파일을 한 번에 삭제한다. 요청 하나에 최대 1000개씩 나누어 보낸다.
+     * @param fileNames 삭제할 파일 키 목록 (없는 키는 성공으로 처리된다)
+     * @throws IllegalStateException 삭제하지 못한 파일이 있는 경우
+     */
+    public void deleteFiles(List<String> fileNames) {
+        for (int from = 0; from < fileNames.size(); from += MAX_DELETE_KEYS) {
+            List<ObjectIdentifier> objects = fileNames.subList(from, Math.min(from + MAX_DELETE_KEYS, fileNames.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            if (response.hasErrors() && !response.errors().isEmpty()) {
+                S3Error error = response.errors().get(0);
+                throw new IllegalStateException("S3 파일 삭제 실패: key = " + error.key() + ", 오류: " + error.message()
+                        + " (실패 " + response.errors().size() + "건)");
+            }
+        }
+    }
+
     /**
      * 버킷의 모든 파일 목록 조회
      */
@@ -0,0 +1,331 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.ProfileDTO;
+import com.percent99.OutSpecs.dto.TalentPageDTO;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기업 회원(ENTUSER)이 기술 스택으로 인재를 찾는 검색 service 객체.<br>
+ * <ul>
+ *     <li>기업 열람을 허용(allowCompanyAccess)한 활동 중인 회원만 메모리 색인에 담는다</li>
+ *     <li>색인은 스택 id → 유저 id 비트맵({@link BitSet}) 이며, AND / OR 검색은 비트맵 교집합 / 합집합으로 계산한다</li>
+ *     <li>경력은 자유 입력이므로 키워드 포함 여부로 거르며, 비교용으로 소문자 경력 문자열을 함께 보관한다</li>
+ *     <li>기동 후 한 번 전체를 읽고, 이후에는 커밋된 {@link ProfileChangedEvent} 마다 해당 유저만 다시 읽는다</li>
+ * </ul>
+ * 검색은 profiles 를 훑지 않고, 결과 페이지의 프로필만 id 로 읽는다. 결과는 유저 id 내림차순(최근 가입 순)이다.
+ */
+@Slf4j
+@Service
+public class TalentSearchService {
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SEARCHABLE_PROFILES_SQL = """
+            SELECT p.user_id, p.experience
+            FROM profiles p
+            JOIN users u ON u.id = p.user_id
+            WHERE p.allow_company_access = true AND u.status = 'ACTIVE'
+            """;
+    private static final String SEARCHABLE_PROFILE_STACKS_SQL = """
+            SELECT ps.user_id, ps.stack_id
+            FROM profile_stacks ps
+            JOIN profiles p ON p.user_id = ps.user_id
+            JOIN users u ON u.id = p.user_id
+            WHERE p.allow_company_access = true AND u.status = 'ACTIVE'
+            """;
+    private static final String USER_STACKS_SQL = """
+            SELECT ts.id, ts.name, ts.normalized_name
+            FROM profile_stacks ps
+            JOIN tech_stacks ts ON ts.id = ps.stack_id
+            WHERE ps.user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileService profileService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Long> stackIdsByName = new HashMap<>();
+    private final Map<Long, String> stackNames = new HashMap<>();
+    private final Map<Long, BitSet> usersByStack = new HashMap<>();
+    private final Map<Integer, long[]> stacksByUser = new HashMap<>();
+    private final Map<Integer, String> experiences = new HashMap<>();
+    private final BitSet searchable = new BitSet();
+    private volatile boolean loaded;
+
+    public TalentSearchService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ProfileService profileService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // 커밋 후 이벤트에서도 읽으므로, 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션에서 읽는다
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.profileService = profileService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * 커밋된 프로필 변경을 색인에 반영한다. 해당 유저의 프로필과 스택만 다시 읽는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        ensureLoaded();
+        reindex(event.getUserId());
+    }
+
+    /**
+     * 기술 스택으로 인재를 검색한다.
+     * @param stacks 찾을 스택 이름 (비어있으면 열람 가능한 전체)
+     * @param matchAll true 면 모든 스택을 가진 유저(AND), false 면 하나라도 가진 유저(OR)
+     * @param experienceKeyword 경력에 포함되어야 하는 키워드 (대소문자 무시, 없으면 null)
+     * @param cursorId 이전 페이지의 마지막 유저 id (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 인재 프로필 목록과 다음 커서
+     */
+    public TalentPageDTO search(Collection<String> stacks, boolean matchAll, String experienceKeyword,
+                                Long cursorId, int size) {
+        ensureLoaded();
+        Set<String> names = new LinkedHashSet<>();
+        if (stacks != null) {
+            for (String stack : stacks) {
+                String normalized = TechStackService.normalize(stack);
+                if (!normalized.isEmpty()) names.add(normalized);
+            }
+        }
+        String keyword = experienceKeyword == null || experienceKeyword.isBlank()
+                ? null : experienceKeyword.trim().toLowerCase(Locale.ROOT);
+
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            ids = collectPage(match(names, matchAll), keyword, cursorId, size + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        boolean hasNext = ids.length > size;
+        long[] pageIds = hasNext ? Arrays.copyOf(ids, size) : ids;
+        List<ProfileDTO> talents = profileService.getProfiles(pageIds);
+        Long nextCursor = hasNext ? pageIds[pageIds.length - 1] : null;
+        return new TalentPageDTO(talents, nextCursor);
+    }
+
+    /**
+     * 색인된 인재가 가진 스택의 표시용 이름 (이름순)
+     */
+    public List<String> getStackNames() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return usersByStack.keySet().stream()
+                    .map(stackNames::get)
+                    .filter(Objects::nonNull)
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된(기업 열람을 허용한) 인재 수
+     */
+    public int getIndexedCount() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return searchable.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스택 조건에 맞는 유저 비트맵을 새로 만들어 반환한다. AND 는 작은 비트맵부터 교집합한다.
+     */
+    private BitSet match(Set<String> names, boolean matchAll) {
+        if (names.isEmpty()) return (BitSet) searchable.clone();
+
+        List<BitSet> bitmaps = new ArrayList<>();
+        for (String name : names) {
+            Long stackId = stackIdsByName.get(name);
+            BitSet users = stackId == null ? null : usersByStack.get(stackId);
+            if (users == null) {
+                if (matchAll) return new BitSet();
+                continue;
+            }
+            bitmaps.add(users);
+        }
+        if (bitmaps.isEmpty()) return new BitSet();
+
+        if (matchAll) bitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size(); i++) {
+            if (matchAll) result.and(bitmaps.get(i));
+            else result.or(bitmaps.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 커서 아래의 유저 id 를 큰 순서대로 limit 개까지 모은다. 키워드가 있으면 경력에 포함된 유저만 담는다.
+     */
+    private long[] collectPage(BitSet candidates, String keyword, Long cursorId, int limit) {
+        int from;
+        if (cursorId == null || cursorId > Integer.MAX_VALUE) from = candidates.length() - 1;
+        else from = (int) (cursorId - 1);
+
+        long[] ids = new long[limit];
+        int count = 0;
+        for (int id = from < 0 ? -1 : candidates.previousSetBit(from); id >= 0 && count < limit;
+             id = id == 0 ? -1 : candidates.previousSetBit(id - 1)) {
+            if (keyword != null) {
+                String experience = experiences.get(id);
+                if (experience == null || !experience.contains(keyword)) continue;
+            }
+            ids[count++] = id;
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * 한 유저의 색인을 DB 의 현재 값으로 바꾼다. 열람할 수 없는 유저면 색인에서 뺀다.
+     */
+    private void reindex(Long userId) {
+        if (userId == null || userId > Integer.MAX_VALUE) return;
+
+        List<StackRow> stacks = new ArrayList<>();
+        List<String> experience = transactionTemplate.execute(status -> {
+            List<String> found = jdbcTemplate.query(SEARCHABLE_PROFILES_SQL + " AND p.user_id = ?",
+                    (rs, rowNum) -> rs.getString(2), userId);
+            if (!found.isEmpty()) {
+                stacks.addAll(jdbcTemplate.query(USER_STACKS_SQL,
+                        (rs, rowNum) -> new StackRow(rs.getLong(1), rs.getString(2), rs.getString(3)), userId));
+            }
+            return found;
+        });
+
+        int id = userId.intValue();
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            if (experience == null || experience.isEmpty()) return;
+
+            long[] stackIds = new long[stacks.size()];
+            for (int i = 0; i < stacks.size(); i++) {
+                StackRow stack = stacks.get(i);
+                stackIdsByName.put(stack.normalizedName(), stack.id());
+                stackNames.put(stack.id(), stack.name());
+                stackIds[i] = stack.id();
+            }
+            add(id, experience.get(0), stackIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(int userId, String experience, long[] stackIds) {
+        searchable.set(userId);
+        if (experience != null) experiences.put(userId, experience.toLowerCase(Locale.ROOT));
+        for (long stackId : stackIds) {
+            usersByStack.computeIfAbsent(stackId, key -> new BitSet()).set(userId);
+        }
+        stacksByUser.put(userId, stackIds);
+    }
+
+    private void remove(int userId) {
+        searchable.clear(userId);
+        experiences.remove(userId);
+        long[] stackIds = stacksByUser.remove(userId);
+        if (stackIds == null) return;
+        for (long stackId : stackIds) {
+            BitSet users = usersByStack.get(stackId);
+            if (users == null) continue;
+            users.clear(userId);
+            if (users.isEmpty()) usersByStack.remove(stackId);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        synchronized (this) {
+            if (loaded) return;
+            long start = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                transactionTemplate.executeWithoutResult(status -> load());
+                loaded = true;
+                log.info("인재 검색 색인을 읽었습니다. users={}, stacks={} ({}ms)",
+                        searchable.cardinality(), usersByStack.size(), System.currentTimeMillis() - start);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 스택 사전, 열람 가능한 프로필, 프로필별 스택을 차례로 읽어 색인을 만든다.
+     */
+    private void load() {
+        stackIdsByName.clear();
+        stackNames.clear();
+        usersByStack.clear();
+        stacksByUser.clear();
+        experiences.clear();
+        searchable.clear();
+
+        jdbcTemplate.query("SELECT id, name, normalized_name FROM tech_stacks", (RowCallbackHandler) rs -> {
+            stackIdsByName.put(rs.getString(3), rs.getLong(1));
+            stackNames.put(rs.getLong(1), rs.getString(2));
+        });
+        streamRows(SEARCHABLE_PROFILES_SQL, rs -> {
+            long userId = rs.getLong(1);
+            if (userId > Integer.MAX_VALUE) return;
+            add((int) userId, rs.getString(2), new long[0]);
+        });
+
+        Map<Integer, List<Long>> stacks = new HashMap<>();
+        streamRows(SEARCHABLE_PROFILE_STACKS_SQL, rs -> {
+            long userId = rs.getLong(1);
+            if (userId > Integer.MAX_VALUE) return;
+            stacks.computeIfAbsent((int) userId, key -> new ArrayList<>()).add(rs.getLong(2));
+        });
+        stacks.forEach((userId, stackIds) -> {
+            long[] ids = stackIds.stream().mapToLong(Long::longValue).toArray();
+            for (long stackId : ids) {
+                usersByStack.computeIfAbsent(stackId, key -> new BitSet()).set(userId);
+            }
+            stacksByUser.put(userId, ids);
+        });
+    }
+
+    private void streamRows(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, handler);
+    }
+
+    private record StackRow(long id, String name, String normalizedName) {}
+}
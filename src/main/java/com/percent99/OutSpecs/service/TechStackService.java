@@ -0,0 +1,86 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.TechStack;
+import com.percent99.OutSpecs.repository.ProfileStackRepository;
+import com.percent99.OutSpecs.repository.TechStackRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기술 스택 사전(tech_stacks)과 프로필별 스택(profile_stacks)을 관리하는 service 객체.<br>
+ * <ul>
+ *     <li>profiles.stacks 의 쉼표 문자열을 정규화해 사전에 없는 스택은 등록하고, 프로필별 스택을 다시 쓴다</li>
+ *     <li>ProfileService 의 프로필 등록 / 수정 / 삭제와 같은 트랜잭션에서 호출한다</li>
+ * </ul>
+ * 기존 프로필은 db/talent_search.sql 로 한 번 백필한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TechStackService {
+
+    private final TechStackRepository techStackRepository;
+    private final ProfileStackRepository profileStackRepository;
+
+    /**
+     * 스택 이름을 정규화한다. 공백을 모두 없애고 소문자로 바꾼다. (예: "Spring Boot" → "springboot")
+     * @param name 스택 이름
+     * @return 정규화한 이름 (null 이면 빈 문자열)
+     */
+    public static String normalize(String name) {
+        if (name == null) return "";
+        return name.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 쉼표로 구분된 스택 문자열을 정규화한 이름 → 표시용 이름으로 나눈다. 중복과 빈 값은 버린다.
+     * @param stacks 쉼표 문자열 (예: "Java, Spring,SQL")
+     * @return 입력 순서를 유지한 정규화 이름 → 표시용 이름
+     */
+    public static Map<String, String> parse(String stacks) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (stacks == null || stacks.isBlank()) return parsed;
+
+        for (String token : stacks.split(",")) {
+            String name = token.trim();
+            String normalized = normalize(name);
+            if (!normalized.isEmpty()) parsed.putIfAbsent(normalized, name);
+        }
+        return parsed;
+    }
+
+    /**
+     * 프로필의 스택을 다시 쓴다. 사전에 없는 스택은 새로 등록한다.
+     * @param userId 프로필 소유자 id
+     * @param stacks 쉼표로 구분된 스택 문자열
+     * @return 프로필에 연결된 스택 id 목록
+     */
+    @Transactional
+    public List<Long> replaceProfileStacks(Long userId, String stacks) {
+        profileStackRepository.deleteByUserId(userId);
+
+        Map<String, String> parsed = parse(stacks);
+        if (parsed.isEmpty()) return List.of();
+
+        parsed.forEach((normalized, name) -> techStackRepository.insertIfAbsent(name, normalized));
+        List<Long> stackIds = techStackRepository.findByNormalizedNameIn(parsed.keySet()).stream()
+                .map(TechStack::getId)
+                .toList();
+        stackIds.forEach(stackId -> profileStackRepository.insert(userId, stackId));
+        return stackIds;
+    }
+
+    /**
+     * 프로필의 스택 연결을 모두 지운다.
+     * @param userId 프로필 소유자 id
+     */
+    @Transactional
+    public void deleteProfileStacks(Long userId) {
+        profileStackRepository.deleteByUserId(userId);
+    }
+}
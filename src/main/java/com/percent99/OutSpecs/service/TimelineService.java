@@ -0,0 +1,243 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.PostListViewDTO;
+import com.percent99.OutSpecs.dto.TimelinePageDTO;
+import com.percent99.OutSpecs.entity.Post;
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.event.PostCreatedEvent;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.util.SortedLongSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우한 사용자들의 게시글을 모아 보여주는 타임라인 service 객체.<br>
+ * <ul>
+ *     <li>유저별 inbox 에 최근 게시글 id 를 최대 timeline.inbox-size 개까지 최신순으로 보관</li>
+ *     <li>팔로워가 timeline.fan-out-threshold 명 미만인 작성자의 새 글은 작성 시 팔로워 inbox 에 넣는다(fan-out-on-write)</li>
+ *     <li>팔로워가 그 이상인 작성자의 글은 inbox 에 넣지 않고 읽을 때 따로 조회해 합친다(fan-out-on-read)</li>
+ *     <li>inbox 는 처음 읽을 때 만들고(lazy), 팔로우가 바뀌면 버린 뒤 다시 만든다</li>
+ *     <li>inbox 는 만들 때의 읽을 때 합치는 작성자 목록을 기억하고, 작성자가 기준을 넘나들어 목록이 달라지면 다시 만든다</li>
+ *     <li>inbox 가 잘렸는지(truncated)를 따로 기억해, 잘린 inbox 만 그보다 오래된 글을 DB 에서 이어서 읽는다</li>
+ * </ul>
+ * 게시글 id 는 작성 순으로 증가하므로 id 를 정렬 기준이자 cursor 로 사용한다.
+ */
+@Slf4j
+@Service
+public class TimelineService {
+    private static final long[] EMPTY = new long[0];
+    private static final Inbox EMPTY_INBOX = new Inbox(EMPTY, EMPTY, false);
+
+    private final PostRepository postRepository;
+    private final PostQueryService postQueryService;
+    private final ReportQueueService reportQueueService;
+    private final FollowGraphService followGraphService;
+    private final int inboxSize;
+    private final int fanOutThreshold;
+    private final Map<Long, Inbox> inboxes;
+
+    public TimelineService(PostRepository postRepository,
+                           PostQueryService postQueryService,
+                           ReportQueueService reportQueueService,
+                           FollowGraphService followGraphService,
+                           @Value("${timeline.inbox-size:300}") int inboxSize,
+                           @Value("${timeline.fan-out-threshold:1000}") int fanOutThreshold,
+                           @Value("${timeline.max-inboxes:10000}") int maxInboxes) {
+        this.postRepository = postRepository;
+        this.postQueryService = postQueryService;
+        this.reportQueueService = reportQueueService;
+        this.followGraphService = followGraphService;
+        this.inboxSize = inboxSize;
+        this.fanOutThreshold = fanOutThreshold;
+        // 가장 오래 읽지 않은 inbox 부터 버린다 (LRU)
+        this.inboxes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Inbox> eldest) {
+                return size() > maxInboxes;
+            }
+        });
+    }
+
+    /**
+     * 팔로잉 타임라인 한 페이지를 조회한다.
+     * @param userId 조회하는 유저 id
+     * @param cursorId 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 최신순 게시글과 다음 cursor
+     */
+    @Transactional(readOnly = true)
+    public TimelinePageDTO getTimeline(Long userId, Long cursorId, int size) {
+        long cursor = cursorId == null ? Long.MAX_VALUE : cursorId;
+        SortedLongSet followees = followGraphService.followingOf(userId);
+        if (followees.isEmpty() || size <= 0) return new TimelinePageDTO(List.of(), null);
+
+        List<Long> ordinaryAuthors = new ArrayList<>();
+        List<Long> fanOutOnReadAuthors = new ArrayList<>();
+        for (int i = 0; i < followees.size(); i++) {
+            long authorId = followees.get(i);
+            if (isFanOutOnRead(authorId)) fanOutOnReadAuthors.add(authorId);
+            else ordinaryAuthors.add(authorId);
+        }
+
+        // 한 건 더 읽어서 다음 페이지 여부를 판단. 신고로 숨겨진 글은 페이지를 자르기 전에 건너뛴다
+        int limit = size + 1;
+        Inbox inbox = inboxFor(userId, ordinaryAuthors, fanOutOnReadAuthors);
+        long[] postIds = inbox.postIds();
+        List<Long> candidates = new ArrayList<>(limit * 2);
+        for (long postId : postIds) {
+            if (candidates.size() >= limit) break;
+            if (postId < cursor && !reportQueueService.isHidden(postId)) candidates.add(postId);
+        }
+
+        // inbox 가 잘려 있는데 페이지를 다 채우지 못했다면 inbox 보다 오래된 글은 DB 에서 이어서 읽는다.
+        // 삭제로 inbox 가 줄어들어도 잘린 inbox 이므로 길이가 아니라 truncated 로 판단한다
+        if (candidates.size() < limit && inbox.truncated() && !ordinaryAuthors.isEmpty()) {
+            long olderThan = postIds.length == 0 ? cursor : Math.min(cursor, postIds[postIds.length - 1]);
+            candidates.addAll(postRepository.findVisibleTimelinePostIds(ordinaryAuthors, olderThan,
+                    PageRequest.of(0, limit - candidates.size())));
+        }
+
+        if (!fanOutOnReadAuthors.isEmpty()) {
+            candidates.addAll(postRepository.findVisibleTimelinePostIds(fanOutOnReadAuthors, cursor, PageRequest.of(0, limit)));
+        }
+
+        List<Long> pageIds = candidates.stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .collect(Collectors.toList());
+        boolean hasNext = pageIds.size() > size;
+        if (hasNext) pageIds = pageIds.subList(0, size);
+
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+        return new TimelinePageDTO(hydrate(pageIds), nextCursor);
+    }
+
+    /**
+     * 새 글을 팔로워 inbox 에 넣는다. 이미 만들어진 inbox 에만 넣고, 없는 inbox 는 읽을 때 만든다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        if (event.getPostId() == null || event.getAuthorId() == null) return;
+        if (isFanOutOnRead(event.getAuthorId())) return;
+
+        long postId = event.getPostId();
+        SortedLongSet followers = followGraphService.followersOf(event.getAuthorId());
+        for (int i = 0; i < followers.size(); i++) {
+            inboxes.computeIfPresent(followers.get(i), (id, inbox) -> insert(inbox, postId));
+        }
+    }
+
+    /**
+     * 삭제된 글을 팔로워 inbox 에서 뺀다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (event.getPostId() == null || event.getAuthorId() == null) return;
+
+        long postId = event.getPostId();
+        SortedLongSet followers = followGraphService.followersOf(event.getAuthorId());
+        for (int i = 0; i < followers.size(); i++) {
+            inboxes.computeIfPresent(followers.get(i), (id, inbox) -> remove(inbox, postId));
+        }
+    }
+
+    /**
+     * 팔로우 대상이 바뀌면 inbox 를 버리고 다음 조회 때 다시 만든다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        inboxes.remove(event.getFollowerId());
+    }
+
+    private boolean isFanOutOnRead(long authorId) {
+        return followGraphService.getFollowerCount(authorId) >= fanOutThreshold;
+    }
+
+    /**
+     * 유저의 inbox 를 반환한다. 없거나, 만들 때와 읽을 때 합치는 작성자 목록이 달라졌다면
+     * (작성자의 팔로워 수가 fan-out 기준을 넘나듦) 새로 만든다.
+     */
+    private Inbox inboxFor(Long userId, List<Long> ordinaryAuthors, List<Long> fanOutOnReadAuthors) {
+        long[] pulledAuthors = fanOutOnReadAuthors.stream().mapToLong(Long::longValue).toArray();
+        Inbox inbox = inboxes.get(userId);
+        if (inbox != null && Arrays.equals(inbox.pulledAuthors(), pulledAuthors)) return inbox;
+
+        Inbox built = EMPTY_INBOX;
+        if (!ordinaryAuthors.isEmpty()) {
+            long[] postIds = postRepository.findTimelinePostIds(ordinaryAuthors, Long.MAX_VALUE, PageRequest.of(0, inboxSize))
+                    .stream().mapToLong(Long::longValue).toArray();
+            built = new Inbox(postIds, pulledAuthors, postIds.length >= inboxSize);
+        } else if (pulledAuthors.length > 0) {
+            built = new Inbox(EMPTY, pulledAuthors, false);
+        }
+
+        if (inbox != null) {
+            inboxes.put(userId, built);
+            return built;
+        }
+        // 만드는 동안 다른 요청이 먼저 넣었다면 그쪽을 사용
+        Inbox existing = inboxes.putIfAbsent(userId, built);
+        return existing != null ? existing : built;
+    }
+
+    /**
+     * 최신순(내림차순) inbox 에 postId 를 넣고 inboxSize 를 넘는 오래된 글은 버린다. 버렸다면 잘린 inbox 가 된다.
+     */
+    private Inbox insert(Inbox inbox, long postId) {
+        long[] postIds = inbox.postIds();
+        int index = 0;
+        while (index < postIds.length && postIds[index] > postId) index++;
+        if (index < postIds.length && postIds[index] == postId) return inbox;
+        if (index >= inboxSize) return inbox.truncated() ? inbox : new Inbox(postIds, inbox.pulledAuthors(), true);
+
+        int length = Math.min(postIds.length + 1, inboxSize);
+        long[] next = new long[length];
+        System.arraycopy(postIds, 0, next, 0, index);
+        next[index] = postId;
+        System.arraycopy(postIds, index, next, index + 1, length - index - 1);
+        return new Inbox(next, inbox.pulledAuthors(), inbox.truncated() || postIds.length >= inboxSize);
+    }
+
+    private Inbox remove(Inbox inbox, long postId) {
+        long[] postIds = inbox.postIds();
+        for (int i = 0; i < postIds.length; i++) {
+            if (postIds[i] != postId) continue;
+            long[] next = new long[postIds.length - 1];
+            System.arraycopy(postIds, 0, next, 0, i);
+            System.arraycopy(postIds, i + 1, next, i, postIds.length - i - 1);
+            return new Inbox(next, inbox.pulledAuthors(), inbox.truncated());
+        }
+        return inbox;
+    }
+
+    private List<PostListViewDTO> hydrate(List<Long> pageIds) {
+        if (pageIds.isEmpty()) return List.of();
+
+        Map<Long, Post> posts = postRepository.findWithUserByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> ordered = pageIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return postQueryService.toViews(ordered, true, false);
+    }
+
+    /**
+     * 유저별 inbox.<br>
+     * postIds : 최신순 게시글 id <br>
+     * pulledAuthors : 만들 때 읽을 때 합치기로 한 작성자 id (오름차순) <br>
+     * truncated : inboxSize 에 걸려 더 오래된 글이 DB 에 남아 있는지 여부
+     */
+    private record Inbox(long[] postIds, long[] pulledAuthors, boolean truncated) {}
+}
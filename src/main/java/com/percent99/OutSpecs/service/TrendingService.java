@@ -0,0 +1,344 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.PostType;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
+import com.percent99.OutSpecs.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시판(PostType)별 "지금 인기 있는" 게시글 순위를 메모리에 유지하는 service 객체.<br>
+ * <ul>
+ *     <li>조회 / 좋아요 / 댓글 / 북마크마다 가중치만큼 점수를 더하고, 점수는 trending.half-life-hours 마다 절반으로 줄어든다</li>
+ *     <li>감쇠는 게시글마다 다시 계산하지 않는다. 기준 시각(epoch) 이후 경과 시간만큼 키운 값(w·e^(λ(t-epoch)))을 더하면
+ *         모든 점수가 같은 비율로 줄어드는 것과 순위가 같으므로, 값이 너무 커지기 전에만 기준 시각을 옮긴다</li>
+ *     <li>게시판별로 점수 순 정렬 집합을 두고 최대 trending.max-posts-per-board 개만 보관한다</li>
+ *     <li>주기적으로 파일에 스냅샷을 남기고 기동 시 읽는다. 스냅샷이 없으면 최근 trending.bootstrap-days 일의 기록으로 다시 계산한다</li>
+ * </ul>
+ * 스냅샷 이후 ~ 재기동 전까지의 반응은 반영되지 않는다.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int FETCH_SIZE = 1000;
+    /** 기준 시각 이후 지수가 이 값을 넘으면 기준 시각을 옮긴다 (e^50 ≈ 5e21) */
+    private static final double MAX_EXPONENT = 50.0;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final String BOOTSTRAP_SQL = """
+            SELECT p.id, p.type, r.created_at, r.reaction_type, 1 FROM reactions r
+            JOIN posts p ON p.id = r.target_id
+            WHERE r.target_type = 'POST' AND r.reaction_type IN ('LIKE', 'BOOKMARK') AND r.created_at >= ?
+            UNION ALL
+            SELECT p.id, p.type, c.created_at, 'COMMENT', 1 FROM comments c
+            JOIN posts p ON p.id = c.parent_id
+            WHERE c.type IN ('COMMENT', 'ANSWER') AND c.created_at >= ?
+            UNION ALL
+            SELECT p.id, p.type, p.created_at, 'VIEW', p.view_count FROM posts p
+            WHERE p.created_at >= ? AND p.view_count > 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PostRepository postRepository;
+    private final double lambda;
+    private final int maxPostsPerBoard;
+    private final int bootstrapDays;
+    private final Path snapshotPath;
+
+    private final Map<PostType, Board> boards = new EnumMap<>(PostType.class);
+    /** 점수 추가는 read lock, 기준 시각 이동은 write lock */
+    private final ReadWriteLock epochLock = new ReentrantReadWriteLock();
+    private volatile long epochMillis;
+
+    public TrendingService(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           PostRepository postRepository,
+                           @Value("${trending.half-life-hours:24}") double halfLifeHours,
+                           @Value("${trending.max-posts-per-board:1000}") int maxPostsPerBoard,
+                           @Value("${trending.bootstrap-days:7}") int bootstrapDays,
+                           @Value("${trending.snapshot-path:./data/trending/snapshot.bin}") String snapshotPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.postRepository = postRepository;
+        this.lambda = Math.log(2) / (halfLifeHours * 3_600_000L);
+        this.maxPostsPerBoard = maxPostsPerBoard;
+        this.bootstrapDays = bootstrapDays;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.epochMillis = System.currentTimeMillis();
+        for (PostType type : PostType.values()) {
+            boards.put(type, new Board());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!loadSnapshot()) bootstrap();
+    }
+
+    /**
+     * 게시판의 인기 게시글 id 를 점수 높은 순으로 반환한다.
+     * @param type 게시판 타입
+     * @param limit 최대 개수
+     */
+    public long[] getTrendingIds(PostType type, int limit) {
+        return boards.get(type).top(limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        if (event.getPostId() == null || event.getKind() == null) return;
+
+        PostType type = event.getType() != null ? event.getType() : resolveType(event.getPostId());
+        if (type == null) return;
+        record(type, event.getPostId(), event.getKind().getWeight() * event.getDelta(), System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (event.getPostId() == null) return;
+        for (Board board : boards.values()) {
+            board.remove(event.getPostId());
+        }
+    }
+
+    /**
+     * 점수가 커지기 전에 기준 시각을 옮기고 스냅샷을 남긴다.
+     */
+    @Scheduled(initialDelayString = "${trending.snapshot-interval-ms:300000}",
+            fixedDelayString = "${trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        if (lambda * (now - epochMillis) > MAX_EXPONENT / 2) rebase(now);
+        writeSnapshot();
+    }
+
+    /**
+     * 게시글 점수에 weight 를 at 시각 기준으로 더한다.
+     */
+    void record(PostType type, long postId, double weight, long at) {
+        epochLock.readLock().lock();
+        try {
+            if (lambda * (at - epochMillis) <= MAX_EXPONENT) {
+                boards.get(type).add(postId, weight * Math.exp(lambda * (at - epochMillis)), maxPostsPerBoard);
+                return;
+            }
+        } finally {
+            epochLock.readLock().unlock();
+        }
+        rebase(at);
+        record(type, postId, weight, at);
+    }
+
+    /**
+     * 모든 점수를 newEpoch 기준으로 다시 맞춘다. 순위는 바뀌지 않는다.
+     */
+    void rebase(long newEpoch) {
+        epochLock.writeLock().lock();
+        try {
+            if (newEpoch <= epochMillis) return;
+            double factor = Math.exp(-lambda * (newEpoch - epochMillis));
+            for (Board board : boards.values()) {
+                board.scale(factor);
+            }
+            epochMillis = newEpoch;
+        } finally {
+            epochLock.writeLock().unlock();
+        }
+    }
+
+    private PostType resolveType(Long postId) {
+        for (Map.Entry<PostType, Board> entry : boards.entrySet()) {
+            if (entry.getValue().contains(postId)) return entry.getKey();
+        }
+        return postRepository.findTypeById(postId).orElse(null);
+    }
+
+    /**
+     * 최근 bootstrapDays 일의 좋아요 / 북마크 / 댓글과 그 기간에 작성된 게시글의 조회수로 점수를 다시 계산한다.<br>
+     * PostgreSQL 은 autocommit 이 꺼진 연결에서만 fetchSize 대로 나눠 읽으므로 읽기 전용 트랜잭션 안에서 실행한다.
+     */
+    private void bootstrap() {
+        long start = System.currentTimeMillis();
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now(ZONE).minusDays(bootstrapDays));
+        int[] rows = {0};
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BOOTSTRAP_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setTimestamp(1, since);
+            ps.setTimestamp(2, since);
+            ps.setTimestamp(3, since);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            Timestamp at = rs.getTimestamp(3);
+            if (at == null) return;
+            PostEngagementEvent.Kind kind = PostEngagementEvent.Kind.valueOf(rs.getString(4));
+            long atMillis = at.toLocalDateTime().atZone(ZONE).toInstant().toEpochMilli();
+            record(PostType.valueOf(rs.getString(2)), rs.getLong(1), kind.getWeight() * rs.getLong(5), atMillis);
+            rows[0]++;
+        }));
+        log.info("인기 게시글 점수를 다시 계산했습니다. rows={} ({}ms)", rows[0], System.currentTimeMillis() - start);
+    }
+
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) return false;
+            long epoch = in.readLong();
+            int boardCount = in.readInt();
+            Map<PostType, Board> loaded = new EnumMap<>(PostType.class);
+            for (int b = 0; b < boardCount; b++) {
+                String typeName = in.readUTF();
+                int size = in.readInt();
+                Board board = new Board();
+                for (int i = 0; i < size; i++) {
+                    board.add(in.readLong(), in.readDouble(), maxPostsPerBoard);
+                }
+                try {
+                    loaded.put(PostType.valueOf(typeName), board);
+                } catch (IllegalArgumentException ignore) {
+                    // 더 이상 없는 게시판 타입은 버린다
+                }
+            }
+
+            epochLock.writeLock().lock();
+            try {
+                epochMillis = epoch;
+                loaded.forEach((type, board) -> boards.get(type).replaceWith(board));
+            } finally {
+                epochLock.writeLock().unlock();
+            }
+            log.info("인기 게시글 스냅샷을 읽었습니다. path={}", snapshotPath);
+            return true;
+        } catch (IOException e) {
+            log.warn("인기 게시글 스냅샷을 읽지 못했습니다. 다시 계산합니다. path={}", snapshotPath, e);
+            return false;
+        }
+    }
+
+    private void writeSnapshot() {
+        try {
+            Path dir = snapshotPath.toAbsolutePath().getParent();
+            if (dir != null) Files.createDirectories(dir);
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+            epochLock.readLock().lock();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(epochMillis);
+                out.writeInt(boards.size());
+                for (Map.Entry<PostType, Board> entry : boards.entrySet()) {
+                    out.writeUTF(entry.getKey().name());
+                    entry.getValue().writeTo(out);
+                }
+            } finally {
+                epochLock.readLock().unlock();
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("인기 게시글 스냅샷을 남기지 못했습니다. path={}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 한 게시판의 (게시글 id → 점수)와 점수 내림차순 정렬 집합. 모든 접근은 this 로 동기화한다.
+     */
+    static final class Board {
+        private static final Comparator<Entry> RANK = Comparator.comparingDouble(Entry::score).reversed()
+                .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final TreeSet<Entry> ranking = new TreeSet<>(RANK);
+
+        synchronized void add(long postId, double score, int maxSize) {
+            Entry previous = entries.remove(postId);
+            if (previous != null) ranking.remove(previous);
+
+            double next = (previous == null ? 0 : previous.score()) + score;
+            if (next <= 0) return;
+
+            Entry entry = new Entry(postId, next);
+            entries.put(postId, entry);
+            ranking.add(entry);
+            if (ranking.size() > maxSize) {
+                entries.remove(ranking.pollLast().postId());
+            }
+        }
+
+        synchronized void remove(long postId) {
+            Entry previous = entries.remove(postId);
+            if (previous != null) ranking.remove(previous);
+        }
+
+        synchronized boolean contains(long postId) {
+            return entries.containsKey(postId);
+        }
+
+        synchronized long[] top(int limit) {
+            long[] ids = new long[Math.min(Math.max(limit, 0), ranking.size())];
+            Iterator<Entry> iterator = ranking.iterator();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = iterator.next().postId();
+            }
+            return ids;
+        }
+
+        synchronized void scale(double factor) {
+            List<Entry> scaled = new ArrayList<>(ranking.size());
+            for (Entry entry : ranking) {
+                scaled.add(new Entry(entry.postId(), entry.score() * factor));
+            }
+            ranking.clear();
+            entries.clear();
+            for (Entry entry : scaled) {
+                ranking.add(entry);
+                entries.put(entry.postId(), entry);
+            }
+        }
+
+        synchronized void replaceWith(Board other) {
+            synchronized (other) {
+                ranking.clear();
+                entries.clear();
+                ranking.addAll(other.ranking);
+                entries.putAll(other.entries);
+            }
+        }
+
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(ranking.size());
+            for (Entry entry : ranking) {
+                out.writeLong(entry.postId());
+                out.writeDouble(entry.score());
+            }
+        }
+
+        private record Entry(long postId, double score) {}
+    }
+}
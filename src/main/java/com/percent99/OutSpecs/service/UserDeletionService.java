@@ -0,0 +1,552 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.DeletionStatsDTO;
+import com.percent99.OutSpecs.dto.RemovedReaction;
+import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
+import com.percent99.OutSpecs.repository.UserDeletionJobRepository;
+import com.percent99.OutSpecs.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 삭제를 백그라운드 작업(user_deletion_jobs)으로 진행하는 service 객체.<br>
+ * <ul>
+ *     <li>삭제 요청 시 회원을 탈퇴 상태로 바꾸고 작업만 등록한다 (로그인은 즉시 막힌다)</li>
+ *     <li>작업은 {@link UserDeletionStep} 순서대로, 단계마다 회원 id 로 인덱스를 타는 짧은 단일 문장 chunk 로 삭제한다</li>
+ *     <li>chunk 마다 진행 단계와 삭제 건수를 작업 행에 저장하므로, 중단되거나 실패해도 다음 실행에서 현재 단계부터 이어서 진행한다</li>
+ *     <li>게시글 / 프로필 이미지는 S3 에서 먼저 묶어서 지운 뒤 DB 행을 지운다 (다시 실행해도 결과는 같다)</li>
+ * </ul>
+ * 각 chunk 사이에 user-deletion.throttle-ms 만큼 쉬며, 한 번의 실행에서 작업 하나당 최대 user-deletion.max-chunks-per-run 번까지만 실행한다.
+ * 한 번의 실행은 user-deletion.max-run-ms 를 넘기면 진행 중인 chunk 까지만 마치고 다음 실행으로 넘긴다.
+ * 회원이 남기거나 받은 반응은 ReactionService.applyRemoved 로 팔로우 그래프, 신고 수, 인기 점수에서도 되돌린다.
+ * 채팅방을 지울 때는 디스크에 보관된 채팅방의 메시지 세그먼트도 함께 지운다.
+ * 삭제된 게시글 / 댓글을 가리키는 반응은 RetentionService 의 고아 반응 정리에 맡긴다.
+ */
+@Slf4j
+@Service
+public class UserDeletionService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    /**
+     * 회원이 남긴 반응을 지우면서, 다른 회원의 묶음 알림(팔로우 / 좋아요)의 최근 보낸 사람 목록에서 회원을 뺀다.
+     * 묶음 알림은 받는 사람(팔로우 대상, 게시글 / 댓글 작성자)과 대상으로 idx_notification_coalesce 를 탄다.
+     */
+    private static final String DELETE_OWN_REACTIONS_SQL = """
+            WITH removed AS (
+                DELETE FROM reactions
+                WHERE id IN (SELECT id FROM reactions WHERE user_id = ? ORDER BY id LIMIT ?)
+                RETURNING target_type, target_id, reaction_type
+            ), coalesced AS (
+                SELECT CASE r.target_type WHEN 'USER' THEN 'FOLLOW' WHEN 'POST' THEN 'LIKE_POST' ELSE 'LIKE_COMMENT' END AS type,
+                       r.target_id,
+                       CASE r.target_type
+                           WHEN 'USER' THEN r.target_id
+                           WHEN 'POST' THEN (SELECT p.user_id FROM posts p WHERE p.id = r.target_id)
+                           ELSE (SELECT c.user_id FROM comments c WHERE c.id = r.target_id)
+                       END AS receiver_id
+                FROM removed r
+                WHERE (r.target_type = 'USER' AND r.reaction_type = 'FOLLOW')
+                   OR (r.target_type IN ('POST', 'COMMENT') AND r.reaction_type = 'LIKE')
+            ), stripped AS (
+                UPDATE notification n
+                SET recent_sender_ids = NULLIF(array_to_string(
+                        array_remove(string_to_array(n.recent_sender_ids, ','), CAST(? AS text)), ','), ''),
+                    aggregate_count = GREATEST(n.aggregate_count - 1, 1)
+                FROM coalesced c
+                WHERE n.receiver_id = c.receiver_id AND n.target_type = c.type AND n.target_id = c.target_id
+                  AND n.sender_id <> ?
+                  AND CAST(? AS text) = ANY(string_to_array(n.recent_sender_ids, ','))
+            )
+            SELECT target_type, target_id, reaction_type FROM removed
+            """;
+    private static final String DELETE_TARGET_REACTIONS_SQL = """
+            DELETE FROM reactions
+            WHERE id IN (SELECT id FROM reactions WHERE target_type = 'USER' AND target_id = ? ORDER BY id LIMIT ?)
+            RETURNING user_id, reaction_type
+            """;
+    private static final String DELETE_NOTIFICATIONS_SQL = """
+            DELETE FROM notification
+            WHERE id IN (SELECT id FROM notification WHERE receiver_id = ? OR sender_id = ? LIMIT ?)
+            """;
+    private static final String DELETE_PARTICIPATIONS_SQL = """
+            WITH removed AS (
+                DELETE FROM participations
+                WHERE id IN (SELECT id FROM participations WHERE user_id = ? ORDER BY id LIMIT ?)
+                RETURNING post_id, status
+            ), counts AS (
+                SELECT post_id,
+                       COUNT(*) AS applied,
+                       COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted
+                FROM removed
+                GROUP BY post_id
+            ), counted AS (
+                UPDATE posts_team_information t
+                SET applied_count  = GREATEST(COALESCE(t.applied_count, 0) - c.applied, 0),
+                    accepted_count = GREATEST(COALESCE(t.accepted_count, 0) - c.accepted, 0)
+                FROM counts c
+                WHERE t.post_id = c.post_id
+            )
+            SELECT COUNT(*) FROM removed
+            """;
+    /**
+     * 회원이 쓴 댓글과 그 아래 다른 회원의 댓글을 DELETE_POST_COMMENTS_SQL 과 같은 세 단계로 지운다.<br>
+     * top : 회원의 댓글 (ANSWER / COMMENT / REPLY), mid : 회원의 ANSWER 아래 COMMENT,
+     * leaf : 회원의 COMMENT 또는 mid 아래 REPLY. 회원 자신의 하위 댓글은 top 으로 지워지므로 mid / leaf 에서 뺀다.
+     */
+    private static final String DELETE_OWN_COMMENTS_SQL = """
+            WITH top AS (
+                DELETE FROM comments
+                WHERE id IN (SELECT id FROM comments WHERE user_id = ? ORDER BY id LIMIT ?)
+                RETURNING id, type
+            ), mid AS (
+                DELETE FROM comments c
+                USING top t
+                WHERE t.type = 'ANSWER' AND c.type = 'COMMENT' AND c.parent_id = t.id
+                  AND c.user_id <> ?
+                RETURNING c.id
+            ), leaf AS (
+                DELETE FROM comments c
+                WHERE c.type = 'REPLY'
+                  AND c.user_id <> ?
+                  AND (c.parent_id IN (SELECT id FROM top WHERE type = 'COMMENT') OR c.parent_id IN (SELECT id FROM mid))
+                RETURNING c.id
+            )
+            SELECT (SELECT COUNT(*) FROM top), (SELECT COUNT(*) FROM mid) + (SELECT COUNT(*) FROM leaf)
+            """;
+    private static final String SELECT_NEXT_CHAT_ROOM_SQL = """
+            SELECT id FROM chat_rooms WHERE user1_id = ? OR user2_id = ? ORDER BY id LIMIT 1
+            """;
+    private static final String DELETE_CHAT_MESSAGES_SQL = """
+            DELETE FROM chat_messages
+            WHERE (id, created_at) IN (
+                SELECT id, created_at FROM chat_messages WHERE chat_room_id = ? ORDER BY created_at LIMIT ?
+            )
+            """;
+    private static final String SELECT_NEXT_POSTS_SQL = """
+            SELECT id FROM posts WHERE user_id = ? ORDER BY id LIMIT ?
+            """;
+    private static final String DELETE_POST_COMMENTS_SQL = """
+            WITH top AS (
+                DELETE FROM comments c
+                USING posts p
+                WHERE p.id IN (:postIds)
+                  AND c.parent_id = p.id
+                  AND c.type = CASE WHEN p.type = 'QNA' THEN 'ANSWER' ELSE 'COMMENT' END
+                RETURNING c.id, c.type
+            ), mid AS (
+                DELETE FROM comments c
+                USING top t
+                WHERE t.type = 'ANSWER' AND c.type = 'COMMENT' AND c.parent_id = t.id
+                RETURNING c.id
+            ), leaf AS (
+                DELETE FROM comments c
+                WHERE c.type = 'REPLY'
+                  AND (c.parent_id IN (SELECT id FROM top WHERE type = 'COMMENT') OR c.parent_id IN (SELECT id FROM mid))
+                RETURNING c.id
+            )
+            SELECT (SELECT COUNT(*) FROM top) + (SELECT COUNT(*) FROM mid) + (SELECT COUNT(*) FROM leaf)
+            """;
+    /** 게시글에 딸린 행과 게시글. 외래키 순서대로 지운다. */
+    private static final List<String> DELETE_POST_ROWS_SQL = List.of(
+            "DELETE FROM reactions WHERE target_type = 'POST' AND target_id IN (:postIds)",
+            "DELETE FROM participations WHERE post_id IN (:postIds)",
+            "DELETE FROM images WHERE post_id IN (:postIds)",
+            "DELETE FROM posts_tags WHERE post_id IN (:postIds)",
+            "DELETE FROM techniques WHERE post_id IN (:postIds)",
+            "DELETE FROM posts_job WHERE post_id IN (:postIds)",
+            "DELETE FROM posts_hangout WHERE post_id IN (:postIds)",
+            "DELETE FROM posts_qna WHERE post_id IN (:postIds)",
+            "DELETE FROM posts_team_information WHERE post_id IN (:postIds)",
+            "DELETE FROM posts WHERE id IN (:postIds)");
+
+    private final UserDeletionJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final S3Service s3Service;
+    private final ReactionService reactionService;
+    private final ChatMessageArchiveService chatMessageArchiveService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int postChunkSize;
+    private final long throttleMs;
+    private final int maxChunksPerRun;
+    private final long maxRunMs;
+    private final int jobsPerRun;
+    private final int maxAttempts;
+
+    private final LongAdder deletedRows = new LongAdder();
+    private final LongAdder deletedObjects = new LongAdder();
+    private final LongAdder completedJobs = new LongAdder();
+    private final LongAdder failedRuns = new LongAdder();
+
+    public UserDeletionService(UserDeletionJobRepository jobRepository,
+                               UserRepository userRepository,
+                               UserStatsService userStatsService,
+                               S3Service s3Service,
+                               ReactionService reactionService,
+                               ChatMessageArchiveService chatMessageArchiveService,
+                               JdbcTemplate jdbcTemplate,
+                               NamedParameterJdbcTemplate namedJdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${user-deletion.enabled:true}") boolean enabled,
+                               @Value("${user-deletion.chunk-size:500}") int chunkSize,
+                               @Value("${user-deletion.post-chunk-size:50}") int postChunkSize,
+                               @Value("${user-deletion.throttle-ms:100}") long throttleMs,
+                               @Value("${user-deletion.max-chunks-per-run:200}") int maxChunksPerRun,
+                               @Value("${user-deletion.max-run-ms:20000}") long maxRunMs,
+                               @Value("${user-deletion.jobs-per-run:5}") int jobsPerRun,
+                               @Value("${user-deletion.max-attempts:5}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.userStatsService = userStatsService;
+        this.s3Service = s3Service;
+        this.reactionService = reactionService;
+        this.chatMessageArchiveService = chatMessageArchiveService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.postChunkSize = postChunkSize;
+        this.throttleMs = throttleMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.maxRunMs = maxRunMs;
+        this.jobsPerRun = jobsPerRun;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 회원 삭제를 요청한다. 회원을 탈퇴 상태로 바꾸고 삭제 작업을 등록한다.<br>
+     * 이미 등록된 작업이 있으면 그대로 반환하고, 재시도 횟수를 다 쓴 작업이면 처음부터 다시 시작한다.
+     * @param userId 삭제할 회원 id
+     * @return 삭제 작업
+     */
+    @Transactional
+    public UserDeletionJob requestDeletion(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 유저는 존재하지 않습니다."));
+
+        if (user.getStatus() != UserStatus.DELETED) {
+            UserStatus oldStatus = user.getStatus();
+            user.setStatus(UserStatus.DELETED);
+            userStatsService.recordChanged(user.getRole(), oldStatus, user);
+            eventPublisher.publishEvent(new ProfileChangedEvent(userId));
+        }
+
+        UserDeletionJob job = jobRepository.findByUserId(userId).orElse(null);
+        if (job == null) {
+            job = new UserDeletionJob();
+            job.setUserId(userId);
+            job.restart();
+            return jobRepository.save(job);
+        }
+        if (job.getStatus() == UserDeletionStatus.FAILED && job.getAttempts() >= maxAttempts) {
+            job.restart();
+        }
+        return job;
+    }
+
+    /**
+     * 진행할 삭제 작업을 요청 순으로 이어서 실행한다.<br>
+     * max-run-ms 가 지나면 남은 작업은 다음 실행으로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${user-deletion.fixed-delay-ms:60000}")
+    public void processJobs() {
+        if (!enabled) return;
+
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        List<UserDeletionJob> jobs = jobRepository.findRunnable(
+                EnumSet.of(UserDeletionStatus.PENDING, UserDeletionStatus.RUNNING),
+                UserDeletionStatus.FAILED, maxAttempts, PageRequest.of(0, jobsPerRun));
+        for (UserDeletionJob job : jobs) {
+            if (!process(job, deadline)) break;
+        }
+    }
+
+    /**
+     * 작업 하나를 최대 max-chunks-per-run 번의 chunk 만큼, deadline 전까지 진행한다.
+     * @return 다음 작업으로 넘어가도 되면 true (실행 시간을 다 썼거나 인터럽트되면 false)
+     */
+    private boolean process(UserDeletionJob job, long deadline) {
+        job.setStatus(UserDeletionStatus.RUNNING);
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                boolean stepDone = runChunk(job);
+                if (stepDone) {
+                    UserDeletionStep next = job.getStep().next();
+                    if (next == null) {
+                        finish(job);
+                        return true;
+                    }
+                    job.setStep(next);
+                }
+                save(job);
+                if (System.currentTimeMillis() >= deadline || !throttle()) return false;
+            }
+            save(job);
+        } catch (RuntimeException e) {
+            job.setStatus(UserDeletionStatus.FAILED);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLastError(truncate(e.getClass().getSimpleName() + ": " + e.getMessage()));
+            save(job);
+            failedRuns.increment();
+            log.warn("회원 삭제 작업 실패. userId={}, step={}, attempts={}",
+                    job.getUserId(), job.getStep(), job.getAttempts(), e);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 단계에서 chunk 하나를 삭제한다.
+     * @return 현재 단계에 더 지울 것이 없으면 true
+     */
+    private boolean runChunk(UserDeletionJob job) {
+        Long userId = job.getUserId();
+        return switch (job.getStep()) {
+            case REACTIONS -> deleteOwnReactions(job, userId);
+            case FOLLOWERS -> deleteTargetReactions(job, userId);
+            case NOTIFICATIONS -> deleteNotifications(job, userId);
+            case PARTICIPATIONS -> deleteParticipations(job, userId);
+            case COMMENTS -> deleteOwnComments(job, userId);
+            case CHAT_ROOMS -> deleteNextChatRoomChunk(job, userId);
+            case POSTS -> deleteNextPosts(job, userId);
+            case ACCOUNT -> deleteAccount(job, userId);
+        };
+    }
+
+    /**
+     * 회원이 남긴 반응을 지우고, 같은 트랜잭션에서 팔로우 그래프 / 신고 수 / 인기 점수를 되돌린다.
+     */
+    private boolean deleteOwnReactions(UserDeletionJob job, Long userId) {
+        List<RemovedReaction> removed = transactionTemplate.execute(status -> {
+            List<RemovedReaction> rows = jdbcTemplate.query(DELETE_OWN_REACTIONS_SQL,
+                    (rs, rowNum) -> new RemovedReaction(userId, TargetType.valueOf(rs.getString(1)), rs.getLong(2),
+                            ReactionType.valueOf(rs.getString(3))),
+                    userId, chunkSize, userId, userId, userId);
+            reactionService.applyRemoved(rows);
+            return rows;
+        });
+        int count = removed == null ? 0 : removed.size();
+        addRows(job, count);
+        return count < chunkSize;
+    }
+
+    /**
+     * 회원을 대상으로 한 반응(팔로우, 신고 등)을 지우고, 같은 트랜잭션에서 팔로우 그래프 / 신고 수를 되돌린다.
+     */
+    private boolean deleteTargetReactions(UserDeletionJob job, Long userId) {
+        List<RemovedReaction> removed = transactionTemplate.execute(status -> {
+            List<RemovedReaction> rows = jdbcTemplate.query(DELETE_TARGET_REACTIONS_SQL,
+                    (rs, rowNum) -> new RemovedReaction(rs.getLong(1), TargetType.USER, userId,
+                            ReactionType.valueOf(rs.getString(2))),
+                    userId, chunkSize);
+            reactionService.applyRemoved(rows);
+            return rows;
+        });
+        int count = removed == null ? 0 : removed.size();
+        addRows(job, count);
+        return count < chunkSize;
+    }
+
+    private boolean deleteNotifications(UserDeletionJob job, Long userId) {
+        int deleted = jdbcTemplate.update(DELETE_NOTIFICATIONS_SQL, userId, userId, chunkSize);
+        addRows(job, deleted);
+        return deleted < chunkSize;
+    }
+
+    /**
+     * 회원의 팀모집 신청을 지우고, 같은 문장에서 게시글별 신청 / 수락 인원을 줄인다.
+     */
+    private boolean deleteParticipations(UserDeletionJob job, Long userId) {
+        Long deleted = jdbcTemplate.queryForObject(DELETE_PARTICIPATIONS_SQL, Long.class, userId, chunkSize);
+        long count = deleted == null ? 0 : deleted;
+        addRows(job, count);
+        return count < chunkSize;
+    }
+
+    /**
+     * 회원이 쓴 댓글과, 다른 회원이 그 아래에 단 댓글(답변 아래 댓글과 그 답글까지)을 지운다.
+     */
+    private boolean deleteOwnComments(UserDeletionJob job, Long userId) {
+        long[] deleted = jdbcTemplate.queryForObject(DELETE_OWN_COMMENTS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, userId, chunkSize, userId, userId);
+        if (deleted == null) return true;
+        addRows(job, deleted[0] + deleted[1]);
+        return deleted[0] < chunkSize;
+    }
+
+    /**
+     * 회원이 참여한 채팅방 하나의 메시지를 chunk 만큼 지우고, 메시지가 더 없으면 보관된 세그먼트와 채팅방을 지운다.<br>
+     * 세그먼트를 먼저 지우므로, 세그먼트 삭제에 실패하면 채팅방 행이 남아 다음 실행에서 다시 지운다.
+     */
+    private boolean deleteNextChatRoomChunk(UserDeletionJob job, Long userId) {
+        List<Long> rooms = jdbcTemplate.queryForList(SELECT_NEXT_CHAT_ROOM_SQL, Long.class, userId, userId);
+        if (rooms.isEmpty()) return true;
+
+        Long roomId = rooms.get(0);
+        int deleted = jdbcTemplate.update(DELETE_CHAT_MESSAGES_SQL, roomId, chunkSize);
+        if (deleted < chunkSize) {
+            try {
+                chatMessageArchiveService.purgeRoom(roomId);
+            } catch (IOException e) {
+                throw new UncheckedIOException("보관된 채팅 세그먼트를 지우지 못했습니다. chatRoomId=" + roomId, e);
+            }
+            deleted += jdbcTemplate.update("DELETE FROM chat_rooms WHERE id = ?", roomId);
+        }
+        addRows(job, deleted);
+        return false;
+    }
+
+    /**
+     * 회원이 쓴 게시글을 post-chunk-size 개씩 지운다.<br>
+     * 이미지를 S3 에서 먼저 지운 뒤, 딸린 행과 게시글을 한 트랜잭션에서 지운다.
+     */
+    private boolean deleteNextPosts(UserDeletionJob job, Long userId) {
+        List<Long> postIds = jdbcTemplate.queryForList(SELECT_NEXT_POSTS_SQL, Long.class, userId, postChunkSize);
+        if (postIds.isEmpty()) return true;
+
+        MapSqlParameterSource params = new MapSqlParameterSource("postIds", postIds);
+        List<String> s3Keys = namedJdbcTemplate.queryForList(
+                "SELECT s3_key FROM images WHERE post_id IN (:postIds)", params, String.class);
+        if (!s3Keys.isEmpty()) {
+            s3Service.deleteFiles(s3Keys);
+            addObjects(job, s3Keys.size());
+        }
+
+        Long deleted = transactionTemplate.execute(status -> {
+            Long comments = namedJdbcTemplate.queryForObject(DELETE_POST_COMMENTS_SQL, params, Long.class);
+            long total = comments == null ? 0 : comments;
+            for (String sql : DELETE_POST_ROWS_SQL) {
+                total += namedJdbcTemplate.update(sql, params);
+            }
+            postIds.forEach(postId -> eventPublisher.publishEvent(new PostDeletedEvent(postId, userId)));
+            return total;
+        });
+        addRows(job, deleted == null ? 0 : deleted);
+        return postIds.size() < postChunkSize;
+    }
+
+    /**
+     * 프로필 이미지를 S3 에서 지운 뒤 프로필과 회원을 지운다.
+     */
+    private boolean deleteAccount(UserDeletionJob job, Long userId) {
+        List<String> s3Keys = jdbcTemplate.queryForList(
+                "SELECT s3_key FROM profiles WHERE user_id = ? AND s3_key IS NOT NULL AND s3_key <> ''", String.class, userId);
+        if (!s3Keys.isEmpty()) {
+            s3Service.deleteFiles(s3Keys);
+            addObjects(job, s3Keys.size());
+        }
+
+        Integer deleted = transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user == null) return 0;
+            int rows = jdbcTemplate.update("DELETE FROM profile_stacks WHERE user_id = ?", userId);
+            rows += user.getProfile() != null ? 2 : 1;
+            userRepository.delete(user);
+            userStatsService.recordDeleted(user);
+            eventPublisher.publishEvent(new ProfileChangedEvent(userId));
+            return rows;
+        });
+        addRows(job, deleted == null ? 0 : deleted);
+        return true;
+    }
+
+    private void finish(UserDeletionJob job) {
+        job.setStatus(UserDeletionStatus.DONE);
+        job.setLastError(null);
+        job.setFinishedAt(LocalDateTime.now());
+        save(job);
+        completedJobs.increment();
+        log.info("회원 삭제 작업 완료. userId={}, 삭제된 행 {}건, 삭제된 파일 {}건",
+                job.getUserId(), job.getDeletedRows(), job.getDeletedObjects());
+    }
+
+    private void save(UserDeletionJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+    }
+
+    private void addRows(UserDeletionJob job, long rows) {
+        job.setDeletedRows(job.getDeletedRows() + rows);
+        deletedRows.add(rows);
+    }
+
+    private void addObjects(UserDeletionJob job, long objects) {
+        job.setDeletedObjects(job.getDeletedObjects() + objects);
+        deletedObjects.add(objects);
+    }
+
+    /**
+     * 대기 / 진행 중이거나 실패한 작업 수
+     */
+    public long getPendingJobCount() {
+        return jobRepository.countByStatusIn(
+                EnumSet.of(UserDeletionStatus.PENDING, UserDeletionStatus.RUNNING, UserDeletionStatus.FAILED));
+    }
+
+    public long getDeletedRowCount() {
+        return deletedRows.sum();
+    }
+
+    public long getDeletedObjectCount() {
+        return deletedObjects.sum();
+    }
+
+    public long getCompletedJobCount() {
+        return completedJobs.sum();
+    }
+
+    public long getFailedRunCount() {
+        return failedRuns.sum();
+    }
+
+    /**
+     * 관리자 대시보드에 보여줄 삭제 작업 통계
+     */
+    public DeletionStatsDTO getStats() {
+        return new DeletionStatsDTO(getPendingJobCount(), getCompletedJobCount(), getFailedRunCount(),
+                getDeletedRowCount(), getDeletedObjectCount());
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private boolean throttle() {
+        if (throttleMs <= 0) return true;
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
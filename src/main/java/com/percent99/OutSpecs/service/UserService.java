@@ -25,9 +25,10 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final S3Service s3Service;
     private final PasswordEncoder passwordEncoder;
     private final ProfileRepository profileRepository;
+    private final UserStatsService userStatsService;
+    private final UserDeletionService userDeletionService;
 
     @Value("${chatbot.CHATBOT_USERNAME}")
     private String CHATBOT_USERNAME;
@@ -78,7 +79,9 @@ public class UserService {
         user.setRole(UserRoleType.USER);
         user.setAiRateLimit(DEFAULT_AI_RATE_LIMIT);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userStatsService.recordCreated(saved);
+        return saved;
     }
 
     /**
@@ -116,27 +119,12 @@ public class UserService {
     }
 
     /**
-     * 유저정보 삭제
+     * 유저정보 삭제<br>
+     * 유저를 탈퇴 상태로 바꾸고 삭제 작업을 등록한다. 실제 삭제는 {@link UserDeletionService} 가 백그라운드에서 진행한다.
      * @param userId
      */
     public void deleteUserAndProfile(Long userId) {
-
-        String s3Key = deleteUserInTx(userId);
-
-        if(s3Key != null && !s3Key.isBlank()){
-            s3Service.deleteFile(s3Key);
-        }
-    }
-
-    @Transactional
-    public String deleteUserInTx(Long userId){
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 유저는 존재하지않습니다."));
-
-        Profile profile = user.getProfile();
-        String s3Key = profile != null ? profile.getS3Key() : null;
-        userRepository.delete(user);
-        return s3Key;
+        userDeletionService.requestDeletion(userId);
     }
 
     @Transactional
@@ -149,7 +137,9 @@ public class UserService {
       user.setAiRateLimit(0);
       user.setCreatedAt(LocalDateTime.now());
 
-      return userRepository.save(user);
+      User saved = userRepository.save(user);
+      userStatsService.recordCreated(saved);
+      return saved;
     }
 
     @Transactional
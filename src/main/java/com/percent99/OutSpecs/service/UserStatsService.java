@@ -0,0 +1,83 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.UserStatsDTO;
+import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.entity.UserCounter;
+import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
+import com.percent99.OutSpecs.repository.UserCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 권한 / 상태별 회원 수를 user_counters 에 증감해 관리하는 service 객체.<br>
+ * <ul>
+ *     <li>회원을 만들거나 권한 / 상태를 바꾸거나 삭제하는 곳에서 같은 트랜잭션 안에서 호출한다</li>
+ *     <li>통계는 (role, status) 조합 수만큼의 행만 읽으므로 회원 수와 상관없이 일정하다</li>
+ * </ul>
+ * 기존 회원 수는 db/users_admin_console.sql 로 한 번 백필한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserCounterRepository userCounterRepository;
+
+    /**
+     * 새 회원을 센다.
+     */
+    @Transactional
+    public void recordCreated(User user) {
+        increment(user.getRole(), user.getStatus(), 1);
+    }
+
+    /**
+     * 권한 또는 상태가 바뀐 회원을 이전 조합에서 빼고 새 조합에 더한다.
+     * @param oldRole 변경 전 권한
+     * @param oldStatus 변경 전 상태
+     * @param user 변경 후 회원
+     */
+    @Transactional
+    public void recordChanged(UserRoleType oldRole, UserStatus oldStatus, User user) {
+        if (oldRole == user.getRole() && oldStatus == user.getStatus()) return;
+        increment(oldRole, oldStatus, -1);
+        increment(user.getRole(), user.getStatus(), 1);
+    }
+
+    /**
+     * 삭제된 회원을 뺀다.
+     */
+    @Transactional
+    public void recordDeleted(User user) {
+        increment(user.getRole(), user.getStatus(), -1);
+    }
+
+    /**
+     * 전체 / 권한별 / 상태별 회원 수
+     */
+    @Transactional(readOnly = true)
+    public UserStatsDTO getStats() {
+        Map<UserRoleType, Long> byRole = new EnumMap<>(UserRoleType.class);
+        Map<UserStatus, Long> byStatus = new EnumMap<>(UserStatus.class);
+        for (UserRoleType role : UserRoleType.values()) byRole.put(role, 0L);
+        for (UserStatus status : UserStatus.values()) byStatus.put(status, 0L);
+
+        long total = 0;
+        for (UserCounter counter : userCounterRepository.findAll()) {
+            byRole.merge(counter.getRole(), counter.getUserCount(), Long::sum);
+            byStatus.merge(counter.getStatus(), counter.getUserCount(), Long::sum);
+            total += counter.getUserCount();
+        }
+        return new UserStatsDTO(total, byRole, byStatus);
+    }
+
+    private void increment(UserRoleType role, UserStatus status, int delta) {
+        if (role == null) return;
+        UserStatus effective = status == null ? UserStatus.ACTIVE : status;
+        userCounterRepository.increment(role.name(), effective.name(), delta);
+    }
+}
@@ -0,0 +1,90 @@
+package com.percent99.OutSpecs.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long 배열 기반의 불변 집합<br>
+ * boxing 없이 id 집합을 보관하기 위해 사용하며, 추가/삭제 시 새 인스턴스를 반환한다(copy-on-write).
+ * <ul>
+ *     <li>contains : 이진 탐색 O(log n)</li>
+ *     <li>with / without : 배열 복사 O(n)</li>
+ * </ul>
+ */
+public final class SortedLongSet {
+
+    public static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 정렬되고 중복이 없는 배열을 복사 없이 감싼다. 호출한 쪽은 이후 배열을 수정하면 안 된다.
+     * @param sorted 오름차순 정렬, 중복 없는 배열
+     * @param length 사용할 길이
+     */
+    public static SortedLongSet ofSorted(long[] sorted, int length) {
+        if (length == 0) return EMPTY;
+        return new SortedLongSet(length == sorted.length ? sorted : Arrays.copyOf(sorted, length));
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public long get(int index) {
+        return values[index];
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * value 를 추가한 집합을 반환한다. 이미 있으면 this 를 반환한다.
+     */
+    public SortedLongSet with(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) return this;
+
+        int insertAt = -index - 1;
+        long[] next = new long[values.length + 1];
+        System.arraycopy(values, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(values, insertAt, next, insertAt + 1, values.length - insertAt);
+        return new SortedLongSet(next);
+    }
+
+    /**
+     * value 를 제거한 집합을 반환한다. 없으면 this 를 반환한다.
+     */
+    public SortedLongSet without(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) return this;
+        if (values.length == 1) return EMPTY;
+
+        long[] next = new long[values.length - 1];
+        System.arraycopy(values, 0, next, 0, index);
+        System.arraycopy(values, index + 1, next, index, values.length - index - 1);
+        return new SortedLongSet(next);
+    }
+
+    /**
+     * offset 부터 최대 limit 개를 복사해 반환한다.
+     */
+    public long[] slice(int offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset >= values.length) return new long[0];
+        int end = (int) Math.min((long) offset + limit, values.length);
+        return Arrays.copyOfRange(values, offset, end);
+    }
+
+    public long[] toArray() {
+        return values.clone();
+    }
+}
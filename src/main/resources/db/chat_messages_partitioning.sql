@@ -0,0 +1,49 @@
+-- chat_messages 를 created_at 기준 월 단위 파티션 테이블로 전환하는 1회성 마이그레이션 (PostgreSQL 11+)
+-- 애플리케이션을 내린 상태에서 실행한다.
+-- 이후 파티션 생성/보관은 ChatMessagePartitionService 가 담당한다.
+
+BEGIN;
+
+ALTER TABLE chat_messages RENAME TO chat_messages_legacy;
+
+-- 파티션 테이블의 기본키는 파티션 키(created_at)를 포함해야 한다.
+CREATE TABLE chat_messages (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    chat_room_id BIGINT        NOT NULL REFERENCES chat_rooms (id),
+    sender_id    BIGINT        NOT NULL REFERENCES users (id),
+    content      VARCHAR(2048) NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_chat_messages_room_created ON chat_messages (chat_room_id, created_at DESC);
+CREATE INDEX idx_chat_messages_sender ON chat_messages (sender_id);
+
+-- 미리 만들어진 파티션 범위를 벗어나는 메시지를 위한 기본 파티션
+CREATE TABLE chat_messages_default PARTITION OF chat_messages DEFAULT;
+
+-- 기존 데이터가 있는 월의 파티션 생성
+DO $$
+DECLARE
+    m DATE;
+BEGIN
+    FOR m IN
+        SELECT DISTINCT date_trunc('month', created_at)::date FROM chat_messages_legacy
+        UNION
+        SELECT date_trunc('month', now())::date
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS chat_messages_p%s PARTITION OF chat_messages FOR VALUES FROM (%L) TO (%L)',
+            to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO chat_messages (id, chat_room_id, sender_id, content, created_at)
+SELECT id, chat_room_id, sender_id, content, created_at FROM chat_messages_legacy;
+
+SELECT setval(pg_get_serial_sequence('chat_messages', 'id'),
+              COALESCE((SELECT MAX(id) FROM chat_messages), 0) + 1, false);
+
+DROP TABLE chat_messages_legacy;
+
+COMMIT;
@@ -0,0 +1,11 @@
+-- chat_rooms.last_activity_at 백필 (PostgreSQL)
+-- ddl-auto 로 컬럼과 인덱스가 추가된 뒤 1회 실행한다.
+
+UPDATE chat_rooms cr
+SET last_activity_at = COALESCE(
+        (SELECT cm.created_at FROM chat_messages cm WHERE cm.id = cr.last_message_id),
+        (SELECT MAX(cm.created_at) FROM chat_messages cm WHERE cm.chat_room_id = cr.id),
+        now())
+WHERE cr.last_activity_at IS NULL;
+
+ALTER TABLE chat_rooms ALTER COLUMN last_activity_at SET NOT NULL;
@@ -0,0 +1,35 @@
+-- chat_rooms 참여자 쌍 정규화 키 (min_user_id, max_user_id) 백필 및 중복 채팅방 정리 (PostgreSQL)
+-- ddl-auto 로 컬럼이 추가된 뒤 1회 실행한다.
+
+BEGIN;
+
+UPDATE chat_rooms
+SET min_user_id = LEAST(user1_id, user2_id),
+    max_user_id = GREATEST(user1_id, user2_id)
+WHERE min_user_id IS NULL;
+
+-- 같은 참여자 쌍의 중복 채팅방은 가장 먼저 만들어진 채팅방으로 메시지를 옮긴 뒤 삭제한다.
+CREATE TEMP TABLE chat_room_duplicates ON COMMIT DROP AS
+SELECT id, MIN(id) OVER (PARTITION BY min_user_id, max_user_id) AS keep_id
+FROM chat_rooms;
+
+UPDATE chat_messages cm
+SET chat_room_id = d.keep_id
+FROM chat_room_duplicates d
+WHERE cm.chat_room_id = d.id AND d.id <> d.keep_id;
+
+UPDATE chat_rooms cr
+SET last_message_id = (SELECT MAX(cm.id) FROM chat_messages cm WHERE cm.chat_room_id = cr.id)
+WHERE cr.id IN (SELECT keep_id FROM chat_room_duplicates WHERE id <> keep_id);
+
+DELETE FROM chat_rooms cr
+USING chat_room_duplicates d
+WHERE cr.id = d.id AND d.id <> d.keep_id;
+
+ALTER TABLE chat_rooms ALTER COLUMN min_user_id SET NOT NULL;
+ALTER TABLE chat_rooms ALTER COLUMN max_user_id SET NOT NULL;
+
+ALTER TABLE chat_rooms DROP CONSTRAINT IF EXISTS uk_chat_room_participant_pair;
+ALTER TABLE chat_rooms ADD CONSTRAINT uk_chat_room_participant_pair UNIQUE (min_user_id, max_user_id);
+
+COMMIT;
@@ -0,0 +1,10 @@
+-- notification 묶음 알림 컬럼 백필 (PostgreSQL)
+-- ddl-auto 로 aggregate_count, recent_sender_ids 컬럼과 idx_notification_coalesce 인덱스가 추가된 뒤 1회 실행한다.
+
+UPDATE notification
+SET aggregate_count = 1,
+    recent_sender_ids = sender_id::text
+WHERE aggregate_count IS NULL;
+
+ALTER TABLE notification ALTER COLUMN aggregate_count SET DEFAULT 1;
+ALTER TABLE notification ALTER COLUMN aggregate_count SET NOT NULL;
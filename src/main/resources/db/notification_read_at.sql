@@ -0,0 +1,9 @@
+-- notification 읽은 시각 백필 (PostgreSQL)
+-- ddl-auto 로 read_at 컬럼과 idx_notification_read_at 인덱스가 추가된 뒤 1회 실행한다.
+-- 읽은 시각을 알 수 없는 기존 알림은 생성 시각을 읽은 시각으로 본다.
+
+UPDATE notification
+SET read_at = created_at
+WHERE is_read = true AND read_at IS NULL;
+
+DROP INDEX IF EXISTS idx_notification_read_created;
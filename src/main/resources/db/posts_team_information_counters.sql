@@ -0,0 +1,23 @@
+-- posts_team_information 신청 / 수락 인원 수 백필 (PostgreSQL)
+-- ddl-auto 로 accepted_count, applied_count 컬럼이 추가된 뒤, 애플리케이션을 내린 상태에서 1회 실행한다.
+-- 같은 유저의 중복 신청이 남아 있으면 uk_participation_user_post 가 만들어지지 않으므로 먼저 정리한다.
+
+DELETE FROM participations p
+USING participations d
+WHERE p.user_id = d.user_id AND p.post_id = d.post_id AND p.id > d.id;
+
+ALTER TABLE participations
+    ADD CONSTRAINT uk_participation_user_post UNIQUE (user_id, post_id);
+
+UPDATE posts_team_information t
+SET applied_count  = COALESCE(c.applied, 0),
+    accepted_count = COALESCE(c.accepted, 0)
+FROM posts_team_information t2
+LEFT JOIN (
+    SELECT post_id,
+           COUNT(*) AS applied,
+           COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted
+    FROM participations
+    GROUP BY post_id
+) c ON c.post_id = t2.post_id
+WHERE t.post_id = t2.post_id;
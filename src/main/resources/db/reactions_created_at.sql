@@ -0,0 +1,7 @@
+-- reactions.created_at 백필 (PostgreSQL)
+-- 좋아요 / 북마크 목록을 반응 시각 순으로 페이지 조회하므로 created_at 이 비어 있으면 목록에서 빠진다.
+-- 시각을 알 수 없는 기존 반응은 id 순서가 유지되도록 실행 시각 기준으로 채운다.
+
+UPDATE reactions
+SET created_at = now() - make_interval(secs => (SELECT MAX(id) FROM reactions) - id)
+WHERE created_at IS NULL;
@@ -0,0 +1,10 @@
+-- report_counters 백필 (PostgreSQL)
+-- ddl-auto 로 테이블이 만들어진 뒤, 애플리케이션을 내린 상태에서 1회 실행한다.
+-- 숨김 기준(5)은 report.auto-hide-threshold 와 맞춘다.
+
+INSERT INTO report_counters (target_type, target_id, report_count, last_reported_at, hidden)
+SELECT r.target_type, r.target_id, COUNT(*), MAX(r.created_at), r.target_type = 'POST' AND COUNT(*) >= 5
+FROM reactions r
+WHERE r.reaction_type = 'REPORT'
+GROUP BY r.target_type, r.target_id
+ON CONFLICT ON CONSTRAINT uk_report_counter_target DO NOTHING;
@@ -0,0 +1,23 @@
+-- 인재 검색용 기술 스택 사전(tech_stacks) / 프로필별 스택(profile_stacks) 백필 (PostgreSQL)
+-- ddl-auto 로 tech_stacks, profile_stacks 테이블이 만들어진 뒤, 애플리케이션을 내린 상태에서 1회 실행한다.
+-- 정규화 규칙은 TechStackService.normalize 와 같다 (공백을 모두 없애고 소문자로).
+
+-- 스택 사전. 같은 정규화 이름이 여러 표기로 있으면 하나만 표시용 이름으로 남긴다.
+INSERT INTO tech_stacks (name, normalized_name)
+SELECT DISTINCT ON (normalized) name, normalized
+FROM (
+    SELECT trim(s.token) AS name, lower(regexp_replace(s.token, '\s+', '', 'g')) AS normalized
+    FROM profiles p
+    CROSS JOIN LATERAL unnest(string_to_array(p.stacks, ',')) AS s(token)
+) t
+WHERE normalized <> ''
+ORDER BY normalized, name
+ON CONFLICT ON CONSTRAINT uk_tech_stack_normalized DO NOTHING;
+
+-- 프로필별 스택
+INSERT INTO profile_stacks (user_id, stack_id)
+SELECT DISTINCT p.user_id, ts.id
+FROM profiles p
+CROSS JOIN LATERAL unnest(string_to_array(p.stacks, ',')) AS s(token)
+JOIN tech_stacks ts ON ts.normalized_name = lower(regexp_replace(s.token, '\s+', '', 'g'))
+ON CONFLICT ON CONSTRAINT uk_profile_stack_user_stack DO NOTHING;
@@ -0,0 +1,14 @@
+-- 관리자 회원 목록 검색 인덱스 + user_counters 백필 (PostgreSQL)
+-- ddl-auto 로 user_counters 테이블이 만들어진 뒤, 애플리케이션을 내린 상태에서 1회 실행한다.
+
+-- 아이디 / 닉네임 앞부분 검색(LIKE 'prefix%')은 collation 과 상관없이 인덱스를 타도록 text_pattern_ops 로 만든다.
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON users (username text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_profiles_nickname_prefix ON profiles (nickname text_pattern_ops);
+
+-- 권한 / 상태별 회원 수
+INSERT INTO user_counters (role, status, user_count)
+SELECT u.role, u.status, COUNT(*)
+FROM users u
+GROUP BY u.role, u.status
+ON CONFLICT ON CONSTRAINT uk_user_counter_role_status DO UPDATE
+SET user_count = EXCLUDED.user_count;
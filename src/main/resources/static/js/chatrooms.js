@@ -1,31 +1,31 @@
-const stompClient = new StompJs.Client({
-  // brokerURL: 'ws://localhost:8080/ws',
-  brokerURL: WEBSOCKET_SERVER_URL,
-  // csrf: [[${_csrf}]],
-});
+// 헤더의 알림 배지와 같은 StompJs.Client 를 사용한다 (/js/stomp-connection.js)
+// CBOR 디코더가 있으면 채팅 메시지를 CBOR 로 받는다. 서버가 거절하면(SockJS 등) 그대로 JSON 이 온다
+if (window.CBOR) StompConnection.setConnectHeader('payload-codec', 'cbor');
 
-stompClient.onConnect = (frame) => {
-  stompClient.subscribe(`/queue/users/${USER_ID}`, async (msg) => {
-    await onMessage(msg);
-  }, { userId: USER_ID });
-};
+StompConnection.subscribe(`/queue/users/${USER_ID}`, async (msg) => {
+  await onMessage(msg);
+}, { userId: USER_ID });
 
-stompClient.onWebSocketError = (error) => {
+StompConnection.onError((error) => {
   console.error('error with websocket', error);
-  stompClient.deactivate();
-};
-
-stompClient.onStompError = (frame) => {
-  console.error('Broker reported error: ' + frame.headers['message']);
-  console.error('Additional details: ' + frame.body);
-  stompClient.deactivate();
-};
+});
 
 const chatMessageCursors = {};
 const DEFAULT_USER_PROFILE_URL = '/images/user_default_img.svg';
 
+/**
+ * content-type 에 따라 CBOR / JSON 채팅 메시지를 읽는다
+ */
+function decodeChatMessage(msg){
+  const contentType = msg.headers['content-type'] || '';
+  if (!contentType.includes('codec=cbor')) return JSON.parse(msg.body);
+
+  const bytes = msg.binaryBody;
+  return CBOR.decode(bytes.buffer.slice(bytes.byteOffset, bytes.byteOffset + bytes.byteLength));
+}
+
 async function onMessage(msg){
-  const { chatRoomId, senderId, content, createdAt } = JSON.parse(msg.body);
+  const { chatRoomId, senderId, content, createdAt } = decodeChatMessage(msg);
   let chatMessagesElem = document.querySelector(`.chat-message-container-${chatRoomId} > .chat-messages`);
 
   if (!chatMessagesElem){
@@ -41,6 +41,18 @@ async function onMessage(msg){
 
   document.querySelector(`.chatroom[data-chatroom-id="${chatRoomId}"] > .chatroom-info > .last-message`).textContent = content;
   updateUpdatedAt(chatRoomId, createdAt);
+  moveChatRoomToTop(chatRoomId);
+}
+
+/**
+ * 새 메시지가 도착한 .chatroom을 목록 맨 위로 옮기는 함수 (마지막 활동 시각 최신순 유지)
+ * @param {number} chatRoomId
+ */
+function moveChatRoomToTop(chatRoomId){
+  const container = document.querySelector('.chatroom-page-content > .chatroom-container');
+  const chatRoomElem = container.querySelector(`.chatroom[data-chatroom-id="${chatRoomId}"]`);
+
+  if (!!chatRoomElem && container.firstElementChild !== chatRoomElem) container.insertAdjacentElement('afterbegin', chatRoomElem);
 }
 
 /**
@@ -139,7 +151,7 @@ function messageInputOnKeyDown(chatRoomId, e){
 
   e.target.value = '';
 
-  stompClient.publish({
+  StompConnection.publish({
     destination: `/app/chats/${chatRoomId}`,
     body: JSON.stringify({ content: msg }),
     headers: {
@@ -237,6 +249,18 @@ function disableMessageInput(){
 async function insertNewChatRoom(chatRoomId){
   const chatRoomInfo = await fetchChatRoomInfo(chatRoomId);
 
+  const newChatRoom = createChatRoomElement(chatRoomId, chatRoomInfo);
+
+  document.querySelector('.chatroom-page-content > .chatroom-container').insertAdjacentElement('afterbegin', newChatRoom);
+}
+
+/**
+ * 채팅방 정보로 .chatroom 요소를 생성하는 함수
+ * @param {number} chatRoomId
+ * @param {object} chatRoomInfo
+ * @returns {HTMLElement}
+ */
+function createChatRoomElement(chatRoomId, chatRoomInfo){
   const newChatRoom = document.createElement('article');
   newChatRoom.className = 'chatroom';
   newChatRoom.setAttribute('data-chatroom-id', chatRoomId);
@@ -247,7 +271,7 @@ async function insertNewChatRoom(chatRoomId){
     targetNickname = chatRoomInfo?.user2Nickname;
   }else if (USER_ID === chatRoomInfo?.user2Id){
     targetImgUrl = chatRoomInfo?.user1ImageUrl;
-    targetNickname = chatRoomInfo?.user2Nickname;
+    targetNickname = chatRoomInfo?.user1Nickname;
   }
   lastMessage = chatRoomInfo?.chatRoomLastMessage;
 
@@ -263,7 +287,7 @@ async function insertNewChatRoom(chatRoomId){
 
   newChatRoom.addEventListener('click', chatRoomOnClick);
 
-  document.querySelector('.chatroom-page-content > .chatroom-container').insertAdjacentElement('afterbegin', newChatRoom);
+  return newChatRoom;
 }
 
 /**
@@ -315,42 +339,110 @@ function createChatRoomInfo(targetNickname, lastMessage){
   return newChatRoomInfo;
 }
 
-window.addEventListener('load', (e) => {
-  stompClient.activate();
+/**
+ * 채팅방 목록 무한 스크롤을 위한 커서 (마지막으로 불러온 채팅방의 lastActivityAt, chatRoomId)
+ */
+const chatRoomCursor = { cursorAt: null, cursorId: null, done: false, loading: false };
 
-  // 채팅방 onClick 이벤트 설정
-  const chatRoomElems = document.querySelectorAll('.chatroom');
-  for (let chatroom of chatRoomElems){
-    chatroom.addEventListener('click', chatRoomOnClick);
+function updateChatRoomCursor(chatRoomList){
+  if (!(chatRoomList instanceof Array) || chatRoomList.length === 0) return;
+
+  const last = chatRoomList[chatRoomList.length-1];
+  chatRoomCursor.cursorAt = last.lastActivityAt;
+  chatRoomCursor.cursorId = last.chatRoomId;
+}
+
+/**
+ * 채팅방의 메시지 container, 무한 스크롤, 최근 메시지를 초기화하는 함수
+ * @param {object} chatroom ChatRoomResponseDTO
+ */
+function initChatRoom(chatroom){
+  insertChatMessageContainer(chatroom.chatRoomId);
+
+  // 채팅메시지 무한스크롤 구현을 위한 이벤트 리스너
+  const chatMessagesElem = document.querySelector(`.chat-message-container-${chatroom.chatRoomId} > .chat-messages`);
+  const fetchMessage = throttle(() => { fetchMoreMessages(chatroom.chatRoomId); }, 500);
+  chatMessagesElem.addEventListener('scroll', (e) => {
+    if (!e.currentTarget || e.currentTarget.scrollTop > 0) return;
+
+    fetchMessage();
+  });
+
+  const updatedAt = chatroom.chatRoomLastMessageCreatedAt;
+
+  if (!updatedAt) return;
+
+  const dString = getDString({ hour: 'numeric', minute: 'numeric' }, updatedAt);
+  document.querySelector(`.chatroom[data-chatroom-id="${chatroom.chatRoomId}"] .chatroom-info-updated-at`).textContent = dString;
+
+  if (chatroom.chatMessageDTOList instanceof Array && chatroom.chatMessageDTOList.length !== 0){
+    for (let chatMessage of chatroom.chatMessageDTOList){
+      const { senderId, content, createdAt } = chatMessage;
+
+      insertChatMessage(chatMessagesElem, senderId, content, createdAt, 'afterbegin');
+    }
+
+    chatMessageCursors[`chatRoom-${chatroom.chatRoomId}`] = chatroom.chatMessageDTOList[chatroom.chatMessageDTOList.length-1].createdAt;
   }
+}
 
-  for (let chatroom of chatRooms){
-    insertChatMessageContainer(chatroom.chatRoomId);
+/**
+ * 채팅방 목록의 다음 페이지를 요청하여 목록 아래에 추가하는 함수
+ */
+async function fetchMoreChatRooms(){
+  if (chatRoomCursor.done || chatRoomCursor.loading || !chatRoomCursor.cursorId) return;
 
-    // 채팅메시지 무한스크롤 구현을 위한 이벤트 리스너
-    const chatMessagesElem = document.querySelector(`.chat-message-container-${chatroom.chatRoomId} > .chat-messages`);
-    const fetchMessage = throttle(() => { fetchMoreMessages(chatroom.chatRoomId); }, 500);
-    chatMessagesElem.addEventListener('scroll', (e) => {
-      if (!e.currentTarget || e.currentTarget.scrollTop > 0) return;
+  chatRoomCursor.loading = true;
 
-      fetchMessage();
-    });
+  try {
+    const params = new URLSearchParams({ cursorAt: chatRoomCursor.cursorAt, cursorId: chatRoomCursor.cursorId });
+    const res = await fetch(`/chats/rooms?${params}`);
 
-    const updatedAt = chatroom.chatRoomLastMessageCreatedAt;
+    if (!res.ok) return;
 
-    if (!updatedAt) continue;
+    const jsonData = await res.json();
 
-    const dString = getDString({ hour: 'numeric', minute: 'numeric' }, updatedAt);
-    document.querySelector(`.chatroom[data-chatroom-id="${chatroom.chatRoomId}"] .chatroom-info-updated-at`).textContent = dString;
+    if (!(jsonData instanceof Array) || jsonData.length === 0){
+      chatRoomCursor.done = true;
+      return;
+    }
 
-    if (chatroom.chatMessageDTOList instanceof Array && chatroom.chatMessageDTOList.length !== 0){
-      for (let chatMessage of chatroom.chatMessageDTOList){
-        const { senderId, content, createdAt } = chatMessage;
+    updateChatRoomCursor(jsonData);
 
-        insertChatMessage(chatMessagesElem, senderId, content, createdAt, 'afterbegin');
-      }
+    const container = document.querySelector('.chatroom-page-content > .chatroom-container');
+    for (let chatroom of jsonData){
+      // 새 메시지로 먼저 추가된 채팅방은 건너뛴다.
+      if (container.querySelector(`.chatroom[data-chatroom-id="${chatroom.chatRoomId}"]`)) continue;
 
-      chatMessageCursors[`chatRoom-${chatroom.chatRoomId}`] = chatroom.chatMessageDTOList[chatroom.chatMessageDTOList.length-1].createdAt;
+      container.insertAdjacentElement('beforeend', createChatRoomElement(chatroom.chatRoomId, chatroom));
+      initChatRoom(chatroom);
     }
+  } finally {
+    chatRoomCursor.loading = false;
   }
-});
\ No newline at end of file
+}
+
+window.addEventListener('load', (e) => {
+  StompConnection.connect(WEBSOCKET_SERVER_URL);
+
+  // 채팅방 onClick 이벤트 설정
+  const chatRoomElems = document.querySelectorAll('.chatroom');
+  for (let chatroom of chatRoomElems){
+    chatroom.addEventListener('click', chatRoomOnClick);
+  }
+
+  for (let chatroom of chatRooms){
+    initChatRoom(chatroom);
+  }
+
+  // 채팅방 목록 무한스크롤
+  updateChatRoomCursor(chatRooms);
+  const chatRoomContainer = document.querySelector('.chatroom-page-content > .chatroom-container');
+  const fetchChatRooms = throttle(() => { fetchMoreChatRooms(); }, 500);
+  chatRoomContainer.addEventListener('scroll', (e) => {
+    const elem = e.currentTarget;
+    if (elem.scrollTop + elem.clientHeight < elem.scrollHeight - 50) return;
+
+    fetchChatRooms();
+  });
+});
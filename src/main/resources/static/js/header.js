@@ -42,4 +42,27 @@
   document.addEventListener('keydown', (e) => {
     if (e.key === 'Escape') closeAll();
   });
-})();
\ No newline at end of file
+
+  // 실시간 알림 배지 (/queue/users/{id}/notifications)
+  const connectNotifications = (dd) => {
+    const badge = dd.querySelector('.notification-badge');
+    const userId = dd.dataset.userId;
+    const socketUrl = dd.dataset.socketUrl;
+    if (!badge || !userId || !socketUrl || !window.StompConnection) return;
+
+    const render = (count) => {
+      badge.textContent = count > 99 ? '99+' : String(count);
+      badge.classList.toggle('hidden', count === 0);
+    };
+
+    // 채팅 화면과 같은 StompJs.Client 를 사용 (이미 만들어져 있으면 그대로 사용)
+    StompConnection.subscribe(`/queue/users/${userId}/notifications`, (msg) => {
+      const notification = JSON.parse(msg.body);
+      render(notification.unreadCount);
+    });
+    StompConnection.connect(socketUrl);
+  };
+
+  const notificationTarget = dropdowns.find(dd => dd.dataset.userId);
+  if (notificationTarget) connectNotifications(notificationTarget);
+})();
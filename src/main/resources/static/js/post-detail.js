@@ -160,8 +160,41 @@ window.addEventListener('scroll', function() {
     });
 });
 
+// 좋아요 / 북마크 / 신고 토글 : 페이지를 다시 불러오지 않고 응답의 반응 여부와 반응 수로 버튼만 갱신
+function bindReactionForms() {
+    document.querySelectorAll('form.reaction-form').forEach(form => {
+        form.addEventListener('submit', async function(event) {
+            event.preventDefault();
+            const button = form.querySelector('button');
+            button.disabled = true;
+            try {
+                const res = await fetch(form.action, {
+                    method: 'POST',
+                    headers: { 'Accept': 'application/json' },
+                    body: new URLSearchParams(new FormData(form))
+                });
+                if (!res.ok) throw new Error('reaction toggle failed: ' + res.status);
+                const result = await res.json();
+
+                form.querySelectorAll('[data-active]').forEach(el => {
+                    el.hidden = el.dataset.active !== String(result.active);
+                });
+                const count = form.parentElement.querySelector('.reaction-count');
+                if (count) count.textContent = result.count;
+            } catch (e) {
+                console.error(e);
+                alert('요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.');
+            } finally {
+                button.disabled = false;
+            }
+        });
+    });
+}
+
 // 페이지 로드 시 초기화
 document.addEventListener('DOMContentLoaded', function() {
+  bindReactionForms();
+
   (function loadPostContent(){
     if (POST_TYPE !== 'AIPLAY') return;
 
@@ -0,0 +1,69 @@
+/**
+ * 페이지에서 하나만 만드는 @stomp/stompjs Client.
+ * 헤더의 알림 배지와 채팅 화면이 같은 Client 를 나눠 쓴다. (@stomp/stompjs 번들을 먼저 불러와야 한다)
+ *
+ * StompConnection.setConnectHeader(name, value) : CONNECT 프레임 헤더 추가 (connect 전에 호출)
+ * StompConnection.connect(url) : Client 활성화 (이미 만들어져 있으면 그대로 사용)
+ * StompConnection.subscribe(destination, handler, headers) : 구독 (연결 전에 등록해도 되고, 재연결 시 다시 구독)
+ * StompConnection.publish({ destination, body, headers }) : 전송
+ * StompConnection.onConnect(callback) / onError(callback) : 연결 / 오류 콜백
+ */
+(() => {
+  // 헤더와 채팅 화면에서 모두 불러와도 한 번만 정의
+  if (window.StompConnection || !window.StompJs) return;
+
+  let client = null;
+  const connectHeaders = {};
+  const subscriptions = [];
+  const connectCallbacks = [];
+  const errorCallbacks = [];
+
+  const subscribeOn = (subscription) => {
+    client.subscribe(subscription.destination, subscription.handler, subscription.headers);
+  };
+
+  window.StompConnection = {
+    setConnectHeader(name, value) {
+      connectHeaders[name] = value;
+    },
+
+    connect(socketUrl) {
+      if (client || !socketUrl) return;
+
+      client = new StompJs.Client({ brokerURL: socketUrl, connectHeaders });
+      client.onConnect = (frame) => {
+        // 재연결되면 이전 구독이 사라지므로 매번 다시 구독
+        subscriptions.forEach(subscribeOn);
+        connectCallbacks.forEach(callback => callback(frame));
+      };
+      client.onWebSocketError = (error) => {
+        errorCallbacks.forEach(callback => callback(error));
+      };
+      client.onStompError = (frame) => {
+        console.error('Broker reported error: ' + frame.headers['message']);
+        errorCallbacks.forEach(callback => callback(frame));
+      };
+      client.activate();
+    },
+
+    subscribe(destination, handler, headers = {}) {
+      const subscription = { destination, handler, headers };
+      subscriptions.push(subscription);
+      if (client && client.connected) subscribeOn(subscription);
+    },
+
+    publish({ destination, body, headers = {} }) {
+      if (!client || !client.connected) return false;
+      client.publish({ destination, body, headers });
+      return true;
+    },
+
+    onConnect(callback) {
+      connectCallbacks.push(callback);
+    },
+
+    onError(callback) {
+      errorCallbacks.push(callback);
+    },
+  };
+})();
@@ -0,0 +1,145 @@
+package com.percent99.OutSpecs.handler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class SlowConsumerSubProtocolWebSocketHandlerTest {
+
+  private static final int BUFFER_SIZE_LIMIT = 10;
+
+  private WebSocketSession delegate;
+  private WebSocketSessionMetrics metrics;
+  private CountDownLatch sending;
+  private CountDownLatch release;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    delegate = mock(WebSocketSession.class);
+    given(delegate.getId()).willReturn("s1");
+    given(delegate.isOpen()).willReturn(true);
+    metrics = new WebSocketSessionMetrics();
+    sending = new CountDownLatch(1);
+    release = new CountDownLatch(1);
+    executor = Executors.newSingleThreadExecutor();
+
+    // 첫 메시지 전송이 끝나지 않은 채로 붙잡아 두어, 이후 메시지는 버퍼에 쌓이게 한다
+    willAnswer(invocation -> {
+      sending.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).given(delegate).sendMessage(any());
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("decorateSession - 설정한 버퍼 초과 정책과 제한값으로 세션을 감쌈")
+  void decorateSessionAppliesPolicy() {
+    // given
+    SlowConsumerSubProtocolWebSocketHandler handler = new SlowConsumerSubProtocolWebSocketHandler(
+        mock(MessageChannel.class), mock(SubscribableChannel.class), OverflowStrategy.DROP, metrics);
+    handler.setSendBufferSizeLimit(BUFFER_SIZE_LIMIT);
+
+    // when
+    WebSocketSession decorated = handler.decorateSession(delegate);
+
+    // then
+    assertThat(decorated).isInstanceOf(SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator.class);
+    SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator session =
+        (SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator) decorated;
+    assertThat(session.getOverflowStrategy()).isEqualTo(OverflowStrategy.DROP);
+    assertThat(session.getBufferSizeLimit()).isEqualTo(BUFFER_SIZE_LIMIT);
+  }
+
+  @Test
+  @DisplayName("DROP - 전송 중에 버퍼가 넘치면 세션은 유지하고 넘친 횟수를 기록")
+  void dropPolicyRecordsOverflow() throws Exception {
+    // given
+    SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator session = session(OverflowStrategy.DROP);
+    blockInFlight(session);
+
+    // when
+    session.sendMessage(text(8));
+    session.sendMessage(text(8));
+
+    // then
+    assertThat(metrics.getBufferOverflows()).isEqualTo(1);
+    assertThat(metrics.getClosedSlowSessions()).isZero();
+    assertThat(session.getBufferSize()).isLessThanOrEqualTo(BUFFER_SIZE_LIMIT);
+  }
+
+  @Test
+  @DisplayName("TERMINATE - 전송 중에 버퍼가 넘치면 예외를 던지고 종료된 세션을 기록")
+  void terminatePolicyRecordsClose() throws Exception {
+    // given
+    SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator session = session(OverflowStrategy.TERMINATE);
+    blockInFlight(session);
+    session.sendMessage(text(8));
+
+    // when, then
+    assertThatThrownBy(() -> session.sendMessage(text(8))).isInstanceOf(SessionLimitExceededException.class);
+    assertThat(metrics.getClosedSlowSessions()).isEqualTo(1);
+    assertThat(metrics.getBufferOverflows()).isZero();
+  }
+
+  @Test
+  @DisplayName("버퍼가 넘치지 않으면 아무것도 기록하지 않음")
+  void noOverflowRecordsNothing() throws Exception {
+    // given
+    SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator session = session(OverflowStrategy.DROP);
+    blockInFlight(session);
+
+    // when
+    session.sendMessage(text(4));
+
+    // then
+    assertThat(metrics.getBufferOverflows()).isZero();
+    assertThat(metrics.getStats().getClosedSlowSessions()).isZero();
+  }
+
+  private SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator session(OverflowStrategy strategy) {
+    return new SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator(
+        delegate, 60_000, BUFFER_SIZE_LIMIT, strategy, metrics);
+  }
+
+  /**
+   * 다른 스레드에서 첫 메시지를 보내게 하고, 전송이 시작될 때까지 기다린다.
+   */
+  private void blockInFlight(SlowConsumerSubProtocolWebSocketHandler.MeteredSessionDecorator session) throws Exception {
+    executor.submit(() -> {
+      session.sendMessage(text(1));
+      return null;
+    });
+    assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private WebSocketMessage<?> text(int length) {
+    return new TextMessage("x".repeat(length));
+  }
+}
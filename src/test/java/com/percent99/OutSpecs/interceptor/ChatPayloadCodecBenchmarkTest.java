@@ -0,0 +1,105 @@
+package com.percent99.OutSpecs.interceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.percent99.OutSpecs.dto.ChatMessageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채팅 메시지 JSON 직렬화 + 인터셉터의 CBOR 직렬화 비용과 프레임 크기 측정
+ * <p>
+ *     운영과 같은 경로(JSON 으로 직렬화한 뒤 CBOR 세션이면 preSend 에서 원본 DTO 를 CBOR 로 직렬화)를 잰다.
+ *     측정값은 환경에 따라 달라지므로 검증하지 않고 로그로만 남기며, 기본 테스트에서는 제외된다.
+ *     실행 : mvn test -Dtest=ChatPayloadCodecBenchmarkTest -Dsurefire.excludedGroups=
+ * </p>
+ */
+@Tag("benchmark")
+class ChatPayloadCodecBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(ChatPayloadCodecBenchmarkTest.class);
+  private static final int WARMUP = 2_000;
+  private static final int ITERATIONS = 20_000;
+  private static final int[] CONTENT_LENGTHS = {16, 128, 512, 2048};
+
+  private ObjectMapper jsonMapper;
+  private ChatPayloadCodecInterceptor interceptor;
+  private MessageChannel channel;
+
+  @BeforeEach
+  void setUp() {
+    jsonMapper = new ObjectMapper();
+    jsonMapper.findAndRegisterModules();
+    jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    interceptor = new ChatPayloadCodecInterceptor();
+    channel = mock(MessageChannel.class);
+
+    StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+    connect.setSessionId("cbor");
+    connect.setSessionAttributes(new HashMap<>(Map.of(ChatPayloadCodecInterceptor.BINARY_FRAMES_ATTRIBUTE, true)));
+    connect.setNativeHeader(ChatPayloadCodecInterceptor.CODEC_HEADER, ChatPayloadCodecInterceptor.CBOR_CODEC);
+    interceptor.preSend(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()), channel);
+  }
+
+  @Test
+  @DisplayName("메시지 크기별 JSON 세션 / CBOR 세션 전송 비용과 프레임 크기")
+  void outboundCost() throws Exception {
+    for (int length : CONTENT_LENGTHS) {
+      ChatMessageDTO dto = message(length);
+      byte[] json = jsonMapper.writeValueAsBytes(dto);
+      byte[] cbor = (byte[]) interceptor.preSend(outbound("cbor", json, dto), channel).getPayload();
+
+      long jsonNanos = measure(() -> interceptor.preSend(outbound("json", jsonMapper.writeValueAsBytes(dto), dto), channel));
+      long cborNanos = measure(() -> interceptor.preSend(outbound("cbor", jsonMapper.writeValueAsBytes(dto), dto), channel));
+
+      log.info("content={} chars | json={} bytes, {} ns/op | cbor={} bytes, {} ns/op",
+          length, json.length, jsonNanos, cbor.length, cborNanos);
+    }
+  }
+
+  private long measure(ThrowingTask task) throws Exception {
+    for (int i = 0; i < WARMUP; i++) task.run();
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) task.run();
+    return Math.max(1, (System.nanoTime() - start) / ITERATIONS);
+  }
+
+  private Message<byte[]> outbound(String sessionId, byte[] payload, Object source) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(sessionId);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    accessor.setHeader(ChatPayloadCodecInterceptor.SOURCE_PAYLOAD_HEADER, source);
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+
+  private ChatMessageDTO message(int contentLength) {
+    String unit = "안녕하세요 hello ";
+    StringBuilder content = new StringBuilder(contentLength);
+    while (content.length() < contentLength) content.append(unit);
+    content.setLength(contentLength);
+    return new ChatMessageDTO(12345L, content.toString(), LocalDateTime.of(2025, 8, 1, 12, 30, 15), 678L);
+  }
+
+  @FunctionalInterface
+  private interface ThrowingTask {
+    Object run() throws Exception;
+  }
+}
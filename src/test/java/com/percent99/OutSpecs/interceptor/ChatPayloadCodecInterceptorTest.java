@@ -0,0 +1,165 @@
+package com.percent99.OutSpecs.interceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.percent99.OutSpecs.dto.ChatMessageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ChatPayloadCodecInterceptorTest {
+
+  private ObjectMapper jsonMapper;
+  private ChatPayloadCodecInterceptor interceptor;
+  private MessageChannel channel;
+
+  @BeforeEach
+  void setUp() {
+    jsonMapper = new ObjectMapper();
+    jsonMapper.findAndRegisterModules();
+    jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    interceptor = new ChatPayloadCodecInterceptor();
+    channel = mock(MessageChannel.class);
+  }
+
+  @Test
+  @DisplayName("순수 WebSocket 에서 cbor 를 요청한 세션은 원본 DTO 를 CBOR 로 받고, 같은 메시지로 읽힌다")
+  void cborSessionRoundTrips() throws Exception {
+    // given
+    ChatMessageDTO dto = message(128);
+    byte[] json = jsonMapper.writeValueAsBytes(dto);
+    interceptor.preSend(connect("s1", "cbor", true), channel);
+
+    // when
+    Message<?> sent = interceptor.preSend(outbound("s1", json, dto), channel);
+
+    // then
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent);
+    assertThat(accessor.getContentType()).isEqualTo(ChatPayloadCodecInterceptor.CBOR_CONTENT_TYPE);
+    assertThat(accessor.getHeader(ChatPayloadCodecInterceptor.SOURCE_PAYLOAD_HEADER)).isNull();
+    assertThat((byte[]) sent.getPayload()).hasSizeLessThanOrEqualTo(json.length);
+
+    MessageConverter converter = ChatPayloadCodecInterceptor.createCborMessageConverter();
+    ChatMessageDTO decoded = (ChatMessageDTO) converter.fromMessage(sent, ChatMessageDTO.class);
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(dto);
+  }
+
+  @Test
+  @DisplayName("SockJS 처럼 텍스트 프레임만 쓰는 연결은 cbor 를 요청해도 JSON 을 그대로 받음")
+  void textOnlyTransportRefusesCbor() throws Exception {
+    // given
+    ChatMessageDTO dto = message(16);
+    interceptor.preSend(connect("s1", "cbor", false), channel);
+    Message<byte[]> outbound = outbound("s1", jsonMapper.writeValueAsBytes(dto), dto);
+
+    // when
+    Message<?> sent = interceptor.preSend(outbound, channel);
+
+    // then
+    assertThat(sent).isSameAs(outbound);
+  }
+
+  @Test
+  @DisplayName("원본 DTO 가 없는 메시지(알림 등)는 CBOR 세션에도 JSON 그대로 보냄")
+  void messageWithoutSourcePayloadStaysJson() throws Exception {
+    // given
+    interceptor.preSend(connect("s1", "cbor", true), channel);
+    Message<byte[]> outbound = outbound("s1", jsonMapper.writeValueAsBytes(message(16)), null);
+
+    // when
+    Message<?> sent = interceptor.preSend(outbound, channel);
+
+    // then
+    assertThat(sent).isSameAs(outbound);
+  }
+
+  @Test
+  @DisplayName("handshake 인터셉터는 세션에 바이너리 프레임 사용 가능 표시를 남김")
+  void handshakeMarksBinaryFrames() throws Exception {
+    // given
+    Map<String, Object> attributes = new HashMap<>();
+
+    // when
+    boolean proceed = ChatPayloadCodecInterceptor.binaryFramesHandshakeInterceptor()
+        .beforeHandshake(null, null, null, attributes);
+
+    // then
+    assertThat(proceed).isTrue();
+    assertThat(attributes).containsEntry(ChatPayloadCodecInterceptor.BINARY_FRAMES_ATTRIBUTE, true);
+  }
+
+  @Test
+  @DisplayName("헤더 없이 연결한 세션은 JSON 을 그대로 받음")
+  void jsonSessionIsUntouched() throws Exception {
+    // given
+    ChatMessageDTO dto = message(16);
+    interceptor.preSend(connect("s1", null, true), channel);
+    Message<byte[]> outbound = outbound("s1", jsonMapper.writeValueAsBytes(dto), dto);
+
+    // when
+    Message<?> sent = interceptor.preSend(outbound, channel);
+
+    // then
+    assertThat(sent).isSameAs(outbound);
+  }
+
+  @Test
+  @DisplayName("세션이 끊기면 협상한 인코딩을 지움")
+  void disconnectForgetsCodec() throws Exception {
+    // given
+    ChatMessageDTO dto = message(16);
+    interceptor.preSend(connect("s1", "cbor", true), channel);
+
+    // when
+    interceptor.onSessionDisconnect(new SessionDisconnectEvent(this, connect("s1", null, true), "s1", CloseStatus.NORMAL));
+    Message<byte[]> outbound = outbound("s1", jsonMapper.writeValueAsBytes(dto), dto);
+    Message<?> sent = interceptor.preSend(outbound, channel);
+
+    // then
+    assertThat(sent).isSameAs(outbound);
+  }
+
+  private Message<byte[]> connect(String sessionId, String codec, boolean binaryFrames) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+    accessor.setSessionId(sessionId);
+    Map<String, Object> attributes = new HashMap<>();
+    if (binaryFrames) attributes.put(ChatPayloadCodecInterceptor.BINARY_FRAMES_ATTRIBUTE, true);
+    accessor.setSessionAttributes(attributes);
+    if (codec != null) accessor.setNativeHeader(ChatPayloadCodecInterceptor.CODEC_HEADER, codec);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  private Message<byte[]> outbound(String sessionId, byte[] payload, Object source) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(sessionId);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    if (source != null) accessor.setHeader(ChatPayloadCodecInterceptor.SOURCE_PAYLOAD_HEADER, source);
+    return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+  }
+
+  private ChatMessageDTO message(int contentLength) {
+    String unit = "안녕하세요 hello ";
+    StringBuilder content = new StringBuilder(contentLength);
+    while (content.length() < contentLength) content.append(unit);
+    content.setLength(contentLength);
+    return new ChatMessageDTO(12345L, content.toString(), LocalDateTime.of(2025, 8, 1, 12, 30, 15), 678L);
+  }
+}
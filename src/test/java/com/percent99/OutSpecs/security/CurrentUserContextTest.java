@@ -0,0 +1,98 @@
+package com.percent99.OutSpecs.security;
+
+import com.percent99.OutSpecs.entity.Profile;
+import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserContextTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CurrentUserContext context;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        context = new CurrentUserContext(userRepository);
+        user = new User();
+        user.setId(1L);
+        user.setRole(UserRoleType.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("getUser - 한 요청에서 여러 번 호출해도 한 번만 조회")
+    void loadsOncePerRequest() {
+        // given
+        login(user);
+        Profile profile = new Profile();
+        user.setProfile(profile);
+        given(userRepository.findWithProfileById(1L)).willReturn(Optional.of(user));
+
+        // when
+        User first = context.getUser();
+        User second = context.getUser();
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(context.getProfile()).isSameAs(profile);
+        assertThat(context.hasProfile()).isTrue();
+        then(userRepository).should(times(1)).findWithProfileById(1L);
+    }
+
+    @Test
+    @DisplayName("getUser - 로그인하지 않았으면 조회하지 않고 null")
+    void anonymousReturnsNull() {
+        // when & then
+        assertThat(context.isAuthenticated()).isFalse();
+        assertThat(context.getUser()).isNull();
+        assertThat(context.hasProfile()).isFalse();
+        then(userRepository).should(never()).findWithProfileById(any());
+    }
+
+    @Test
+    @DisplayName("requireUser - 유저가 없으면 예외를 던지고, 없다는 결과도 다시 조회하지 않음")
+    void requireUserThrowsWhenMissing() {
+        // given
+        login(user);
+        given(userRepository.findWithProfileById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> context.requireUser()).isInstanceOf(EntityNotFoundException.class);
+        assertThat(context.getUser()).isNull();
+        then(userRepository).should(times(1)).findWithProfileById(1L);
+    }
+
+    private void login(User principalUser) {
+        CustomUserPrincipal principal = new CustomUserPrincipal(principalUser);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
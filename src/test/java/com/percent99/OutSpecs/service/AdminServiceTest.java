@@ -1,8 +1,11 @@
 package com.percent99.OutSpecs.service;
 
+import com.percent99.OutSpecs.dto.AdminUserDTO;
+import com.percent99.OutSpecs.dto.AdminUserPageDTO;
 import com.percent99.OutSpecs.entity.Post;
 import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
 import com.percent99.OutSpecs.repository.PostRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -12,11 +15,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,6 +32,8 @@ public class AdminServiceTest {
 
     @Mock UserRepository userRepository;
     @Mock PostRepository postRepository;
+    @Mock UserStatsService userStatsService;
+    @Mock ApplicationEventPublisher eventPublisher;
     @InjectMocks AdminService adminService;
 
     /**
@@ -85,4 +92,77 @@ public class AdminServiceTest {
 //        // then
 //        assertThat(result).isEqualTo(reported);
 //    }
+
+    @Test
+    @DisplayName("findUsers: 한 개 더 읽어 다음 cursor 를 정하고 검색어의 LIKE 특수문자를 이스케이프")
+    void findUsers_keysetAndEscape() {
+
+        // given
+        List<AdminUserDTO> rows = List.of(adminUser(30L), adminUser(20L), adminUser(10L));
+        when(userRepository.findAdminSearchIds(eq(Long.MAX_VALUE), eq("USER"), isNull(), eq("a!_b!%%"), eq(3)))
+                .thenReturn(List.of(30L, 20L, 10L));
+        when(userRepository.findAdminUsersByIdIn(List.of(30L, 20L, 10L))).thenReturn(rows);
+
+        // when
+        AdminUserPageDTO page = adminService.findUsers(null, UserRoleType.USER, null, " a_b% ", 2);
+
+        // then
+        assertThat(page.getUsers()).extracting(AdminUserDTO::getId).containsExactly(30L, 20L);
+        assertThat(page.getNextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("findUsers: 마지막 페이지면 nextCursor 는 null, 빈 검색어는 거르지 않음")
+    void findUsers_lastPage() {
+
+        // given
+        when(userRepository.findAdminPage(eq(20L), isNull(), eq(UserStatus.SUSPENDED), any()))
+                .thenReturn(List.of(adminUser(10L)));
+
+        // when
+        AdminUserPageDTO page = adminService.findUsers(20L, null, UserStatus.SUSPENDED, "  ", 2);
+
+        // then
+        assertThat(page.getUsers()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+        verify(userRepository, never()).findAdminSearchIds(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("findUsers: 검색 결과가 없으면 회원을 읽지 않음")
+    void findUsers_searchWithoutMatch() {
+
+        // given
+        when(userRepository.findAdminSearchIds(eq(Long.MAX_VALUE), isNull(), isNull(), eq("nobody%"), eq(3)))
+                .thenReturn(List.of());
+
+        // when
+        AdminUserPageDTO page = adminService.findUsers(null, null, null, "nobody", 2);
+
+        // then
+        assertThat(page.getUsers()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(userRepository, never()).findAdminUsersByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("banUser: 상태가 바뀌면 회원 수 카운터에 반영")
+    void banUser_updatesCounters() {
+
+        // given
+        User u = new User();
+        u.setRole(UserRoleType.USER);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(u));
+
+        // when
+        adminService.banUser(1L);
+
+        // then
+        assertThat(u.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+        verify(userStatsService).recordChanged(UserRoleType.USER, UserStatus.ACTIVE, u);
+    }
+
+    private AdminUserDTO adminUser(Long id) {
+        return new AdminUserDTO(id, "user" + id, null, UserRoleType.USER, UserStatus.ACTIVE, null, 5, null);
+    }
 }
\ No newline at end of file
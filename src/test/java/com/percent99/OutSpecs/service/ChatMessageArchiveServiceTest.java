@@ -0,0 +1,133 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.ChatMessageDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ChatMessageArchiveServiceTest {
+  @TempDir Path archiveDir;
+
+  private ChatMessageArchiveService chatMessageArchiveService;
+
+  @BeforeEach
+  void setup(){
+    chatMessageArchiveService = new ChatMessageArchiveService(archiveDir.toString());
+  }
+
+  @Test
+  @DisplayName("ChatMessageArchiveService.findBefore returns empty list when nothing archived")
+  void findBeforeReturnsEmptyWhenNothingArchived(){
+    // when
+    List<ChatMessageDTO> result = chatMessageArchiveService.findBefore(1L, LocalDateTime.now(), 15);
+
+    // then
+    assertThat(chatMessageArchiveService.hasArchive()).isFalse();
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  @DisplayName("ChatMessageArchiveService.findBefore reads archived messages newest first across months")
+  void findBeforeReadsAcrossMonths() throws Exception {
+    // given
+    writeMonth(YearMonth.of(2025, 1), LocalDateTime.of(2025, 1, 10, 9, 0), 3);
+    writeMonth(YearMonth.of(2025, 2), LocalDateTime.of(2025, 2, 10, 9, 0), 3);
+
+    // when
+    List<ChatMessageDTO> result = chatMessageArchiveService.findBefore(1L, LocalDateTime.of(2025, 2, 10, 9, 2), 4);
+
+    // then
+    assertThat(result).extracting(ChatMessageDTO::getContent)
+        .containsExactly("2025-02-1", "2025-02-0", "2025-01-2", "2025-01-1");
+    assertThat(result).allMatch(message -> message.getChatRoomId().equals(1L));
+  }
+
+  @Test
+  @DisplayName("ChatMessageArchiveService keeps chat rooms in separate segments")
+  void findBeforeOnlyReturnsRequestedChatRoom() throws Exception {
+    // given
+    writeMonth(YearMonth.of(2025, 1), LocalDateTime.of(2025, 1, 10, 9, 0), 2);
+
+    // when
+    List<ChatMessageDTO> result = chatMessageArchiveService.findBefore(2L, LocalDateTime.of(2025, 3, 1, 0, 0), 10);
+
+    // then
+    assertThat(result).extracting(ChatMessageDTO::getContent).containsExactly("room2-2025-01");
+  }
+
+  @Test
+  @DisplayName("ChatMessageArchiveService reloads archived months on startup")
+  void loadArchivedMonths() throws Exception {
+    // given
+    writeMonth(YearMonth.of(2025, 1), LocalDateTime.of(2025, 1, 10, 9, 0), 1);
+    ChatMessageArchiveService restarted = new ChatMessageArchiveService(archiveDir.toString());
+
+    // when
+    restarted.loadArchivedMonths();
+
+    // then
+    assertThat(restarted.isArchived(YearMonth.of(2025, 1))).isTrue();
+    assertThat(restarted.findBefore(1L, LocalDateTime.of(2025, 2, 1, 0, 0), 10)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("ChatMessageArchiveService re-archiving a month drops chat rooms no longer in it")
+  void rewriteMonthUpdatesRoomIndex() throws Exception {
+    // given
+    writeMonth(YearMonth.of(2025, 1), LocalDateTime.of(2025, 1, 10, 9, 0), 1);
+
+    // when
+    try (ChatMessageArchiveService.SegmentWriter writer = chatMessageArchiveService.openMonth(YearMonth.of(2025, 1))) {
+      writer.append(1L, 0L, 10L, LocalDateTime.of(2025, 1, 10, 9, 0), "rewritten");
+      writer.commit();
+    }
+
+    // then
+    LocalDateTime before = LocalDateTime.of(2025, 2, 1, 0, 0);
+    assertThat(chatMessageArchiveService.findBefore(2L, before, 10)).isEmpty();
+    assertThat(chatMessageArchiveService.findBefore(1L, before, 10))
+        .extracting(ChatMessageDTO::getContent).containsExactly("rewritten");
+  }
+
+  @Test
+  @DisplayName("ChatMessageArchiveService.purgeRoom drops the chat room's segments in every month and keeps other rooms")
+  void purgeRoomDropsOnlyThatRoom() throws Exception {
+    // given
+    writeMonth(YearMonth.of(2025, 1), LocalDateTime.of(2025, 1, 10, 9, 0), 1);
+    writeMonth(YearMonth.of(2025, 2), LocalDateTime.of(2025, 2, 10, 9, 0), 1);
+
+    // when
+    int purged = chatMessageArchiveService.purgeRoom(1L);
+
+    // then
+    LocalDateTime before = LocalDateTime.of(2025, 3, 1, 0, 0);
+    assertThat(purged).isEqualTo(2);
+    assertThat(chatMessageArchiveService.findBefore(1L, before, 10)).isEmpty();
+    assertThat(chatMessageArchiveService.findBefore(2L, before, 10)).hasSize(2);
+    assertThat(Files.exists(archiveDir.resolve("2025-01").resolve("room-1.seg.gz"))).isFalse();
+    assertThat(chatMessageArchiveService.purgeRoom(1L)).isZero();
+
+    ChatMessageArchiveService restarted = new ChatMessageArchiveService(archiveDir.toString());
+    restarted.loadArchivedMonths();
+    assertThat(restarted.findBefore(1L, before, 10)).isEmpty();
+  }
+
+  private void writeMonth(YearMonth month, LocalDateTime start, int count) throws Exception {
+    try (ChatMessageArchiveService.SegmentWriter writer = chatMessageArchiveService.openMonth(month)) {
+      for (int i = 0; i < count; i++) {
+        writer.append(1L, (long) i, 10L, start.plusMinutes(i), month + "-" + i);
+      }
+      writer.append(2L, 100L, 20L, start, "room2-" + month);
+      writer.commit();
+    }
+  }
+}
@@ -30,6 +30,7 @@ public class ChatMessageServiceTest {
   @Mock private ChatRoomRepository chatRoomRepository;
   @Mock private UserRepository userRepository;
   @Mock private ProfileRepository profileRepository;
+  @Mock private ChatMessageArchiveService chatMessageArchiveService;
   @InjectMocks private ChatMessageService chatMessageService;
 
   private ChatMessage chatMessage;
@@ -1,8 +1,11 @@
 package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.ChatRoomResponseDTO;
+import com.percent99.OutSpecs.dto.ProfileSummary;
+import com.percent99.OutSpecs.entity.ChatMessage;
 import com.percent99.OutSpecs.entity.ChatRoom;
 import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.repository.ChatMessageRepository;
 import com.percent99.OutSpecs.repository.ChatRoomRepository;
 import com.percent99.OutSpecs.repository.ProfileRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
@@ -14,8 +17,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,6 +31,8 @@ public class ChatRoomServiceTest {
   @Mock private ChatRoomRepository chatRoomRepository;
   @Mock private UserRepository userRepository;
   @Mock private ProfileRepository profileRepository;
+  @Mock private ChatMessageRepository chatMessageRepository;
+  @Mock private ProfileSummaryCache profileSummaryCache;
   @InjectMocks private ChatRoomService chatRoomService;
 
   private User user1;
@@ -51,8 +59,8 @@ public class ChatRoomServiceTest {
   @DisplayName("ChatRoomService.createChatRoom failed when user not found")
   void createChatRoomFailedWhenUserNotFound(){
     // given
-    when(userRepository.findById(user1.getId())).thenReturn(Optional.empty());
-    when(userRepository.findById(user2.getId())).thenReturn(Optional.empty());
+    when(userRepository.existsById(user1.getId())).thenReturn(false);
+    when(userRepository.existsById(user2.getId())).thenReturn(false);
 
     // when
     Object result1 = chatRoomService.createChatRoom(user1.getId(), user2.getId());
@@ -67,8 +75,8 @@ public class ChatRoomServiceTest {
   @DisplayName("ChatRoomService.createChatRoom failed when user has no profile")
   void createChatRoomFailedWhenUserHasNoProfile(){
     // given
-    when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
-    when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
+    when(userRepository.existsById(user1.getId())).thenReturn(true);
+    when(userRepository.existsById(user2.getId())).thenReturn(true);
 
     when(profileRepository.existsByUserId(user1.getId())).thenReturn(false);
     when(profileRepository.existsByUserId(user2.getId())).thenReturn(false);
@@ -83,46 +91,96 @@ public class ChatRoomServiceTest {
   }
 
   @Test
-  @DisplayName("ChatRoomService.createChatRoom failed when chatroom already exists")
-  void createChatRoomFailedWhenChatRoomAlreadyExists(){
+  @DisplayName("ChatRoomService.createChatRoom returns existing chatroom")
+  void createChatRoomReturnsExistingChatRoom(){
     // given
-    when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
-    when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
+    when(userRepository.existsById(user1.getId())).thenReturn(true);
+    when(userRepository.existsById(user2.getId())).thenReturn(true);
+
+    when(chatRoomRepository.findByUser1IdAndUser2Id(user1.getId(), user2.getId())).thenReturn(Optional.of(chatRoom));
+    when(chatRoomRepository.findByUser1IdAndUser2Id(user2.getId(), user1.getId())).thenReturn(Optional.of(chatRoom));
+
+    // when
+    ChatRoom result1 = chatRoomService.createChatRoom(user1.getId(), user2.getId());
+    ChatRoom result2 = chatRoomService.createChatRoom(user2.getId(), user1.getId());
+
+    // then
+    assertThat(result1).isEqualTo(chatRoom);
+    assertThat(result2).isEqualTo(chatRoom);
+    verify(chatRoomRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyBoolean(), any());
+  }
+
+  @Test
+  @DisplayName("ChatRoomService.createChatRoom success")
+  void createChatRoomSuccess(){
+    // given
+    when(userRepository.existsById(user1.getId())).thenReturn(true);
+    when(userRepository.existsById(user2.getId())).thenReturn(true);
 
     when(profileRepository.existsByUserId(user1.getId())).thenReturn(true);
     when(profileRepository.existsByUserId(user2.getId())).thenReturn(true);
 
-    when(chatRoomRepository.existsByUser1IdAndUser2Id(user1.getId(), user2.getId())).thenReturn(true);
-    when(chatRoomRepository.existsByUser1IdAndUser2Id(user2.getId(), user1.getId())).thenReturn(true);
+    when(chatRoomRepository.findByUser1IdAndUser2Id(user1.getId(), user2.getId()))
+        .thenReturn(Optional.empty(), Optional.of(chatRoom));
 
     // when
-    Object result1 = chatRoomService.createChatRoom(user1.getId(), user2.getId());
-    Object result2 = chatRoomService.createChatRoom(user2.getId(), user1.getId());
+    ChatRoom result = chatRoomService.createChatRoom(user1.getId(), user2.getId());
 
     // then
-    assertThat(result1).isNull();
-    assertThat(result2).isNull();
+    assertThat(result).isEqualTo(chatRoom);
+    verify(chatRoomRepository).insertIfAbsent(eq(user1.getId()), eq(user2.getId()), eq(false), any());
+    verify(chatRoomRepository, never()).save(any(ChatRoom.class));
   }
 
   @Test
-  @DisplayName("ChatRoomService.createChatRoom success")
-  void createChatRoomSuccess(){
+  @DisplayName("ChatRoomService.getOrCreateChatRoom returns existing chatroom")
+  void getOrCreateChatRoomReturnsExisting(){
     // given
-    when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
-    when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
+    when(chatRoomRepository.findByUser1IdAndUser2Id(user2.getId(), user1.getId())).thenReturn(Optional.of(chatRoom));
 
+    // when
+    ChatRoom result = chatRoomService.getOrCreateChatRoom(user2.getId(), user1.getId());
+
+    // then
+    assertThat(result).isEqualTo(chatRoom);
+    verify(chatRoomRepository, never()).insertIfAbsent(anyLong(), anyLong(), anyBoolean(), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("ChatRoomService.getOrCreateChatRoom creates chatroom atomically")
+  void getOrCreateChatRoomCreatesAtomically(){
+    // given
+    when(chatRoomRepository.findByUser1IdAndUser2Id(user1.getId(), user2.getId()))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(chatRoom));
     when(profileRepository.existsByUserId(user1.getId())).thenReturn(true);
     when(profileRepository.existsByUserId(user2.getId())).thenReturn(true);
 
-    when(chatRoomRepository.existsByUser1IdAndUser2Id(user1.getId(), user2.getId())).thenReturn(false);
+    // when
+    ChatRoom result = chatRoomService.getOrCreateChatRoom(user1.getId(), user2.getId());
 
-    when(chatRoomRepository.save(any(ChatRoom.class))).thenReturn(chatRoom);
+    // then
+    assertThat(result).isEqualTo(chatRoom);
+    verify(chatRoomRepository).insertIfAbsent(eq(user1.getId()), eq(user2.getId()), eq(false), any(LocalDateTime.class));
+    verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+  }
+
+  @Test
+  @DisplayName("ChatRoomService.getOrCreateChatRoom creates chatbot chatroom flagged as chatbot")
+  void getOrCreateChatRoomCreatesChatbotRoom(){
+    // given
+    when(chatRoomRepository.findByUser1IdAndUser2Id(user1.getId(), user2.getId()))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(chatRoom));
+    when(profileRepository.existsByUserId(user1.getId())).thenReturn(true);
+    when(profileRepository.existsByUserId(user2.getId())).thenReturn(true);
 
     // when
-    ChatRoom result = chatRoomService.createChatRoom(user1.getId(), user2.getId());
+    ChatRoom result = chatRoomService.getOrCreateChatRoom(user1.getId(), user2.getId(), true);
 
     // then
     assertThat(result).isEqualTo(chatRoom);
+    verify(chatRoomRepository).insertIfAbsent(eq(user1.getId()), eq(user2.getId()), eq(true), any(LocalDateTime.class));
   }
 
   @Test
@@ -164,6 +222,71 @@ public class ChatRoomServiceTest {
     assertThat(result2).isEqualTo(List.of());
   }
 
+  @Test
+  @DisplayName("ChatRoomService.getChatRoomResponseDTOPageByUserId returns empty for invalid arguments")
+  void getChatRoomResponseDTOPageByUserIdInvalid(){
+    // given & when
+    List<ChatRoomResponseDTO> result1 = chatRoomService.getChatRoomResponseDTOPageByUserId(null, null, null, 20);
+    List<ChatRoomResponseDTO> result2 = chatRoomService.getChatRoomResponseDTOPageByUserId(user1.getId(), null, null, 0);
+
+    // then
+    assertThat(result1).isEmpty();
+    assertThat(result2).isEmpty();
+    verifyNoInteractions(chatRoomRepository);
+  }
+
+  @Test
+  @DisplayName("ChatRoomService.getChatRoomResponseDTOPageByUserId starts from the newest room when cursor is incomplete")
+  void getChatRoomResponseDTOPageByUserIdFirstPage(){
+    // given
+    LocalDateTime maxCursorAt = LocalDateTime.of(9999, 12, 31, 0, 0);
+    when(chatRoomRepository.findInboxPage(user1.getId(), maxCursorAt, Long.MAX_VALUE, 20)).thenReturn(List.of());
+
+    // when
+    List<ChatRoomResponseDTO> result1 = chatRoomService.getChatRoomResponseDTOPageByUserId(user1.getId(), null, null, 20);
+    List<ChatRoomResponseDTO> result2 = chatRoomService.getChatRoomResponseDTOPageByUserId(user1.getId(), LocalDateTime.now(), null, 20);
+    List<ChatRoomResponseDTO> result3 = chatRoomService.getChatRoomResponseDTOPageByUserId(user1.getId(), null, 5L, 20);
+
+    // then
+    assertThat(result1).isEmpty();
+    assertThat(result2).isEmpty();
+    assertThat(result3).isEmpty();
+    verify(chatRoomRepository, times(3)).findInboxPage(user1.getId(), maxCursorAt, Long.MAX_VALUE, 20);
+  }
+
+  @Test
+  @DisplayName("ChatRoomService.getChatRoomResponseDTOPageByUserId passes cursor and loads previews in one query")
+  void getChatRoomResponseDTOPageByUserIdNextPage(){
+    // given
+    LocalDateTime cursorAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+    LocalDateTime activityAt = LocalDateTime.of(2025, 3, 1, 11, 0);
+    chatRoom.setLastMessageId(100L);
+    chatRoom.setLastActivityAt(activityAt);
+
+    ChatMessage lastMessage = new ChatMessage();
+    lastMessage.setId(100L);
+    lastMessage.setContent("hello");
+    lastMessage.setCreatedAt(activityAt);
+
+    when(chatRoomRepository.findInboxPage(user1.getId(), cursorAt, 7L, 20)).thenReturn(List.of(chatRoom));
+    when(profileSummaryCache.getAll(Set.of(1L, 2L))).thenReturn(Map.of(
+        1L, new ProfileSummary(1L, "nick1", null),
+        2L, new ProfileSummary(2L, "nick2", "/img/2.png")));
+    when(chatMessageRepository.findAllById(Set.of(100L))).thenReturn(List.of(lastMessage));
+
+    // when
+    List<ChatRoomResponseDTO> result = chatRoomService.getChatRoomResponseDTOPageByUserId(user1.getId(), cursorAt, 7L, 20);
+
+    // then
+    assertThat(result).singleElement().satisfies(dto -> {
+      assertThat(dto.getChatRoomId()).isEqualTo(1L);
+      assertThat(dto.getLastActivityAt()).isEqualTo(activityAt);
+      assertThat(dto.getChatRoomLastMessage()).isEqualTo("hello");
+      assertThat(dto.getUser1Nickname()).isEqualTo("nick1");
+      assertThat(dto.getUser2ImageUrl()).isEqualTo("/img/2.png");
+    });
+  }
+
   @Test
   @DisplayName("ChatRoomService.findChatRoomById failed")
   void findChatRoomByIdFailed(){
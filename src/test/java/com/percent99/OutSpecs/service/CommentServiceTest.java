@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 
 import com.percent99.OutSpecs.dto.CommentDTO;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
 import com.percent99.OutSpecs.repository.CommentRepository;
 import com.percent99.OutSpecs.repository.PostRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -33,6 +35,9 @@ class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user;
     private User admin;
     private User otherUser;
@@ -128,6 +133,7 @@ class CommentServiceTest {
         assertNotNull(result);
         assertEquals(CommentType.ANSWER, result.getType());
         verify(postRepository).findById(dto.getParentId());
+        verify(eventPublisher).publishEvent(any(PostEngagementEvent.class));
     }
 
     @Test
@@ -0,0 +1,109 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FollowGraphService followGraphService;
+
+    @BeforeEach
+    void setUp() {
+        followGraphService = new FollowGraphService(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 팔로잉 / 팔로워를 한 번만 읽음")
+    void loadsOnce() throws Exception {
+        // given : 1 -> 2, 1 -> 3, 2 -> 3
+        givenRows(List.of(new long[]{1, 2}, new long[]{1, 3}, new long[]{2, 3}),
+                List.of(new long[]{2, 1}, new long[]{3, 1}, new long[]{3, 2}));
+
+        // when
+        boolean following = followGraphService.isFollowing(1L, 3L);
+
+        // then
+        assertThat(following).isTrue();
+        assertThat(followGraphService.isFollowing(3L, 1L)).isFalse();
+        assertThat(followGraphService.getFollowingCount(1L)).isEqualTo(2);
+        assertThat(followGraphService.getFollowerCount(3L)).isEqualTo(2);
+        assertThat(followGraphService.getFollowerIds(3L, 0, 10)).containsExactly(1L, 2L);
+        verify(jdbcTemplate, times(2)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("팔로우 / 언팔로우 이벤트가 양쪽 인접 집합에 반영됨")
+    void appliesFollowChanges() throws Exception {
+        // given
+        givenRows(List.of(new long[]{1, 2}), List.of(new long[]{2, 1}));
+
+        // when
+        followGraphService.onFollowChanged(new FollowChangedEvent(3L, 2L, true));
+        followGraphService.onFollowChanged(new FollowChangedEvent(3L, 2L, true));
+        followGraphService.onFollowChanged(new FollowChangedEvent(1L, 2L, false));
+
+        // then
+        assertThat(followGraphService.isFollowing(3L, 2L)).isTrue();
+        assertThat(followGraphService.isFollowing(1L, 2L)).isFalse();
+        assertThat(followGraphService.getFollowerIds(2L, 0, 10)).containsExactly(3L);
+        assertThat(followGraphService.getFollowingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로잉 목록을 페이지 단위로 나눔")
+    void pagesFollowingIds() throws Exception {
+        // given
+        givenRows(List.of(new long[]{1, 2}, new long[]{1, 3}, new long[]{1, 4}, new long[]{1, 5}, new long[]{1, 6}),
+                List.of());
+
+        // then
+        assertThat(followGraphService.getFollowingIds(1L, 0, 2)).containsExactly(2L, 3L);
+        assertThat(followGraphService.getFollowingIds(1L, 2, 2)).containsExactly(6L);
+        assertThat(followGraphService.getFollowingIds(1L, 3, 2)).isEmpty();
+        assertThat(followGraphService.getFollowingIds(99L, 0, 2)).isEmpty();
+    }
+
+    /**
+     * 첫 번째 query 호출에는 팔로잉 행, 두 번째 호출에는 팔로워 행을 넘긴다.
+     */
+    private void givenRows(List<long[]> followingRows, List<long[]> followerRows) throws Exception {
+        Iterator<List<long[]>> calls = List.of(followingRows, followerRows).iterator();
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long[] row : calls.next()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(row[0]);
+                when(rs.getLong(2)).thenReturn(row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,126 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.FollowSuggestionDTO;
+import com.percent99.OutSpecs.dto.ProfileDTO;
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.util.SortedLongSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FollowSuggestionServiceTest {
+
+    @Mock
+    private FollowGraphService followGraphService;
+    @Mock
+    private ProfileService profileService;
+
+    private FollowSuggestionService followSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        followSuggestionService = new FollowSuggestionService(followGraphService, profileService, 2, 100, 100, 100);
+        lenient().when(followGraphService.followingOf(anyLong())).thenReturn(SortedLongSet.EMPTY);
+        lenient().when(profileService.getProfiles(any())).thenAnswer(invocation -> {
+            long[] ids = invocation.getArgument(0);
+            return Arrays.stream(ids).mapToObj(this::profile).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("refresh - 2단계 팔로우를 겹치는 수로 정렬하고 상위 N명만 보관")
+    void ranksByMutualCount() {
+        // given : 1 -> 2, 3 / 2 -> 4, 5, 1 / 3 -> 4, 6, 2
+        given(followGraphService.followingOf(1L)).willReturn(set(2, 3));
+        given(followGraphService.followingOf(2L)).willReturn(set(1, 4, 5));
+        given(followGraphService.followingOf(3L)).willReturn(set(2, 4, 6));
+
+        // when
+        followSuggestionService.refresh(1L);
+        List<FollowSuggestionDTO> result = followSuggestionService.getSuggestions(1L);
+
+        // then : 4(2명) 다음 5(1명, id 가 6보다 작음), 자기 자신과 이미 팔로우한 2는 제외
+        assertThat(result).extracting(s -> s.getProfile().getUserId()).containsExactly(4L, 5L);
+        assertThat(result).extracting(FollowSuggestionDTO::getMutualCount).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("getSuggestions - 계산 전이면 빈 목록을 주고 다음 갱신 대상에 넣음")
+    void missMarksDirty() {
+        // given
+        given(followGraphService.followingOf(1L)).willReturn(set(2));
+        given(followGraphService.followingOf(2L)).willReturn(set(7));
+
+        // when
+        List<FollowSuggestionDTO> before = followSuggestionService.getSuggestions(1L);
+        followSuggestionService.refreshDirty();
+        List<FollowSuggestionDTO> after = followSuggestionService.getSuggestions(1L);
+
+        // then
+        assertThat(before).isEmpty();
+        assertThat(after).extracting(s -> s.getProfile().getUserId()).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("getSuggestions - 계산 후 팔로우한 사람은 바로 제외")
+    void excludesNewlyFollowed() {
+        // given
+        given(followGraphService.followingOf(1L)).willReturn(set(2));
+        given(followGraphService.followingOf(2L)).willReturn(set(7));
+        followSuggestionService.refresh(1L);
+
+        // when
+        given(followGraphService.followingOf(1L)).willReturn(set(2, 7));
+        List<FollowSuggestionDTO> result = followSuggestionService.getSuggestions(1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(profileService, never()).getProfiles(any());
+    }
+
+    @Test
+    @DisplayName("onFollowChanged - 팔로우한 유저와 그 팔로워를 다시 계산")
+    void followChangeMarksFollowerAndTheirFollowers() {
+        // given
+        given(followGraphService.followersOf(1L)).willReturn(set(8));
+        given(followGraphService.followingOf(8L)).willReturn(set(1));
+        given(followGraphService.followingOf(1L)).willReturn(set(3));
+        given(followGraphService.followingOf(3L)).willReturn(set(9));
+
+        // when
+        followSuggestionService.onFollowChanged(new FollowChangedEvent(1L, 3L, true));
+        followSuggestionService.refreshDirty();
+
+        // then : 8 -> 1 -> 3 이므로 8에게 3 추천
+        assertThat(followSuggestionService.getSuggestions(8L))
+                .extracting(s -> s.getProfile().getUserId()).containsExactly(3L);
+        assertThat(followSuggestionService.getSuggestions(1L))
+                .extracting(s -> s.getProfile().getUserId()).containsExactly(9L);
+    }
+
+    private SortedLongSet set(long... ids) {
+        return SortedLongSet.ofSorted(ids, ids.length);
+    }
+
+    private ProfileDTO profile(long userId) {
+        ProfileDTO dto = new ProfileDTO();
+        dto.setUserId(userId);
+        dto.setNickname("user" + userId);
+        return dto;
+    }
+}
@@ -0,0 +1,178 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.ProfileSummary;
+import com.percent99.OutSpecs.entity.NotificationType;
+import com.percent99.OutSpecs.event.NotificationBatchEvent;
+import com.percent99.OutSpecs.event.NotificationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProfileSummaryCache profileSummaryCache;
+
+    @Mock
+    private NotificationPushService notificationPushService;
+
+    private NotificationBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new NotificationBatchWriter(jdbcTemplate, transactionManager, profileSummaryCache, notificationPushService, new NotificationCoalescer(1440, 3), 2, 100, 3, 0);
+    }
+
+    @Test
+    @DisplayName("flush - 대기 중인 알림을 닉네임과 함께 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void flushWritesBatch() {
+        // given
+        given(profileSummaryCache.getAll(anySet()))
+                .willReturn(Map.of(1L, new ProfileSummary(1L, "테스터", null)));
+
+        writer.onNotificationEvent(new NotificationEvent(1L, 2L, NotificationType.FOLLOW, 2L));
+        writer.onNotificationEvent(new NotificationEvent(3L, 2L, NotificationType.LIKE_POST, 10L));
+
+        // when
+        writer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture());
+        List<Object[]> rows = captor.getValue();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)[4]).isEqualTo("테스터님이 당신을 팔로우했습니다.");
+        assertThat(rows.get(1)[4]).isEqualTo("새로운 알림이 도착했습니다.");
+        then(notificationPushService).should(times(2)).pushCreated(eq(2L), any(), anyString(), anyLong(), any(), eq(true));
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - 같은 게시글 좋아요는 하나의 묶음 알림으로 저장")
+    @SuppressWarnings("unchecked")
+    void flushCoalescesLikes() {
+        // given
+        given(profileSummaryCache.getAll(anySet())).willReturn(Map.of(
+                1L, new ProfileSummary(1L, "테스터", null),
+                3L, new ProfileSummary(3L, "최근유저", null)));
+
+        writer.onNotificationEvent(new NotificationEvent(1L, 2L, NotificationType.LIKE_POST, 10L));
+        writer.onNotificationEvent(new NotificationEvent(3L, 2L, NotificationType.LIKE_POST, 10L));
+
+        // when
+        writer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture());
+        List<Object[]> rows = captor.getValue();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)[1]).isEqualTo(3L);
+        assertThat(rows.get(0)[4]).isEqualTo("최근유저님 외 1명이 게시글을 좋아했습니다.");
+        assertThat(rows.get(0)[6]).isEqualTo(2);
+        assertThat(rows.get(0)[7]).isEqualTo("3,1");
+    }
+
+    @Test
+    @DisplayName("flush - 저장 실패 시 다음 flush 에서 재시도")
+    @SuppressWarnings("unchecked")
+    void flushRetriesFailedBatch() {
+        // given
+        given(profileSummaryCache.getAll(anySet())).willReturn(Map.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[]{1});
+        writer.onNotificationEvent(new NotificationEvent(1L, 2L, NotificationType.ACCEPTED, 5L));
+
+        // when
+        writer.flush();
+        writer.flush();
+
+        // then
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), anyList());
+        assertThat(writer.getPendingCount()).isZero();
+        assertThat(writer.getDroppedCount()).isZero();
+        then(notificationPushService).should(times(1)).pushCreated(eq(2L), eq(NotificationType.ACCEPTED), anyString(), eq(5L), any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("flush - 묶음 저장이 실패하면 한 건씩 저장하고, 제약 조건을 어긴 알림만 버림")
+    @SuppressWarnings("unchecked")
+    void flushFallsBackToRowByRow() {
+        // given
+        given(profileSummaryCache.getAll(anySet())).willReturn(Map.of());
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            boolean hasBadRow = rows.stream().anyMatch(row -> Long.valueOf(99L).equals(row[0]));
+            if (hasBadRow) throw new DataIntegrityViolationException("receiver does not exist");
+            return new int[rows.size()];
+        });
+        writer.onNotificationEvent(new NotificationEvent(1L, 2L, NotificationType.ACCEPTED, 5L));
+        writer.onNotificationEvent(new NotificationEvent(1L, 99L, NotificationType.ACCEPTED, 6L));
+
+        // when
+        writer.flush();
+        writer.flush();
+
+        // then
+        then(jdbcTemplate).should(times(3)).batchUpdate(anyString(), anyList());
+        assertThat(writer.getPendingCount()).isZero();
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        then(notificationPushService).should(times(1)).pushCreated(eq(2L), eq(NotificationType.ACCEPTED), anyString(), eq(5L), any(), eq(true));
+        then(notificationPushService).should(never()).pushCreated(eq(99L), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("onNotificationEvent - 대기열이 가득 차면 요청을 막지 않고 버림")
+    void dropWhenQueueFull() {
+        // when
+        writer.onNotificationEvent(new NotificationEvent(1L, 2L, NotificationType.FOLLOW, 2L));
+        writer.onNotificationEvent(new NotificationEvent(1L, 3L, NotificationType.FOLLOW, 3L));
+        writer.onNotificationEvent(new NotificationEvent(1L, 4L, NotificationType.FOLLOW, 4L));
+
+        // then
+        assertThat(writer.getPendingCount()).isEqualTo(2);
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("onNotificationBatchEvent - 묶음 알림을 대기열에 넣고 넘치는 만큼 버림")
+    void batchEventEnqueuesAll() {
+        // when
+        writer.onNotificationBatchEvent(new NotificationBatchEvent(List.of(
+                new NotificationEvent(1L, 2L, NotificationType.ACCEPTED, 5L),
+                new NotificationEvent(1L, 3L, NotificationType.ACCEPTED, 6L),
+                new NotificationEvent(1L, 4L, NotificationType.ACCEPTED, 7L))));
+
+        // then
+        assertThat(writer.getPendingCount()).isEqualTo(2);
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+    }
+}
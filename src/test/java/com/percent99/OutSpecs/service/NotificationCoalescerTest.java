@@ -0,0 +1,69 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.NotificationType;
+import com.percent99.OutSpecs.event.NotificationEvent;
+import com.percent99.OutSpecs.service.NotificationCoalescer.CoalescedNotification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationCoalescerTest {
+
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(1440, 2);
+    private final LocalDateTime now = LocalDateTime.of(2025, 8, 1, 12, 0);
+
+    @Test
+    @DisplayName("coalesce - 팀 모집 알림은 묶지 않음")
+    void doesNotCoalesceApply() {
+        // when
+        List<CoalescedNotification> result = coalescer.coalesce(List.of(
+                new NotificationEvent(1L, 2L, NotificationType.APPLY, 100L, now),
+                new NotificationEvent(3L, 2L, NotificationType.APPLY, 100L, now.plusSeconds(1))));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result).allMatch(row -> row.getCount() == 1);
+    }
+
+    @Test
+    @DisplayName("coalesce - 같은 유저의 반복 알림은 인원 수를 늘리지 않고 최근 보낸 사람은 제한 개수만 유지")
+    void coalesceCountsDistinctRecentSenders() {
+        // when
+        List<CoalescedNotification> result = coalescer.coalesce(List.of(
+                new NotificationEvent(1L, 2L, NotificationType.LIKE_POST, 10L, now),
+                new NotificationEvent(3L, 2L, NotificationType.LIKE_POST, 10L, now.plusSeconds(1)),
+                new NotificationEvent(3L, 2L, NotificationType.LIKE_POST, 10L, now.plusSeconds(2)),
+                new NotificationEvent(4L, 2L, NotificationType.LIKE_POST, 10L, now.plusSeconds(3)),
+                new NotificationEvent(4L, 2L, NotificationType.LIKE_POST, 11L, now.plusSeconds(4))));
+
+        // then
+        assertThat(result).hasSize(2);
+        CoalescedNotification post10 = result.get(0);
+        assertThat(post10.getCount()).isEqualTo(3);
+        assertThat(post10.getSenderId()).isEqualTo(4L);
+        assertThat(post10.getRecentSenderIds()).containsExactly(4L, 3L);
+        assertThat(post10.getOccurredAt()).isEqualTo(now.plusSeconds(3));
+    }
+
+    @Test
+    @DisplayName("mergeInto - 기존 묶음 알림의 인원 수와 최근 보낸 사람에 합침")
+    void mergeIntoExisting() {
+        // given
+        CoalescedNotification row = coalescer.coalesce(List.of(
+                new NotificationEvent(5L, 2L, NotificationType.FOLLOW, 2L, now),
+                new NotificationEvent(7L, 2L, NotificationType.FOLLOW, 2L, now.plusSeconds(1)))).get(0);
+
+        // when
+        row.mergeInto(99L, 4, NotificationCoalescer.parseSenderIds("5,6", null));
+
+        // then
+        assertThat(row.isMerged()).isTrue();
+        assertThat(row.getExistingId()).isEqualTo(99L);
+        assertThat(row.getCount()).isEqualTo(5);
+        assertThat(row.getRecentSenderIds()).containsExactly(7L, 5L);
+    }
+}
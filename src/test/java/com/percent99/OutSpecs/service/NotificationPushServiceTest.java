@@ -0,0 +1,106 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.NotificationPushDTO;
+import com.percent99.OutSpecs.entity.NotificationType;
+import com.percent99.OutSpecs.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPushServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private NotificationPushService notificationPushService;
+
+    @BeforeEach
+    void setUp() {
+        notificationPushService = new NotificationPushService(notificationRepository, messagingTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("pushCreated - 읽지 않은 알림 수를 한 번만 DB에서 읽고 이후 메모리에서 증가")
+    void pushCreatedCountsInMemory() {
+        // given
+        given(notificationRepository.countUnreadByReceiverId(2L)).willReturn(3L);
+
+        // when
+        notificationPushService.pushCreated(2L, NotificationType.FOLLOW, "테스터님이 당신을 팔로우했습니다.", 2L, LocalDateTime.now(), true);
+        notificationPushService.pushCreated(2L, NotificationType.LIKE_POST, "테스터님이 게시글을 좋아했습니다.", 10L, LocalDateTime.now(), true);
+
+        // then
+        assertThat(notificationPushService.getUnreadCount(2L)).isEqualTo(4L);
+        then(notificationRepository).should(times(1)).countUnreadByReceiverId(2L);
+        then(messagingTemplate).should().convertAndSend(eq("/queue/users/2/notifications"),
+                argThat((NotificationPushDTO dto) -> dto.getUnreadCount() == 4L && dto.getTargetId().equals(10L)));
+    }
+
+    @Test
+    @DisplayName("pushCreated - 기존 묶음 알림에 합쳐진 경우 읽지 않은 알림 수를 늘리지 않음")
+    void pushCreatedMergedKeepsCount() {
+        // given
+        given(notificationRepository.countUnreadByReceiverId(2L)).willReturn(1L);
+        notificationPushService.getUnreadCount(2L);
+
+        // when
+        notificationPushService.pushCreated(2L, NotificationType.LIKE_POST, "테스터님 외 1명이 게시글을 좋아했습니다.", 10L, LocalDateTime.now(), false);
+
+        // then
+        assertThat(notificationPushService.getUnreadCount(2L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("markAllRead - 읽지 않은 알림 수를 0으로 맞추고 전송")
+    void markAllReadResetsCount() {
+        // given
+        given(notificationRepository.countUnreadByReceiverId(2L)).willReturn(5L);
+        notificationPushService.getUnreadCount(2L);
+
+        // when
+        notificationPushService.markAllRead(2L);
+
+        // then
+        assertThat(notificationPushService.getUnreadCount(2L)).isZero();
+        then(messagingTemplate).should().convertAndSend(eq("/queue/users/2/notifications"),
+                argThat((NotificationPushDTO dto) -> dto.getUnreadCount() == 0 && dto.getType() == null));
+    }
+
+    @Test
+    @DisplayName("getUnreadCount - 최대 보관 수를 넘으면 가장 오래 조회하지 않은 유저부터 버리고 다시 DB에서 읽음")
+    void evictsLeastRecentlyUsed() {
+        // given
+        given(notificationRepository.countUnreadByReceiverId(1L)).willReturn(1L);
+        given(notificationRepository.countUnreadByReceiverId(2L)).willReturn(2L);
+        given(notificationRepository.countUnreadByReceiverId(3L)).willReturn(3L);
+        notificationPushService.getUnreadCount(1L);
+        notificationPushService.getUnreadCount(2L);
+        notificationPushService.getUnreadCount(1L);
+
+        // when
+        notificationPushService.getUnreadCount(3L);
+        notificationPushService.getUnreadCount(2L);
+
+        // then
+        assertThat(notificationPushService.getCachedUserCount()).isEqualTo(2);
+        then(notificationRepository).should(times(1)).countUnreadByReceiverId(1L);
+        then(notificationRepository).should(times(2)).countUnreadByReceiverId(2L);
+    }
+}
@@ -1,10 +1,10 @@
 package com.percent99.OutSpecs.service;
 
+import com.percent99.OutSpecs.dto.NotificationDTO;
+import com.percent99.OutSpecs.dto.ProfileSummary;
 import com.percent99.OutSpecs.entity.NotificationType;
-import com.percent99.OutSpecs.entity.Profile;
 import com.percent99.OutSpecs.entity.User;
 import com.percent99.OutSpecs.repository.NotificationRepository;
-import com.percent99.OutSpecs.repository.ProfileRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +14,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -32,14 +38,17 @@ class NotificationServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private ProfileRepository profileRepository;
+    private ProfileSummaryCache profileSummaryCache;
+
+    @Mock
+    private NotificationPushService notificationPushService;
 
     @InjectMocks
     private NotificationService notificationService;
 
     private User sender;
     private User receiver;
-    private Profile senderProfile;
+    private ProfileSummary senderProfile;
 
     @BeforeEach
     void setUp() {
@@ -49,8 +58,7 @@ class NotificationServiceTest {
         receiver = new User();
         receiver.setId(2L);
 
-        senderProfile = new Profile();
-        senderProfile.setNickname("테스터");
+        senderProfile = new ProfileSummary(1L, "테스터", null);
     }
 
     @Test
@@ -59,7 +67,7 @@ class NotificationServiceTest {
         // given
         given(userRepository.existsById(sender.getId())).willReturn(true);
         given(userRepository.existsById(receiver.getId())).willReturn(true);
-        given(profileRepository.findById(sender.getId())).willReturn(Optional.of(senderProfile));
+        given(profileSummaryCache.get(sender.getId())).willReturn(senderProfile);
 
         // when
         notificationService.sendNotification(sender, receiver, NotificationType.FOLLOW, 100L);
@@ -107,11 +115,59 @@ class NotificationServiceTest {
         // given
         given(userRepository.existsById(sender.getId())).willReturn(true);
         given(userRepository.existsById(receiver.getId())).willReturn(true);
-        given(profileRepository.findById(sender.getId())).willReturn(Optional.empty());
+        given(profileSummaryCache.get(sender.getId())).willReturn(null);
 
         // when & then
         assertThrows(EntityNotFoundException.class, () ->
                 notificationService.sendNotification(sender, receiver, NotificationType.FOLLOW, 100L)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getNotificationPage - 커서가 없으면 가장 최근 알림부터 조회")
+    void getNotificationPageWithoutCursor() {
+        // given
+        NotificationDTO dto = new NotificationDTO(1L, NotificationType.FOLLOW, "테스터님이 당신을 팔로우했습니다.",
+                2L, 1L, 1, false, LocalDateTime.now());
+        given(notificationRepository.findPage(eq(2L), eq(LocalDateTime.of(9999, 12, 31, 0, 0)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(dto));
+
+        // when
+        List<NotificationDTO> result = notificationService.getNotificationPage(2L, null, null, false, 20);
+
+        // then
+        assertThat(result).containsExactly(dto);
+        then(notificationRepository).should(never()).findUnreadPage(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getNotificationPage - 읽지 않은 알림만 조회")
+    void getNotificationPageUnreadOnly() {
+        // given
+        LocalDateTime cursorAt = LocalDateTime.of(2025, 8, 1, 12, 0);
+        given(notificationRepository.findUnreadPage(eq(2L), eq(cursorAt), eq(10L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        List<NotificationDTO> result = notificationService.getNotificationPage(2L, cursorAt, 10L, true, 20);
+
+        // then
+        assertThat(result).isEmpty();
+        then(notificationRepository).should(never()).findPage(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("markReadUntil - 읽음 처리한 수만큼 읽지 않은 알림 수 감소")
+    void markReadUntil() {
+        // given
+        LocalDateTime until = LocalDateTime.of(2025, 8, 1, 12, 0);
+        given(notificationRepository.markReadUntil(2L, until)).willReturn(3);
+
+        // when
+        int updated = notificationService.markReadUntil(2L, until);
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        then(notificationPushService).should().unreadRemoved(2L, 3);
+    }
+}
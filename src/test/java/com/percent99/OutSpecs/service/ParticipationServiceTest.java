@@ -2,8 +2,12 @@ package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.ParticipationDTO;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.dto.ApplicantDTO;
+import com.percent99.OutSpecs.event.NotificationBatchEvent;
+import com.percent99.OutSpecs.event.NotificationEvent;
 import com.percent99.OutSpecs.repository.ParticipationRepository;
 import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.repository.PostTeamInformationRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,8 +18,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,11 +39,13 @@ class ParticipationServiceTest {
     @Mock
     private ParticipationRepository participationRepository;
     @Mock
+    private PostTeamInformationRepository postTeamInformationRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private PostRepository postRepository;
     @Mock
-    private NotificationService notificationService;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ParticipationService participationService;
@@ -62,6 +71,7 @@ class ParticipationServiceTest {
 
         post = new Post();
         post.setId(100L);
+        post.setType(PostType.TEAM);
         post.setUser(postOwner);
         post.setTeamInfo(teamInfo);
 
@@ -85,9 +95,9 @@ class ParticipationServiceTest {
         // given
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
         given(postRepository.findById(100L)).willReturn(Optional.of(post));
-        given(participationRepository.countByPostId(100L)).willReturn(0L);
         given(participationRepository.findByUserIdAndPostId(1L, 100L))
                 .willReturn(Optional.empty());
+        given(postTeamInformationRepository.reserveApplication(100L, 5)).willReturn(Optional.of(1));
         given(participationRepository.save(any(Participation.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
@@ -100,9 +110,11 @@ class ParticipationServiceTest {
         assertThat(result.getStatus()).isEqualTo(ParticipationStatus.PENDING);
         assertThat(result.getAppliedAt()).isNotNull();
 
-        verify(notificationService).sendNotification(
-                eq(user), eq(post.getUser()), eq(NotificationType.APPLY), eq(post.getId())
-        );
+        verify(eventPublisher).publishEvent(argThat((NotificationEvent event) ->
+                event.getSenderId().equals(user.getId())
+                        && event.getReceiverId().equals(postOwner.getId())
+                        && event.getType() == NotificationType.APPLY
+                        && event.getTargetId().equals(post.getId())));
         verify(participationRepository).save(any(Participation.class));
     }
 
@@ -168,13 +180,16 @@ class ParticipationServiceTest {
         // given
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
         given(postRepository.findById(100L)).willReturn(Optional.of(post));
-        // 용량(5) + 5 = 10 이상일 때 예외 발생
-        given(participationRepository.countByPostId(100L)).willReturn(11L);
+        given(participationRepository.findByUserIdAndPostId(1L, 100L))
+                .willReturn(Optional.empty());
+        // 신청 인원이 용량(5) + 5 에 도달해 조건부 UPDATE 가 갱신하지 못함
+        given(postTeamInformationRepository.reserveApplication(100L, 5)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> participationService.createParticipation(dto))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("신청이 불가");
+        verify(participationRepository, never()).save(any(Participation.class));
     }
 
     @Test
@@ -183,7 +198,6 @@ class ParticipationServiceTest {
         // given
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
         given(postRepository.findById(100L)).willReturn(Optional.of(post));
-        given(participationRepository.countByPostId(100L)).willReturn(0L);
         given(participationRepository.findByUserIdAndPostId(1L, 100L))
                 .willReturn(Optional.of(new Participation()));
 
@@ -230,17 +244,10 @@ class ParticipationServiceTest {
         // given
         given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
         given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(participationRepository.save(any(Participation.class))).willAnswer(invocation -> invocation.getArgument(0));
-
-        // 모집완료를 위해 용량 다 채우기 (현재 + 1 = 전체 용량)
-        List<Participation> acceptedList = new ArrayList<>();
-        for (int i = 0; i < post.getTeamInfo().getCapacity() - 1; i++) {
-            Participation p = new Participation();
-            p.setStatus(ParticipationStatus.ACCEPTED);
-            acceptedList.add(p);
-        }
-        acceptedList.add(participation);
-        given(participationRepository.findByPostId(post.getId())).willReturn(acceptedList);
+        given(participationRepository.updateStatus(1L, ParticipationStatus.PENDING, ParticipationStatus.ACCEPTED))
+                .willReturn(1);
+        // 마지막 한 자리를 채우면서 같은 UPDATE 에서 모집완료로 바뀜
+        given(postTeamInformationRepository.acceptOne(100L)).willReturn(Optional.of("CLOSED"));
 
         // when
         ParticipationDTO updateDto = new ParticipationDTO();
@@ -250,7 +257,92 @@ class ParticipationServiceTest {
         // then
         assertThat(updated.getStatus()).isEqualTo(ParticipationStatus.ACCEPTED);
         assertThat(post.getTeamInfo().getStatus()).isEqualTo(PostStatus.CLOSED);
-        then(notificationService).should().sendNotification(eq(post.getUser()), eq(user), eq(NotificationType.ACCEPTED), anyLong());
+        then(eventPublisher).should().publishEvent(argThat((NotificationEvent event) ->
+                event.getSenderId().equals(postOwner.getId())
+                        && event.getReceiverId().equals(user.getId())
+                        && event.getType() == NotificationType.ACCEPTED));
+    }
+
+    @Test
+    @DisplayName("updateParticipation - 모집인원이 다 찼으면 수락 시 예외 발생")
+    void updateParticipationAcceptedWhenFull() {
+        // given
+        given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
+        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
+        given(participationRepository.updateStatus(1L, ParticipationStatus.PENDING, ParticipationStatus.ACCEPTED))
+                .willReturn(1);
+        given(postTeamInformationRepository.acceptOne(100L)).willReturn(Optional.empty());
+
+        // when & then
+        ParticipationDTO updateDto = new ParticipationDTO();
+        updateDto.setStatus(ParticipationStatus.ACCEPTED);
+
+        assertThatThrownBy(() -> participationService.updateParticipation(1L, updateDto))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("모두 찼습니다");
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("updateParticipation - 모집이 마감된 게시글은 자리가 남아 있어도 수락 시 예외 발생")
+    void updateParticipationAcceptedWhenClosed() {
+        // given
+        post.getTeamInfo().setStatus(PostStatus.CLOSED);
+        given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
+        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
+        given(participationRepository.updateStatus(1L, ParticipationStatus.PENDING, ParticipationStatus.ACCEPTED))
+                .willReturn(1);
+        // acceptOne 은 acceptPending 과 같이 status = 'OPEN' 인 경우만 갱신하므로 마감된 게시글이면 empty
+        given(postTeamInformationRepository.acceptOne(100L)).willReturn(Optional.empty());
+
+        // when & then
+        ParticipationDTO updateDto = new ParticipationDTO();
+        updateDto.setStatus(ParticipationStatus.ACCEPTED);
+
+        assertThatThrownBy(() -> participationService.updateParticipation(1L, updateDto))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("마감");
+        assertThat(post.getTeamInfo().getStatus()).isEqualTo(PostStatus.CLOSED);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("updateParticipation - 다른 요청이 먼저 상태를 바꿨으면 예외 발생")
+    void updateParticipationConcurrentlyChanged() {
+        // given
+        given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
+        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
+        given(participationRepository.updateStatus(1L, ParticipationStatus.PENDING, ParticipationStatus.ACCEPTED))
+                .willReturn(0);
+
+        // when & then
+        ParticipationDTO updateDto = new ParticipationDTO();
+        updateDto.setStatus(ParticipationStatus.ACCEPTED);
+
+        assertThatThrownBy(() -> participationService.updateParticipation(1L, updateDto))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 변경");
+        then(postTeamInformationRepository).should(never()).acceptOne(any());
+    }
+
+    @Test
+    @DisplayName("updateParticipation - 수락된 신청을 거절하면 수락 인원을 줄인다")
+    void updateParticipationAcceptedToRejected() {
+        // given
+        participation.setStatus(ParticipationStatus.ACCEPTED);
+        given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
+        given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
+        given(participationRepository.updateStatus(1L, ParticipationStatus.ACCEPTED, ParticipationStatus.REJECTED))
+                .willReturn(1);
+
+        // when
+        ParticipationDTO updateDto = new ParticipationDTO();
+        updateDto.setStatus(ParticipationStatus.REJECTED);
+        Participation updated = participationService.updateParticipation(1L, updateDto);
+
+        // then
+        assertThat(updated.getStatus()).isEqualTo(ParticipationStatus.REJECTED);
+        then(postTeamInformationRepository).should().releaseAccepted(100L);
     }
 
     @Test
@@ -260,7 +352,8 @@ class ParticipationServiceTest {
         participation.setStatus(ParticipationStatus.PENDING);
         given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
         given(postRepository.findById(post.getId())).willReturn(Optional.of(post));
-        given(participationRepository.save(any(Participation.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(participationRepository.updateStatus(1L, ParticipationStatus.PENDING, ParticipationStatus.REJECTED))
+                .willReturn(1);
 
         // when
         ParticipationDTO updateDto = new ParticipationDTO();
@@ -269,7 +362,10 @@ class ParticipationServiceTest {
 
         // then
         assertThat(updated.getStatus()).isEqualTo(ParticipationStatus.REJECTED);
-        then(notificationService).should().sendNotification(eq(post.getUser()), eq(user), eq(NotificationType.REJECTED), anyLong());
+        then(eventPublisher).should().publishEvent(argThat((NotificationEvent event) ->
+                event.getSenderId().equals(postOwner.getId())
+                        && event.getReceiverId().equals(user.getId())
+                        && event.getType() == NotificationType.REJECTED));
     }
 
     @Test
@@ -294,7 +390,7 @@ class ParticipationServiceTest {
     @DisplayName("deleteParticipation - 존재하지 않는 참여 정보 삭제 시 예외 발생")
     void deleteParticipationNotFound() {
         // given
-        given(participationRepository.existsById(1L)).willReturn(false);
+        given(participationRepository.findById(1L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> participationService.deleteParticipation(1L))
@@ -306,14 +402,31 @@ class ParticipationServiceTest {
     @DisplayName("deleteParticipation - 삭제 성공")
     void deleteParticipationSuccess() {
         // given
-        given(participationRepository.existsById(1L)).willReturn(true);
-        willDoNothing().given(participationRepository).deleteById(1L);
+        given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
+        given(participationRepository.deleteByIdReturningCount(1L)).willReturn(1);
 
         // when
         participationService.deleteParticipation(1L);
 
         // then
-        then(participationRepository).should().deleteById(1L);
+        then(postTeamInformationRepository).should().releaseApplication(100L);
+        then(postTeamInformationRepository).should(never()).releaseAccepted(any());
+    }
+
+    @Test
+    @DisplayName("deleteParticipation - 수락된 신청 삭제 시 수락 인원도 줄인다")
+    void deleteAcceptedParticipation() {
+        // given
+        participation.setStatus(ParticipationStatus.ACCEPTED);
+        given(participationRepository.findById(1L)).willReturn(Optional.of(participation));
+        given(participationRepository.deleteByIdReturningCount(1L)).willReturn(1);
+
+        // when
+        participationService.deleteParticipation(1L);
+
+        // then
+        then(postTeamInformationRepository).should().releaseApplication(100L);
+        then(postTeamInformationRepository).should().releaseAccepted(100L);
     }
 
     /**
@@ -323,21 +436,7 @@ class ParticipationServiceTest {
     @DisplayName("countAcceptedParticipation - 수락된 참가자 수 계산")
     void countAcceptedParticipation() {
         // given
-        List<Participation> participations = new ArrayList<>();
-
-        Participation accepted1 = new Participation();
-        accepted1.setStatus(ParticipationStatus.ACCEPTED);
-        participations.add(accepted1);
-
-        Participation accepted2 = new Participation();
-        accepted2.setStatus(ParticipationStatus.ACCEPTED);
-        participations.add(accepted2);
-
-        Participation pending = new Participation();
-        pending.setStatus(ParticipationStatus.PENDING);
-        participations.add(pending);
-
-        given(participationRepository.findByPostId(100L)).willReturn(participations);
+        given(postTeamInformationRepository.findAcceptedCount(100L)).willReturn(Optional.of(2));
 
         // when
         int count = participationService.countAcceptedParticipation(100L);
@@ -419,7 +518,7 @@ class ParticipationServiceTest {
     @DisplayName("countParticipation - 전체 신청자 수 계산")
     void countParticipation() {
         // given
-        given(participationRepository.countByPostId(100L)).willReturn(3L);
+        given(postTeamInformationRepository.findAppliedCount(100L)).willReturn(Optional.of(3));
 
         // when
         int count = participationService.countParticipation(100L);
@@ -427,4 +526,107 @@ class ParticipationServiceTest {
         // then
         assertThat(count).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+    /**
+     * Applicant management Tests
+     */
+    @Test
+    @DisplayName("getApplicants - 상태를 지정하지 않으면 전체 상태로 조회")
+    void getApplicantsAllStatuses() {
+        // given
+        ApplicantDTO applicant = new ApplicantDTO(1L, 1L, "신청자", null, "Java", ParticipationStatus.PENDING, null);
+        given(postRepository.findById(100L)).willReturn(Optional.of(post));
+        given(participationRepository.findApplicants(eq(100L), argThat(statuses -> statuses.size() == ParticipationStatus.values().length),
+                eq(PageRequest.of(0, 20))))
+                .willReturn(new PageImpl<>(List.of(applicant)));
+
+        // when
+        Page<ApplicantDTO> result = participationService.getApplicants(2L, 100L, null, 0, 20);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getContent().get(0)).isEqualTo(applicant);
+    }
+
+    @Test
+    @DisplayName("getApplicants - 게시글 작성자가 아니면 예외 발생")
+    void getApplicantsNotOwner() {
+        // given
+        given(postRepository.findById(100L)).willReturn(Optional.of(post));
+
+        // when & then
+        assertThatThrownBy(() -> participationService.getApplicants(1L, 100L, ParticipationStatus.PENDING, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("작성자");
+        then(participationRepository).should(never()).findApplicants(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("acceptApplicants - 수락된 신청만큼 알림을 한 번에 발행")
+    void acceptApplicantsPublishesBatch() {
+        // given
+        given(postRepository.findById(100L)).willReturn(Optional.of(post));
+        given(participationRepository.acceptPending(eq(100L), any()))
+                .willReturn(List.of(changed(11L, 21L), changed(12L, 22L)));
+
+        // when
+        int accepted = participationService.acceptApplicants(2L, 100L, List.of(11L, 12L, 13L));
+
+        // then
+        assertThat(accepted).isEqualTo(2);
+        then(eventPublisher).should().publishEvent(argThat((Object event) ->
+                event instanceof NotificationBatchEvent batch
+                        && batch.getEvents().size() == 2
+                        && batch.getEvents().get(0).getReceiverId().equals(21L)
+                        && batch.getEvents().get(0).getTargetId().equals(11L)
+                        && batch.getEvents().get(0).getType() == NotificationType.ACCEPTED));
+    }
+
+    @Test
+    @DisplayName("acceptApplicants - 수락된 신청이 없으면 알림을 발행하지 않음")
+    void acceptApplicantsNoneAccepted() {
+        // given
+        given(postRepository.findById(100L)).willReturn(Optional.of(post));
+        given(participationRepository.acceptPending(eq(100L), any())).willReturn(List.of());
+
+        // when
+        int accepted = participationService.acceptApplicants(2L, 100L, List.of(11L));
+
+        // then
+        assertThat(accepted).isZero();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("rejectApplicants - 거절 알림을 한 번에 발행")
+    void rejectApplicantsPublishesBatch() {
+        // given
+        given(postRepository.findById(100L)).willReturn(Optional.of(post));
+        given(participationRepository.rejectPending(eq(100L), any()))
+                .willReturn(List.of(changed(11L, 21L)));
+
+        // when
+        int rejected = participationService.rejectApplicants(2L, 100L, List.of(11L));
+
+        // then
+        assertThat(rejected).isEqualTo(1);
+        then(eventPublisher).should().publishEvent(argThat((Object event) ->
+                event instanceof NotificationBatchEvent batch
+                        && batch.getEvents().size() == 1
+                        && batch.getEvents().get(0).getType() == NotificationType.REJECTED));
+    }
+
+    private ParticipationRepository.ChangedApplicant changed(Long id, Long userId) {
+        return new ParticipationRepository.ChangedApplicant() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
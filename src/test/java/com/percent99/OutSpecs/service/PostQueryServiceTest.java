@@ -0,0 +1,267 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.PostListViewDTO;
+import com.percent99.OutSpecs.dto.PostTeamInformationDTO;
+import com.percent99.OutSpecs.entity.Post;
+import com.percent99.OutSpecs.entity.PostStatus;
+import com.percent99.OutSpecs.entity.PostType;
+import com.percent99.OutSpecs.entity.ReactionType;
+import com.percent99.OutSpecs.entity.TargetType;
+import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.repository.CommentRepository;
+import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.repository.ReactionRepository;
+import com.percent99.OutSpecs.repository.PostTeamInformationRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostQueryServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private ReactionRepository reactionRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostTeamInformationRepository postTeamInformationRepository;
+    @Mock
+    private TrendingService trendingService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ReportQueueService reportQueueService;
+    @Mock
+    private ProfileSummaryCache profileSummaryCache;
+
+    @InjectMocks
+    private PostQueryService postQueryService;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = new User();
+        author.setId(1L);
+        lenient().when(reportQueueService.filterVisible(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(profileSummaryCache.getAll(anyCollection())).thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("toViews - 팀모집 글에만 모집 현황을 한 번에 조회해 붙이고, 현황이 없는 글은 teamInfo 가 null")
+    void toViewsAttachesTeamSummaries() {
+        // given
+        List<Post> posts = List.of(post(10L, PostType.TEAM), post(20L, PostType.FREE), post(30L, PostType.TEAM));
+        given(postTeamInformationRepository.findSummariesByPostIdIn(List.of(10L, 30L)))
+                .willReturn(List.of(summary(10L, PostStatus.CLOSED, 4, 4, 7)));
+
+        // when
+        List<PostListViewDTO> views = postQueryService.toViews(posts, false, false);
+
+        // then
+        assertThat(views).extracting(PostListViewDTO::getId).containsExactly(10L, 20L, 30L);
+        PostTeamInformationDTO teamInfo = views.get(0).getTeamInfo();
+        assertThat(teamInfo.getStatus()).isEqualTo(PostStatus.CLOSED);
+        assertThat(teamInfo.getCapacity()).isEqualTo(4);
+        assertThat(teamInfo.getAcceptedCount()).isEqualTo(4);
+        assertThat(teamInfo.getAppliedCount()).isEqualTo(7);
+        assertThat(views.get(1).getTeamInfo()).isNull();
+        assertThat(views.get(2).getTeamInfo()).isNull();
+        verify(postTeamInformationRepository, times(1)).findSummariesByPostIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("toViews - 팀모집 글이 없으면 모집 현황을 조회하지 않음")
+    void toViewsSkipsSummariesWithoutTeamPosts() {
+        // when
+        List<PostListViewDTO> views = postQueryService.toViews(List.of(post(20L, PostType.FREE)), false, false);
+
+        // then
+        assertThat(views).singleElement().satisfies(view -> assertThat(view.getTeamInfo()).isNull());
+        verify(postTeamInformationRepository, never()).findSummariesByPostIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("toViews - 보여줄 글이 없으면 빈 목록이고 아무것도 조회하지 않음")
+    void toViewsReturnsEmptyForNoVisiblePosts() {
+        // given
+        given(reportQueueService.filterVisible(anyList())).willReturn(List.of());
+
+        // when
+        List<PostListViewDTO> views = postQueryService.toViews(List.of(post(10L, PostType.TEAM)), true, false);
+
+        // then
+        assertThat(views).isEmpty();
+        verifyNoInteractions(postTeamInformationRepository, profileSummaryCache);
+    }
+
+    @Test
+    @DisplayName("getPostAndIncreaseViewCount - 숨겨진 글은 작성자도 관리자도 아니면 없는 글로 처리")
+    void hiddenPostIsNotFoundForOthers() {
+        // given
+        given(postRepository.findWithDetailsById(10L)).willReturn(Optional.of(post(10L, PostType.FREE)));
+        given(reportQueueService.isHidden(10L)).willReturn(true);
+        User other = user(2L, UserRoleType.USER);
+
+        // when & then
+        assertThatThrownBy(() -> postQueryService.getPostAndIncreaseViewCount(10L, other))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> postQueryService.getPostAndIncreaseViewCount(10L, null))
+                .isInstanceOf(EntityNotFoundException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("getPostAndIncreaseViewCount - 숨겨진 글도 작성자와 관리자는 볼 수 있음")
+    void hiddenPostIsVisibleToAuthorAndAdmin() {
+        // given
+        given(postRepository.findWithDetailsById(10L)).willReturn(Optional.of(post(10L, PostType.FREE)));
+        given(reportQueueService.isHidden(10L)).willReturn(true);
+
+        // when
+        Post byAuthor = postQueryService.getPostAndIncreaseViewCount(10L, author);
+        Post byAdmin = postQueryService.getPostAndIncreaseViewCount(10L, user(3L, UserRoleType.ADMIN));
+
+        // then
+        assertThat(byAuthor.getId()).isEqualTo(10L);
+        assertThat(byAdmin.getId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("getTrendingPosts - 숨겨진 글은 건너뛰고 순위를 더 읽어 limit 개를 채움")
+    void trendingRefillsSkippedHiddenPosts() {
+        // given
+        given(trendingService.getTrendingIds(PostType.FREE, 2)).willReturn(new long[]{10L, 20L});
+        given(trendingService.getTrendingIds(PostType.FREE, 3)).willReturn(new long[]{10L, 20L, 30L});
+        given(reportQueueService.isHidden(anyLong())).willAnswer(invocation -> invocation.getArgument(0).equals(20L));
+        given(postRepository.findWithUserByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> post(id, PostType.FREE)).toList();
+        });
+
+        // when
+        List<Post> posts = postQueryService.getTrendingPosts(PostType.FREE, 2);
+
+        // then
+        assertThat(posts).extracting(Post::getId).containsExactly(10L, 30L);
+        verify(postRepository).findWithUserByIdIn(List.of(10L, 30L));
+    }
+
+    @Test
+    @DisplayName("getTeamPosts - 모집 현황을 함께 읽은 행으로 뷰를 만들고 Post 엔티티는 조회하지 않음")
+    void teamPostsUseRowProjection() {
+        // given
+        given(postRepository.findTeamPostRows(eq(List.of(PostStatus.OPEN)), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(teamRow(10L, PostStatus.OPEN, 5, 2, 6)), PageRequest.of(0, 1), true));
+        given(reactionRepository.countByPostIdsAndType(eq(List.of(10L)), eq(TargetType.POST), eq(ReactionType.LIKE)))
+                .willReturn(List.of(count(10L, 3)));
+        given(reactionRepository.countByPostIdsAndType(eq(List.of(10L)), eq(TargetType.POST), eq(ReactionType.BOOKMARK)))
+                .willReturn(List.of());
+
+        // when
+        Slice<PostListViewDTO> slice = postQueryService.getTeamPosts(PostStatus.OPEN, 0, 1);
+
+        // then
+        assertThat(slice.hasNext()).isTrue();
+        PostListViewDTO view = slice.getContent().get(0);
+        assertThat(view.getId()).isEqualTo(10L);
+        assertThat(view.getLikeCount()).isEqualTo(3);
+        assertThat(view.getViewCount()).isEqualTo(7L);
+        assertThat(view.getTeamInfo().getStatus()).isEqualTo(PostStatus.OPEN);
+        assertThat(view.getTeamInfo().getCapacity()).isEqualTo(5);
+        assertThat(view.getTeamInfo().getAcceptedCount()).isEqualTo(2);
+        assertThat(view.getTeamInfo().getAppliedCount()).isEqualTo(6);
+        verify(postRepository, never()).findWithUserByIdIn(anyCollection());
+        verifyNoInteractions(postTeamInformationRepository);
+    }
+
+    @Test
+    @DisplayName("getTeamPosts - 모집상태가 없으면 모든 상태를 조회")
+    void teamPostsWithoutStatusReadAllStatuses() {
+        // given
+        given(postRepository.findTeamPostRows(eq(List.of(PostStatus.values())), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 5), false));
+
+        // when
+        Slice<PostListViewDTO> slice = postQueryService.getTeamPosts(null, 0, 5);
+
+        // then
+        assertThat(slice.getContent()).isEmpty();
+        assertThat(slice.hasNext()).isFalse();
+        verifyNoInteractions(reactionRepository, commentRepository);
+    }
+
+    private PostRepository.TeamPostRow teamRow(Long id, PostStatus status, int capacity,
+                                               int acceptedCount, int appliedCount) {
+        return new PostRepository.TeamPostRow() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return "team"; }
+            @Override public Long getUserId() { return author.getId(); }
+            @Override public LocalDateTime getCreatedAt() { return LocalDateTime.now(); }
+            @Override public Integer getViewCount() { return 7; }
+            @Override public PostStatus getStatus() { return status; }
+            @Override public Integer getCapacity() { return capacity; }
+            @Override public int getAcceptedCount() { return acceptedCount; }
+            @Override public int getAppliedCount() { return appliedCount; }
+        };
+    }
+
+    private ReactionRepository.CountByPostId count(Long postId, long cnt) {
+        return new ReactionRepository.CountByPostId() {
+            @Override public Long getPostId() { return postId; }
+            @Override public long getCnt() { return cnt; }
+        };
+    }
+
+    private User user(Long id, UserRoleType role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
+
+    private Post post(Long id, PostType type) {
+        Post post = new Post();
+        post.setId(id);
+        post.setType(type);
+        post.setUser(author);
+        return post;
+    }
+
+    private PostTeamInformationRepository.TeamSummary summary(Long postId, PostStatus status, int capacity,
+                                                              int acceptedCount, int appliedCount) {
+        return new PostTeamInformationRepository.TeamSummary() {
+            @Override public Long getPostId() { return postId; }
+            @Override public PostStatus getStatus() { return status; }
+            @Override public Integer getCapacity() { return capacity; }
+            @Override public int getAcceptedCount() { return acceptedCount; }
+            @Override public int getAppliedCount() { return appliedCount; }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.percent99.OutSpecs.service;
 
 import com.percent99.OutSpecs.dto.PostDTO;
 import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
 import com.percent99.OutSpecs.handler.PostDetailHandler;
 import com.percent99.OutSpecs.repository.PostRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -55,6 +57,9 @@ public class PostServiceTest {
     @Mock
     private MultipartFile multipartFile;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
@@ -97,7 +102,7 @@ public class PostServiceTest {
         post.setPostQnA(new PostQnA());
 
         postService = new PostService(postRepository, userRepository, postQueryService, userService,
-                List.of(handler1, handler2), commentService, s3Service);
+                List.of(handler1, handler2), commentService, s3Service, eventPublisher);
     }
 
     /**
@@ -237,6 +242,7 @@ public class PostServiceTest {
         given(userService.getUserById(1L)).willReturn(user);
         given(handler1.supports(PostType.QNA)).willReturn(false);
         given(handler2.supports(PostType.QNA)).willReturn(true);
+        given(postRepository.save(any(Post.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         //when
         postService.createPost(postDTO, null);
@@ -411,6 +417,8 @@ public class PostServiceTest {
 
         // then
         verify(postRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(argThat((PostDeletedEvent event) ->
+                event.getPostId().equals(1L) && event.getAuthorId().equals(user.getId())));
     }
 
     @Test
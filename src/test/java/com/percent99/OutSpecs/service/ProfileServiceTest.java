@@ -14,10 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +32,9 @@ class ProfileServiceTest {
     @Mock private ProfileRepository profileRepository;
     @Mock private UserRepository    userRepository;
     @Mock private S3Service         s3Service;
+    @Mock private FollowGraphService followGraphService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private TechStackService techStackService;
 
     @InjectMocks
     private ProfileService profileService;
@@ -50,6 +56,28 @@ class ProfileServiceTest {
         dto.setAllowCompanyAccess(true);
     }
 
+    @Test
+    @DisplayName("getFollowingProfiles - 프로필을 한 번에 조회하고 팔로우 그래프 순서 유지")
+    void getFollowingProfiles_hydratesInOrder() {
+        when(followGraphService.getFollowingIds(1L, 0, 20)).thenReturn(new long[]{3L, 2L, 4L});
+        when(profileRepository.findByUserIdIn(Set.of(2L, 3L, 4L)))
+                .thenReturn(List.of(profile(2L, "second"), profile(3L, "third")));
+
+        List<ProfileDTO> result = profileService.getFollowingProfiles(1L, 0, 20);
+
+        assertThat(result).extracting(ProfileDTO::getNickname).containsExactly("third", "second");
+        verify(profileRepository, never()).findByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("getFollowerProfiles - 팔로워가 없으면 조회하지 않음")
+    void getFollowerProfiles_empty() {
+        when(followGraphService.getFollowerIds(1L, 0, 20)).thenReturn(new long[0]);
+
+        assertThat(profileService.getFollowerProfiles(1L, 0, 20)).isEmpty();
+        verify(profileRepository, never()).findByUserIdIn(any());
+    }
+
     @Test
     @DisplayName("getUserById 성공")
     void getUserById_success() {
@@ -202,6 +230,7 @@ class ProfileServiceTest {
 
         Profile updated = profileService.updateProfile(1L, dto);
         assertThat(updated.getNickname()).isEqualTo("nick");
+        verify(techStackService).replaceProfileStacks(1L, "Java,Spring");
     }
 
     @Test
@@ -270,4 +299,11 @@ class ProfileServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("해당 프로필이 존재하지 않습니다.");
     }
-}
\ No newline at end of file
+
+    private Profile profile(Long userId, String nickname) {
+        Profile profile = new Profile();
+        profile.setUserId(userId);
+        profile.setNickname(nickname);
+        return profile;
+    }
+}
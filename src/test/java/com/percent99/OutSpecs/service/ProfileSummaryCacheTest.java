@@ -0,0 +1,147 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.ProfileSummary;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
+import com.percent99.OutSpecs.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileSummaryCacheTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    private ProfileSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProfileSummaryCache(profileRepository, 2);
+    }
+
+    @Test
+    @DisplayName("getAll - 처음 한 번만 DB 에서 읽고 이후에는 보관한 값을 반환")
+    void loadsOnceThenHits() {
+        // given
+        given(profileRepository.findSummariesByUserIdIn(anyCollection()))
+                .willReturn(List.of(summary(1L, "테스터")));
+
+        // when
+        cache.getAll(List.of(1L));
+        Map<Long, ProfileSummary> result = cache.getAll(List.of(1L));
+
+        // then
+        assertThat(result.get(1L).getNickname()).isEqualTo("테스터");
+        then(profileRepository).should(times(1)).findSummariesByUserIdIn(anyCollection());
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getAll - 보관하지 않은 id 만 모아 한 번에 조회")
+    void loadsOnlyMissingIds() {
+        // given
+        given(profileRepository.findSummariesByUserIdIn(Set.of(1L)))
+                .willReturn(List.of(summary(1L, "first")));
+        given(profileRepository.findSummariesByUserIdIn(Set.of(2L)))
+                .willReturn(List.of(summary(2L, "second")));
+        cache.get(1L);
+
+        // when
+        Map<Long, ProfileSummary> result = cache.getAll(List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        then(profileRepository).should().findSummariesByUserIdIn(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("get - 프로필이 없는 유저도 '없음'으로 보관해 다시 조회하지 않음")
+    void cachesMissingProfile() {
+        // given
+        given(profileRepository.findSummariesByUserIdIn(anyCollection())).willReturn(List.of());
+
+        // when
+        ProfileSummary first = cache.get(1L);
+        ProfileSummary second = cache.get(1L);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        then(profileRepository).should(times(1)).findSummariesByUserIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("onProfileChanged - 무효화된 유저는 다음 조회 때 다시 읽음")
+    void reloadsAfterInvalidate() {
+        // given
+        given(profileRepository.findSummariesByUserIdIn(anyCollection()))
+                .willReturn(List.of(summary(1L, "before")))
+                .willReturn(List.of(summary(1L, "after")));
+        cache.get(1L);
+
+        // when
+        cache.onProfileChanged(new ProfileChangedEvent(1L));
+
+        // then
+        assertThat(cache.get(1L).getNickname()).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 가장 오래 읽지 않은 유저부터 버림")
+    void evictsLeastRecentlyUsed() {
+        // given
+        given(profileRepository.findSummariesByUserIdIn(anyCollection())).willReturn(List.of());
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+
+        // when
+        cache.get(3L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(1L);
+        cache.get(2L);
+        then(profileRepository).should(times(4)).findSummariesByUserIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화가 일어나면 읽은 값을 보관하지 않음")
+    void doesNotCacheLoadRacingWithInvalidate() {
+        // given
+        given(profileRepository.findSummariesByUserIdIn(anyCollection()))
+                .willAnswer(invocation -> {
+                    cache.invalidate(1L);
+                    return List.of(summary(1L, "stale"));
+                })
+                .willReturn(List.of(summary(1L, "fresh")));
+
+        // when
+        ProfileSummary first = cache.get(1L);
+        ProfileSummary second = cache.get(1L);
+
+        // then
+        assertThat(first.getNickname()).isEqualTo("stale");
+        assertThat(second.getNickname()).isEqualTo("fresh");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private ProfileSummary summary(Long userId, String nickname) {
+        return new ProfileSummary(userId, nickname, null);
+    }
+}
@@ -1,8 +1,12 @@
 package com.percent99.OutSpecs.service;
 
+import com.percent99.OutSpecs.dto.ReactedPostDTO;
+import com.percent99.OutSpecs.dto.ReactionToggleResult;
+import com.percent99.OutSpecs.dto.RemovedReaction;
 import com.percent99.OutSpecs.entity.*;
-import com.percent99.OutSpecs.repository.CommentRepository;
-import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.event.NotificationEvent;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
 import com.percent99.OutSpecs.repository.ReactionRepository;
 import com.percent99.OutSpecs.repository.UserRepository;
 import jakarta.persistence.EntityExistsException;
@@ -14,15 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,13 +39,13 @@ class ReactionServiceTest {
     @Mock
     ReactionRepository reactionRepository;
     @Mock
-    PostRepository postRepository;
-    @Mock
     UserRepository userRepository;
     @Mock
-    CommentRepository commentRepository;
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    FollowGraphService followGraphService;
     @Mock
-    NotificationService notificationService;
+    ReportQueueService reportQueueService;
 
     @InjectMocks
     ReactionService reactionService;
@@ -61,43 +69,56 @@ class ReactionServiceTest {
     @DisplayName("addReaction - 유저 없을시 예외")
     void addReactionNotUser() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(false);
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(false, 20L));
 
         // then
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
                 reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE)
         );
         assertEquals("해당 유저는 존재하지 않습니다.", ex.getMessage());
+        verify(reactionRepository, never()).toggle(any(), any(), any(), any(), any());
     }
 
     @Test
-    @DisplayName("addReaction - 이미 반응 존재시 삭제 호출")
+    @DisplayName("addReaction - 이미 반응 존재시 삭제되고 알림 없음")
     void AlreadyExists() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.LIKE)).willReturn(true);
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("POST"), eq(targetId), eq("LIKE"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(0, 1, 3));
 
         // when
-        reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE);
-
-        // then - deleteReaction이 호출되어야 함
-        verify(reactionRepository).deleteByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.LIKE);
-        // save는 호출되지 않아야 함
-        verify(reactionRepository, never()).save(any(Reaction.class));
-        // 알림도 발송되지 않아야 함
-        verify(notificationService, never()).sendNotification(any(), any(), any(), any());
+        ReactionToggleResult result = reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE);
+
+        // then
+        assertFalse(result.isActive());
+        assertEquals(2, result.getCount());
+        verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
+    }
+
+    @Test
+    @DisplayName("addReaction - 동시 요청으로 이미 추가된 경우 반응 상태 유지, 알림 없음")
+    void addReactionConcurrentConflict() {
+        // given
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("POST"), eq(targetId), eq("LIKE"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(0, 0, 3));
+
+        // when
+        ReactionToggleResult result = reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE);
+
+        // then
+        assertTrue(result.isActive());
+        assertEquals(3, result.getCount());
+        assertFalse(result.isAdded());
+        verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
     }
 
     @Test
     @DisplayName("addReaction - 게시글 없음 예외")
     void addReactionNotPost() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.LIKE)).willReturn(false);
-        given(postRepository.existsById(targetId)).willReturn(false);
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, null));
 
         // then
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
@@ -110,10 +131,7 @@ class ReactionServiceTest {
     @DisplayName("addReaction - 댓글 없음 예외")
     void addReactionNotComment() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.COMMENT, targetId, ReactionType.LIKE)).willReturn(false);
-        given(commentRepository.existsById(targetId)).willReturn(false);
+        given(reactionRepository.findToggleTarget(user.getId(), "COMMENT", targetId)).willReturn(toggleTarget(true, null));
 
         // then
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
@@ -126,10 +144,7 @@ class ReactionServiceTest {
     @DisplayName("addReaction - 타겟 유저 없음 예외")
     void addReactionNotTargetUser() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.USER, targetId, ReactionType.FOLLOW)).willReturn(false);
-        given(userRepository.existsById(targetId)).willReturn(false);
+        given(reactionRepository.findToggleTarget(user.getId(), "USER", targetId)).willReturn(toggleTarget(true, null));
 
         // then
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
@@ -142,177 +157,135 @@ class ReactionServiceTest {
     @DisplayName("addReaction - 자신이나 자신글 제외 예외")
     void addReactionOwnReaction() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.LIKE)).willReturn(false);
-        given(postRepository.existsById(targetId)).willReturn(true);
-
-        Post post = new Post();
-        post.setUser(user);
-        given(postRepository.findById(targetId)).willReturn(Optional.of(post));
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, user.getId()));
 
         // then
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
                 reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE)
         );
         assertEquals("자신이나 자신의 글에 반응할 수 없습니다.", ex.getMessage());
+        verify(reactionRepository, never()).toggle(any(), any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("addReaction - 팔로우 성공")
     void followSuccess() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.USER, targetId, ReactionType.FOLLOW)).willReturn(false);
-        given(userRepository.existsById(targetId)).willReturn(true);
-        given(userRepository.findById(targetId)).willReturn(Optional.of(targetUser));
+        given(reactionRepository.findToggleTarget(user.getId(), "USER", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("USER"), eq(targetId), eq("FOLLOW"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(1, 0, 0));
 
         // when
-        reactionService.addReaction(user, TargetType.USER, targetId, ReactionType.FOLLOW);
+        ReactionToggleResult result = reactionService.addReaction(user, TargetType.USER, targetId, ReactionType.FOLLOW);
 
         // then
-        verify(reactionRepository).save(any(Reaction.class));
-        verify(notificationService).sendNotification(user, targetUser, NotificationType.FOLLOW, targetId);
+        assertTrue(result.isActive());
+        assertEquals(1, result.getCount());
+        // 알림 이벤트와 팔로우 그래프 이벤트가 함께 발행되므로 타입을 먼저 확인
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof NotificationEvent notificationEvent
+                        && notificationEvent.getSenderId().equals(user.getId())
+                        && notificationEvent.getReceiverId().equals(targetUser.getId())
+                        && notificationEvent.getType() == NotificationType.FOLLOW
+                        && notificationEvent.getTargetId().equals(targetId)));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof FollowChangedEvent followEvent
+                        && followEvent.getFollowerId().equals(user.getId())
+                        && followEvent.getFolloweeId().equals(targetId)
+                        && followEvent.isFollowing()));
     }
 
     @Test
     @DisplayName("addReaction - 게시글 좋아요 성공")
     void postLikeSuccess() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.LIKE)).willReturn(false);
-        given(postRepository.existsById(targetId)).willReturn(true);
-
-        Post post = new Post();
-        post.setUser(targetUser);
-        given(postRepository.findById(targetId)).willReturn(Optional.of(post));
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("POST"), eq(targetId), eq("LIKE"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(1, 0, 4));
 
         // when
-        reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE);
+        ReactionToggleResult result = reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.LIKE);
 
         // then
-        verify(reactionRepository).save(any(Reaction.class));
-        verify(notificationService).sendNotification(user, targetUser, NotificationType.LIKE_POST, targetId);
+        assertTrue(result.isActive());
+        assertEquals(5, result.getCount());
+        assertTrue(result.isAdded());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof NotificationEvent notificationEvent
+                        && notificationEvent.getSenderId().equals(user.getId())
+                        && notificationEvent.getReceiverId().equals(targetUser.getId())
+                        && notificationEvent.getType() == NotificationType.LIKE_POST
+                        && notificationEvent.getTargetId().equals(targetId)));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof PostEngagementEvent engagementEvent
+                        && engagementEvent.getPostId().equals(targetId)
+                        && engagementEvent.getKind() == PostEngagementEvent.Kind.LIKE
+                        && engagementEvent.getDelta() == 1));
     }
 
     @Test
     @DisplayName("addReaction - 댓글 좋아요 성공")
     void commentLikeSuccess() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.COMMENT, targetId, ReactionType.LIKE)).willReturn(false);
-        given(commentRepository.existsById(targetId)).willReturn(true);
-
-        Comment comment = new Comment();
-        comment.setUser(targetUser);
-        given(commentRepository.findById(targetId)).willReturn(Optional.of(comment));
+        given(reactionRepository.findToggleTarget(user.getId(), "COMMENT", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("COMMENT"), eq(targetId), eq("LIKE"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(1, 0, 0));
 
         // when
         reactionService.addReaction(user, TargetType.COMMENT, targetId, ReactionType.LIKE);
 
         // then
-        verify(reactionRepository).save(any(Reaction.class));
-        verify(notificationService).sendNotification(user, targetUser, NotificationType.LIKE_COMMENT, targetId);
+        verify(eventPublisher).publishEvent(argThat((NotificationEvent event) ->
+                event.getSenderId().equals(user.getId())
+                        && event.getReceiverId().equals(targetUser.getId())
+                        && event.getType() == NotificationType.LIKE_COMMENT
+                        && event.getTargetId().equals(targetId)));
     }
 
     @Test
     @DisplayName("addReaction - 북마크는 알림 발송 안함")
     void bookmarkNoNotification() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.BOOKMARK)).willReturn(false);
-        given(postRepository.existsById(targetId)).willReturn(true);
-
-        Post post = new Post();
-        post.setUser(targetUser);
-        given(postRepository.findById(targetId)).willReturn(Optional.of(post));
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("POST"), eq(targetId), eq("BOOKMARK"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(1, 0, 0));
 
         // when
-        reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.BOOKMARK);
+        ReactionToggleResult result = reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.BOOKMARK);
 
         // then
-        verify(reactionRepository).save(any(Reaction.class));
-        verify(notificationService, never()).sendNotification(any(), any(), any(), any());
+        assertTrue(result.isActive());
+        verify(eventPublisher, never()).publishEvent(any(NotificationEvent.class));
     }
 
-    /**
-     * findTargetUser test
-     */
     @Test
-    @DisplayName("findTargetUser - USER 타입 성공")
-    void findTargetUserTypeUser() {
+    @DisplayName("addReaction - 신고하면 신고 수 증가")
+    void reportIncrementsCounter() {
         // given
-        given(userRepository.findById(targetId)).willReturn(Optional.of(targetUser));
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("POST"), eq(targetId), eq("REPORT"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(1, 0, 4));
 
         // when
-        User result = reactionService.findTargetUser(TargetType.USER, targetId);
+        reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.REPORT);
 
         // then
-        assertEquals(targetUser, result);
+        verify(reportQueueService).recordReport(TargetType.POST, targetId, 1);
     }
 
     @Test
-    @DisplayName("findTargetUser - POST 타입 성공")
-    void findTargetUserTypePost() {
+    @DisplayName("addReaction - 신고를 취소하면 신고 수 감소")
+    void reportCancelDecrementsCounter() {
         // given
-        Post post = new Post();
-        post.setUser(targetUser);
-        given(postRepository.findById(targetId)).willReturn(Optional.of(post));
+        given(reactionRepository.findToggleTarget(user.getId(), "POST", targetId)).willReturn(toggleTarget(true, targetUser.getId()));
+        given(reactionRepository.toggle(eq(user.getId()), eq("POST"), eq(targetId), eq("REPORT"), any(LocalDateTime.class)))
+                .willReturn(toggleOutcome(0, 1, 5));
 
         // when
-        User result = reactionService.findTargetUser(TargetType.POST, targetId);
+        reactionService.addReaction(user, TargetType.POST, targetId, ReactionType.REPORT);
 
         // then
-        assertEquals(targetUser, result);
-    }
-
-    @Test
-    @DisplayName("findTargetUser - COMMENT 타입 성공")
-    void findTargetUserTypeComment() {
-        // given
-        Comment comment = new Comment();
-        comment.setUser(targetUser);
-        given(commentRepository.findById(targetId)).willReturn(Optional.of(comment));
-
-        // when
-        User result = reactionService.findTargetUser(TargetType.COMMENT, targetId);
-
-        // then
-        assertEquals(targetUser, result);
-    }
-
-    @Test
-    @DisplayName("findTargetUser - POST의 작성자가 null일 때 예외")
-    void findTargetUserPostUserNull() {
-        // given
-        Post post = new Post();
-        post.setUser(null);
-        given(postRepository.findById(targetId)).willReturn(Optional.of(post));
-
-        // then
-        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
-                reactionService.findTargetUser(TargetType.POST, targetId)
-        );
-        assertEquals("해당 게시글에 작성자가 없습니다.", ex.getMessage());
-    }
-
-    @Test
-    @DisplayName("findTargetUser - COMMENT의 작성자가 null일 때 예외")
-    void findTargetUserCommentUserNull() {
-        // given
-        Comment comment = new Comment();
-        comment.setUser(null);
-        given(commentRepository.findById(targetId)).willReturn(Optional.of(comment));
-
-        // then
-        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
-                reactionService.findTargetUser(TargetType.COMMENT, targetId)
-        );
-        assertEquals("해당 댓글의 작성자가 없습니다.", ex.getMessage());
+        verify(reportQueueService).recordReport(TargetType.POST, targetId, -1);
     }
 
     /**
@@ -322,6 +295,7 @@ class ReactionServiceTest {
     @DisplayName("deleteReaction - 유저 없을 시 예외")
     void deleteReactionNotUser() {
         // given
+        given(reactionRepository.deleteByUserIdAndTarget(user.getId(), TargetType.POST, targetId, ReactionType.LIKE)).willReturn(0);
         given(userRepository.existsById(user.getId())).willReturn(false);
 
         // then
@@ -335,9 +309,8 @@ class ReactionServiceTest {
     @DisplayName("deleteReaction - 삭제 대상 리액션 없을 시 예외 발생")
     void deleteReactionNotFound() {
         // given
+        given(reactionRepository.deleteByUserIdAndTarget(user.getId(), TargetType.POST, targetId, ReactionType.LIKE)).willReturn(0);
         given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(user, TargetType.POST, targetId, ReactionType.LIKE))
-                .willReturn(false);
 
         // then
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
@@ -350,16 +323,38 @@ class ReactionServiceTest {
     @DisplayName("deleteReaction - 성공")
     void deleteReactionSuccess() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(user, TargetType.POST, targetId, ReactionType.LIKE))
-                .willReturn(true);
+        given(reactionRepository.deleteByUserIdAndTarget(user.getId(), TargetType.POST, targetId, ReactionType.LIKE)).willReturn(1);
 
         // when
         reactionService.deleteReaction(user, TargetType.POST, targetId, ReactionType.LIKE);
 
         // then
-        verify(reactionRepository).deleteByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.POST, targetId, ReactionType.LIKE);
+        verify(reactionRepository).deleteByUserIdAndTarget(user.getId(), TargetType.POST, targetId, ReactionType.LIKE);
+        verify(userRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("applyRemoved - 팔로우 해제, 신고 수 / 인기 점수는 대상별로 모아서 차감")
+    void applyRemovedAggregatesPerTarget() {
+        // given
+        List<RemovedReaction> removed = List.of(
+                new RemovedReaction(10L, TargetType.USER, 20L, ReactionType.FOLLOW),
+                new RemovedReaction(10L, TargetType.POST, 1L, ReactionType.REPORT),
+                new RemovedReaction(11L, TargetType.POST, 1L, ReactionType.REPORT),
+                new RemovedReaction(10L, TargetType.POST, 2L, ReactionType.LIKE),
+                new RemovedReaction(11L, TargetType.POST, 2L, ReactionType.LIKE),
+                new RemovedReaction(10L, TargetType.COMMENT, 3L, ReactionType.LIKE));
+
+        // when
+        reactionService.applyRemoved(removed);
+
+        // then
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof FollowChangedEvent e
+                && e.getFollowerId().equals(10L) && e.getFolloweeId().equals(20L) && !e.isFollowing()));
+        verify(reportQueueService).recordReport(TargetType.POST, 1L, -2);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof PostEngagementEvent e
+                && e.getPostId().equals(2L) && e.getKind() == PostEngagementEvent.Kind.LIKE && e.getDelta() == -2));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
     }
 
     /**
@@ -426,39 +421,52 @@ class ReactionServiceTest {
     }
 
     /**
-     * getLikedPosts test
+     * getLikedPostPage / getBookmarkedPostPage test
      */
     @Test
-    @DisplayName("getLikedPosts - 유저 없을 시 예외")
-    void getLikedPostsNotUser() {
+    @DisplayName("getLikedPostPage - 커서가 없으면 가장 최근 좋아요부터 조회")
+    void getLikedPostPageFirstPage() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(false);
+        ReactedPostDTO dto = new ReactedPostDTO(10L, LocalDateTime.now(), 1L, PostType.FREE, "title", LocalDateTime.now(), null);
+        given(reactionRepository.findReactedPostPage(eq(user.getId()), eq(ReactionType.LIKE),
+                eq(LocalDateTime.of(9999, 12, 31, 0, 0)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(dto));
+
+        // when
+        List<ReactedPostDTO> result = reactionService.getLikedPostPage(user.getId(), null, null, 20);
 
         // then
-        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
-                reactionService.getLikedPosts(user)
-        );
-        assertEquals("해당 유저는 존재하지않습니다.", ex.getMessage());
+        assertEquals(List.of(dto), result);
+        verify(reactionRepository).findReactedPostPage(eq(user.getId()), eq(ReactionType.LIKE),
+                any(LocalDateTime.class), eq(Long.MAX_VALUE), argThat((Pageable pageable) -> pageable.getPageSize() == 20));
     }
 
     @Test
-    @DisplayName("getLikedPosts - 좋아요한 게시글 조회 성공")
-    void getLikedPostsSuccess() {
+    @DisplayName("getBookmarkedPostPage - 커서 이후 북마크 조회")
+    void getBookmarkedPostPageWithCursor() {
         // given
-        given(userRepository.existsById(user.getId())).willReturn(true);
-        List<Long> postIds = Arrays.asList(1L, 2L, 3L);
-        given(reactionRepository.findLikedPostIdsByUser(user)).willReturn(postIds);
+        LocalDateTime cursorAt = LocalDateTime.of(2025, 8, 10, 12, 0);
+        given(reactionRepository.findReactedPostPage(eq(user.getId()), eq(ReactionType.BOOKMARK),
+                eq(cursorAt), eq(30L), any(Pageable.class))).willReturn(List.of());
 
-        List<Post> posts = Arrays.asList(new Post(), new Post(), new Post());
-        given(postRepository.findAllById(postIds)).willReturn(posts);
+        // when
+        List<ReactedPostDTO> result = reactionService.getBookmarkedPostPage(user.getId(), cursorAt, 30L, 20);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(reactionRepository).findReactedPostPage(eq(user.getId()), eq(ReactionType.BOOKMARK),
+                eq(cursorAt), eq(30L), any(Pageable.class));
+    }
 
+    @Test
+    @DisplayName("getLikedPostPage - 유저 id 가 없으면 조회하지 않음")
+    void getLikedPostPageWithoutUser() {
         // when
-        List<Post> result = reactionService.getLikedPosts(user);
+        List<ReactedPostDTO> result = reactionService.getLikedPostPage(null, null, null, 20);
 
         // then
-        assertEquals(3, result.size());
-        verify(reactionRepository).findLikedPostIdsByUser(user);
-        verify(postRepository).findAllById(postIds);
+        assertTrue(result.isEmpty());
+        verify(reactionRepository, never()).findReactedPostPage(any(), any(), any(), any(), any());
     }
 
     /**
@@ -488,8 +496,7 @@ class ReactionServiceTest {
     @DisplayName("isFollowing - 팔로우 중일 때 true")
     void isFollowingTrue() {
         // given
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.USER, targetId, ReactionType.FOLLOW)).willReturn(true);
+        given(followGraphService.isFollowing(user.getId(), targetId)).willReturn(true);
 
         // when
         boolean result = reactionService.isFollowing(user, targetId);
@@ -502,8 +509,7 @@ class ReactionServiceTest {
     @DisplayName("isFollowing - 팔로우 안하고 있을 때 false")
     void isFollowingFalse() {
         // given
-        given(reactionRepository.existsByUserAndTargetTypeAndTargetIdAndReactionType(
-                user, TargetType.USER, targetId, ReactionType.FOLLOW)).willReturn(false);
+        given(followGraphService.isFollowing(user.getId(), targetId)).willReturn(false);
 
         // when
         boolean result = reactionService.isFollowing(user, targetId);
@@ -511,4 +517,24 @@ class ReactionServiceTest {
         // then
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    private ReactionRepository.ToggleTarget toggleTarget(boolean userExists, Long ownerId) {
+        return new ReactionRepository.ToggleTarget() {
+            @Override
+            public Boolean getUserExists() { return userExists; }
+            @Override
+            public Long getOwnerId() { return ownerId; }
+        };
+    }
+
+    private ReactionRepository.ToggleOutcome toggleOutcome(long inserted, long deleted, long beforeCount) {
+        return new ReactionRepository.ToggleOutcome() {
+            @Override
+            public Long getInserted() { return inserted; }
+            @Override
+            public Long getDeleted() { return deleted; }
+            @Override
+            public Long getBeforeCount() { return beforeCount; }
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.Post;
+import com.percent99.OutSpecs.entity.TargetType;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.event.PostVisibilityChangedEvent;
+import com.percent99.OutSpecs.repository.ReportCounterRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReportQueueServiceTest {
+
+    @Mock
+    ReportCounterRepository reportCounterRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    ReportQueueService reportQueueService;
+
+    @BeforeEach
+    void setUp() {
+        reportQueueService = new ReportQueueService(reportCounterRepository, eventPublisher, 3);
+    }
+
+    @Test
+    @DisplayName("recordReport - 기준 미만이면 숨기지 않음")
+    void recordReportBelowThreshold() {
+        // given
+        given(reportCounterRepository.increment(eq("POST"), eq(1L), eq(1), any(LocalDateTime.class))).willReturn(2);
+
+        // when
+        reportQueueService.recordReport(TargetType.POST, 1L, 1);
+
+        // then
+        verify(reportCounterRepository, never()).hide(any(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("recordReport - 기준 이상이 되면 숨김 처리 후 이벤트 발행")
+    void recordReportHidesAtThreshold() {
+        // given
+        given(reportCounterRepository.increment(eq("POST"), eq(1L), eq(1), any(LocalDateTime.class))).willReturn(3);
+        given(reportCounterRepository.hide(TargetType.POST, 1L)).willReturn(1);
+
+        // when
+        reportQueueService.recordReport(TargetType.POST, 1L, 1);
+
+        // then
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof PostVisibilityChangedEvent e && e.getPostId().equals(1L) && e.isHidden()));
+    }
+
+    @Test
+    @DisplayName("recordReport - 게시글이 아닌 대상은 숨기지 않음")
+    void recordReportIgnoresNonPost() {
+        // given
+        given(reportCounterRepository.increment(eq("COMMENT"), eq(1L), eq(1), any(LocalDateTime.class))).willReturn(10);
+
+        // when
+        reportQueueService.recordReport(TargetType.COMMENT, 1L, 1);
+
+        // then
+        verify(reportCounterRepository, never()).hide(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("recordReport - 신고가 줄어 기준 아래로 내려가면 자동 숨김 해제 후 이벤트 발행")
+    void recordReportUnhidesBelowThreshold() {
+        // given
+        given(reportCounterRepository.increment(eq("POST"), eq(1L), eq(-2), any(LocalDateTime.class))).willReturn(2);
+        given(reportCounterRepository.unhide(TargetType.POST, 1L)).willReturn(1);
+
+        // when
+        reportQueueService.recordReport(TargetType.POST, 1L, -2);
+
+        // then
+        verify(reportCounterRepository, never()).hide(any(), anyLong());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof PostVisibilityChangedEvent e && e.getPostId().equals(1L) && !e.isHidden()));
+    }
+
+    @Test
+    @DisplayName("filterVisible - 숨겨진 게시글을 순서를 유지한 채 제외")
+    void filterVisibleExcludesHidden() {
+        // given
+        reportQueueService.onVisibilityChanged(new PostVisibilityChangedEvent(2L, true));
+
+        // when
+        List<Post> result = reportQueueService.filterVisible(List.of(post(3L), post(2L), post(1L)));
+
+        // then
+        assertThat(result).extracting(Post::getId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("숨김 해제 / 게시글 삭제 시 숨김 목록에서 제거")
+    void visibilityRestoredAndDeleted() {
+        // given
+        reportQueueService.onVisibilityChanged(new PostVisibilityChangedEvent(1L, true));
+        reportQueueService.onVisibilityChanged(new PostVisibilityChangedEvent(2L, true));
+
+        // when
+        reportQueueService.onVisibilityChanged(new PostVisibilityChangedEvent(1L, false));
+        reportQueueService.onPostDeleted(new PostDeletedEvent(2L, 10L));
+
+        // then
+        assertThat(reportQueueService.isHidden(1L)).isFalse();
+        assertThat(reportQueueService.isHidden(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("loadHiddenPosts - 숨겨진 게시글을 읽어 보관")
+    void loadHiddenPosts() {
+        // given
+        given(reportCounterRepository.findHiddenTargetIds(TargetType.POST)).willReturn(List.of(5L, 6L));
+
+        // when
+        reportQueueService.loadHiddenPosts();
+
+        // then
+        assertThat(reportQueueService.isHidden(5L)).isTrue();
+        assertThat(reportQueueService.isHidden(7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("markReviewed - 신고 기록이 없으면 예외")
+    void markReviewedNotFound() {
+        // given
+        given(reportCounterRepository.markReviewed(eq(TargetType.POST), eq(1L), any(LocalDateTime.class))).willReturn(0);
+
+        // when / then
+        assertThrows(EntityNotFoundException.class, () -> reportQueueService.markReviewed(1L));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private Post post(Long id) {
+        Post post = new Post();
+        post.setId(id);
+        return post;
+    }
+}
@@ -0,0 +1,123 @@
+package com.percent99.OutSpecs.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.percent99.OutSpecs.dto.RemovedReaction;
+import com.percent99.OutSpecs.entity.ReactionType;
+import com.percent99.OutSpecs.entity.TargetType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ReactionService reactionService;
+
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        retentionService = new RetentionService(jdbcTemplate, transactionManager, reactionService, true, 100, 0, 3, 30, 1000);
+    }
+
+    @Test
+    @DisplayName("purgeReadNotifications - chunk 보다 적게 삭제되면 멈춤")
+    void purgeReadNotificationsStopsWhenChunkNotFull() {
+        // given
+        given(jdbcTemplate.update(contains("DELETE FROM notification"), any(), eq(100)))
+                .willReturn(100, 40);
+
+        // when
+        long deleted = retentionService.purgeReadNotifications();
+
+        // then
+        assertThat(deleted).isEqualTo(140);
+        then(jdbcTemplate).should(times(2)).update(contains("DELETE FROM notification"), any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("purgeReadNotifications - 한 번의 실행에서 최대 chunk 수를 넘지 않음")
+    void purgeReadNotificationsIsBounded() {
+        // given
+        given(jdbcTemplate.update(contains("DELETE FROM notification"), any(), eq(100))).willReturn(100);
+
+        // when
+        long deleted = retentionService.purgeReadNotifications();
+
+        // then
+        assertThat(deleted).isEqualTo(300);
+        then(jdbcTemplate).should(times(3)).update(contains("DELETE FROM notification"), any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("purgeOrphanReactions - id 구간 단위로 훑고, 저장한 위치부터 다음 실행에서 이어서 진행")
+    void purgeOrphanReactionsResumesFromCursor() {
+        // given
+        List<Long> saved = new ArrayList<>();
+        given(jdbcTemplate.queryForObject("SELECT MAX(id) FROM reactions", Long.class)).willReturn(4500L);
+        given(jdbcTemplate.queryForList(contains("retention_cursors"), eq(Long.class), eq("reactions")))
+                .willAnswer(invocation -> saved.isEmpty() ? List.of() : List.of(saved.get(saved.size() - 1)));
+        given(jdbcTemplate.update(contains("retention_cursors"), eq("reactions"), anyLong(), any()))
+                .willAnswer(invocation -> {
+                    saved.add(invocation.getArgument(2));
+                    return 1;
+                });
+        given(jdbcTemplate.query(contains("DELETE FROM reactions"), any(RowMapper.class), anyLong(), anyLong()))
+                .willReturn(List.of(removed(1L), removed(2L)));
+
+        // when
+        long first = retentionService.purgeOrphanReactions();
+        long second = retentionService.purgeOrphanReactions();
+
+        // then
+        assertThat(first).isEqualTo(6);
+        assertThat(second).isEqualTo(4);
+        then(jdbcTemplate).should().query(contains("DELETE FROM reactions"), any(RowMapper.class), eq(0L), eq(1000L));
+        then(jdbcTemplate).should().query(contains("DELETE FROM reactions"), any(RowMapper.class), eq(2000L), eq(3000L));
+        then(jdbcTemplate).should().query(contains("DELETE FROM reactions"), any(RowMapper.class), eq(3000L), eq(4000L));
+        then(jdbcTemplate).should().query(contains("DELETE FROM reactions"), any(RowMapper.class), eq(4000L), eq(4500L));
+        assertThat(saved).containsExactly(1000L, 2000L, 3000L, 4000L, 4500L);
+        assertThat(retentionService.getPurgedReactionCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("purgeOrphanReactions - 삭제한 반응은 같은 트랜잭션에서 신고 수 / 인기 점수 / 팔로우 그래프에서 되돌림")
+    void purgeOrphanReactionsAppliesRemoved() {
+        // given
+        List<RemovedReaction> removed = List.of(removed(1L));
+        given(jdbcTemplate.queryForObject("SELECT MAX(id) FROM reactions", Long.class)).willReturn(500L);
+        given(jdbcTemplate.queryForList(contains("retention_cursors"), eq(Long.class), eq("reactions"))).willReturn(List.of());
+        given(jdbcTemplate.query(contains("DELETE FROM reactions"), any(RowMapper.class), eq(0L), eq(500L)))
+                .willReturn(removed);
+
+        // when
+        retentionService.purgeOrphanReactions();
+
+        // then
+        then(reactionService).should().applyRemoved(removed);
+        then(transactionManager).should().commit(any());
+    }
+
+    private RemovedReaction removed(Long targetId) {
+        return new RemovedReaction(9L, TargetType.POST, targetId, ReactionType.REPORT);
+    }
+}
@@ -0,0 +1,191 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.TalentPageDTO;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class TalentSearchServiceTest {
+
+    private static final Map<String, Long> STACK_IDS = Map.of("Java", 1L, "Spring", 2L, "SQL", 3L);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ProfileService profileService;
+
+    private TalentSearchService talentSearchService;
+
+    @BeforeEach
+    void setUp() {
+        talentSearchService = new TalentSearchService(jdbcTemplate, transactionManager, profileService);
+        talentSearchService.warmUp();
+    }
+
+    @Test
+    @DisplayName("search - AND 는 모든 스택을 가진 유저만, 최근 유저부터")
+    void matchAllIntersects() {
+        // given
+        index(1L, "백엔드 3년", "Java", "Spring");
+        index(2L, "프론트엔드", "Java");
+        index(3L, "스타트업 백엔드", "java", "spring boot", "Spring");
+
+        // when
+        talentSearchService.search(List.of("JAVA", "spring"), true, null, null, 10);
+
+        // then
+        then(profileService).should().getProfiles(aryEq(new long[]{3L, 1L}));
+    }
+
+    @Test
+    @DisplayName("search - OR 는 하나라도 가진 유저, 모르는 스택은 무시")
+    void matchAnyUnites() {
+        // given
+        index(1L, "백엔드", "Java");
+        index(2L, "DBA", "SQL");
+        index(3L, "디자이너");
+
+        // when
+        talentSearchService.search(List.of("Java", "SQL", "Rust"), false, null, null, 10);
+
+        // then
+        then(profileService).should().getProfiles(aryEq(new long[]{2L, 1L}));
+    }
+
+    @Test
+    @DisplayName("search - AND 에 아무도 없는 스택이 있으면 빈 결과")
+    void matchAllWithUnknownStackIsEmpty() {
+        // given
+        index(1L, "백엔드", "Java");
+
+        // when
+        TalentPageDTO page = talentSearchService.search(List.of("Java", "Rust"), true, null, null, 10);
+
+        // then
+        then(profileService).should().getProfiles(aryEq(new long[0]));
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("search - 경력 키워드가 포함된 유저만 (대소문자 무시)")
+    void filtersByExperienceKeyword() {
+        // given
+        index(1L, "Spring Boot 백엔드 3년", "Java");
+        index(2L, "안드로이드 앱", "Java");
+
+        // when
+        talentSearchService.search(List.of("Java"), true, "spring", null, 10);
+
+        // then
+        then(profileService).should().getProfiles(aryEq(new long[]{1L}));
+    }
+
+    @Test
+    @DisplayName("search - 한 페이지를 넘으면 마지막 유저 id 를 다음 커서로, 다음 페이지는 그 아래부터")
+    void pagesByCursor() {
+        // given
+        index(1L, "a", "Java");
+        index(2L, "b", "Java");
+        index(3L, "c", "Java");
+
+        // when
+        TalentPageDTO first = talentSearchService.search(List.of("Java"), true, null, null, 2);
+        TalentPageDTO second = talentSearchService.search(List.of("Java"), true, null, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getNextCursor()).isEqualTo(2L);
+        assertThat(second.getNextCursor()).isNull();
+        then(profileService).should().getProfiles(aryEq(new long[]{3L, 2L}));
+        then(profileService).should().getProfiles(aryEq(new long[]{1L}));
+    }
+
+    @Test
+    @DisplayName("onProfileChanged - 열람을 막거나 탈퇴한 유저는 색인에서 빠짐")
+    void reindexRemovesHiddenUser() {
+        // given
+        index(1L, "백엔드", "Java");
+        index(2L, "백엔드", "Java");
+        willReturn(List.of()).given(jdbcTemplate).query(startsWith("SELECT p.user_id"), any(RowMapper.class), eq(2L));
+
+        // when
+        talentSearchService.onProfileChanged(new ProfileChangedEvent(2L));
+
+        // then
+        talentSearchService.search(List.of("Java"), true, null, null, 10);
+        then(profileService).should().getProfiles(aryEq(new long[]{1L}));
+        assertThat(talentSearchService.getIndexedCount()).isEqualTo(1);
+        assertThat(talentSearchService.getStackNames()).containsExactly("Java");
+    }
+
+    /**
+     * 유저의 프로필 / 스택 조회 결과를 준비하고 변경 이벤트로 색인에 넣는다.
+     */
+    private void index(long userId, String experience, String... stacks) {
+        willAnswer(rows(new Object[]{userId, experience}))
+                .given(jdbcTemplate).query(startsWith("SELECT p.user_id"), any(RowMapper.class), eq(userId));
+
+        Object[][] stackRows = new Object[stacks.length][];
+        for (int i = 0; i < stacks.length; i++) {
+            String normalized = TechStackService.normalize(stacks[i]);
+            Long stackId = STACK_IDS.entrySet().stream()
+                    .filter(entry -> TechStackService.normalize(entry.getKey()).equals(normalized))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(100L + i);
+            stackRows[i] = new Object[]{stackId, stacks[i], normalized};
+        }
+        if (stacks.length > 0) {
+            willAnswer(rows(stackRows))
+                    .given(jdbcTemplate).query(startsWith("SELECT ts.id"), any(RowMapper.class), eq(userId));
+        }
+
+        talentSearchService.onProfileChanged(new ProfileChangedEvent(userId));
+    }
+
+    /**
+     * 주어진 값(컬럼 순서대로)을 담은 ResultSet 으로 RowMapper 를 호출해 결과 목록을 만든다.
+     */
+    private Answer<List<Object>> rows(Object[]... rows) {
+        return invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+                for (int column = 0; column < rows[i].length; column++) {
+                    Object value = rows[i][column];
+                    if (value instanceof Long longValue) given(rs.getLong(column + 1)).willReturn(longValue);
+                    else given(rs.getString(column + 1)).willReturn((String) value);
+                }
+                result.add(mapper.mapRow(rs, i));
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.TechStack;
+import com.percent99.OutSpecs.repository.ProfileStackRepository;
+import com.percent99.OutSpecs.repository.TechStackRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class TechStackServiceTest {
+
+    @Mock
+    private TechStackRepository techStackRepository;
+    @Mock
+    private ProfileStackRepository profileStackRepository;
+
+    @InjectMocks
+    private TechStackService techStackService;
+
+    @Test
+    @DisplayName("parse - 대소문자 / 공백이 달라도 같은 스택으로 보고, 처음 적은 이름을 남김")
+    void parseNormalizesAndDeduplicates() {
+        // when & then
+        assertThat(TechStackService.parse(" Spring Boot, java ,springboot,, JAVA"))
+                .containsExactly(
+                        entry("springboot", "Spring Boot"),
+                        entry("java", "java"));
+        assertThat(TechStackService.parse(null)).isEmpty();
+        assertThat(TechStackService.parse("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("replaceProfileStacks - 기존 연결을 지우고 사전에 등록한 뒤 다시 연결")
+    void replaceProfileStacks() {
+        // given
+        given(techStackRepository.findByNormalizedNameIn(Set.of("java", "spring")))
+                .willReturn(List.of(stack(1L, "Java", "java"), stack(2L, "Spring", "spring")));
+
+        // when
+        List<Long> stackIds = techStackService.replaceProfileStacks(7L, "Java, Spring");
+
+        // then
+        assertThat(stackIds).containsExactly(1L, 2L);
+        then(profileStackRepository).should().deleteByUserId(7L);
+        then(techStackRepository).should().insertIfAbsent("Java", "java");
+        then(techStackRepository).should().insertIfAbsent("Spring", "spring");
+        then(profileStackRepository).should().insert(7L, 1L);
+        then(profileStackRepository).should().insert(7L, 2L);
+    }
+
+    @Test
+    @DisplayName("replaceProfileStacks - 스택이 비어있으면 연결만 지움")
+    void replaceProfileStacksWithBlank() {
+        // when
+        List<Long> stackIds = techStackService.replaceProfileStacks(7L, "");
+
+        // then
+        assertThat(stackIds).isEmpty();
+        then(profileStackRepository).should().deleteByUserId(7L);
+        then(techStackRepository).should(never()).insertIfAbsent(anyString(), anyString());
+        then(profileStackRepository).should(never()).insert(anyLong(), anyLong());
+    }
+
+    private TechStack stack(Long id, String name, String normalizedName) {
+        TechStack stack = new TechStack();
+        stack.setId(id);
+        stack.setName(name);
+        stack.setNormalizedName(normalizedName);
+        return stack;
+    }
+}
@@ -0,0 +1,231 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.PostListViewDTO;
+import com.percent99.OutSpecs.dto.TimelinePageDTO;
+import com.percent99.OutSpecs.entity.Post;
+import com.percent99.OutSpecs.event.FollowChangedEvent;
+import com.percent99.OutSpecs.event.PostCreatedEvent;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.repository.PostRepository;
+import com.percent99.OutSpecs.util.SortedLongSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    private static final long ME = 1L;
+    private static final long AUTHOR = 2L;
+    private static final long CELEBRITY = 3L;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostQueryService postQueryService;
+    @Mock
+    private ReportQueueService reportQueueService;
+    @Mock
+    private FollowGraphService followGraphService;
+
+    private TimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        // inbox 3개, 팔로워 100명 이상이면 읽을 때 합침
+        timelineService = new TimelineService(postRepository, postQueryService, reportQueueService, followGraphService, 3, 100, 10);
+        lenient().when(followGraphService.followingOf(ME)).thenReturn(set(AUTHOR, CELEBRITY));
+        lenient().when(followGraphService.followersOf(AUTHOR)).thenReturn(set(ME));
+        lenient().when(followGraphService.getFollowerCount(AUTHOR)).thenReturn(1);
+        lenient().when(followGraphService.getFollowerCount(CELEBRITY)).thenReturn(500);
+        lenient().when(postRepository.findWithUserByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::post).toList();
+        });
+        lenient().when(postQueryService.toViews(anyList(), eq(true), eq(false))).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            return posts.stream().map(this::view).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("getTimeline - inbox 와 팔로워가 많은 작성자의 글을 최신순으로 합침")
+    void mergesInboxWithFanOutOnReadAuthors() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(50L, 30L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(40L, 20L));
+
+        // when
+        TimelinePageDTO page = timelineService.getTimeline(ME, null, 3);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostListViewDTO::getId).containsExactly(50L, 40L, 30L);
+        assertThat(page.getNextCursor()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("getTimeline - 만들어진 inbox 는 다시 조회하지 않고 새 글은 fan-out 으로 들어옴")
+    void fanOutOnWriteIntoWarmInbox() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(50L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+        timelineService.getTimeline(ME, null, 10);
+
+        // when
+        timelineService.onPostCreated(new PostCreatedEvent(60L, AUTHOR));
+        TimelinePageDTO page = timelineService.getTimeline(ME, null, 10);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostListViewDTO::getId).containsExactly(60L, 50L);
+        assertThat(page.getNextCursor()).isNull();
+        verify(postRepository, times(1)).findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getTimeline - inbox 보다 오래된 글은 DB 에서 이어서 읽음")
+    void readsOlderPostsBeyondInbox() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(90L, 80L, 70L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(AUTHOR)), eq(70L), any(Pageable.class)))
+                .willReturn(List.of(60L, 50L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), eq(80L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        TimelinePageDTO page = timelineService.getTimeline(ME, 80L, 2);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostListViewDTO::getId).containsExactly(70L, 60L);
+        assertThat(page.getNextCursor()).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("getTimeline - 신고로 숨겨진 inbox 글은 건너뛰고 다음 글로 페이지를 채움")
+    void skipsHiddenPostsBeforePaging() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(50L, 40L, 30L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(AUTHOR)), eq(30L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+        given(reportQueueService.isHidden(anyLong())).willAnswer(invocation -> invocation.getArgument(0).equals(40L));
+
+        // when
+        TimelinePageDTO page = timelineService.getTimeline(ME, null, 2);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostListViewDTO::getId).containsExactly(50L, 30L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제된 글은 inbox 에서 빠지고, 팔로우가 바뀌면 inbox 를 다시 만듦")
+    void removesDeletedPostsAndRebuildsAfterFollowChange() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(50L, 40L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+        timelineService.getTimeline(ME, null, 10);
+
+        // when
+        timelineService.onPostDeleted(new PostDeletedEvent(50L, AUTHOR));
+        TimelinePageDTO afterDelete = timelineService.getTimeline(ME, null, 10);
+        timelineService.onFollowChanged(new FollowChangedEvent(ME, 4L, true));
+        timelineService.getTimeline(ME, null, 10);
+
+        // then
+        assertThat(afterDelete.getPosts()).extracting(PostListViewDTO::getId).containsExactly(40L);
+        verify(postRepository, times(2)).findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getTimeline - 가득 찬 inbox 에서 글이 삭제되어도 오래된 글은 DB 에서 이어서 읽음")
+    void readsOlderPostsAfterDeletionFromFullInbox() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(90L, 80L, 70L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(AUTHOR)), eq(70L), any(Pageable.class)))
+                .willReturn(List.of(60L, 50L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), anyLong(), any(Pageable.class)))
+                .willReturn(List.of());
+        timelineService.getTimeline(ME, null, 1);
+
+        // when
+        timelineService.onPostDeleted(new PostDeletedEvent(80L, AUTHOR));
+        TimelinePageDTO page = timelineService.getTimeline(ME, null, 3);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostListViewDTO::getId).containsExactly(90L, 70L, 60L);
+        assertThat(page.getNextCursor()).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("getTimeline - 작성자의 팔로워 수가 fan-out 기준 아래로 내려가면 inbox 를 다시 만듦")
+    void rebuildsInboxWhenAuthorCrossesThreshold() {
+        // given
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(50L));
+        given(postRepository.findVisibleTimelinePostIds(eq(List.of(CELEBRITY)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(40L));
+        given(postRepository.findTimelinePostIds(eq(List.of(AUTHOR, CELEBRITY)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(List.of(50L, 40L));
+        timelineService.getTimeline(ME, null, 10);
+
+        // when
+        given(followGraphService.getFollowerCount(CELEBRITY)).willReturn(99);
+        TimelinePageDTO page = timelineService.getTimeline(ME, null, 10);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostListViewDTO::getId).containsExactly(50L, 40L);
+        verify(postRepository).findTimelinePostIds(eq(List.of(AUTHOR, CELEBRITY)), eq(Long.MAX_VALUE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getTimeline - 팔로우한 사용자가 없으면 빈 페이지")
+    void emptyWhenNotFollowing() {
+        // given
+        given(followGraphService.followingOf(9L)).willReturn(SortedLongSet.EMPTY);
+
+        // when
+        TimelinePageDTO page = timelineService.getTimeline(9L, null, 10);
+
+        // then
+        assertThat(page.getPosts()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private SortedLongSet set(long... ids) {
+        return SortedLongSet.ofSorted(ids, ids.length);
+    }
+
+    private Post post(Long id) {
+        Post post = new Post();
+        post.setId(id);
+        return post;
+    }
+
+    private PostListViewDTO view(Post post) {
+        return new PostListViewDTO(post.getId(), null, null, null, null, null, null, null, 0, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,185 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.entity.PostType;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.event.PostEngagementEvent;
+import com.percent99.OutSpecs.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir Path snapshotDir;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PostRepository postRepository;
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        // 반감기 1시간, 게시판별 최대 3개
+        trendingService = newService();
+    }
+
+    @Test
+    @DisplayName("점수 높은 순으로 반환하고 게시판별로 나뉜다")
+    void ranksByScorePerBoard() {
+        // given
+        long now = System.currentTimeMillis();
+        trendingService.record(PostType.FREE, 1L, 3.0, now);
+        trendingService.record(PostType.FREE, 2L, 5.0, now);
+        trendingService.record(PostType.FREE, 1L, 4.0, now);
+        trendingService.record(PostType.QNA, 3L, 100.0, now);
+
+        // when / then
+        assertThat(trendingService.getTrendingIds(PostType.FREE, 10)).containsExactly(1L, 2L);
+        assertThat(trendingService.getTrendingIds(PostType.QNA, 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("오래된 반응은 감쇠되어 최근 반응보다 낮게 평가된다")
+    void olderEngagementDecays() {
+        // given : 3시간 전의 10점(= 현재 1.25점) vs 지금의 2점
+        long now = System.currentTimeMillis();
+        trendingService.record(PostType.FREE, 1L, 10.0, now - 3 * HOUR);
+        trendingService.record(PostType.FREE, 2L, 2.0, now);
+
+        // when / then
+        assertThat(trendingService.getTrendingIds(PostType.FREE, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 순위는 유지된다")
+    void rebaseKeepsOrder() {
+        // given
+        long now = System.currentTimeMillis();
+        trendingService.record(PostType.FREE, 1L, 10.0, now - 3 * HOUR);
+        trendingService.record(PostType.FREE, 2L, 2.0, now);
+
+        // when : 100시간 뒤(지수 상한 초과) 반응이 들어오면 기준 시각이 옮겨진다
+        trendingService.record(PostType.FREE, 3L, 1.0, now + 100 * HOUR);
+
+        // then
+        assertThat(trendingService.getTrendingIds(PostType.FREE, 10)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 가장 낮은 점수부터 버린다")
+    void evictsLowestWhenFull() {
+        // given
+        long now = System.currentTimeMillis();
+        for (long id = 1; id <= 4; id++) {
+            trendingService.record(PostType.FREE, id, id, now);
+        }
+
+        // when / then
+        assertThat(trendingService.getTrendingIds(PostType.FREE, 10)).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("취소로 점수가 0 이하가 되면 목록에서 빠진다")
+    void removesWhenScoreDropsToZero() {
+        // given
+        trendingService.onEngagement(new PostEngagementEvent(1L, PostType.FREE, PostEngagementEvent.Kind.LIKE, 1));
+
+        // when
+        trendingService.onEngagement(new PostEngagementEvent(1L, PostType.FREE, PostEngagementEvent.Kind.LIKE, -1));
+
+        // then
+        assertThat(trendingService.getTrendingIds(PostType.FREE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시판 타입을 모르면 이미 보관 중인 게시판을 먼저 찾고, 없으면 조회한다")
+    void resolvesTypeWhenMissing() {
+        // given
+        trendingService.onEngagement(new PostEngagementEvent(1L, PostType.QNA, PostEngagementEvent.Kind.VIEW, 1));
+        given(postRepository.findTypeById(2L)).willReturn(Optional.of(PostType.TEAM));
+
+        // when
+        trendingService.onEngagement(new PostEngagementEvent(1L, null, PostEngagementEvent.Kind.LIKE, 1));
+        trendingService.onEngagement(new PostEngagementEvent(2L, null, PostEngagementEvent.Kind.LIKE, 1));
+
+        // then
+        verify(postRepository, never()).findTypeById(1L);
+        assertThat(trendingService.getTrendingIds(PostType.QNA, 10)).containsExactly(1L);
+        assertThat(trendingService.getTrendingIds(PostType.TEAM, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 목록에서 빠진다")
+    void removesDeletedPost() {
+        // given
+        trendingService.onEngagement(new PostEngagementEvent(1L, PostType.FREE, PostEngagementEvent.Kind.LIKE, 1));
+
+        // when
+        trendingService.onPostDeleted(new PostDeletedEvent(1L, 10L));
+
+        // then
+        assertThat(trendingService.getTrendingIds(PostType.FREE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 남기면 재기동 시 DB 를 읽지 않고 복구한다")
+    void restoresFromSnapshot() {
+        // given
+        long now = System.currentTimeMillis();
+        trendingService.record(PostType.FREE, 1L, 1.0, now);
+        trendingService.record(PostType.FREE, 2L, 5.0, now);
+        trendingService.snapshot();
+
+        // when
+        TrendingService restarted = newService();
+        restarted.warmUp();
+
+        // then
+        assertThat(restarted.getTrendingIds(PostType.FREE, 10)).containsExactly(2L, 1L);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 읽기 전용 트랜잭션 안에서 최근 기록으로 다시 계산")
+    void bootstrapsInReadOnlyTransaction() {
+        // when
+        trendingService.warmUp();
+
+        // then
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verify(transactionManager).commit(any());
+    }
+
+    private TrendingService newService() {
+        return new TrendingService(jdbcTemplate, transactionManager, postRepository, 1, 3, 7,
+                snapshotDir.resolve("snapshot.bin").toString());
+    }
+}
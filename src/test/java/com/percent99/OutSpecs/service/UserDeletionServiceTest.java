@@ -0,0 +1,344 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.RemovedReaction;
+import com.percent99.OutSpecs.entity.*;
+import com.percent99.OutSpecs.event.PostDeletedEvent;
+import com.percent99.OutSpecs.event.ProfileChangedEvent;
+import com.percent99.OutSpecs.repository.UserDeletionJobRepository;
+import com.percent99.OutSpecs.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeletionServiceTest {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int POST_CHUNK_SIZE = 50;
+
+    @Mock
+    private UserDeletionJobRepository jobRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserStatsService userStatsService;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private ReactionService reactionService;
+    @Mock
+    private ChatMessageArchiveService chatMessageArchiveService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserDeletionService userDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        userDeletionService = new UserDeletionService(jobRepository, userRepository, userStatsService, s3Service, reactionService,
+                chatMessageArchiveService, jdbcTemplate, namedJdbcTemplate, transactionManager, eventPublisher,
+                true, CHUNK_SIZE, POST_CHUNK_SIZE, 0, 1, 60_000, 5, 3);
+    }
+
+    @Test
+    @DisplayName("requestDeletion - 회원을 탈퇴 상태로 바꾸고 첫 단계부터 시작하는 작업을 등록")
+    void requestDeletionMarksUserAndEnqueues() {
+        // given
+        User user = user();
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(jobRepository.findByUserId(1L)).willReturn(Optional.empty());
+        given(jobRepository.save(any(UserDeletionJob.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        UserDeletionJob job = userDeletionService.requestDeletion(1L);
+
+        // then
+        assertThat(user.getStatus()).isEqualTo(UserStatus.DELETED);
+        then(userStatsService).should().recordChanged(UserRoleType.USER, UserStatus.ACTIVE, user);
+        assertThat(job.getUserId()).isEqualTo(1L);
+        assertThat(job.getStatus()).isEqualTo(UserDeletionStatus.PENDING);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.REACTIONS);
+    }
+
+    @Test
+    @DisplayName("requestDeletion - 이미 등록된 작업이 있으면 새로 만들지 않음")
+    void requestDeletionIsIdempotent() {
+        // given
+        User user = user();
+        user.setStatus(UserStatus.DELETED);
+        UserDeletionJob existing = job(UserDeletionStep.POSTS);
+        existing.setStatus(UserDeletionStatus.RUNNING);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(jobRepository.findByUserId(1L)).willReturn(Optional.of(existing));
+
+        // when
+        UserDeletionJob job = userDeletionService.requestDeletion(1L);
+
+        // then
+        assertThat(job).isSameAs(existing);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.POSTS);
+        then(jobRepository).should(never()).save(any());
+        then(userStatsService).should(never()).recordChanged(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("processJobs - 남긴 반응을 지우면 같은 트랜잭션에서 되돌리고, chunk 가 덜 차면 다음 단계로")
+    void reactionsStepAppliesRemovedAndAdvances() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.REACTIONS);
+        givenRunnable(job);
+        List<RemovedReaction> removed = List.of(
+                new RemovedReaction(1L, TargetType.USER, 7L, ReactionType.FOLLOW),
+                new RemovedReaction(1L, TargetType.POST, 8L, ReactionType.REPORT));
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), eq(CHUNK_SIZE), eq(1L), eq(1L), eq(1L)))
+                .willReturn(removed);
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        then(reactionService).should().applyRemoved(removed);
+        then(transactionManager).should(atLeastOnce()).commit(any());
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.FOLLOWERS);
+        assertThat(job.getDeletedRows()).isEqualTo(2);
+        assertThat(userDeletionService.getDeletedRowCount()).isEqualTo(2);
+        then(jobRepository).should(atLeastOnce()).save(job);
+    }
+
+    @Test
+    @DisplayName("processJobs - 받은 반응(팔로워, 신고)도 지운 뒤 되돌림")
+    void followersStepAppliesRemoved() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.FOLLOWERS);
+        givenRunnable(job);
+        List<RemovedReaction> removed = List.of(new RemovedReaction(5L, TargetType.USER, 1L, ReactionType.FOLLOW));
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), eq(CHUNK_SIZE))).willReturn(removed);
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        then(reactionService).should().applyRemoved(removed);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.NOTIFICATIONS);
+    }
+
+    @Test
+    @DisplayName("processJobs - 댓글 단계는 회원의 댓글과 그 아래 다른 회원의 댓글 수를 합쳐 기록")
+    void commentsStepCountsCascade() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.COMMENTS);
+        givenRunnable(job);
+        given(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(1L), eq(CHUNK_SIZE), eq(1L), eq(1L)))
+                .willReturn(new long[]{3, 4});
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        assertThat(job.getDeletedRows()).isEqualTo(7);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.CHAT_ROOMS);
+    }
+
+    @Test
+    @DisplayName("processJobs - 채팅방 메시지를 다 지우면 보관된 세그먼트를 먼저 지운 뒤 채팅방을 지움")
+    void chatRoomsStepPurgesArchiveBeforeRoom() throws IOException {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.CHAT_ROOMS);
+        givenRunnable(job);
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L), eq(1L))).willReturn(List.of(30L));
+        given(jdbcTemplate.update(anyString(), eq(30L), eq(CHUNK_SIZE))).willReturn(2);
+        given(jdbcTemplate.update(anyString(), eq(30L))).willReturn(1);
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        InOrder order = inOrder(chatMessageArchiveService, jdbcTemplate);
+        order.verify(chatMessageArchiveService).purgeRoom(30L);
+        order.verify(jdbcTemplate).update("DELETE FROM chat_rooms WHERE id = ?", 30L);
+        assertThat(job.getDeletedRows()).isEqualTo(3);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.CHAT_ROOMS);
+    }
+
+    @Test
+    @DisplayName("processJobs - 보관된 세그먼트를 지우지 못하면 채팅방을 남기고 작업을 실패 처리")
+    void chatRoomsStepKeepsRoomWhenPurgeFails() throws IOException {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.CHAT_ROOMS);
+        givenRunnable(job);
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L), eq(1L))).willReturn(List.of(30L));
+        given(jdbcTemplate.update(anyString(), eq(30L), eq(CHUNK_SIZE))).willReturn(0);
+        given(chatMessageArchiveService.purgeRoom(30L)).willThrow(new IOException("disk"));
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        then(jdbcTemplate).should(never()).update("DELETE FROM chat_rooms WHERE id = ?", 30L);
+        assertThat(job.getStatus()).isEqualTo(UserDeletionStatus.FAILED);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.CHAT_ROOMS);
+    }
+
+    @Test
+    @DisplayName("processJobs - chunk 가 꽉 차면 같은 단계를 다음 실행에서 이어서 진행")
+    void fullChunkStaysOnStep() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.NOTIFICATIONS);
+        givenRunnable(job);
+        given(jdbcTemplate.update(anyString(), eq(1L), eq(1L), eq(CHUNK_SIZE))).willReturn(CHUNK_SIZE);
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.NOTIFICATIONS);
+        assertThat(job.getStatus()).isEqualTo(UserDeletionStatus.RUNNING);
+        assertThat(job.getDeletedRows()).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("processJobs - 실행 시간을 다 쓰면 chunk 수가 남아도 멈추고 다음 작업은 다음 실행으로 넘김")
+    void runStopsAtWallTimeLimit() {
+        // given
+        UserDeletionService timeBound = new UserDeletionService(jobRepository, userRepository, userStatsService, s3Service,
+                reactionService, chatMessageArchiveService, jdbcTemplate, namedJdbcTemplate, transactionManager, eventPublisher,
+                true, CHUNK_SIZE, POST_CHUNK_SIZE, 0, 10, 0, 5, 3);
+        UserDeletionJob first = job(UserDeletionStep.NOTIFICATIONS);
+        UserDeletionJob second = job(UserDeletionStep.NOTIFICATIONS);
+        second.setUserId(2L);
+        given(jobRepository.findRunnable(anyCollection(), eq(UserDeletionStatus.FAILED), eq(3), any()))
+                .willReturn(List.of(first, second));
+        given(jdbcTemplate.update(anyString(), eq(1L), eq(1L), eq(CHUNK_SIZE))).willReturn(CHUNK_SIZE);
+
+        // when
+        timeBound.processJobs();
+
+        // then
+        then(jdbcTemplate).should(times(1)).update(anyString(), eq(1L), eq(1L), eq(CHUNK_SIZE));
+        then(jdbcTemplate).should(never()).update(anyString(), eq(2L), eq(2L), eq(CHUNK_SIZE));
+        assertThat(first.getStatus()).isEqualTo(UserDeletionStatus.RUNNING);
+        assertThat(first.getDeletedRows()).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("processJobs - 게시글 이미지를 S3 에서 묶어서 먼저 지운 뒤 DB 행을 지움")
+    void postsStepDeletesObjectsBeforeRows() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.POSTS);
+        givenRunnable(job);
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L), eq(POST_CHUNK_SIZE)))
+                .willReturn(List.of(10L, 11L));
+        given(namedJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class)))
+                .willReturn(List.of("a.png", "b.png"));
+        given(namedJdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .willReturn(3L);
+        given(namedJdbcTemplate.update(anyString(), any(SqlParameterSource.class))).willReturn(1);
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        InOrder order = inOrder(s3Service, namedJdbcTemplate);
+        order.verify(s3Service).deleteFiles(List.of("a.png", "b.png"));
+        order.verify(namedJdbcTemplate).queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class));
+        then(eventPublisher).should(times(2)).publishEvent(any(PostDeletedEvent.class));
+        assertThat(job.getDeletedObjects()).isEqualTo(2);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.ACCOUNT);
+    }
+
+    @Test
+    @DisplayName("processJobs - 마지막 단계에서 프로필 이미지와 회원을 지우고 작업을 완료")
+    void accountStepFinishesJob() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.ACCOUNT);
+        givenRunnable(job);
+        User user = user();
+        user.setStatus(UserStatus.DELETED);
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(1L))).willReturn(List.of("profile.png"));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        then(s3Service).should().deleteFiles(List.of("profile.png"));
+        then(userRepository).should().delete(user);
+        then(userStatsService).should().recordDeleted(user);
+        then(eventPublisher).should().publishEvent(any(ProfileChangedEvent.class));
+        assertThat(job.getStatus()).isEqualTo(UserDeletionStatus.DONE);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(userDeletionService.getCompletedJobCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("processJobs - 실패하면 단계는 그대로 두고 실패 횟수와 사유를 남김")
+    void failureKeepsStepForRetry() {
+        // given
+        UserDeletionJob job = job(UserDeletionStep.NOTIFICATIONS);
+        givenRunnable(job);
+        given(jdbcTemplate.update(anyString(), eq(1L), eq(1L), eq(CHUNK_SIZE)))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        userDeletionService.processJobs();
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(UserDeletionStatus.FAILED);
+        assertThat(job.getStep()).isEqualTo(UserDeletionStep.NOTIFICATIONS);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getLastError()).contains("timeout");
+        assertThat(userDeletionService.getFailedRunCount()).isEqualTo(1);
+    }
+
+    private void givenRunnable(UserDeletionJob job) {
+        given(jobRepository.findRunnable(anyCollection(), eq(UserDeletionStatus.FAILED), eq(3), any()))
+                .willReturn(List.of(job));
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setRole(UserRoleType.USER);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+
+    private UserDeletionJob job(UserDeletionStep step) {
+        UserDeletionJob job = new UserDeletionJob();
+        job.setId(100L);
+        job.setUserId(1L);
+        job.restart();
+        job.setStep(step);
+        return job;
+    }
+}
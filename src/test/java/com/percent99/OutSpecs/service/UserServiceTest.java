@@ -29,7 +29,8 @@ public class UserServiceTest {
 
     @Mock private UserRepository userRepository;
     @Mock private PasswordEncoder passwordEncoder;
-    @Mock private S3Service s3Service; // S3Service는 여전히 필요합니다.
+    @Mock private UserStatsService userStatsService;
+    @Mock private UserDeletionService userDeletionService;
 
     @InjectMocks private UserService userService;
     private UserDTO userDTO;
@@ -203,37 +204,31 @@ public class UserServiceTest {
     }
 
     /**
-     * 오픈프로필 삭제 정상 흐름을 검증
-     * <p>
-     * profileRepository.deleteByUserId 및 userRepository.delete 호출 확인
+     * 유저 삭제 요청이 삭제 작업 등록으로 이어지는지 검증
      */
     @Test
-    @DisplayName("deleteUserAndProfile 성공")
+    @DisplayName("deleteUserAndProfile 성공 - 삭제 작업 등록")
     void deleteUserAndProfile_success() {
-        // given
-        User u = new User();
-        u.setId(1L);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(u));
-
         // when
         userService.deleteUserAndProfile(1L);
 
         // then
-        verify(userRepository).delete(any(User.class));
-        verify(s3Service, never()).deleteFile(anyString());
+        verify(userDeletionService).requestDeletion(1L);
+        verify(userRepository, never()).delete(any(User.class));
     }
 
     /**
-     * 오픈프로필 삭제 중 대상 사용자가 없을 경우 EntityNotFoundException을 던지는지 검증
+     * 유저 삭제 요청 중 대상 사용자가 없을 경우 EntityNotFoundException을 그대로 던지는지 검증
      */
     @Test
     @DisplayName("deleteUserAndProfile: 유저 없음 예외")
     void deleteUserAndProfile_userNotFound() {
 
         // when / then
-        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        when(userDeletionService.requestDeletion(1L))
+                .thenThrow(new EntityNotFoundException("해당 유저는 존재하지 않습니다."));
         assertThatThrownBy(() -> userService.deleteUserAndProfile(1L))
                 .isInstanceOf(EntityNotFoundException.class)
-                .hasMessage("해당 유저는 존재하지않습니다.");
+                .hasMessage("해당 유저는 존재하지 않습니다.");
     }
-}
\ No newline at end of file
+}
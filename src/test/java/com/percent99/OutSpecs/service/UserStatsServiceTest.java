@@ -0,0 +1,92 @@
+package com.percent99.OutSpecs.service;
+
+import com.percent99.OutSpecs.dto.UserStatsDTO;
+import com.percent99.OutSpecs.entity.User;
+import com.percent99.OutSpecs.entity.UserCounter;
+import com.percent99.OutSpecs.entity.UserRoleType;
+import com.percent99.OutSpecs.entity.UserStatus;
+import com.percent99.OutSpecs.repository.UserCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceTest {
+
+    @Mock
+    private UserCounterRepository userCounterRepository;
+
+    @InjectMocks
+    private UserStatsService userStatsService;
+
+    @Test
+    @DisplayName("recordChanged - 이전 조합에서 빼고 새 조합에 더함")
+    void recordChangedMovesCount() {
+        // given
+        User user = user(UserRoleType.USER, UserStatus.SUSPENDED);
+
+        // when
+        userStatsService.recordChanged(UserRoleType.USER, UserStatus.ACTIVE, user);
+
+        // then
+        then(userCounterRepository).should().increment("USER", "ACTIVE", -1);
+        then(userCounterRepository).should().increment("USER", "SUSPENDED", 1);
+    }
+
+    @Test
+    @DisplayName("recordChanged - 권한과 상태가 그대로면 아무것도 하지 않음")
+    void recordChangedIgnoresNoop() {
+        // when
+        userStatsService.recordChanged(UserRoleType.USER, UserStatus.ACTIVE, user(UserRoleType.USER, UserStatus.ACTIVE));
+
+        // then
+        then(userCounterRepository).should(never()).increment(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getStats - 조합별 카운터를 권한별 / 상태별로 합산하고 없는 값은 0")
+    void getStatsSumsCounters() {
+        // given
+        given(userCounterRepository.findAll()).willReturn(List.of(
+                counter(UserRoleType.USER, UserStatus.ACTIVE, 10),
+                counter(UserRoleType.USER, UserStatus.SUSPENDED, 2),
+                counter(UserRoleType.ENTUSER, UserStatus.ACTIVE, 3)));
+
+        // when
+        UserStatsDTO stats = userStatsService.getStats();
+
+        // then
+        assertThat(stats.getTotal()).isEqualTo(15);
+        assertThat(stats.getByRole().get(UserRoleType.USER)).isEqualTo(12);
+        assertThat(stats.getByRole().get(UserRoleType.ADMIN)).isZero();
+        assertThat(stats.getByStatus().get(UserStatus.ACTIVE)).isEqualTo(13);
+        assertThat(stats.getByStatus().get(UserStatus.DELETED)).isZero();
+    }
+
+    private User user(UserRoleType role, UserStatus status) {
+        User user = new User();
+        user.setRole(role);
+        user.setStatus(status);
+        return user;
+    }
+
+    private UserCounter counter(UserRoleType role, UserStatus status, long count) {
+        UserCounter counter = new UserCounter();
+        counter.setRole(role);
+        counter.setStatus(status);
+        counter.setUserCount(count);
+        return counter;
+    }
+}